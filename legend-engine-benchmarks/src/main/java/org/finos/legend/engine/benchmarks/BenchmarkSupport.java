@@ -0,0 +1,106 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.plan.generation.PlanGenerator;
+import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
+import org.finos.legend.engine.plan.platform.PlanPlatform;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
+import org.finos.legend.pure.generated.core_external_format_flatdata_externalFormatContract;
+import org.finos.legend.pure.generated.core_external_format_json_externalFormatContract;
+import org.finos.legend.pure.generated.core_external_format_xml_externalFormatContract;
+import org.finos.legend.pure.generated.core_pure_binding_extension;
+import org.finos.legend.pure.generated.core_relational_relational_extensions_extension;
+
+/**
+ * The parse / compile / plan steps shared by the benchmark setups, done the same way the engine APIs do them.
+ */
+public class BenchmarkSupport
+{
+    private BenchmarkSupport()
+    {
+    }
+
+    public static PureModelContextData parse(String grammar)
+    {
+        return PureGrammarParser.newInstance().parseModel(grammar);
+    }
+
+    public static PureModel compile(PureModelContextData pureModelContextData)
+    {
+        return Compiler.compile(pureModelContextData, DeploymentMode.TEST, null);
+    }
+
+    public static SingleExecutionPlan generatePlan(PureModel pureModel, String query, String mappingPath, String runtimePath, RichIterable<? extends Root_meta_pure_extension_Extension> extensions)
+    {
+        Lambda lambda = PureGrammarParser.newInstance().parseLambda(query);
+        return PlanGenerator.generateExecutionPlan(
+                HelperValueSpecificationBuilder.buildLambda(lambda.body, lambda.parameters, pureModel.getContext()),
+                pureModel.getMapping(mappingPath),
+                pureModel.getRuntime(runtimePath),
+                null,
+                pureModel,
+                "vX_X_X",
+                PlanPlatform.JAVA,
+                null,
+                extensions,
+                LegendPlanTransformers.transformers
+        );
+    }
+
+    public static RichIterable<? extends Root_meta_pure_extension_Extension> relationalExtensions(PureModel pureModel)
+    {
+        return core_relational_relational_extensions_extension.Root_meta_relational_extension_relationalExtensions__Extension_MANY_(pureModel.getExecutionSupport());
+    }
+
+    public static RichIterable<? extends Root_meta_pure_extension_Extension> externalFormatExtensions(PureModel pureModel, String format)
+    {
+        Root_meta_pure_extension_Extension formatExtension;
+        switch (format)
+        {
+            case "FlatData":
+            {
+                formatExtension = core_external_format_flatdata_externalFormatContract.Root_meta_external_format_flatdata_extension_flatDataFormatExtension__Extension_1_(pureModel.getExecutionSupport());
+                break;
+            }
+            case "XML":
+            {
+                formatExtension = core_external_format_xml_externalFormatContract.Root_meta_external_format_xml_extension_xsdFormatExtension__Extension_1_(pureModel.getExecutionSupport());
+                break;
+            }
+            case "JSON":
+            {
+                formatExtension = core_external_format_json_externalFormatContract.Root_meta_external_format_json_extension_jsonSchemaFormatExtension__Extension_1_(pureModel.getExecutionSupport());
+                break;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown external format: " + format);
+            }
+        }
+        return Lists.mutable.with(core_pure_binding_extension.Root_meta_external_shared_format_externalFormatExtension__Extension_1_(pureModel.getExecutionSupport()), formatExtension);
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+
+/**
+ * Target for serializers under benchmark: bytes are handed to the {@link Blackhole} rather than buffered, so the
+ * measurement covers the serialization itself and not the growth of an in-memory buffer.
+ */
+public class BlackholeOutputStream extends OutputStream
+{
+    private final Blackhole blackhole;
+    private long count;
+
+    public BlackholeOutputStream(Blackhole blackhole)
+    {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b)
+    {
+        this.blackhole.consume(b);
+        this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len)
+    {
+        this.blackhole.consume(b);
+        this.count += len;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+}
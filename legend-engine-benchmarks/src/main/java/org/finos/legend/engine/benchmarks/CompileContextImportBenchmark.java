@@ -0,0 +1,66 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compilation of a model whose sections each declare {@code importsPerSection} package imports and only refer to types
+ * by their simple name, which makes the compiler's import resolution the dominant cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompileContextImportBenchmark
+{
+    private static final int SECTION_COUNT = 20;
+    private static final int CLASSES_PER_SECTION = 10;
+
+    @Param({"50", "100"})
+    public int importsPerSection;
+
+    private PureModelContextData pureModelContextData;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.pureModelContextData = BenchmarkSupport.parse(SyntheticModels.importHeavyModel(SECTION_COUNT, this.importsPerSection, CLASSES_PER_SECTION));
+    }
+
+    @Benchmark
+    public PureModel compile()
+    {
+        return BenchmarkSupport.compile(this.pureModelContextData);
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.plan.execution.PlanExecutionContext;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The FlatData, XML and JSON readers: a graph fetch over an external format connection, reading {@code recordCount}
+ * synthetic records from memory and serializing the objects as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExternalFormatReadBenchmark
+{
+    @Param({"FlatData", "XML", "JSON"})
+    public String format;
+
+    @Param({"1000", "100000"})
+    public int recordCount;
+
+    private byte[] data;
+    private PlanExecutor planExecutor;
+    private SingleExecutionPlan plan;
+    private PlanExecutionContext planExecutionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        this.data = SyntheticModels.externalFormatData(this.format, this.recordCount).getBytes(StandardCharsets.UTF_8);
+        PureModel pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.externalFormatModel(this.format)));
+        this.plan = BenchmarkSupport.generatePlan(pureModel, SyntheticModels.externalFormatQuery(), SyntheticModels.EXTERNAL_MAPPING, SyntheticModels.EXTERNAL_RUNTIME, BenchmarkSupport.externalFormatExtensions(pureModel, this.format));
+        this.planExecutionContext = new PlanExecutionContext(this.plan);
+        this.planExecutor = PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(true);
+    }
+
+    @Benchmark
+    public long read(Blackhole blackhole) throws IOException
+    {
+        StreamingResult result = (StreamingResult) this.planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                .withPlan(this.plan)
+                .withPlanExecutionContext(this.planExecutionContext)
+                .withInputAsStream(new ByteArrayInputStream(this.data))
+                .build());
+        BlackholeOutputStream outputStream = new BlackholeOutputStream(blackhole);
+        result.getSerializer(SerializationFormat.DEFAULT).stream(outputStream);
+        return outputStream.getCount();
+    }
+}
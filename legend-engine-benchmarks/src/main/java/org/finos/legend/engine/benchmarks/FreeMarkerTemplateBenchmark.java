@@ -0,0 +1,155 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the SQL of a generated, parameterized relational plan together with the plan's template functions: through
+ * {@link FreeMarkerExecutor} (shared configuration, cached templates) and by building the configuration and parsing
+ * the template on every call, as every execution used to. The scalar variants render a plan whose parameters are all
+ * plain <code>${name}</code> substitutions, which {@link FreeMarkerExecutor} renders without FreeMarker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FreeMarkerTemplateBenchmark
+{
+    private String sql;
+    private String templateFunctions;
+    private Map<String, Object> parameters;
+    private String scalarSql;
+    private String scalarTemplateFunctions;
+    private Map<String, Object> scalarParameters;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        PureModel pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.relationalModel()));
+        SingleExecutionPlan plan = BenchmarkSupport.generatePlan(pureModel, SyntheticModels.tradeParameterizedProjectQuery(), SyntheticModels.TRADE_MAPPING, SyntheticModels.TRADE_RUNTIME, BenchmarkSupport.relationalExtensions(pureModel));
+        SQLExecutionNode sqlNode = findSQLExecutionNode(plan.rootExecutionNode);
+        if (sqlNode == null)
+        {
+            throw new IllegalStateException("No SQL execution node in the generated plan");
+        }
+        this.sql = sqlNode.sqlQuery;
+        this.templateFunctions = String.join("", plan.templateFunctions);
+        this.parameters = Maps.mutable.with("tickers", Lists.mutable.with("AAPL", "MSFT", "GOOG", "AMZN"), "minQuantity", 10);
+
+        SingleExecutionPlan scalarPlan = BenchmarkSupport.generatePlan(pureModel, SyntheticModels.tradeScalarParameterizedProjectQuery(), SyntheticModels.TRADE_MAPPING, SyntheticModels.TRADE_RUNTIME, BenchmarkSupport.relationalExtensions(pureModel));
+        SQLExecutionNode scalarSqlNode = findSQLExecutionNode(scalarPlan.rootExecutionNode);
+        if (scalarSqlNode == null)
+        {
+            throw new IllegalStateException("No SQL execution node in the generated plan");
+        }
+        this.scalarSql = scalarSqlNode.sqlQuery;
+        this.scalarTemplateFunctions = String.join("", scalarPlan.templateFunctions);
+        // as normalized for SQL by FreeMarkerExecutor.process
+        this.scalarParameters = Maps.mutable.with("ticker", "AAPL", "minQuantity", "10");
+    }
+
+    @Benchmark
+    public String cachedTemplates()
+    {
+        return FreeMarkerExecutor.processRecursively(this.sql, this.parameters, this.templateFunctions);
+    }
+
+    @Benchmark
+    public String parsePerExecution() throws Exception
+    {
+        return parseRecursively(this.sql, this.templateFunctions, this.parameters);
+    }
+
+    @Benchmark
+    public String scalarCachedTemplates()
+    {
+        return FreeMarkerExecutor.processRecursively(this.scalarSql, this.scalarParameters, this.scalarTemplateFunctions);
+    }
+
+    @Benchmark
+    public String scalarParsePerExecution() throws Exception
+    {
+        return parseRecursively(this.scalarSql, this.scalarTemplateFunctions, this.scalarParameters);
+    }
+
+    private static String parseRecursively(String input, String templateFunctions, Map<String, Object> parameters) throws Exception
+    {
+        String result = parse(input, templateFunctions, parameters);
+        while (!result.equals(input))
+        {
+            input = result;
+            result = parse(input, templateFunctions, parameters);
+        }
+        return result;
+    }
+
+    private static String parse(String input, String templateFunctions, Map<String, Object> parameters) throws Exception
+    {
+        Configuration configuration = new Configuration();
+        configuration.setNumberFormat("computer");
+        configuration.setCustomDateFormats(Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE));
+        configuration.setDateFormat("@alloyDate");
+        Template template = new Template("template", new StringReader(templateFunctions + input), configuration);
+        StringWriter writer = new StringWriter();
+        template.process(parameters, writer);
+        return writer.toString();
+    }
+
+    private static SQLExecutionNode findSQLExecutionNode(ExecutionNode node)
+    {
+        if (node instanceof SQLExecutionNode)
+        {
+            return (SQLExecutionNode) node;
+        }
+        for (ExecutionNode child : node.executionNodes)
+        {
+            SQLExecutionNode found = findSQLExecutionNode(child);
+            if (found != null)
+            {
+                return found;
+            }
+        }
+        return null;
+    }
+}
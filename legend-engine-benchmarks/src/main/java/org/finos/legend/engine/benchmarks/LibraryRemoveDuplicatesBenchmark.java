@@ -0,0 +1,106 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.plan.dependencies.util.Library;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Library#removeDuplicates} as called by generated plan code for Pure {@code removeDuplicates},
+ * {@code removeDuplicatesBy} and {@code isDistinct}, over collections where a tenth of the values are distinct.
+ * The custom {@code eql} variant compares with every distinct value seen so far, hence its smaller sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LibraryRemoveDuplicatesBenchmark
+{
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<String> strings;
+    private List<Long> longs;
+    private List<Item> items;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.strings = new ArrayList<>(this.size);
+        this.longs = new ArrayList<>(this.size);
+        this.items = new ArrayList<>(this.size);
+        int distinct = Math.max(1, this.size / 10);
+        for (int i = 0; i < this.size; i++)
+        {
+            int value = (i * 7919) % distinct;
+            this.strings.add("value_" + value);
+            this.longs.add((long) value);
+            this.items.add(new Item("name_" + value));
+        }
+    }
+
+    @Benchmark
+    public List<String> strings()
+    {
+        return Library.removeDuplicates(this.strings, null, null);
+    }
+
+    @Benchmark
+    public List<Long> longs()
+    {
+        return Library.removeDuplicates(this.longs, null, null);
+    }
+
+    @Benchmark
+    public List<Item> byKey()
+    {
+        return Library.removeDuplicates(this.items, (Item item) -> item.name, null);
+    }
+
+    @Benchmark
+    public List<Item> byEql()
+    {
+        // Keeps the quadratic comparison of custom eql functions to a manageable size
+        List<Item> sample = this.items.subList(0, Math.min(this.items.size(), 10000));
+        return Library.removeDuplicates(sample, null, (Item left, Item right) -> left.name.equals(right.name));
+    }
+
+    public static class Item
+    {
+        private final String name;
+
+        Item(String name)
+        {
+            this.name = name;
+        }
+    }
+}
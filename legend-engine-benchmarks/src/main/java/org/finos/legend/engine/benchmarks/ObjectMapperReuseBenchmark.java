@@ -0,0 +1,119 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.collections.api.RichIterable;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of creating a new object mapper (which loads the protocol extensions and starts with empty
+ * serializer caches) compared to the shared, pre-configured readers and writers: reading an execution plan (as
+ * {@code PlanGenerator.stringToPlan} does), writing it back (as the plan authorizer and connection key code does) and
+ * writing a few result values (as the relational TDS serializers do).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ObjectMapperReuseBenchmark
+{
+    @Param({"project", "graphFetch"})
+    public String query;
+
+    private SingleExecutionPlan plan;
+    private String planJson;
+    private final List<Object> row = Arrays.asList("TRADE-1", 42L, 3.14, true, null);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException
+    {
+        PureModel pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.relationalModel()));
+        RichIterable<? extends Root_meta_pure_extension_Extension> extensions = BenchmarkSupport.relationalExtensions(pureModel);
+        String queryGrammar = "project".equals(this.query) ? SyntheticModels.tradeProjectQuery() : SyntheticModels.tradeGraphFetchQuery();
+        this.plan = BenchmarkSupport.generatePlan(pureModel, queryGrammar, SyntheticModels.TRADE_MAPPING, SyntheticModels.TRADE_RUNTIME, extensions);
+        this.planJson = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(this.plan);
+    }
+
+    @Benchmark
+    public SingleExecutionPlan readPlanWithNewMapper() throws IOException
+    {
+        return ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(this.planJson, SingleExecutionPlan.class);
+    }
+
+    @Benchmark
+    public SingleExecutionPlan readPlanWithSharedReader() throws IOException
+    {
+        return ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(SingleExecutionPlan.class).readValue(this.planJson);
+    }
+
+    @Benchmark
+    public String writePlanWithNewMapper() throws IOException
+    {
+        return ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(this.plan);
+    }
+
+    @Benchmark
+    public String writePlanWithSharedWriter() throws IOException
+    {
+        return ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(this.plan);
+    }
+
+    @Benchmark
+    public String writeResultRowWithNewMapper() throws IOException
+    {
+        return writeRow(ExecutionResultObjectMapperFactory.getNewObjectMapper().writer());
+    }
+
+    @Benchmark
+    public String writeResultRowWithSharedWriter() throws IOException
+    {
+        return writeRow(ExecutionResultObjectMapperFactory.getObjectWriter());
+    }
+
+    private String writeRow(ObjectWriter writer) throws IOException
+    {
+        StringBuilder builder = new StringBuilder();
+        for (Object value : this.row)
+        {
+            builder.append(writer.writeValueAsString(value));
+        }
+        return builder.toString();
+    }
+}
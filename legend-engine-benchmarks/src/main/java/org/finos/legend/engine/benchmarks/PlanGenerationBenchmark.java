@@ -0,0 +1,69 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.eclipse.collections.api.RichIterable;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PlanGenerator.generateExecutionPlan} for a relational projection and a relational graph fetch (the latter
+ * includes Java code generation for the fetched class).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PlanGenerationBenchmark
+{
+    @Param({"project", "graphFetch"})
+    public String query;
+
+    private PureModel pureModel;
+    private RichIterable<? extends Root_meta_pure_extension_Extension> extensions;
+    private String queryGrammar;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.relationalModel()));
+        this.extensions = BenchmarkSupport.relationalExtensions(this.pureModel);
+        this.queryGrammar = "project".equals(this.query) ? SyntheticModels.tradeProjectQuery() : SyntheticModels.tradeGraphFetchQuery();
+    }
+
+    @Benchmark
+    public SingleExecutionPlan generatePlan()
+    {
+        return BenchmarkSupport.generatePlan(this.pureModel, this.queryGrammar, SyntheticModels.TRADE_MAPPING, SyntheticModels.TRADE_RUNTIME, this.extensions);
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fixed cost of a {@code PureModel}: compiling an empty model still builds the handler tables and loads the core
+ * function elements. Run with {@code -prof gc} to also get the bytes allocated per model ({@code gc.alloc.rate.norm}).
+ * {@link #retainedHeap} reports the heap retained per model ({@code retainedBytesPerModel}), measured by keeping a batch
+ * of models alive and comparing the heap used after a full collection before and after building them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PureModelInitBenchmark
+{
+    private static final int RETAINED_MODELS = 20;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap
+    {
+        public long retainedBytesPerModel;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            this.retainedBytesPerModel = 0;
+        }
+    }
+
+    @Benchmark
+    public PureModel emptyModel()
+    {
+        return BenchmarkSupport.compile(PureModelContextData.newPureModelContextData());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public List<PureModel> retainedHeap(RetainedHeap retainedHeap)
+    {
+        long before = usedHeapAfterFullCollection();
+        List<PureModel> models = new ArrayList<>(RETAINED_MODELS);
+        for (int i = 0; i < RETAINED_MODELS; i++)
+        {
+            models.add(BenchmarkSupport.compile(PureModelContextData.newPureModelContextData()));
+        }
+        retainedHeap.retainedBytesPerModel = (usedHeapAfterFullCollection() - before) / RETAINED_MODELS;
+        return models;
+    }
+
+    private static long usedHeapAfterFullCollection()
+    {
+        // a single System.gc() may leave objects awaiting finalization or reference processing behind
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++)
+        {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
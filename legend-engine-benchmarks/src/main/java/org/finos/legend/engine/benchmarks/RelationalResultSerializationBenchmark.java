@@ -0,0 +1,65 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a {@link RelationalResult} through each of its serializers. The result has to be produced by executing the
+ * plan, so subtract {@link PlanExecutionBenchmark} (same {@code rowCount}) to isolate the serializer cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RelationalResultSerializationBenchmark
+{
+    @Param({"DEFAULT", "CSV", "PURE"})
+    public SerializationFormat serializationFormat;
+
+    @Benchmark
+    public long executeAndSerialize(TradeDatabaseState database, Blackhole blackhole) throws IOException
+    {
+        RelationalResult result = database.execute();
+        try
+        {
+            BlackholeOutputStream outputStream = new BlackholeOutputStream(blackhole);
+            result.getSerializer(this.serializationFormat).stream(outputStream);
+            return outputStream.getCount();
+        }
+        finally
+        {
+            result.close();
+        }
+    }
+}
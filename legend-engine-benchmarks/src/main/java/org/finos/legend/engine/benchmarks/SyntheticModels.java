@@ -0,0 +1,609 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposerUtility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the grammar and datasets the benchmarks run against. Everything is derived from the requested sizes only,
+ * so two runs (on two different commits) always measure exactly the same inputs.
+ */
+public class SyntheticModels
+{
+    public static final String TRADE_CLASS = "bench::relational::Trade";
+    public static final String TRADE_MAPPING = "bench::relational::TradeMapping";
+    public static final String TRADE_RUNTIME = "bench::relational::TradeRuntime";
+
+    public static final String EVENT_CLASS = "bench::relational::Event";
+    public static final String EVENT_MAPPING = "bench::relational::EventMapping";
+    public static final String EVENT_RUNTIME = "bench::relational::EventRuntime";
+
+    public static final String EXTERNAL_TRADE_CLASS = "bench::external::Trade";
+    public static final String EXTERNAL_MAPPING = "bench::external::TradeSelfMapping";
+    public static final String EXTERNAL_RUNTIME = "bench::external::TradeRuntime";
+    public static final String EXTERNAL_BINDING = "bench::external::TradeBinding";
+
+    private static final int CLASSES_PER_PACKAGE = 25;
+    private static final String[] TICKERS = {"GS", "MSFT", "AAPL", "IBM", "ORCL", "AMZN", "META", "NFLX"};
+    private static final String[] TRADERS = {"alice", "bob", "carol", "dave", null};
+
+    private SyntheticModels()
+    {
+    }
+
+    // --------------------------------------------------------------------------------------------------------- Domain
+
+    /**
+     * A domain of {@code classCount} classes spread over packages of {@link #CLASSES_PER_PACKAGE}, with one enumeration
+     * per package, an association and a function per class. Each class refers to the previous one so that the
+     * compiler has to resolve cross-package references.
+     */
+    public static String domainModel(int classCount)
+    {
+        StringBuilder builder = new StringBuilder("###Pure\n");
+        int packageCount = (classCount + CLASSES_PER_PACKAGE - 1) / CLASSES_PER_PACKAGE;
+        for (int p = 0; p < packageCount; p++)
+        {
+            builder.append("Enum ").append(domainPackage(p)).append("::Status").append(p).append("\n")
+                    .append("{\n")
+                    .append("  ACTIVE,\n")
+                    .append("  INACTIVE,\n")
+                    .append("  PENDING\n")
+                    .append("}\n\n");
+        }
+        for (int i = 0; i < classCount; i++)
+        {
+            String clazz = domainClass(i);
+            String status = domainPackage(i / CLASSES_PER_PACKAGE) + "::Status" + (i / CLASSES_PER_PACKAGE);
+            builder.append("Class ").append(clazz).append("\n")
+                    .append("{\n")
+                    .append("  id: Integer[1];\n")
+                    .append("  name: String[1];\n")
+                    .append("  description: String[0..1];\n")
+                    .append("  amount: Float[1];\n")
+                    .append("  createdOn: StrictDate[0..1];\n")
+                    .append("  updatedAt: DateTime[0..1];\n")
+                    .append("  status: ").append(status).append("[1];\n");
+            if (i > 0)
+            {
+                builder.append("  previous: ").append(domainClass(i - 1)).append("[0..1];\n");
+            }
+            builder.append("  label() {$this.name + ':' + $this.id->toString()}: String[1];\n")
+                    .append("}\n\n");
+
+            builder.append("function ").append(domainPackage(i / CLASSES_PER_PACKAGE)).append("::active").append(i).append("(values: ").append(clazz).append("[*]): String[*]\n")
+                    .append("{\n")
+                    .append("  $values->filter(v | ($v.status == ").append(status).append(".ACTIVE) && ($v.amount > 0.0))->map(v | $v.label())\n")
+                    .append("}\n\n");
+
+            if (i > 0 && i % 2 == 0)
+            {
+                builder.append("Association ").append(domainPackage(i / CLASSES_PER_PACKAGE)).append("::Link").append(i).append("\n")
+                        .append("{\n")
+                        .append("  owner").append(i).append(": ").append(clazz).append("[0..1];\n")
+                        .append("  owned").append(i).append(": ").append(domainClass(i / 2)).append("[*];\n")
+                        .append("}\n\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String domainPackage(int index)
+    {
+        return "bench::domain::p" + index;
+    }
+
+    private static String domainClass(int index)
+    {
+        return domainPackage(index / CLASSES_PER_PACKAGE) + "::Entity" + index;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- Imports
+
+    /**
+     * A model in which every consuming section declares {@code importsPerSection} imports and refers to types by their
+     * simple name only, so that every type reference has to be resolved through the section imports.
+     */
+    public static String importHeavyModel(int sectionCount, int importsPerSection, int classesPerSection)
+    {
+        StringBuilder builder = new StringBuilder("###Pure\n");
+        for (int i = 0; i < importsPerSection; i++)
+        {
+            builder.append("Enum bench::imports::pkg").append(i).append("::Kind").append(i).append("\n")
+                    .append("{\n")
+                    .append("  A,\n")
+                    .append("  B\n")
+                    .append("}\n\n")
+                    .append("Class bench::imports::pkg").append(i).append("::Type").append(i).append("\n")
+                    .append("{\n")
+                    .append("  name: String[1];\n")
+                    .append("  kind: bench::imports::pkg").append(i).append("::Kind").append(i).append("[1];\n")
+                    .append("}\n\n");
+        }
+        for (int s = 0; s < sectionCount; s++)
+        {
+            builder.append("\n###Pure\n");
+            for (int i = 0; i < importsPerSection; i++)
+            {
+                builder.append("import bench::imports::pkg").append(i).append("::*;\n");
+            }
+            builder.append("\n");
+            for (int c = 0; c < classesPerSection; c++)
+            {
+                // Spread the references so that lookups hit the start, the middle and the end of the import list
+                int first = (s + c) % importsPerSection;
+                int second = (s + c + importsPerSection / 2) % importsPerSection;
+                int third = importsPerSection - 1 - first;
+                builder.append("Class bench::consumers::s").append(s).append("::Consumer").append(c).append("\n")
+                        .append("{\n")
+                        .append("  first: Type").append(first).append("[1];\n")
+                        .append("  second: Type").append(second).append("[0..1];\n")
+                        .append("  third: Type").append(third).append("[*];\n")
+                        .append("  kind: Kind").append(first).append("[1];\n")
+                        .append("}\n\n")
+                        .append("function bench::consumers::s").append(s).append("::describe").append(c).append("(value: Type").append(first).append("[1]): String[1]\n")
+                        .append("{\n")
+                        .append("  $value.name + if($value.kind == Kind").append(first).append(".A, |'a', |'b')\n")
+                        .append("}\n\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    // ----------------------------------------------------------------------------------------------------- Relational
+
+    public static String relationalModel()
+    {
+        return "###Pure\n" +
+                "Class " + TRADE_CLASS + "\n" +
+                "{\n" +
+                "  id: Integer[1];\n" +
+                "  ticker: String[1];\n" +
+                "  quantity: Integer[1];\n" +
+                "  price: Float[1];\n" +
+                "  tradeDate: StrictDate[1];\n" +
+                "  settlementDateTime: DateTime[0..1];\n" +
+                "  trader: String[0..1];\n" +
+                "}\n\n" +
+                "###Relational\n" +
+                "Database bench::relational::TradeDatabase\n" +
+                "(\n" +
+                "  Table TRADE\n" +
+                "  (\n" +
+                "    ID INTEGER PRIMARY KEY,\n" +
+                "    TICKER VARCHAR(20),\n" +
+                "    QUANTITY INTEGER,\n" +
+                "    PRICE DOUBLE,\n" +
+                "    TRADE_DATE DATE,\n" +
+                "    SETTLEMENT_DATETIME TIMESTAMP,\n" +
+                "    TRADER VARCHAR(100)\n" +
+                "  )\n" +
+                ")\n\n" +
+                "###Mapping\n" +
+                "Mapping " + TRADE_MAPPING + "\n" +
+                "(\n" +
+                "  " + TRADE_CLASS + ": Relational\n" +
+                "  {\n" +
+                "    ~primaryKey\n" +
+                "    (\n" +
+                "      [bench::relational::TradeDatabase]TRADE.ID\n" +
+                "    )\n" +
+                "    ~mainTable [bench::relational::TradeDatabase]TRADE\n" +
+                "    id: [bench::relational::TradeDatabase]TRADE.ID,\n" +
+                "    ticker: [bench::relational::TradeDatabase]TRADE.TICKER,\n" +
+                "    quantity: [bench::relational::TradeDatabase]TRADE.QUANTITY,\n" +
+                "    price: [bench::relational::TradeDatabase]TRADE.PRICE,\n" +
+                "    tradeDate: [bench::relational::TradeDatabase]TRADE.TRADE_DATE,\n" +
+                "    settlementDateTime: [bench::relational::TradeDatabase]TRADE.SETTLEMENT_DATETIME,\n" +
+                "    trader: [bench::relational::TradeDatabase]TRADE.TRADER\n" +
+                "  }\n" +
+                ")\n\n" +
+                "###Runtime\n" +
+                "Runtime " + TRADE_RUNTIME + "\n" +
+                "{\n" +
+                "  mappings:\n" +
+                "  [\n" +
+                "    " + TRADE_MAPPING + "\n" +
+                "  ];\n" +
+                "  connections:\n" +
+                "  [\n" +
+                "    bench::relational::TradeDatabase:\n" +
+                "    [\n" +
+                "      c1: #{\n" +
+                "        RelationalDatabaseConnection\n" +
+                "        {\n" +
+                "          type: H2;\n" +
+                "          specification: LocalH2 {};\n" +
+                "          auth: DefaultH2;\n" +
+                "        }\n" +
+                "      }#\n" +
+                "    ]\n" +
+                "  ];\n" +
+                "}\n";
+    }
+
+    public static String tradeProjectQuery()
+    {
+        return "|" + TRADE_CLASS + ".all()\n" +
+                "  ->filter(t | $t.quantity > 0)\n" +
+                "  ->project([t | $t.id, t | $t.ticker, t | $t.quantity, t | $t.price, t | $t.tradeDate, t | $t.settlementDateTime, t | $t.trader],\n" +
+                "            ['id', 'ticker', 'quantity', 'price', 'tradeDate', 'settlementDateTime', 'trader'])";
+    }
+
+    public static String tradeParameterizedProjectQuery()
+    {
+        return "{tickers: String[*], minQuantity: Integer[1] | " + TRADE_CLASS + ".all()\n" +
+                "  ->filter(t | $t.ticker->in($tickers) && ($t.quantity > $minQuantity))\n" +
+                "  ->project([t | $t.id, t | $t.ticker, t | $t.quantity, t | $t.price, t | $t.trader],\n" +
+                "            ['id', 'ticker', 'quantity', 'price', 'trader'])}";
+    }
+
+    public static String tradeScalarParameterizedProjectQuery()
+    {
+        return "{ticker: String[1], minQuantity: Integer[1] | " + TRADE_CLASS + ".all()\n" +
+                "  ->filter(t | ($t.ticker == $ticker) && ($t.quantity > $minQuantity))\n" +
+                "  ->project([t | $t.id, t | $t.ticker, t | $t.quantity, t | $t.price, t | $t.trader],\n" +
+                "            ['id', 'ticker', 'quantity', 'price', 'trader'])}";
+    }
+
+    public static String tradeGraphFetchQuery()
+    {
+        String tree = "#{" + TRADE_CLASS + "{id, ticker, quantity, price, tradeDate, settlementDateTime, trader}}#";
+        return "|" + TRADE_CLASS + ".all()->graphFetch(" + tree + ")->serialize(" + tree + ")";
+    }
+
+    public static List<String> tradeTableSetupSql(int rowCount)
+    {
+        List<String> statements = new ArrayList<>();
+        statements.add("DROP TABLE IF EXISTS TRADE;");
+        statements.add("CREATE TABLE TRADE(ID INT NOT NULL, TICKER VARCHAR(20), QUANTITY INT, PRICE DOUBLE, TRADE_DATE DATE, SETTLEMENT_DATETIME TIMESTAMP, TRADER VARCHAR(100), PRIMARY KEY(ID));");
+        int batchSize = 500;
+        for (int start = 0; start < rowCount; start += batchSize)
+        {
+            StringBuilder insert = new StringBuilder("INSERT INTO TRADE (ID, TICKER, QUANTITY, PRICE, TRADE_DATE, SETTLEMENT_DATETIME, TRADER) VALUES ");
+            for (int i = start; i < Math.min(rowCount, start + batchSize); i++)
+            {
+                String trader = trader(i);
+                insert.append(i == start ? "" : ", ")
+                        .append("(").append(i)
+                        .append(", '").append(ticker(i)).append("'")
+                        .append(", ").append(quantity(i))
+                        .append(", ").append(price(i))
+                        .append(", '").append(tradeDate(i)).append("'")
+                        .append(", '").append(tradeDate(i)).append(" ").append(tradeTime(i)).append("'")
+                        .append(", ").append(trader == null ? "NULL" : "'" + trader + "'")
+                        .append(")");
+            }
+            statements.add(insert.append(";").toString());
+        }
+        return statements;
+    }
+
+    /**
+     * A table made almost entirely of timestamp and date columns, for measuring how temporal values are decoded from
+     * the result set. The rows are generated by H2 itself so that millions of them can be loaded quickly.
+     */
+    public static String eventModel()
+    {
+        return "###Pure\n" +
+                "Class " + EVENT_CLASS + "\n" +
+                "{\n" +
+                "  id: Integer[1];\n" +
+                "  eventDate: StrictDate[1];\n" +
+                "  createdAt: DateTime[1];\n" +
+                "  updatedAt: DateTime[1];\n" +
+                "  startsAt: DateTime[0..1];\n" +
+                "  endsAt: DateTime[0..1];\n" +
+                "}\n\n" +
+                "###Relational\n" +
+                "Database bench::relational::EventDatabase\n" +
+                "(\n" +
+                "  Table EVENT\n" +
+                "  (\n" +
+                "    ID INTEGER PRIMARY KEY,\n" +
+                "    EVENT_DATE DATE,\n" +
+                "    CREATED_AT TIMESTAMP,\n" +
+                "    UPDATED_AT TIMESTAMP,\n" +
+                "    STARTS_AT TIMESTAMP,\n" +
+                "    ENDS_AT TIMESTAMP\n" +
+                "  )\n" +
+                ")\n\n" +
+                "###Mapping\n" +
+                "Mapping " + EVENT_MAPPING + "\n" +
+                "(\n" +
+                "  " + EVENT_CLASS + ": Relational\n" +
+                "  {\n" +
+                "    ~primaryKey\n" +
+                "    (\n" +
+                "      [bench::relational::EventDatabase]EVENT.ID\n" +
+                "    )\n" +
+                "    ~mainTable [bench::relational::EventDatabase]EVENT\n" +
+                "    id: [bench::relational::EventDatabase]EVENT.ID,\n" +
+                "    eventDate: [bench::relational::EventDatabase]EVENT.EVENT_DATE,\n" +
+                "    createdAt: [bench::relational::EventDatabase]EVENT.CREATED_AT,\n" +
+                "    updatedAt: [bench::relational::EventDatabase]EVENT.UPDATED_AT,\n" +
+                "    startsAt: [bench::relational::EventDatabase]EVENT.STARTS_AT,\n" +
+                "    endsAt: [bench::relational::EventDatabase]EVENT.ENDS_AT\n" +
+                "  }\n" +
+                ")\n\n" +
+                "###Runtime\n" +
+                "Runtime " + EVENT_RUNTIME + "\n" +
+                "{\n" +
+                "  mappings:\n" +
+                "  [\n" +
+                "    " + EVENT_MAPPING + "\n" +
+                "  ];\n" +
+                "  connections:\n" +
+                "  [\n" +
+                "    bench::relational::EventDatabase:\n" +
+                "    [\n" +
+                "      c1: #{\n" +
+                "        RelationalDatabaseConnection\n" +
+                "        {\n" +
+                "          type: H2;\n" +
+                "          specification: LocalH2 {};\n" +
+                "          auth: DefaultH2;\n" +
+                "        }\n" +
+                "      }#\n" +
+                "    ]\n" +
+                "  ];\n" +
+                "}\n";
+    }
+
+    public static String eventProjectQuery()
+    {
+        return "|" + EVENT_CLASS + ".all()\n" +
+                "  ->project([e | $e.id, e | $e.eventDate, e | $e.createdAt, e | $e.updatedAt, e | $e.startsAt, e | $e.endsAt],\n" +
+                "            ['id', 'eventDate', 'createdAt', 'updatedAt', 'startsAt', 'endsAt'])";
+    }
+
+    public static List<String> eventTableSetupSql(int rowCount)
+    {
+        List<String> statements = new ArrayList<>();
+        statements.add("DROP TABLE IF EXISTS EVENT;");
+        statements.add("CREATE TABLE EVENT(ID INT NOT NULL, EVENT_DATE DATE, CREATED_AT TIMESTAMP, UPDATED_AT TIMESTAMP, STARTS_AT TIMESTAMP, ENDS_AT TIMESTAMP, PRIMARY KEY(ID));");
+        statements.add("INSERT INTO EVENT (ID, EVENT_DATE, CREATED_AT, UPDATED_AT, STARTS_AT, ENDS_AT) " +
+                "SELECT X, DATEADD('DAY', MOD(X, 3650), DATE '2015-01-01'), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2015-01-01 00:00:00'), " +
+                "DATEADD('MILLISECOND', X * 7, TIMESTAMP '2020-06-15 08:30:00'), " +
+                "CASE WHEN MOD(X, 5) = 0 THEN NULL ELSE DATEADD('MINUTE', X, TIMESTAMP '2018-03-01 12:00:00') END, " +
+                "CASE WHEN MOD(X, 7) = 0 THEN NULL ELSE DATEADD('HOUR', MOD(X, 10000), TIMESTAMP '2018-03-01 12:00:00') END " +
+                "FROM SYSTEM_RANGE(1, " + rowCount + ");");
+        return statements;
+    }
+
+    // ------------------------------------------------------------------------------------------------ External format
+
+    public static String externalFormatModel(String format)
+    {
+        return "###Pure\n" +
+                "Class " + EXTERNAL_TRADE_CLASS + "\n" +
+                "{\n" +
+                "  id: Integer[1];\n" +
+                "  ticker: String[1];\n" +
+                "  quantity: Integer[1];\n" +
+                "  price: Float[1];\n" +
+                "  trader: String[0..1];\n" +
+                "}\n\n" +
+                externalFormatBinding(format) + "\n" +
+                "###Mapping\n" +
+                "Mapping " + EXTERNAL_MAPPING + "\n" +
+                "(\n" +
+                "  " + EXTERNAL_TRADE_CLASS + ": Pure\n" +
+                "  {\n" +
+                "    ~src " + EXTERNAL_TRADE_CLASS + "\n" +
+                "    id: $src.id,\n" +
+                "    ticker: $src.ticker,\n" +
+                "    quantity: $src.quantity,\n" +
+                "    price: $src.price,\n" +
+                "    trader: $src.trader\n" +
+                "  }\n" +
+                ")\n\n" +
+                "###Runtime\n" +
+                "Runtime " + EXTERNAL_RUNTIME + "\n" +
+                "{\n" +
+                "  mappings:\n" +
+                "  [\n" +
+                "    " + EXTERNAL_MAPPING + "\n" +
+                "  ];\n" +
+                "  connections:\n" +
+                "  [\n" +
+                "    " + EXTERNAL_BINDING + ":\n" +
+                "    [\n" +
+                "      c1:\n" +
+                "      #{\n" +
+                "        ExternalFormatConnection\n" +
+                "        {\n" +
+                "          source: UrlStream\n" +
+                "          {\n" +
+                "            url: 'executor:default';\n" +
+                "          };\n" +
+                "        }\n" +
+                "      }#\n" +
+                "    ]\n" +
+                "  ];\n" +
+                "}\n";
+    }
+
+    public static String externalFormatQuery()
+    {
+        String tree = "#{" + EXTERNAL_TRADE_CLASS + "{id, ticker, quantity, price, trader}}#";
+        return "|" + EXTERNAL_TRADE_CLASS + ".all()->graphFetch(" + tree + ")->serialize(" + tree + ")";
+    }
+
+    private static String externalFormatBinding(String format)
+    {
+        switch (format)
+        {
+            case "FlatData":
+            {
+                String schema = "section trades: DelimitedWithHeadings\n" +
+                        "{\n" +
+                        "  scope.untilEof;\n" +
+                        "  delimiter: ',';\n" +
+                        "  nullString: '';\n" +
+                        "\n" +
+                        "  Record\n" +
+                        "  {\n" +
+                        "    id       : INTEGER;\n" +
+                        "    ticker   : STRING;\n" +
+                        "    quantity : INTEGER;\n" +
+                        "    price    : DECIMAL;\n" +
+                        "    trader   : STRING(optional);\n" +
+                        "  }\n" +
+                        "}";
+                return schemaSetAndBinding("FlatData", "application/x.flatdata", null, schema);
+            }
+            case "XML":
+            {
+                return "###ExternalFormat\n" +
+                        "Binding " + EXTERNAL_BINDING + "\n" +
+                        "{\n" +
+                        "  contentType: 'application/xml';\n" +
+                        "  modelIncludes: [ " + EXTERNAL_TRADE_CLASS + " ];\n" +
+                        "}\n";
+            }
+            case "JSON":
+            {
+                String schema = "{\n" +
+                        "  \"$schema\": \"http://json-schema.org/draft-07/schema#\",\n" +
+                        "  \"title\": \"" + EXTERNAL_TRADE_CLASS + "\",\n" +
+                        "  \"type\": \"object\",\n" +
+                        "  \"properties\": {\n" +
+                        "    \"id\": { \"type\": \"integer\" },\n" +
+                        "    \"ticker\": { \"type\": \"string\" },\n" +
+                        "    \"quantity\": { \"type\": \"integer\" },\n" +
+                        "    \"price\": { \"type\": \"number\" },\n" +
+                        "    \"trader\": { \"type\": \"string\" }\n" +
+                        "  },\n" +
+                        "  \"required\": [ \"id\", \"ticker\", \"quantity\", \"price\" ]\n" +
+                        "}";
+                return schemaSetAndBinding("JSON", "application/json", "bench/external/Trade.json", schema);
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown external format: " + format);
+            }
+        }
+    }
+
+    private static String schemaSetAndBinding(String format, String contentType, String location, String schema)
+    {
+        return "###ExternalFormat\n" +
+                "SchemaSet bench::external::TradeSchemaSet\n" +
+                "{\n" +
+                "  format: " + format + ";\n" +
+                "  schemas: [ { " + (location == null ? "" : "location: '" + location + "'; ") + "content: " + PureGrammarComposerUtility.convertString(schema, true) + "; } ];\n" +
+                "}\n\n" +
+                "Binding " + EXTERNAL_BINDING + "\n" +
+                "{\n" +
+                "  schemaSet: bench::external::TradeSchemaSet;\n" +
+                "  contentType: '" + contentType + "';\n" +
+                "  modelIncludes: [ " + EXTERNAL_TRADE_CLASS + " ];\n" +
+                "}\n";
+    }
+
+    public static String externalFormatData(String format, int recordCount)
+    {
+        StringBuilder builder = new StringBuilder();
+        switch (format)
+        {
+            case "FlatData":
+            {
+                builder.append("id,ticker,quantity,price,trader\n");
+                for (int i = 0; i < recordCount; i++)
+                {
+                    String trader = trader(i);
+                    builder.append(i).append(',').append(ticker(i)).append(',').append(quantity(i)).append(',').append(price(i)).append(',').append(trader == null ? "" : trader).append('\n');
+                }
+                break;
+            }
+            case "XML":
+            {
+                builder.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n<trades>\n");
+                for (int i = 0; i < recordCount; i++)
+                {
+                    String trader = trader(i);
+                    builder.append("  <trade>")
+                            .append("<id>").append(i).append("</id>")
+                            .append("<ticker>").append(ticker(i)).append("</ticker>")
+                            .append("<quantity>").append(quantity(i)).append("</quantity>")
+                            .append("<price>").append(price(i)).append("</price>")
+                            .append(trader == null ? "" : "<trader>" + trader + "</trader>")
+                            .append("</trade>\n");
+                }
+                builder.append("</trades>\n");
+                break;
+            }
+            case "JSON":
+            {
+                builder.append("[\n");
+                for (int i = 0; i < recordCount; i++)
+                {
+                    String trader = trader(i);
+                    builder.append(i == 0 ? "  " : ",\n  ")
+                            .append("{\"id\": ").append(i)
+                            .append(", \"ticker\": \"").append(ticker(i)).append('"')
+                            .append(", \"quantity\": ").append(quantity(i))
+                            .append(", \"price\": ").append(price(i))
+                            .append(trader == null ? "" : ", \"trader\": \"" + trader + "\"")
+                            .append('}');
+                }
+                builder.append("\n]\n");
+                break;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown external format: " + format);
+            }
+        }
+        return builder.toString();
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- Values
+
+    private static String ticker(int i)
+    {
+        return TICKERS[i % TICKERS.length];
+    }
+
+    private static int quantity(int i)
+    {
+        return 1 + (i * 37) % 1000;
+    }
+
+    private static String price(int i)
+    {
+        return String.valueOf(((i * 7919) % 100000) / 100.0);
+    }
+
+    private static String trader(int i)
+    {
+        return TRADERS[i % TRADERS.length];
+    }
+
+    private static String tradeDate(int i)
+    {
+        return String.format("2022-%02d-%02d", 1 + i % 12, 1 + i % 28);
+    }
+
+    private static String tradeTime(int i)
+    {
+        return String.format("%02d:%02d:%02d", i % 24, i % 60, (i * 7) % 60);
+    }
+}
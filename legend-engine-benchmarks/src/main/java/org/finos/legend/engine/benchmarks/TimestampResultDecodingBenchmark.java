@@ -0,0 +1,140 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.plan.execution.PlanExecutionContext;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.stores.relational.AlloyH2Server;
+import org.finos.legend.engine.plan.execution.stores.relational.TestExecutionScope;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a result made of one integer, one date and four timestamp columns: {@code decode} only goes through
+ * {@link RelationalResult#getValue}, {@code executeAndSerialize} also streams the rows through a serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TimestampResultDecodingBenchmark
+{
+    @Param({"1000000"})
+    public int rowCount;
+
+    @Param({"DEFAULT", "CSV"})
+    public SerializationFormat serializationFormat;
+
+    private Server server;
+    private PlanExecutor planExecutor;
+    private SingleExecutionPlan plan;
+    private PlanExecutionContext planExecutionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        int port = DynamicPortGenerator.generatePort();
+        this.server = AlloyH2Server.startServer(port);
+        try (Connection connection = TestExecutionScope.buildTestExecutor(port).getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            for (String sql : SyntheticModels.eventTableSetupSql(this.rowCount))
+            {
+                statement.execute(sql);
+            }
+        }
+
+        PureModel pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.eventModel()));
+        this.plan = BenchmarkSupport.generatePlan(pureModel, SyntheticModels.eventProjectQuery(), SyntheticModels.EVENT_MAPPING, SyntheticModels.EVENT_RUNTIME, BenchmarkSupport.relationalExtensions(pureModel));
+        this.planExecutionContext = new PlanExecutionContext(this.plan);
+        this.planExecutor = PlanExecutor.newPlanExecutor(Relational.build(port));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (this.server != null)
+        {
+            this.server.shutdown();
+            this.server.stop();
+        }
+    }
+
+    @Benchmark
+    public long decode(Blackhole blackhole) throws SQLException
+    {
+        RelationalResult result = execute();
+        try
+        {
+            long rows = 0;
+            while (result.resultSet.next())
+            {
+                for (int i = 1; i <= result.columnCount; i++)
+                {
+                    blackhole.consume(result.getValue(i));
+                }
+                rows++;
+            }
+            return rows;
+        }
+        finally
+        {
+            result.close();
+        }
+    }
+
+    @Benchmark
+    public long executeAndSerialize(Blackhole blackhole) throws Exception
+    {
+        RelationalResult result = execute();
+        BlackholeOutputStream outputStream = new BlackholeOutputStream(blackhole);
+        result.getSerializer(this.serializationFormat).stream(outputStream);
+        return outputStream.getCount();
+    }
+
+    private RelationalResult execute()
+    {
+        return (RelationalResult) this.planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                .withPlan(this.plan)
+                .withPlanExecutionContext(this.planExecutionContext)
+                .build());
+    }
+}
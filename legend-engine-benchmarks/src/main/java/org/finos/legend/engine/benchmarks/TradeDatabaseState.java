@@ -0,0 +1,90 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.benchmarks;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.plan.execution.PlanExecutionContext;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.AlloyH2Server;
+import org.finos.legend.engine.plan.execution.stores.relational.TestExecutionScope;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * An H2 server loaded with {@code rowCount} synthetic trades, together with a compiled (Java classes included)
+ * projection plan over them. Shared by the relational execution and serialization benchmarks.
+ */
+@State(Scope.Benchmark)
+public class TradeDatabaseState
+{
+    @Param({"1000", "100000"})
+    public int rowCount;
+
+    private Server server;
+    private PlanExecutor planExecutor;
+    private SingleExecutionPlan plan;
+    private PlanExecutionContext planExecutionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        int port = DynamicPortGenerator.generatePort();
+        this.server = AlloyH2Server.startServer(port);
+        try (Connection connection = TestExecutionScope.buildTestExecutor(port).getConnectionManager().getTestDatabaseConnection();
+             Statement statement = connection.createStatement())
+        {
+            for (String sql : SyntheticModels.tradeTableSetupSql(this.rowCount))
+            {
+                statement.execute(sql);
+            }
+        }
+
+        PureModel pureModel = BenchmarkSupport.compile(BenchmarkSupport.parse(SyntheticModels.relationalModel()));
+        this.plan = BenchmarkSupport.generatePlan(pureModel, SyntheticModels.tradeProjectQuery(), SyntheticModels.TRADE_MAPPING, SyntheticModels.TRADE_RUNTIME, BenchmarkSupport.relationalExtensions(pureModel));
+        this.planExecutionContext = new PlanExecutionContext(this.plan);
+        this.planExecutor = PlanExecutor.newPlanExecutor(Relational.build(port));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (this.server != null)
+        {
+            this.server.shutdown();
+            this.server.stop();
+        }
+    }
+
+    public RelationalResult execute()
+    {
+        return (RelationalResult) this.planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                .withPlan(this.plan)
+                .withPlanExecutionContext(this.planExecutionContext)
+                .build());
+    }
+}
@@ -38,6 +38,7 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate
 {
@@ -49,6 +50,15 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
     private static final TimeZone GMT_TIME_ZONE = TimeZone.getTimeZone("GMT");
     private static final char ISO_UTC = 'Z';
 
+    // Dates on or after the Gregorian cutover can be converted without a GregorianCalendar
+    private static final long GREGORIAN_CUTOVER_MILLIS = new GregorianCalendar().getGregorianChange().getTime();
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    // Direct-mapped cache of strict dates: business dates recur heavily within a result or a graph fetch
+    private static final int STRICT_DATE_CACHE_SIZE = 4096;
+    private static final AtomicReferenceArray<PureDate> STRICT_DATE_CACHE = new AtomicReferenceArray<>(STRICT_DATE_CACHE_SIZE);
+
     private int year = 0;
     private int month = -1;
     private int day = -1;
@@ -796,11 +806,11 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         }
         if (milliseconds < 0)
         {
-            copy.decrementSubsecond(String.format("%03d", -milliseconds), 0, 3);
+            copy.decrementSubsecond(toZeroPaddedString(-milliseconds, 3), 0, 3);
         }
         else if (milliseconds != 0)
         {
-            copy.incrementSubsecond(String.format("%03d", milliseconds), 0, 3);
+            copy.incrementSubsecond(toZeroPaddedString(milliseconds, 3), 0, 3);
         }
         return copy;
     }
@@ -827,11 +837,11 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         }
         if (microseconds < 0)
         {
-            copy.decrementSubsecond(String.format("%06d", -microseconds), 0, 6);
+            copy.decrementSubsecond(toZeroPaddedString(-microseconds, 6), 0, 6);
         }
         else if (microseconds != 0)
         {
-            copy.incrementSubsecond(String.format("%06d", microseconds), 0, 6);
+            copy.incrementSubsecond(toZeroPaddedString(microseconds, 6), 0, 6);
         }
         return copy;
     }
@@ -868,11 +878,11 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         }
         if (nanoseconds < 0)
         {
-            copy.decrementSubsecond(String.format("%09d", -nanoseconds), 0, 9);
+            copy.decrementSubsecond(toZeroPaddedString(-nanoseconds, 9), 0, 9);
         }
         else if (nanoseconds != 0)
         {
-            copy.incrementSubsecond(String.format("%09d", nanoseconds), 0, 9);
+            copy.incrementSubsecond(toZeroPaddedString(nanoseconds, 9), 0, 9);
         }
         return copy;
     }
@@ -985,6 +995,26 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
 
     private void incrementDay(long delta)
     {
+        if (delta == 0)
+        {
+            return;
+        }
+        long newDay = this.day + delta;
+        if ((newDay >= 1) && (newDay <= 28))
+        {
+            // Stays within the current month whatever its length
+            this.day = (int) newDay;
+            return;
+        }
+        if ((delta < -31) || (delta > 31))
+        {
+            // Jump straight to the target day rather than walking month by month
+            LocalDate date = LocalDate.of(this.year, this.month, this.day).plusDays(delta);
+            this.year = date.getYear();
+            this.month = date.getMonthValue();
+            this.day = date.getDayOfMonth();
+            return;
+        }
         if (delta < 0)
         {
             this.day += delta;
@@ -1098,12 +1128,11 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         {
             throw new RuntimeException("Cannot set sub-second without second");
         }
-        String newSubsecond = string.substring(start, end);
-        if (newSubsecond.isEmpty() || !StringIterate.isNumber(newSubsecond))
+        if ((start >= end) || !isNumber(string, start, end))
         {
             throw new IllegalArgumentException("Invalid subsecond value: \"" + string.substring(start, end) + "\"");
         }
-        this.subsecond = newSubsecond;
+        this.subsecond = ((start == 0) && (end == string.length())) ? string : string.substring(start, end);
     }
 
     private void incrementSubsecond(String delta, int start, int end)
@@ -1195,8 +1224,8 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
             throw new IllegalArgumentException("Invalid time zone: " + string.substring(start - 1, end));
         }
 
-        int hourOffset = Integer.parseInt(string.substring(start, start + 2));
-        int minuteOffset = Integer.parseInt(string.substring(start + 2, end));
+        int hourOffset = parseInt(string, start, start + 2);
+        int minuteOffset = parseInt(string, start + 2, end);
 
         if ((hourOffset != 0) || (minuteOffset != 0))
         {
@@ -1381,7 +1410,19 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
 
     private static void appendTwoDigitInt(Appendable appendable, int integer)
     {
-        appendZeroPaddedInt(appendable, integer, 2);
+        if ((integer < 0) || (integer > 99))
+        {
+            appendZeroPaddedInt(appendable, integer, 2);
+            return;
+        }
+        try
+        {
+            appendable.append((char) ('0' + (integer / 10))).append((char) ('0' + (integer % 10)));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
     }
 
     private static void appendZeroPaddedInt(Appendable appendable, int integer, int minLength)
@@ -1456,7 +1497,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
                             date.second = calendar.get(Calendar.SECOND);
                             if (precision >= Calendar.MILLISECOND)
                             {
-                                date.subsecond = String.format("%03d", calendar.get(Calendar.MILLISECOND));
+                                date.subsecond = toZeroPaddedString(calendar.get(Calendar.MILLISECOND), 3);
                             }
                         }
                     }
@@ -1521,6 +1562,12 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
 
     public static PureDate fromSQLDate(java.sql.Date date)
     {
+        long time = date.getTime();
+        if (time >= GREGORIAN_CUTOVER_MILLIS)
+        {
+            LocalDate localDate = LocalDate.ofEpochDay(Math.floorDiv(time, MILLIS_PER_DAY));
+            return newPureDate(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+        }
         GregorianCalendar calendar = new GregorianCalendar(GMT_TIME_ZONE);
         calendar.setTime(date);
         return fromCalendar(calendar, Calendar.DAY_OF_MONTH, new PureDate());
@@ -1528,10 +1575,28 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
 
     public static PureDate fromSQLTimestamp(java.sql.Timestamp timestamp)
     {
-        GregorianCalendar calendar = new GregorianCalendar(GMT_TIME_ZONE);
-        calendar.setTime(timestamp);
-        PureDate pureDate = fromCalendar(calendar, Calendar.SECOND, new PureDate());
-        ((PureDate) pureDate).subsecond = String.format("%09d", timestamp.getNanos());
+        PureDate pureDate;
+        long time = timestamp.getTime();
+        if (time >= GREGORIAN_CUTOVER_MILLIS)
+        {
+            pureDate = new PureDate();
+            long epochSecond = Math.floorDiv(time, 1000L);
+            LocalDate localDate = LocalDate.ofEpochDay(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+            int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+            pureDate.year = localDate.getYear();
+            pureDate.month = localDate.getMonthValue();
+            pureDate.day = localDate.getDayOfMonth();
+            pureDate.hour = secondOfDay / 3600;
+            pureDate.minute = (secondOfDay / 60) % 60;
+            pureDate.second = secondOfDay % 60;
+        }
+        else
+        {
+            GregorianCalendar calendar = new GregorianCalendar(GMT_TIME_ZONE);
+            calendar.setTime(timestamp);
+            pureDate = fromCalendar(calendar, Calendar.SECOND, new PureDate());
+        }
+        pureDate.subsecond = toZeroPaddedString(timestamp.getNanos(), 9);
         return pureDate;
     }
 
@@ -1551,10 +1616,18 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
 
     public static PureDate newPureDate(int year, int month, int day)
     {
+        // Strict dates are never modified once built, so instances can be shared
+        int slot = ((year * 372) + (month * 31) + day) & (STRICT_DATE_CACHE_SIZE - 1);
+        PureDate cached = STRICT_DATE_CACHE.get(slot);
+        if ((cached != null) && (cached.year == year) && (cached.month == month) && (cached.day == day))
+        {
+            return cached;
+        }
         PureDate date = new PureDate();
         date.setYear(year);
         date.setMonth(month);
         date.setDay(day);
+        STRICT_DATE_CACHE.lazySet(slot, date);
         return date;
     }
 
@@ -1679,7 +1752,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         int index = findNonDigit(string, previous, end);
         try
         {
-            year = Integer.parseInt(string.substring(start, index));
+            year = parseInt(string, start, index);
         }
         catch (NumberFormatException e)
         {
@@ -1701,7 +1774,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         index = findNonDigit(string, previous, end);
         try
         {
-            month = Integer.parseInt(string.substring(previous, index));
+            month = parseInt(string, previous, index);
         }
         catch (NumberFormatException e)
         {
@@ -1723,7 +1796,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         index = findNonDigit(string, previous, end);
         try
         {
-            day = Integer.parseInt(string.substring(previous, index));
+            day = parseInt(string, previous, index);
         }
         catch (NumberFormatException e)
         {
@@ -1748,7 +1821,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         index = findNonDigit(string, previous, end);
         try
         {
-            date.setHour(Integer.parseInt(string.substring(previous, index)));
+            date.setHour(parseInt(string, previous, index));
         }
         catch (NumberFormatException e)
         {
@@ -1771,7 +1844,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         index = findNonDigit(string, previous, end);
         try
         {
-            date.setMinute(Integer.parseInt(string.substring(previous, index)));
+            date.setMinute(parseInt(string, previous, index));
         }
         catch (NumberFormatException e)
         {
@@ -1796,7 +1869,7 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         index = findNonDigit(string, previous, end);
         try
         {
-            date.setSecond(Integer.parseInt(string.substring(previous, index)));
+            date.setSecond(parseInt(string, previous, index));
         }
         catch (NumberFormatException e)
         {
@@ -1946,6 +2019,75 @@ public class PureDate implements org.finos.legend.pure.m4.coreinstance.primitive
         return ('0' <= character) && (character <= '9');
     }
 
+    /**
+     * Parse the int between start and end of string without
+     * creating a substring.  An optional leading minus sign is
+     * accepted.
+     *
+     * @param string date string
+     * @param start  start index (inclusive)
+     * @param end    end index (exclusive)
+     * @return parsed int
+     * @throws NumberFormatException if the range is not a valid int
+     */
+    private static int parseInt(String string, int start, int end)
+    {
+        boolean negative = (start < end) && (string.charAt(start) == '-');
+        int index = negative ? start + 1 : start;
+        if (index >= end)
+        {
+            throw new NumberFormatException("For input string: \"" + string.substring(start, end) + "\"");
+        }
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; index < end; index++)
+        {
+            char character = string.charAt(index);
+            if (!isDigit(character))
+            {
+                throw new NumberFormatException("For input string: \"" + string.substring(start, end) + "\"");
+            }
+            value = (value * 10) + (character - '0');
+            if (value > limit)
+            {
+                throw new NumberFormatException("For input string: \"" + string.substring(start, end) + "\"");
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private static boolean isNumber(String string, int start, int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            if (!Character.isDigit(string.charAt(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Format a non-negative value as a string of exactly length
+     * digits, left padded with zeros.  The value must have no more
+     * than length digits.
+     *
+     * @param value  value to format
+     * @param length number of digits
+     * @return zero padded string
+     */
+    private static String toZeroPaddedString(long value, int length)
+    {
+        char[] digits = new char[length];
+        for (int i = length - 1; i >= 0; i--)
+        {
+            digits[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return new String(digits);
+    }
+
     private static int getMaxDayOfMonth(int year, int month)
     {
         switch (month)
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.dependencies.util;
 
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.finos.legend.engine.plan.dependencies.domain.date.DayOfWeek;
 import org.finos.legend.engine.plan.dependencies.domain.date.DurationUnit;
 import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
@@ -34,13 +35,11 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -805,35 +804,62 @@ public class Library
 
     public static <T, V> List<T> removeDuplicates(List<T> col, Function<T, V> key, BiPredicate<V, V> eql)
     {
-        if (key == null && eql == null)
+        List<T> result = new ArrayList<T>();
+        if (eql == null)
         {
-            return col.stream().distinct().collect(Collectors.toList());
-        }
-        else if (eql == null)
-        {
-            return col.stream().filter(Library.distinctByKey(key)).collect(Collectors.toList());
-        }
-        else if (key == null)
-        {
-            return col.stream().map((T x) -> (V) x).filter(Library.distinctByEql(eql)).map((V v) -> (T) v).filter((T x) -> x != null).collect(Collectors.toList());
+            // Without a custom eql, values compare with equals/hashCode and a hash set gives a linear scan
+            Set<Object> seen = UnifiedSet.newSet();
+            for (T x : col)
+            {
+                if (seen.add(key == null ? x : key.apply(x)))
+                {
+                    result.add(x);
+                }
+            }
         }
         else
         {
-            Predicate<V> eqlP = Library.distinctByEql(eql);
-            return col.stream().filter((T x) -> eqlP.test(key.apply(x))).collect(Collectors.toList());
+            // A custom eql has no matching hash function, so every value is compared with the distinct values seen so far
+            List<V> seen = new ArrayList<V>();
+            for (T x : col)
+            {
+                V value = key == null ? (V) x : key.apply(x);
+                if (isNotSeen(seen, value, eql))
+                {
+                    seen.add(value);
+                    if (key != null || x != null)
+                    {
+                        result.add(x);
+                    }
+                }
+            }
         }
+        return result;
     }
 
+    // The returned predicates are stateful and not thread safe: they are meant for sequential streams
     public static <T> Predicate<T> distinctByKey(Function<T, ?> key)
     {
-        Set<Object> seen = ConcurrentHashMap.newKeySet();
+        Set<Object> seen = UnifiedSet.newSet();
         return (T t) -> seen.add(key.apply(t));
     }
 
     public static <V> Predicate<V> distinctByEql(BiPredicate<V, V> eql)
     {
         List<V> seen = new ArrayList<V>();
-        return (V v) -> seen.stream().noneMatch((V vv) -> eql.test(vv, v)) && seen.add(v);
+        return (V v) -> isNotSeen(seen, v, eql) && seen.add(v);
+    }
+
+    private static <V> boolean isNotSeen(List<V> seen, V value, BiPredicate<V, V> eql)
+    {
+        for (int i = 0, size = seen.size(); i < size; i++)
+        {
+            if (eql.test(seen.get(i), value))
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static <T> T first(T in)
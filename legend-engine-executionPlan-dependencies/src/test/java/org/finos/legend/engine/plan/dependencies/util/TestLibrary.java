@@ -93,4 +93,18 @@ public class TestLibrary
         Assert.assertEquals(expected, Library.indexOf("a", "b"));
         Assert.assertEquals(expected, Library.indexOf(Arrays.asList("a", "b"), "c"));
     }
+
+    @Test
+    public void testRemoveDuplicates()
+    {
+        Assert.assertEquals(Arrays.asList("b", "a", null, "c"), Library.removeDuplicates(Arrays.asList("b", "a", null, "b", "c", null, "a"), null, null));
+        Assert.assertEquals(Arrays.asList("apple", "banana"), Library.removeDuplicates(Arrays.asList("apple", "avocado", "banana", "blueberry"), (String s) -> s.charAt(0), null));
+    }
+
+    @Test
+    public void testRemoveDuplicatesWithEql()
+    {
+        Assert.assertEquals(Arrays.asList("a", "B", "c"), Library.removeDuplicates(Arrays.asList("a", "A", "B", null, "b", "c"), null, (String x, String y) -> x == null ? y == null : x.equalsIgnoreCase(y)));
+        Assert.assertEquals(Arrays.asList("apple", "banana"), Library.removeDuplicates(Arrays.asList("apple", "avocado", "banana", "blueberry"), (String s) -> s.substring(0, 1), (String x, String y) -> x.equals(y)));
+    }
 }
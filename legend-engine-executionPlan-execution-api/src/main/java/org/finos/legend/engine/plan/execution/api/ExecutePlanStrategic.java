@@ -21,6 +21,7 @@ import org.finos.legend.engine.plan.execution.authorization.PlanExecutionAuthori
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
 import org.finos.legend.engine.shared.core.identity.factory.IdentityFactory;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
@@ -36,7 +37,9 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import static org.finos.legend.engine.shared.core.operational.http.CborMessageBodyProvider.APPLICATION_CBOR;
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
+import static org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider.APPLICATION_SMILE;
 
 @Api(tags = "ExecutionPlan - Execution")
 @Path("executionPlan/v1/execution")
@@ -55,9 +58,17 @@ public class ExecutePlanStrategic extends ExecutePlan
 
     @POST
     @Path("executePlan")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     public Response executePlan(@Context HttpServletRequest request, ExecutionPlan execPlan, @DefaultValue(SerializationFormat.defaultFormatString) @QueryParam("serializationFormat") SerializationFormat format, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm)
     {
-        return super.doExecutePlan(request, execPlan, format, pm);
+        ExecutionProfile profile = ExecutionProfile.startIfRequested(request != null ? request.getParameter(ExecutionProfile.PROFILE_REQUEST_PARAMETER) : null, "executePlan");
+        try
+        {
+            return ExecutionProfile.decorate(profile, super.doExecutePlan(request, execPlan, format, pm));
+        }
+        finally
+        {
+            ExecutionProfile.end(profile);
+        }
     }
 }
@@ -24,6 +24,7 @@ import org.finos.legend.engine.plan.execution.result.serialization.Serialization
 import org.finos.legend.engine.shared.core.api.result.ManageConstantResult;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
@@ -100,25 +101,56 @@ public class ResultManager
     {
         private final StreamingResult result;
         private final SerializationFormat format;
+        // the result is streamed after the request handler returns, on a thread the profile (if any) is not bound to
+        private final ExecutionProfile profile;
+        private final ExecutionProfile.Handle profileDeferral;
 
         public StreamingResultHandler(StreamingResult result, SerializationFormat format)
         {
             this.result = result;
             this.format = format;
+            this.profile = ExecutionProfile.current();
+            this.profileDeferral = this.profile == null ? null : this.profile.defer();
+            if (this.profileDeferral != null)
+            {
+                // the result may be closed without ever being written (e.g. the client went away)
+                result.addCloseListener(this.profileDeferral::close);
+            }
         }
 
         @Override
         public void write(OutputStream output) throws IOException, WebApplicationException
         {
-            try
+            try (ExecutionProfile.Handle ignored = ExecutionProfile.activate(this.profile); ExecutionProfile.Phase phase = ExecutionProfile.phase("serialization"))
             {
                 this.result.stream(output, this.format);
             }
             catch (Exception e)
             {
                 this.printErrorOnStream(output, e);
+                this.closeResult(e);
                 throw e;
             }
+            finally
+            {
+                if (this.profileDeferral != null)
+                {
+                    this.profileDeferral.close();
+                }
+            }
+        }
+
+        private void closeResult(Exception e)
+        {
+            // the serializer may have failed before taking ownership of the result
+            try
+            {
+                this.result.close();
+            }
+            catch (Exception onClose)
+            {
+                e.addSuppressed(onClose);
+            }
         }
 
         private void printErrorOnStream(OutputStream output, Exception e)
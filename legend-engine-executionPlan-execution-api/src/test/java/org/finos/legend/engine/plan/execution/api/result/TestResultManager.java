@@ -16,13 +16,25 @@ package org.finos.legend.engine.plan.execution.api.result;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.plan.execution.result.ErrorResult;
+import org.finos.legend.engine.plan.execution.result.ResultVisitor;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
+import org.finos.legend.engine.plan.execution.result.builder.Builder;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.junit.Test;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestResultManager
 {
@@ -44,4 +56,93 @@ public class TestResultManager
         ResultManager.ErrorMessage errorMessage = (ResultManager.ErrorMessage) response.getEntity();
         assertEquals(999, errorMessage.code);
     }
+
+    @Test
+    public void testProfileCompletesWhenStreamingResultIsClosedWithoutBeingWritten()
+    {
+        ExecutionProfile profile = ExecutionProfile.start("test");
+        StreamingResult result = new TestStreamingResult(new Serializer()
+        {
+            @Override
+            public void stream(OutputStream targetStream)
+            {
+                throw new AssertionError("not expected to be written");
+            }
+        });
+        Response response = ResultManager.manageResult(Lists.mutable.empty(), result, LoggingEventType.SERVICE_ERROR);
+        ExecutionProfile.end(profile);
+        assertEquals(200, response.getStatus());
+        assertFalse(profile.isComplete());
+
+        result.close();
+        assertTrue(profile.isComplete());
+    }
+
+    @Test
+    public void testProfileCompletesWhenSerializerFails()
+    {
+        ExecutionProfile profile = ExecutionProfile.start("test");
+        AtomicInteger closeCount = new AtomicInteger();
+        StreamingResult result = new TestStreamingResult(null)
+        {
+            @Override
+            public void close()
+            {
+                closeCount.incrementAndGet();
+                super.close();
+            }
+        };
+        Response response = ResultManager.manageResult(Lists.mutable.empty(), result, LoggingEventType.SERVICE_ERROR);
+        ExecutionProfile.end(profile);
+        assertFalse(profile.isComplete());
+
+        try
+        {
+            ((StreamingOutput) response.getEntity()).write(new ByteArrayOutputStream());
+            fail("Expected the serializer to fail");
+        }
+        catch (Exception e)
+        {
+            assertEquals("no serializer", e.getMessage());
+        }
+        assertEquals(1, closeCount.get());
+        assertTrue(profile.isComplete());
+
+        // the deferral is only released once
+        result.close();
+        assertTrue(profile.isComplete());
+    }
+
+    private static class TestStreamingResult extends StreamingResult
+    {
+        private final Serializer serializer;
+
+        private TestStreamingResult(Serializer serializer)
+        {
+            super(Lists.mutable.empty());
+            this.serializer = serializer;
+        }
+
+        @Override
+        public Builder getResultBuilder()
+        {
+            return null;
+        }
+
+        @Override
+        public Serializer getSerializer(SerializationFormat format)
+        {
+            if (this.serializer == null)
+            {
+                throw new IllegalStateException("no serializer");
+            }
+            return this.serializer;
+        }
+
+        @Override
+        public <T> T accept(ResultVisitor<T> resultVisitor)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
\ No newline at end of file
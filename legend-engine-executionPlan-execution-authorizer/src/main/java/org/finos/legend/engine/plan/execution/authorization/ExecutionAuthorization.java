@@ -122,7 +122,7 @@ public class ExecutionAuthorization
         try
         {
             return ObjectMapperFactory
-                    .getNewStandardObjectMapperWithPureProtocolExtensionSupports()
+                    .getStandardObjectWriterWithPureProtocolExtensionSupports()
                     .writeValueAsString(this);
         }
         catch (IOException e)
@@ -136,8 +136,8 @@ public class ExecutionAuthorization
         try
         {
             return ObjectMapperFactory
-                    .getNewStandardObjectMapperWithPureProtocolExtensionSupports()
-                    .writerWithDefaultPrettyPrinter()
+                    .getStandardObjectWriterWithPureProtocolExtensionSupports()
+                    .withDefaultPrettyPrinter()
                     .writeValueAsString(this);
         }
         catch (IOException e)
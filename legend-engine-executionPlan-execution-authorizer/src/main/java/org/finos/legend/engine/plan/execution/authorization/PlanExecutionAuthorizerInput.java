@@ -72,7 +72,7 @@ public class PlanExecutionAuthorizerInput
         try
         {
             return ObjectMapperFactory
-                    .getNewStandardObjectMapperWithPureProtocolExtensionSupports()
+                    .getStandardObjectWriterWithPureProtocolExtensionSupports()
                     .writeValueAsString(this);
         }
         catch (IOException e)
@@ -86,8 +86,8 @@ public class PlanExecutionAuthorizerInput
         try
         {
             return ObjectMapperFactory
-                    .getNewStandardObjectMapperWithPureProtocolExtensionSupports()
-                    .writerWithDefaultPrettyPrinter()
+                    .getStandardObjectWriterWithPureProtocolExtensionSupports()
+                    .withDefaultPrettyPrinter()
                     .writeValueAsString(this);
         }
         catch (IOException e)
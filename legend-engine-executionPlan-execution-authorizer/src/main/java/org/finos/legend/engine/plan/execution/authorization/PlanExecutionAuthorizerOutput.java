@@ -86,7 +86,7 @@ public class PlanExecutionAuthorizerOutput
         try
         {
             return ObjectMapperFactory
-                    .getNewStandardObjectMapperWithPureProtocolExtensionSupports()
+                    .getStandardObjectWriterWithPureProtocolExtensionSupports()
                     .writeValueAsString(this);
         }
         catch (IOException e)
@@ -100,8 +100,8 @@ public class PlanExecutionAuthorizerOutput
         try
         {
             return
-                    ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports()
-                        .writerWithDefaultPrettyPrinter()
+                    ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports()
+                        .withDefaultPrettyPrinter()
                         .writeValueAsString(this);
         }
         catch (IOException e)
@@ -44,7 +44,7 @@ public class PlanExecutorInfo
     {
         try
         {
-            return ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(this);
+            return ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(this);
         }
         catch (JsonProcessingException e)
         {
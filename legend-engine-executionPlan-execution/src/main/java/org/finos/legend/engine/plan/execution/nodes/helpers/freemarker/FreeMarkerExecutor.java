@@ -14,6 +14,10 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import freemarker.core.Environment;
 import freemarker.core.TemplateDateFormatFactory;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -23,13 +27,32 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
 
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 public class FreeMarkerExecutor
 {
+    private static final int MAX_CACHED_TEMPLATE_FUNCTIONS = 256;
+    private static final int MAX_CACHED_TEMPLATES = 2048;
+
+    private static final Configuration CONFIGURATION = newConfiguration();
+
+    // Template functions are shared by every node of a plan, so they are parsed once and included into each template
+    private static final Cache<String, Template> TEMPLATE_FUNCTIONS_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATE_FUNCTIONS).build();
+    private static final Cache<String, Template> TEMPLATE_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).build();
+
+    // Templates made only of literal text and ${name} interpolations are rendered without FreeMarker
+    private static final Cache<String, Optional<Set<String>>> TEMPLATE_FUNCTION_NAMES_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATE_FUNCTIONS).build();
+    private static final Cache<String, InterpolationOnlyTemplate> INTERPOLATION_ONLY_TEMPLATE_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).build();
+
     public static String process(String input, ExecutionState executionState)
     {
         return process(input, executionState, null, null);
@@ -66,26 +89,42 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        String result = process(input, variableMap, templateFunctions);
-        if (!result.equals(input.replace("\\\"", "\"")))
+        // Null when the template functions do more than define functions: every template then goes through FreeMarker
+        Set<String> functionNames = templateFunctions.isEmpty() ? Collections.emptySet() : getCached(TEMPLATE_FUNCTION_NAMES_CACHE, templateFunctions, () -> InterpolationOnlyTemplate.definedFunctionNames(templateFunctions)).orElse(null);
+        // Only the plan supplied input is cached: the output of each pass depends on the parameter values
+        String result = process(input, variableMap, templateFunctions, functionNames, true);
+        while (!result.equals(input.replace("\\\"", "\"")))
         {
-            return processRecursively(result, variableMap, templateFunctions);
+            input = result;
+            result = process(input, variableMap, templateFunctions, functionNames, false);
         }
         return result;
     }
 
-    private static String process(String input, Map<String, ?> variableMap, String templateFunctions)
+    private static String process(String input, Map<String, ?> variableMap, String templateFunctions, Set<String> functionNames, boolean cacheable)
     {
+        String source = input.replace("\\\"", "\"");
+        if (functionNames != null)
+        {
+            InterpolationOnlyTemplate interpolationOnlyTemplate = cacheable ? getCached(INTERPOLATION_ONLY_TEMPLATE_CACHE, source, () -> InterpolationOnlyTemplate.compile(source)) : InterpolationOnlyTemplate.compile(source);
+            String result = interpolationOnlyTemplate.render(variableMap, functionNames);
+            if (result != null)
+            {
+                return result;
+            }
+        }
+
+        Template functionsTemplate = templateFunctions.isEmpty() ? null : getTemplate(TEMPLATE_FUNCTIONS_CACHE, "templateFunctions", templateFunctions);
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Configuration cfg = new Configuration();
-            cfg.setNumberFormat("computer");
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), cfg);
-            Map<String, TemplateDateFormatFactory> customDateFormats = Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
-            template.process(variableMap, stringWriter);
+            Template template = cacheable ? getTemplate(TEMPLATE_CACHE, "template", source) : newTemplate("template", source);
+            Environment environment = template.createProcessingEnvironment(variableMap, stringWriter);
+            if (functionsTemplate != null)
+            {
+                environment.include(functionsTemplate);
+            }
+            environment.process();
             return stringWriter.toString();
         }
         catch (Exception e)
@@ -93,4 +132,43 @@ public class FreeMarkerExecutor
             throw new RuntimeException("Issue processing freemarker function.  Template with error: " + stringWriter.toString(), e);
         }
     }
+
+    private static Template getTemplate(Cache<String, Template> cache, String name, String source)
+    {
+        try
+        {
+            return cache.get(source, () -> newTemplate(name, source));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            throw new RuntimeException("Issue processing freemarker function.  Template with error: " + source, e.getCause());
+        }
+    }
+
+    private static <T> T getCached(Cache<String, T> cache, String key, Callable<T> loader)
+    {
+        try
+        {
+            return cache.get(key, loader);
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static Template newTemplate(String name, String source) throws IOException
+    {
+        return new Template(name, new StringReader(source), CONFIGURATION);
+    }
+
+    private static Configuration newConfiguration()
+    {
+        Configuration configuration = new Configuration();
+        configuration.setNumberFormat("computer");
+        Map<String, TemplateDateFormatFactory> customDateFormats = Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE);
+        configuration.setCustomDateFormats(customDateFormats);
+        configuration.setDateFormat("@alloyDate");
+        return configuration;
+    }
 }
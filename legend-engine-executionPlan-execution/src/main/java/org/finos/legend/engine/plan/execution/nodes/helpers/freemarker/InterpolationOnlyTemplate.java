@@ -0,0 +1,182 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A template made only of literal text and <code>${name}</code> interpolations, which most parameterized plans use
+ * for their scalar parameters. Such a template is split once into literals and variable names and rendered with a
+ * single {@link StringBuilder} pass, producing what FreeMarker would. Anything else (directives, expressions,
+ * built-ins, function calls, non string values, ...) is left to FreeMarker.
+ */
+final class InterpolationOnlyTemplate
+{
+    // Markers of FreeMarker syntax other than ${name}, in any of its tag and interpolation syntaxes
+    private static final String[] UNSUPPORTED_MARKERS = {"<#", "</#", "<@", "</@", "#{", "[#", "[/#", "[@", "[/@", "[="};
+    private static final String INTERPOLATION_START = "${";
+    private static final String FUNCTION_START = "<#function";
+    private static final String FUNCTION_END = "</#function>";
+
+    static final InterpolationOnlyTemplate NOT_SUPPORTED = new InterpolationOnlyTemplate(null, null);
+
+    private final String[] literals;
+    private final String[] variables;
+
+    private InterpolationOnlyTemplate(String[] literals, String[] variables)
+    {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Split the template source into literals and variable names, or return {@link #NOT_SUPPORTED} if the source
+     * uses anything other than literal text and <code>${name}</code> interpolations.
+     */
+    static InterpolationOnlyTemplate compile(String source)
+    {
+        for (String marker : UNSUPPORTED_MARKERS)
+        {
+            if (source.contains(marker))
+            {
+                return NOT_SUPPORTED;
+            }
+        }
+
+        MutableList<String> literals = Lists.mutable.empty();
+        MutableList<String> variables = Lists.mutable.empty();
+        int index = 0;
+        int start;
+        while ((start = source.indexOf(INTERPOLATION_START, index)) != -1)
+        {
+            int nameStart = start + INTERPOLATION_START.length();
+            int nameEnd = endOfName(source, nameStart);
+            if ((nameEnd == nameStart) || (nameEnd == source.length()) || (source.charAt(nameEnd) != '}'))
+            {
+                return NOT_SUPPORTED;
+            }
+            String name = source.substring(nameStart, nameEnd);
+            if ("true".equals(name) || "false".equals(name))
+            {
+                return NOT_SUPPORTED;
+            }
+            literals.add(source.substring(index, start));
+            variables.add(name);
+            index = nameEnd + 1;
+        }
+        literals.add(source.substring(index));
+        return new InterpolationOnlyTemplate(literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * Collect the names of the functions defined by the template functions of a plan, or return an empty optional
+     * if the template functions contain anything but function definitions (which would run, or be output, when
+     * they are included).
+     */
+    static Optional<Set<String>> definedFunctionNames(String templateFunctions)
+    {
+        MutableSet<String> names = Sets.mutable.empty();
+        int index = 0;
+        while (index < templateFunctions.length())
+        {
+            if (!templateFunctions.startsWith(FUNCTION_START, index))
+            {
+                return Optional.empty();
+            }
+            int nameStart = index + FUNCTION_START.length();
+            while ((nameStart < templateFunctions.length()) && Character.isWhitespace(templateFunctions.charAt(nameStart)))
+            {
+                nameStart++;
+            }
+            int nameEnd = endOfName(templateFunctions, nameStart);
+            if ((nameStart == index + FUNCTION_START.length()) || (nameEnd == nameStart) || (nameEnd == templateFunctions.length()))
+            {
+                return Optional.empty();
+            }
+            char next = templateFunctions.charAt(nameEnd);
+            int end = templateFunctions.indexOf(FUNCTION_END, nameEnd);
+            if ((!Character.isWhitespace(next) && (next != '>')) || (end == -1))
+            {
+                return Optional.empty();
+            }
+            names.add(templateFunctions.substring(nameStart, nameEnd));
+            index = end + FUNCTION_END.length();
+        }
+        return Optional.of(names);
+    }
+
+    /**
+     * Render the template, or return null if it is not supported or if a variable is missing, is not a string or an
+     * integer, or is shadowed by a template function: FreeMarker then renders it (or reports the error).
+     */
+    String render(Map<String, ?> variableMap, Set<String> functionNames)
+    {
+        if (this.literals == null)
+        {
+            return null;
+        }
+        if (this.variables.length == 0)
+        {
+            return this.literals[0];
+        }
+        StringBuilder builder = new StringBuilder(this.literals[0].length() * 2);
+        builder.append(this.literals[0]);
+        for (int i = 0; i < this.variables.length; i++)
+        {
+            String name = this.variables[i];
+            Object value = functionNames.contains(name) ? null : variableMap.get(name);
+            if (value instanceof String)
+            {
+                builder.append((String) value);
+            }
+            else if ((value instanceof Integer) || (value instanceof Long))
+            {
+                // the "computer" number format renders integers without grouping
+                builder.append(((Number) value).longValue());
+            }
+            else
+            {
+                return null;
+            }
+            builder.append(this.literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static int endOfName(String string, int start)
+    {
+        int index = start;
+        while ((index < string.length()) && isNameCharacter(string.charAt(index), index == start))
+        {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isNameCharacter(char character, boolean first)
+    {
+        return ((character >= 'a') && (character <= 'z')) ||
+                ((character >= 'A') && (character <= 'Z')) ||
+                (character == '_') ||
+                (!first && (character >= '0') && (character <= '9'));
+    }
+}
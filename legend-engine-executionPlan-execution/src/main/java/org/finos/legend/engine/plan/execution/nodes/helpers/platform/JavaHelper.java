@@ -29,6 +29,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaCl
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilter;
 import org.finos.legend.engine.shared.javaCompiler.CompositeClassPathFilter;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
@@ -58,7 +59,7 @@ public class JavaHelper
 
     public static EngineJavaCompiler compilePlan(SingleExecutionPlan singleExecutionPlan, MutableList<CommonProfile> pm) throws JavaCompileException
     {
-        try
+        try (ExecutionProfile.Phase phase = ExecutionProfile.phase("planJavaCompilation"))
         {
             long start = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.JAVA_COMPILATION_START, "Compile Plan").toString());
@@ -17,7 +17,9 @@ package org.finos.legend.engine.plan.execution.nodes.state;
 import io.opentracing.Span;
 import org.eclipse.collections.api.block.function.Function3;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
@@ -56,6 +58,7 @@ public class ExecutionState
     private EngineJavaCompiler javaCompiler;
 
     private final Map<String, Result> res;
+    private final ImmutableSet<String> parameterNames;
     private final List<? extends String> templateFunctions;
     private final boolean isJavaCompilationAllowed;
     private final Map<StoreType, StoreExecutionState> states = new EnumMap<>(StoreType.class);
@@ -68,6 +71,7 @@ public class ExecutionState
         this.inAllocation = state.inAllocation;
         this.inLake = state.inLake;
         this.res = state.res;
+        this.parameterNames = state.parameterNames;
         this.allocationNodeName = state.allocationNodeName;
         this.templateFunctions = state.templateFunctions;
         this.authId = state.authId;
@@ -91,6 +95,7 @@ public class ExecutionState
         this.inAllocation = false;
         this.inLake = false;
         this.res = res;
+        this.parameterNames = Sets.immutable.withAll(res.keySet());
         this.templateFunctions = templateFunctions;
         this.realizeAllocationResults = false;
         this.isJavaCompilationAllowed = isJavaCompilationAllowed;
@@ -205,6 +210,15 @@ public class ExecutionState
         return Collections.unmodifiableMap(this.res);
     }
 
+    /**
+     * Names of the values the state was created with, i.e. the parameters supplied by the caller of the plan, as
+     * opposed to the results of the plan's own nodes and constants added while executing it.
+     */
+    public ImmutableSet<String> getParameterNames()
+    {
+        return this.parameterNames;
+    }
+
     public void addResult(String key, Result result)
     {
         this.res.put(key, result);
@@ -23,9 +23,12 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class StreamingResult extends Result
 {
+    private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+
     public abstract Builder getResultBuilder();
 
     public abstract Serializer getSerializer(SerializationFormat format);
@@ -45,6 +48,26 @@ public abstract class StreamingResult extends Result
         serializer.stream(outputStream);
     }
 
+    /**
+     * Registers an action to run (once) when the result is closed, whether or not it has been streamed
+     */
+    public void addCloseListener(Runnable listener)
+    {
+        this.closeListeners.add(listener);
+    }
+
+    @Override
+    public void close()
+    {
+        for (Runnable listener : this.closeListeners)
+        {
+            if (this.closeListeners.remove(listener))
+            {
+                listener.run();
+            }
+        }
+    }
+
     public String flush(Serializer serializer)
     {
         try
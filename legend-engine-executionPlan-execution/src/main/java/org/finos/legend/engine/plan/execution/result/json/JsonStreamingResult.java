@@ -69,6 +69,7 @@ public class JsonStreamingResult extends StreamingResult
         {
             this.childResult.close();
         }
+        super.close();
     }
 
     @Override
@@ -14,7 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.result.object;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.eclipse.collections.api.tuple.Pair;
@@ -49,7 +49,7 @@ public class StreamingObjectResultCSVSerializer extends CsvSerializer
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         Writer out = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
         final CSVPrinter csvPrinter = new CSVPrinter(out, withHeader ? CSVFormat.DEFAULT.withFirstRecordAsHeader() : CSVFormat.DEFAULT);
-        final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+        final ObjectWriter objectWriter = ExecutionResultObjectMapperFactory.getObjectWriter();
         try
         {
             final List<String> columns = this.getHeaderColumnsAndTypes().stream().map(Pair::getOne).collect(Collectors.toList());
@@ -80,7 +80,7 @@ public class StreamingObjectResultCSVSerializer extends CsvSerializer
                         }
                         else
                         {
-                            valList.add(objectMapper.writeValueAsString(value));
+                            valList.add(objectWriter.writeValueAsString(value));
                         }
                     }
                     csvPrinter.printRecord(valList);
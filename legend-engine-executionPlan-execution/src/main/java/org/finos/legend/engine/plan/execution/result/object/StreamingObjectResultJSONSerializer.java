@@ -14,25 +14,36 @@
 
 package org.finos.legend.engine.plan.execution.result.object;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
-import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.api.factory.Maps;
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 
+/**
+ * Streams a {@link StreamingObjectResult} as JSON through a single {@link JsonGenerator}.
+ * The generator's internal (recycled) buffer is shared by every object of the result, and
+ * serializers are resolved once per object class rather than once per object.
+ */
 public class StreamingObjectResultJSONSerializer extends Serializer
 {
-    private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+    private final ObjectWriter objectWriter = ExecutionResultObjectMapperFactory.getObjectWriter();
+    private final Map<Class<?>, ObjectWriter> writersByClass = Maps.mutable.empty();
     private final StreamingObjectResult streamingObjectResult;
-    private final byte[] b_builder = "{\"builder\": ".getBytes();
-    private final byte[] b_activities = ", \"activities\": [".getBytes();
-    private final byte[] b_objects = "], \"objects\" : [".getBytes();
-    private final byte[] b_comma = ",".getBytes();
-    private final byte[] b_end = "]".getBytes();
-    private final byte[] b_endResult = "}".getBytes();
+    private boolean separatorRequired;
+    private static final String b_builder = "{\"builder\": ";
+    private static final String b_activities = ", \"activities\": [";
+    private static final String b_objects = "], \"objects\" : [";
+    private static final String b_comma = ",";
+    private static final String b_end = "]";
+    private static final String b_endResult = "}";
 
     public StreamingObjectResultJSONSerializer(StreamingObjectResult streamingObjectResult)
     {
@@ -42,16 +53,16 @@ public class StreamingObjectResultJSONSerializer extends Serializer
     @Override
     public void stream(OutputStream stream)
     {
-        try
+        try (JsonGenerator generator = createGenerator(stream))
         {
-            stream.write(b_builder);
-            objectMapper.writeValue(stream, this.streamingObjectResult.getResultBuilder());
-            stream.write(b_activities);
-            streamCollection(stream, this.streamingObjectResult.activities);
-            stream.write(b_objects);
-            streamObjects(stream);
-            stream.write(b_end);
-            stream.write(b_endResult);
+            generator.writeRaw(b_builder);
+            writeValue(generator, this.streamingObjectResult.getResultBuilder());
+            generator.writeRaw(b_activities);
+            streamCollection(generator, this.streamingObjectResult.activities);
+            generator.writeRaw(b_objects);
+            streamObjects(generator);
+            generator.writeRaw(b_end);
+            generator.writeRaw(b_endResult);
         }
         catch (Exception e)
         {
@@ -63,37 +74,61 @@ public class StreamingObjectResultJSONSerializer extends Serializer
         }
     }
 
-    private void streamObjects(OutputStream outputStream)
+    private JsonGenerator createGenerator(OutputStream stream) throws IOException
     {
-        this.serializeStream(this.streamingObjectResult.getObjectStream(), outputStream);
+        // Values are separated explicitly, so the default root value separator (a space) must not be emitted
+        return this.objectWriter.getFactory().createGenerator(stream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
     }
 
-    private void streamCollection(OutputStream outputStream, List collection) throws IOException
+    private void streamObjects(JsonGenerator generator)
     {
-        this.serializeStream(collection.stream(), outputStream);
-        outputStream.flush();
+        this.serializeStream(this.streamingObjectResult.getObjectStream(), generator);
     }
 
-    private void serializeStream(Stream<Object> objects, OutputStream outputStream)
+    private void streamCollection(JsonGenerator generator, List collection) throws IOException
     {
-        final Counter counter = new Counter(1);
+        this.serializeStream(collection.stream(), generator);
+        generator.flush();
+    }
+
+    private void serializeStream(Stream<Object> objects, JsonGenerator generator)
+    {
+        this.separatorRequired = false;
         objects.forEach(val ->
         {
             try
             {
-                if (counter.getCount() > 1)
+                if (this.separatorRequired)
                 {
-                    outputStream.write(b_comma);
-
+                    generator.writeRaw(b_comma);
                 }
-                objectMapper.writeValue(outputStream, val);
-                counter.increment();
+                writeValue(generator, val);
+                this.separatorRequired = true;
             }
-            catch (Exception e)
+            catch (IOException e)
             {
-                throw new RuntimeException(e);
+                throw new UncheckedIOException(e);
             }
         });
     }
-}
 
+    private void writeValue(JsonGenerator generator, Object value) throws IOException
+    {
+        if (value == null)
+        {
+            generator.writeNull();
+        }
+        else
+        {
+            this.writersByClass.computeIfAbsent(value.getClass(), this::newWriter).writeValue(generator, value);
+        }
+    }
+
+    private ObjectWriter newWriter(Class<?> clazz)
+    {
+        return this.objectWriter.forType(clazz).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
@@ -18,6 +18,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.eclipse.collections.api.block.function.Function;
@@ -39,6 +40,15 @@ public class ExecutionResultObjectMapperFactory
         return objectMapper;
     }
 
+    /**
+     * Shared writer with the configuration of {@link #getNewObjectMapper()}. Writers are immutable and thread safe, and
+     * share the serializers they resolve, so result serializers should use this rather than a new mapper per result
+     */
+    public static ObjectWriter getObjectWriter()
+    {
+        return ObjectWriterHolder.WRITER;
+    }
+
     public static class PureDateSerializer extends JsonSerializer<PureDate>
     {
         @Override
@@ -125,4 +135,9 @@ public class ExecutionResultObjectMapperFactory
         sb.append("\"");
         return sb.toString();
     }
+
+    private static class ObjectWriterHolder
+    {
+        private static final ObjectWriter WRITER = getNewObjectMapper().writer();
+    }
 }
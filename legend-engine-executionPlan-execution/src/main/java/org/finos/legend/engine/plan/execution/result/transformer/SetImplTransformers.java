@@ -46,6 +46,8 @@ public class SetImplTransformers
         return o;
     };
 
+    public static final Function<Object, Object> DATE_TRANSFORMER = (Function<Object, Object>) o -> o instanceof Date ? DateFunctions.fromDate((Date) o) : o;
+
     public MutableList<Function<Object, Object>> transformers;
 
     public <T> SetImplTransformers(List<TransformerInput<T>> transformerInputs)
@@ -58,6 +60,14 @@ public class SetImplTransformers
         transformers = Lists.mutable.empty();
     }
 
+    /**
+     * Whether the transformer turns java.sql dates and timestamps into Pure dates and leaves other values unchanged
+     */
+    public static boolean isDateTransformer(Function<Object, Object> transformer)
+    {
+        return transformer == DATE_TRANSFORMER || transformer == TEMPORARY_DATATYPE_TRANSFORMER;
+    }
+
     private Boolean toBoolean(Object o)
     {
         if (o == null)
@@ -94,7 +104,7 @@ public class SetImplTransformers
         }
         else if (transformerInput.type != null && (transformerInput.type.equals("StrictDate") || transformerInput.type.equals("DateTime") || transformerInput.type.equals("Date")))
         {
-            return o -> o instanceof Date ? DateFunctions.fromDate((Date) o) : o;
+            return DATE_TRANSFORMER;
         }
         else
         {
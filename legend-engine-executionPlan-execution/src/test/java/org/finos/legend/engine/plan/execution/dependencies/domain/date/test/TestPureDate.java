@@ -36,6 +36,53 @@ public class TestPureDate
         Assert.assertEquals(PureDate.newPureDate(2014, 2, 27, 5, 1, 35, "231"), PureDate.parsePureDate("2014-02-27T10:01:35.231+0500"));
     }
 
+    @Test
+    public void testParseInvalidPureDate()
+    {
+        try
+        {
+            PureDate.parsePureDate("2014-+2-27");
+            Assert.fail("Expected exception");
+        }
+        catch (IllegalArgumentException e)
+        {
+            Assert.assertEquals("Error parsing month: '2014-+2-27'", e.getMessage());
+        }
+
+        try
+        {
+            PureDate.parsePureDate("2147483648-01-01");
+            Assert.fail("Expected exception");
+        }
+        catch (IllegalArgumentException e)
+        {
+            Assert.assertEquals("Error parsing year: '2147483648-01-01'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testStrictDatesAreShared()
+    {
+        PureDate date = PureDate.newPureDate(2021, 3, 31);
+        Assert.assertSame(date, PureDate.newPureDate(2021, 3, 31));
+        Assert.assertSame(date, PureDate.parsePureDate("2021-03-31"));
+        Assert.assertEquals(PureDate.newPureDate(2021, 4, 1), date.addDays(1));
+        Assert.assertEquals(PureDate.newPureDate(2021, 3, 31), date);
+    }
+
+    @Test
+    public void testFromSQLTimestamp()
+    {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(1561939199000L);
+        timestamp.setNanos(1);
+        Assert.assertEquals(PureDate.newPureDate(2019, 6, 30, 23, 59, 59, "000000001"), PureDate.fromSQLTimestamp(timestamp));
+
+        java.sql.Timestamp beforeEpoch = new java.sql.Timestamp(-1L);
+        Assert.assertEquals(PureDate.newPureDate(1969, 12, 31, 23, 59, 59, "999000000"), PureDate.fromSQLTimestamp(beforeEpoch));
+
+        Assert.assertEquals(PureDate.newPureDate(1969, 12, 31), PureDate.fromSQLDate(new java.sql.Date(-1L)));
+    }
+
     @Test
     public void testFormat()
     {
@@ -188,6 +235,18 @@ public class TestPureDate
         Assert.assertEquals(PureDate.newPureDate(2013, 3, 30), PureDate.newPureDate(2014, 3, 30).addDays(-365));
     }
 
+    @Test
+    public void testAddDaysAcrossYears()
+    {
+        PureDate date = PureDate.newPureDate(2016, 2, 29, 10, 26);
+        Assert.assertEquals(PureDate.newPureDate(2019, 2, 28, 10, 26), date.addDays(1095));
+        Assert.assertEquals(PureDate.newPureDate(2013, 3, 1, 10, 26), date.addDays(-1095));
+        Assert.assertEquals(PureDate.newPureDate(2016, 3, 31, 10, 26), date.addDays(31));
+        Assert.assertEquals(PureDate.newPureDate(2016, 1, 29, 10, 26), date.addDays(-31));
+        Assert.assertEquals(PureDate.newPureDate(2016, 2, 29, 10, 26), date.addDays(36525).addDays(-36525));
+        Assert.assertEquals(PureDate.newPureDate(2016, 2, 28, 10, 26), date.addHours(-24));
+    }
+
     @Test
     public void testAddMilliseconds()
     {
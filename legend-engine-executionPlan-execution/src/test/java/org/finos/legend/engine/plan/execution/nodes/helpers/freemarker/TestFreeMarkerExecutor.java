@@ -15,12 +15,14 @@
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class TestFreeMarkerExecutor
 {
@@ -41,6 +43,65 @@ public class TestFreeMarkerExecutor
         Assert.assertEquals("final collectionSize :1000", result1.trim());
     }
 
+    @Test
+    public void testCachedTemplateIsRenderedWithEachCallVariables()
+    {
+        String query = "select * from trade where ticker in (${renderCollection(tickers \",\")}) and quantity > ${minQuantity}";
+        String templateFunctions = collectionSizeTemplate() + "<#function renderCollection collection separator><#return collection?join(separator)></#function>";
+
+        Map firstRootMap = new HashMap();
+        firstRootMap.put("tickers", Lists.mutable.with("'A'", "'B'"));
+        firstRootMap.put("minQuantity", 10);
+        Assert.assertEquals("select * from trade where ticker in ('A','B') and quantity > 10", FreeMarkerExecutor.processRecursively(query, firstRootMap, templateFunctions).trim());
+
+        Map secondRootMap = new HashMap();
+        secondRootMap.put("tickers", Lists.mutable.with("'C'"));
+        secondRootMap.put("minQuantity", 1000000);
+        Assert.assertEquals("select * from trade where ticker in ('C') and quantity > 1000000", FreeMarkerExecutor.processRecursively(query, secondRootMap, templateFunctions).trim());
+    }
+
+    @Test
+    public void testInterpolationOnlyTemplate()
+    {
+        String query = "select * from trade where ticker = '${ticker}' and quantity > ${minQuantity} and trader = '${trader}'";
+        String templateFunctions = collectionSizeTemplate() + "<#function renderCollection collection separator><#return collection?join(separator)></#function>";
+
+        Map rootMap = new HashMap();
+        rootMap.put("ticker", "AAPL");
+        rootMap.put("minQuantity", 10);
+        rootMap.put("trader", "${defaultTrader}");
+        rootMap.put("defaultTrader", "Smith");
+        Assert.assertEquals("select * from trade where ticker = 'AAPL' and quantity > 10 and trader = 'Smith'", FreeMarkerExecutor.processRecursively(query, rootMap, templateFunctions));
+
+        // values FreeMarker formats are left to FreeMarker
+        rootMap.put("minQuantity", 10.5);
+        Assert.assertEquals("select * from trade where ticker = 'AAPL' and quantity > 10.5 and trader = 'Smith'", FreeMarkerExecutor.processRecursively(query, rootMap, templateFunctions));
+
+        rootMap.remove("ticker");
+        Assert.assertThrows(RuntimeException.class, () -> FreeMarkerExecutor.processRecursively(query, rootMap, templateFunctions));
+    }
+
+    @Test
+    public void testInterpolationOnlyTemplateCompilation()
+    {
+        Map rootMap = new HashMap();
+        rootMap.put("a", "x");
+        rootMap.put("collectionSize", "y");
+        Set<String> functionNames = InterpolationOnlyTemplate.definedFunctionNames(collectionSizeTemplate()).orElse(null);
+        Assert.assertEquals(Sets.mutable.with("collectionSize"), functionNames);
+
+        Assert.assertEquals("x-x", InterpolationOnlyTemplate.compile("${a}-${a}").render(rootMap, functionNames));
+        Assert.assertEquals("no variables", InterpolationOnlyTemplate.compile("no variables").render(rootMap, functionNames));
+        Assert.assertNull(InterpolationOnlyTemplate.compile("${collectionSize}").render(rootMap, functionNames));
+        Assert.assertNull(InterpolationOnlyTemplate.compile("${missing}").render(rootMap, functionNames));
+        Assert.assertSame(InterpolationOnlyTemplate.NOT_SUPPORTED, InterpolationOnlyTemplate.compile("${a?upper_case}"));
+        Assert.assertSame(InterpolationOnlyTemplate.NOT_SUPPORTED, InterpolationOnlyTemplate.compile("<#if a??>${a}</#if>"));
+        Assert.assertSame(InterpolationOnlyTemplate.NOT_SUPPORTED, InterpolationOnlyTemplate.compile("${a"));
+
+        Assert.assertFalse(InterpolationOnlyTemplate.definedFunctionNames("<#assign a = \"z\">" + collectionSizeTemplate()).isPresent());
+        Assert.assertFalse(InterpolationOnlyTemplate.definedFunctionNames(collectionSizeTemplate() + " ").isPresent());
+    }
+
     public static String collectionSizeTemplate()
     {
         return "<#function collectionSize collection>" +
@@ -0,0 +1,73 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.result.test.object;
+
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.builder.Builder;
+import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class TestStreamingObjectResultJSONSerializer
+{
+    @Test
+    public void testSerializeObjects()
+    {
+        StreamingObjectResult<Object> result = new StreamingObjectResult<>(Stream.of(new Person("John", 32), new Firm("Acme"), new Person("Jane", 28)), new Builder("test"), new ConstantResult(null));
+        String json = result.flush(result.getSerializer(SerializationFormat.DEFAULT));
+        Assert.assertEquals("{\"builder\": {\"_type\":\"test\"}, \"activities\": [], \"objects\" : [{\"name\":\"John\",\"age\":32},{\"legalName\":\"Acme\"},{\"name\":\"Jane\",\"age\":28}]}", json);
+    }
+
+    @Test
+    public void testSerializeEmptyStream()
+    {
+        StreamingObjectResult<Object> result = new StreamingObjectResult<>(Stream.empty(), new Builder("test"), new ConstantResult(null));
+        String json = result.flush(result.getSerializer(SerializationFormat.DEFAULT));
+        Assert.assertEquals("{\"builder\": {\"_type\":\"test\"}, \"activities\": [], \"objects\" : []}", json);
+    }
+
+    @Test
+    public void testSerializeNullValues()
+    {
+        StreamingObjectResult<Object> result = new StreamingObjectResult<>(Stream.of(new Person("John", 32), null), new Builder("test"), new ConstantResult(null));
+        String json = result.flush(result.getSerializer(SerializationFormat.DEFAULT));
+        Assert.assertEquals("{\"builder\": {\"_type\":\"test\"}, \"activities\": [], \"objects\" : [{\"name\":\"John\",\"age\":32},null]}", json);
+    }
+
+    public static class Person
+    {
+        public String name;
+        public int age;
+
+        Person(String name, int age)
+        {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static class Firm
+    {
+        public String legalName;
+
+        Firm(String legalName)
+        {
+            this.legalName = legalName;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.finos.legend.pure.generated.Root_meta_pure_executionPlan_ExecutionPlan;
 import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
 import org.finos.legend.pure.generated.core_external_format_json_toJSON;
@@ -98,7 +99,7 @@ public class PlanGenerator
 
     private static Pair<Root_meta_pure_executionPlan_ExecutionPlan, String> generateExecutionPlanAsPure(LambdaFunction<?> l, Mapping mapping, Runtime pureRuntime, ExecutionContext context, PureModel pureModel, PlanPlatform platform, String planId, boolean debug, RichIterable<? extends Root_meta_pure_extension_Extension> extensions)
     {
-        try (Scope scope = GlobalTracer.get().buildSpan("Generate Plan").startActive(true))
+        try (Scope scope = GlobalTracer.get().buildSpan("Generate Plan").startActive(true); ExecutionProfile.Phase ignored = ExecutionProfile.phase("planGeneration"))
         {
             Root_meta_pure_executionPlan_ExecutionPlan plan;
             String debugInfo = "";
@@ -148,18 +149,21 @@ public class PlanGenerator
 
     public static String serializeToJSON(Root_meta_pure_executionPlan_ExecutionPlan purePlan, String clientVersion, PureModel pureModel, RichIterable<? extends Root_meta_pure_extension_Extension> extensions, Iterable<? extends PlanTransformer> transformers)
     {
-        String cl = clientVersion == null ? PureClientVersions.production : clientVersion;
-        MutableList<? extends PlanTransformer> handlers = Iterate.selectWith(transformers, PlanTransformer::supports, cl, Lists.mutable.empty());
-        Assert.assertTrue(handlers.size() == 1, () -> "Zero or more than one handler (" + handlers.size() + ") was found for protocol " + cl);
-        Object transformed = handlers.get(0).transformToVersionedModel(purePlan, cl, extensions, pureModel.getExecutionSupport());
-        return serializeToJSON(transformed, pureModel);
+        try (ExecutionProfile.Phase ignored = ExecutionProfile.phase("planTransformation"))
+        {
+            String cl = clientVersion == null ? PureClientVersions.production : clientVersion;
+            MutableList<? extends PlanTransformer> handlers = Iterate.selectWith(transformers, PlanTransformer::supports, cl, Lists.mutable.empty());
+            Assert.assertTrue(handlers.size() == 1, () -> "Zero or more than one handler (" + handlers.size() + ") was found for protocol " + cl);
+            Object transformed = handlers.get(0).transformToVersionedModel(purePlan, cl, extensions, pureModel.getExecutionSupport());
+            return serializeToJSON(transformed, pureModel);
+        }
     }
 
     public static SingleExecutionPlan stringToPlan(String plan)
     {
         try
         {
-            return ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(plan, SingleExecutionPlan.class);
+            return ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(SingleExecutionPlan.class).readValue(plan);
         }
         catch (IOException e)
         {
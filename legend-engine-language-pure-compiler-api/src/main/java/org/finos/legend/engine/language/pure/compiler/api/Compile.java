@@ -32,6 +32,7 @@ import org.finos.legend.engine.shared.core.kerberos.ProfileManagerHelper;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionTool;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.operational.prometheus.Prometheus;
 import org.pac4j.core.profile.CommonProfile;
@@ -48,7 +49,9 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.HashMap;
 import java.util.Map;
+import static org.finos.legend.engine.shared.core.operational.http.CborMessageBodyProvider.APPLICATION_CBOR;
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
+import static org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider.APPLICATION_SMILE;
 
 @Api(tags = "Pure - Compiler")
 @Path("pure/v1/compilation")
@@ -67,12 +70,13 @@ public class Compile
     @POST
     @Path("compile")
     @ApiOperation(value = "Loads the model and then compiles. It performs no action. Mostly used for testing")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     @Prometheus(name = "compile model", doc = "Pure model compilation duration summary")
     public Response compile(PureModelContext model, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm, @Context UriInfo uriInfo)
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         long start = System.currentTimeMillis();
+        ExecutionProfile profile = ExecutionProfile.startIfRequested(uriInfo != null ? uriInfo.getQueryParameters().getFirst(ExecutionProfile.PROFILE_REQUEST_PARAMETER) : null, "compile");
         try (Scope scope = GlobalTracer.get().buildSpan("Service: compile").startActive(true))
         {
             CompilerExtensions.logAvailableExtensions();
@@ -82,19 +86,23 @@ public class Compile
             MetricsHandler.observeRequest(uriInfo != null ? uriInfo.getPath() : null, start, end);
             // NOTE: we could change this to return 204 (No Content), but Pure client test will break
             // on the another hand, returning 200 Ok with no content is not appropriate. So we have to put this dummy message "OK"
-            return Response.ok(new CompileResult("OK", res.getTwo().getWarnings()), MediaType.APPLICATION_JSON_TYPE).build();
+            return ExecutionProfile.decorate(profile, Response.ok(new CompileResult("OK", res.getTwo().getWarnings()), MediaType.APPLICATION_JSON_TYPE).build());
         }
         catch (Exception ex)
         {
             MetricsHandler.observeError(LoggingEventType.COMPILE_MODEL_ERROR, ex, null);
-            return handleException(uriInfo, profiles, start, ex);
+            return ExecutionProfile.decorate(profile, handleException(uriInfo, profiles, start, ex));
+        }
+        finally
+        {
+            ExecutionProfile.end(profile);
         }
     }
 
     @POST
     @Path("lambdaReturnType")
     @ApiOperation(value = "Loads a given model and lambda. Returns the lambda return type")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     @Prometheus(name = "lambda return type")
     public Response lambdaReturnType(LambdaReturnTypeInput lambdaReturnTypeInput, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm, @Context UriInfo uriInfo)
     {
@@ -45,6 +45,16 @@ public class Compiler
         return new PureModel(model, pm, deploymentMode, pureModelProcessParameter, metaData);
     }
 
+    /**
+     * Compiles the model but defers the compilation of function bodies until each function is used: for large models, of
+     * which a request only uses a small part, this saves most of the compilation of functions
+     */
+    public static PureModel compileWithLazyFunctionBodies(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm, String packageOffset)
+    {
+        PureModelProcessParameter pureModelProcessParameter = new PureModelProcessParameter(packageOffset, true);
+        return new PureModel(model, pm, deploymentMode, pureModelProcessParameter, null);
+    }
+
     public static String getLambdaReturnType(Lambda lambda, PureModel pureModel)
     {
         org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification valueSpecification = HelperValueSpecificationBuilder.buildLambdaWithContext(lambda.body, lambda.parameters, new CompileContext.Builder(pureModel).build(), new ProcessingContext("Processing return type for lambda"))._expressionSequence().getLast();
@@ -16,10 +16,12 @@ package org.finos.legend.engine.language.pure.compiler.toPureGraph;
 
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtensions;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.Processor;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.handlers.builder.FunctionExpressionBuilder;
@@ -52,6 +54,7 @@ import org.slf4j.Logger;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 public class CompileContext
@@ -95,17 +98,21 @@ public class CompileContext
 
     public final PureModel pureModel;
     private final ImmutableSet<String> imports;
+    // Import resolutions (element kind, simple name) -> matching full paths, shared by all contexts built for the same section
+    private final ConcurrentMap<Pair<String, String>, ImmutableList<String>> importResolutions;
 
     private CompileContext(Builder builder)
     {
         this.pureModel = builder.pureModel;
         this.imports = builder.imports;
+        this.importResolutions = builder.pureModel.getImportResolutions(builder.section);
     }
 
     public static class Builder
     {
         private final PureModel pureModel;
         private ImmutableSet<String> imports = META_IMPORTS;
+        private Section section;
 
         public Builder(PureModel pureModel)
         {
@@ -138,6 +145,7 @@ public class CompileContext
             {
                 this.imports = META_IMPORTS.newWithAll(((ImportAwareCodeSection) section).imports);
             }
+            this.section = section;
             return this;
         }
 
@@ -163,6 +171,15 @@ public class CompileContext
     }
 
     public <T> T resolve(String path, SourceInformation sourceInformation, Function<String, T> resolver)
+    {
+        return this.resolve(path, null, sourceInformation, resolver);
+    }
+
+    /**
+     * Same as {@link #resolve(String, SourceInformation, Function)}, but the import search for an unqualified path is
+     * memoized per section using the given element kind (e.g. "Class", "Mapping"), which must identify the resolver.
+     */
+    public <T> T resolve(String path, String kind, SourceInformation sourceInformation, Function<String, T> resolver)
     {
         if (path == null)
         {
@@ -183,7 +200,7 @@ public class CompileContext
 
         // NOTE: here we make the assumption that we have populated the indices properly so the same element
         // is not referred using 2 different paths in the same element index
-        MutableMap<String, T> results = searchImports(path, resolver);
+        MutableMap<String, T> results = searchImports(path, kind, resolver);
         switch (results.size())
         {
             case 0:
@@ -212,12 +229,12 @@ public class CompileContext
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement resolvePackageableElement(String fullPath)
     {
-        return this.resolve(fullPath, SourceInformation.getUnknownSourceInformation(), path -> this.pureModel.getPackageableElement(path, SourceInformation.getUnknownSourceInformation()));
+        return this.resolve(fullPath, "PackageableElement", SourceInformation.getUnknownSourceInformation(), path -> this.pureModel.getPackageableElement(path, SourceInformation.getUnknownSourceInformation()));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement resolvePackageableElement(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getPackageableElement(path, sourceInformation));
+        return this.resolve(fullPath, "PackageableElement", sourceInformation, path -> this.pureModel.getPackageableElement(path, sourceInformation));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type resolveType(String fullPath)
@@ -227,7 +244,7 @@ public class CompileContext
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type resolveType(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getType(path, sourceInformation));
+        return this.resolve(fullPath, "Type", sourceInformation, path -> this.pureModel.getType(path, sourceInformation));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> resolveClass(String fullPath)
@@ -237,7 +254,7 @@ public class CompileContext
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> resolveClass(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getClass(path, sourceInformation));
+        return this.resolve(fullPath, "Class", sourceInformation, path -> this.pureModel.getClass(path, sourceInformation));
     }
 
     public Enumeration<Enum> resolveEnumeration(String fullPath)
@@ -247,17 +264,17 @@ public class CompileContext
 
     public Enumeration<Enum> resolveEnumeration(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getEnumeration(path, sourceInformation));
+        return this.resolve(fullPath, "Enumeration", sourceInformation, path -> this.pureModel.getEnumeration(path, sourceInformation));
     }
 
     public Measure resolveMeasure(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getMeasure(path, sourceInformation));
+        return this.resolve(fullPath, "Measure", sourceInformation, path -> this.pureModel.getMeasure(path, sourceInformation));
     }
 
     public Unit resolveUnit(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getUnit(path, sourceInformation));
+        return this.resolve(fullPath, "Unit", sourceInformation, path -> this.pureModel.getUnit(path, sourceInformation));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association resolveAssociation(String fullPath)
@@ -267,7 +284,7 @@ public class CompileContext
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association resolveAssociation(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getAssociation(path, sourceInformation));
+        return this.resolve(fullPath, "Association", sourceInformation, path -> this.pureModel.getAssociation(path, sourceInformation));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile resolveProfile(String fullPath)
@@ -277,12 +294,12 @@ public class CompileContext
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile resolveProfile(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getProfile(path, sourceInformation));
+        return this.resolve(fullPath, "Profile", sourceInformation, path -> this.pureModel.getProfile(path, sourceInformation));
     }
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?> resolveConcreteFunctionDefinition(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getConcreteFunctionDefinition(path, sourceInformation));
+        return this.resolve(fullPath, "ConcreteFunctionDefinition", sourceInformation, path -> this.pureModel.getConcreteFunctionDefinition(path, sourceInformation));
     }
 
     public Store resolveStore(String fullPath)
@@ -292,7 +309,7 @@ public class CompileContext
 
     public Store resolveStore(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getStore(path, sourceInformation));
+        return this.resolve(fullPath, "Store", sourceInformation, path -> this.pureModel.getStore(path, sourceInformation));
     }
 
     public Mapping resolveMapping(String fullPath)
@@ -302,17 +319,17 @@ public class CompileContext
 
     public Mapping resolveMapping(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getMapping(path, sourceInformation));
+        return this.resolve(fullPath, "Mapping", sourceInformation, path -> this.pureModel.getMapping(path, sourceInformation));
     }
 
     public Root_meta_pure_runtime_PackageableRuntime resolvePackageableRuntime(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getPackageableRuntime(path, sourceInformation));
+        return this.resolve(fullPath, "PackageableRuntime", sourceInformation, path -> this.pureModel.getPackageableRuntime(path, sourceInformation));
     }
 
     public Root_meta_pure_runtime_PackageableConnection resolvePackagebleConnection(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getPackageableConnection(path, sourceInformation));
+        return this.resolve(fullPath, "PackageableConnection", sourceInformation, path -> this.pureModel.getPackageableConnection(path, sourceInformation));
     }
 
     public Runtime resolveRuntime(String fullPath)
@@ -322,12 +339,12 @@ public class CompileContext
 
     public Runtime resolveRuntime(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getRuntime(path, sourceInformation));
+        return this.resolve(fullPath, "Runtime", sourceInformation, path -> this.pureModel.getRuntime(path, sourceInformation));
     }
 
     public Connection resolveConnection(String fullPath, SourceInformation sourceInformation)
     {
-        return this.resolve(fullPath, sourceInformation, path -> this.pureModel.getConnection(path, sourceInformation));
+        return this.resolve(fullPath, "Connection", sourceInformation, path -> this.pureModel.getConnection(path, sourceInformation));
     }
 
 
@@ -419,7 +436,7 @@ public class CompileContext
             return functionHandlerMap.get(extractedFunctionName);
         }
 
-        MutableMap<String, FunctionExpressionBuilder> results = searchImports(extractedFunctionName, functionHandlerMap::get);
+        MutableMap<String, FunctionExpressionBuilder> results = searchImports(extractedFunctionName, "FunctionBuilder", functionHandlerMap::get);
         switch (results.size())
         {
             case 0:
@@ -455,6 +472,26 @@ public class CompileContext
         return extractedFunctionName;
     }
 
+    private <T> MutableMap<String, T> searchImports(String name, String kind, Function<String, T> resolver)
+    {
+        if ((kind == null) || (this.importResolutions == null))
+        {
+            return searchImports(name, resolver);
+        }
+        // Only the matching paths are memoized: the resolver is re-applied to them, which is a plain index lookup,
+        // and more than one match still reports the ambiguity with every candidate path
+        ImmutableList<String> matchingPaths = this.importResolutions.get(Tuples.pair(kind, name));
+        if (matchingPaths == null)
+        {
+            MutableMap<String, T> results = searchImports(name, resolver);
+            this.importResolutions.putIfAbsent(Tuples.pair(kind, name), results.keysView().toList().toImmutable());
+            return results;
+        }
+        MutableMap<String, T> results = Maps.mutable.empty();
+        matchingPaths.forEach(fullPath -> results.put(fullPath, resolver.apply(fullPath)));
+        return results;
+    }
+
     private <T> MutableMap<String, T> searchImports(String name, Function<String, T> resolver)
     {
         MutableMap<String, T> results = Maps.mutable.empty();
@@ -21,6 +21,7 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
@@ -28,7 +29,9 @@ import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.map.primitive.ObjectIntMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.engine.language.pure.compiler.MetadataWrapper;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtensions;
@@ -55,6 +58,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Function;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Profile;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.PackageableRuntime;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.ImportAwareCodeSection;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.Section;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.SectionIndex;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
@@ -62,6 +66,7 @@ import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.finos.legend.pure.generated.Package_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_MultiplicityValue_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_Multiplicity_Impl;
@@ -110,6 +115,9 @@ import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 public class PureModel implements IPureModel
@@ -117,6 +125,9 @@ public class PureModel implements IPureModel
     private static final Logger LOGGER = LoggerFactory.getLogger("Alloy Execution Server");
     private static final ImmutableSet<String> RESERVED_PACKAGES = Sets.immutable.with("$implicit");
     private static final MetadataLazy METADATA_LAZY = MetadataLazy.fromClassLoader(PureModel.class.getClassLoader(), CodeRepositoryProviderHelper.findCodeRepositories().select(r -> !r.getName().startsWith("test_") && !r.getName().startsWith("other_")).collect(CodeRepository::getName));
+    // Core function handlers resolve to the same package path and core metadata element for every model, so the lookups are
+    // shared by all PureModel instances rather than redone (with a linear scan of the core package children) on each build
+    private static final ConcurrentMap<String, Pair<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement>> CORE_FUNCTION_ELEMENTS = new ConcurrentHashMap<>();
     private final CompiledExecutionSupport executionSupport;
     private final DeploymentMode deploymentMode;
     private final PureModelProcessParameter pureModelProcessParameter;
@@ -132,6 +143,13 @@ public class PureModel implements IPureModel
     private final MutableSet<String> immutables = Sets.mutable.empty();
     private final MutableMap<String, Multiplicity> multiplicitiesIndex = Maps.mutable.empty();
     final MutableMap<String, Section> sectionsIndex = Maps.mutable.empty();
+    private final Map<Section, ConcurrentMap<Pair<String, String>, ImmutableList<String>>> importResolutionsBySection = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Pair<String, String>, ImmutableList<String>> defaultImportResolutions = new ConcurrentHashMap<>();
+    private volatile boolean elementsIndexed = false;
+    // functions whose body compilation is deferred until they are used, see ensureFunctionCompiled()
+    private final Map<String, DeferredFunction> deferredFunctions = new ConcurrentHashMap<>();
+    // set while the types are processed, the deferred functions used by their qualifiers and constraints
+    private volatile Set<String> functionsUsedByTypes;
     final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = Maps.mutable.empty();
     final MutableMap<String, GenericType> typesGenericTypeIndex = Maps.mutable.empty();
     final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = Maps.mutable.empty();
@@ -179,6 +197,7 @@ public class PureModel implements IPureModel
         this.pureModelProcessParameter = pureModelProcessParameter;
         try (Scope scope = GlobalTracer.get().buildSpan("Build Pure Model").startActive(true))
         {
+            ExecutionProfile.PhaseClock phaseClock = ExecutionProfile.phaseClock("compilation");
             ConsoleCompiled console = new ConsoleCompiled();
             console.disable();
             this.executionSupport = new CompiledExecutionSupport(
@@ -214,6 +233,7 @@ public class PureModel implements IPureModel
             long initFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_INITIALIZED, (double) initFinished - start).toString());
             scope.span().log(LoggingEventType.GRAPH_INITIALIZED.toString());
+            phaseClock.lap("initialization");
 
             long parsingFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_PARSED, (double) parsingFinished - initFinished).toString());
@@ -225,6 +245,7 @@ public class PureModel implements IPureModel
             long preValidationFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_POST_VALIDATION_COMPLETED, (double) preValidationFinished - initFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_POST_VALIDATION_COMPLETED.toString());
+            phaseClock.lap("preValidation");
 
             // Processing
             PureModelContextDataIndex pureModelContextDataIndex = index(pureModelContextData);
@@ -250,11 +271,13 @@ public class PureModel implements IPureModel
                 MutableList<org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement> elements = pureModelContextDataIndex.otherElementsByProcessor.get(p);
                 elements.forEach(el -> visitWithErrorHandling(el, new PackageableElementFirstPassBuilder(this.getContext(el))));
             });
+            this.elementsIndexed = true;
 
             this.loadTypes(pureModelContextDataIndex);
             long loadTypesFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_DOMAIN_BUILT, this.buildDomainStats(pureModelContextData), (double) loadTypesFinished - preValidationFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_DOMAIN_BUILT.toString());
+            phaseClock.lap("domain");
 
             this.loadDataElements(pureModelContextDataIndex);
 
@@ -262,26 +285,31 @@ public class PureModel implements IPureModel
             long loadOtherElementsPreStores = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_OTHER_ELEMENTS_BUILT_PRE_STORES, (double) loadOtherElementsPreStores - loadTypesFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_OTHER_ELEMENTS_BUILT_PRE_STORES.toString());
+            phaseClock.lap("otherElementsPreStores");
 
             this.loadStores(pureModelContextDataIndex);
             long loadStoresFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_STORES_BUILT, this.buildStoreStats(pureModelContextData, this), (double) loadOtherElementsPreStores - loadTypesFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_STORES_BUILT.toString());
+            phaseClock.lap("stores");
 
             this.loadMappings(pureModelContextDataIndex);
             long loadMappingsFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_MAPPINGS_BUILT, (double) loadMappingsFinished - loadStoresFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_MAPPINGS_BUILT.toString());
+            phaseClock.lap("mappings");
 
             this.loadConnectionsAndRuntimes(pureModelContextDataIndex);
             long loadConnectionsAndRuntimesFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_CONNECTIONS_AND_RUNTIMES_BUILT, (double) loadConnectionsAndRuntimesFinished - loadMappingsFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_CONNECTIONS_AND_RUNTIMES_BUILT.toString());
+            phaseClock.lap("connectionsAndRuntimes");
 
             this.loadOtherElementsPostConnectionsAndRuntimes(pureModelContextDataIndex);
             long loadOtherElementsPostConnectionsAndRuntimesFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_OTHER_ELEMENTS_BUILT_POST_CONNECTIONS_AND_RUNTIMES, (double) loadOtherElementsPostConnectionsAndRuntimesFinished - loadConnectionsAndRuntimesFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_OTHER_ELEMENTS_BUILT_POST_CONNECTIONS_AND_RUNTIMES.toString());
+            phaseClock.lap("otherElementsPostConnectionsAndRuntimes");
 
             long processingFinished = System.currentTimeMillis();
 
@@ -295,6 +323,7 @@ public class PureModel implements IPureModel
             long postValidationFinished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_POST_VALIDATION_COMPLETED, (double) postValidationFinished - processingFinished).toString());
             scope.span().log(LoggingEventType.GRAPH_POST_VALIDATION_COMPLETED.toString());
+            phaseClock.lap("postValidation");
 
             long finished = System.currentTimeMillis();
             LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_STOP, (double) finished - start).toString());
@@ -453,6 +482,13 @@ public class PureModel implements IPureModel
 
     private void loadTypes(PureModelContextDataIndex pure)
     {
+        if (this.pureModelProcessParameter.lazyFunctionBodies)
+        {
+            // registered first so that functions used by qualifiers and constraints get their body compiled (once the types are done)
+            pure.functions.forEach(el -> this.deferredFunctions.put(this.buildPackageString(el._package, HelperModelBuilder.getSignature(el)), new DeferredFunction(el)));
+            this.functionsUsedByTypes = ConcurrentHashMap.newKeySet();
+        }
+
         // Second pass
         pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
         pure.measures.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
@@ -469,7 +505,80 @@ public class PureModel implements IPureModel
         pure.classes.forEach(el -> visitWithErrorHandling(el, new PackageableElementFourthPassBuilder(this.getContext(el))));
         pure.enumerations.forEach(el -> visitWithErrorHandling(el, new PackageableElementFourthPassBuilder(this.getContext(el))));
         pure.associations.forEach(el -> visitWithErrorHandling(el, new PackageableElementThirdPassBuilder(this.getContext(el))));
-        pure.functions.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        if (this.pureModelProcessParameter.lazyFunctionBodies)
+        {
+            // these are only reached through the types afterwards (e.g. by plan generation), never by path
+            Set<String> functionsUsedByTypes = this.functionsUsedByTypes;
+            this.functionsUsedByTypes = null;
+            functionsUsedByTypes.forEach(this::ensureFunctionCompiled);
+        }
+        else
+        {
+            pure.functions.forEach(el -> visitWithErrorHandling(el, new PackageableElementSecondPassBuilder(this.getContext(el))));
+        }
+    }
+
+    /**
+     * Compiles the body of the given function if its compilation was deferred (see {@link PureModelProcessParameter}).
+     * This is called whenever the function is resolved by path or used in an expression, so callers going through the
+     * compiler never observe a function without its body.
+     */
+    public void ensureFunctionCompiled(String fullPath)
+    {
+        DeferredFunction deferredFunction = this.deferredFunctions.get(fullPath);
+        if (deferredFunction != null)
+        {
+            Set<String> functionsUsedByTypes = this.functionsUsedByTypes;
+            if (functionsUsedByTypes != null)
+            {
+                // bodies may use qualified properties of types which are still being processed
+                functionsUsedByTypes.add(fullPath);
+                return;
+            }
+            deferredFunction.compile(fullPath);
+        }
+    }
+
+    /**
+     * Compiles every function body whose compilation was deferred, e.g. to report all compilation errors of the model
+     */
+    public void compileDeferredFunctions()
+    {
+        Lists.mutable.withAll(this.deferredFunctions.keySet()).forEach(this::ensureFunctionCompiled);
+    }
+
+    private class DeferredFunction
+    {
+        private final Function function;
+        private boolean compiling;
+
+        private DeferredFunction(Function function)
+        {
+            this.function = function;
+        }
+
+        private void compile(String fullPath)
+        {
+            // a single lock for all the functions of the model: bodies resolve each other, so per function locks could deadlock
+            synchronized (deferredFunctions)
+            {
+                // a recursive function resolves itself while its body is being compiled
+                if (this.compiling || (deferredFunctions.get(fullPath) != this))
+                {
+                    return;
+                }
+                this.compiling = true;
+                try
+                {
+                    visitWithErrorHandling(this.function, new PackageableElementSecondPassBuilder(getContext(this.function)));
+                    deferredFunctions.remove(fullPath);
+                }
+                finally
+                {
+                    this.compiling = false;
+                }
+            }
+        }
     }
 
     private void loadDataElements(PureModelContextDataIndex pure)
@@ -852,6 +961,7 @@ public class PureModel implements IPureModel
 
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?> getConcreteFunctionDefinition_safe(String fullPath)
     {
+        this.ensureFunctionCompiled(fullPath);
         return this.functionsIndex.get(fullPath);
     }
 
@@ -1042,6 +1152,19 @@ public class PureModel implements IPureModel
         return this.getSection(element.getPath());
     }
 
+    /**
+     * Import resolutions can only be memoized once the first pass has indexed every element of the graph: before that,
+     * a name that does not resolve yet (or resolves through a single import only) may still change.
+     */
+    ConcurrentMap<Pair<String, String>, ImmutableList<String>> getImportResolutions(Section section)
+    {
+        if (!this.elementsIndexed)
+        {
+            return null;
+        }
+        return (section instanceof ImportAwareCodeSection) ? this.importResolutionsBySection.computeIfAbsent(section, s -> new ConcurrentHashMap<>()) : this.defaultImportResolutions;
+    }
+
     public org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type getTypeFromIndex(String fullPath)
     {
         return this.typesIndex.get(addPrefixToTypeReference(fullPath));
@@ -1219,13 +1342,19 @@ public class PureModel implements IPureModel
     {
         if (!(f instanceof UserDefinedFunctionHandler))
         {
-            String pkg = HelperModelBuilder.getElementFullPath(f.getFunc()._package(), this.getExecutionSupport());
-            org.finos.legend.pure.m3.coreinstance.Package n = getOrCreatePackage(root, pkg);
-            org.finos.legend.pure.m3.coreinstance.Package o = getPackage((org.finos.legend.pure.m3.coreinstance.Package) METADATA_LAZY.getMetadata(M3Paths.Package, M3Paths.Root), pkg);
-            n._childrenAdd(o._children().detect(c -> f.getFunctionSignature().equals(c._name())));
+            Pair<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> coreFunctionElement = CORE_FUNCTION_ELEMENTS.computeIfAbsent(f.getFullName() + "|" + f.getFunctionSignature(), k -> findCoreFunctionElement(f));
+            org.finos.legend.pure.m3.coreinstance.Package n = getOrCreatePackage(root, coreFunctionElement.getOne());
+            n._childrenAdd(coreFunctionElement.getTwo());
         }
     }
 
+    private Pair<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> findCoreFunctionElement(FunctionHandler f)
+    {
+        String pkg = HelperModelBuilder.getElementFullPath(f.getFunc()._package(), this.getExecutionSupport());
+        org.finos.legend.pure.m3.coreinstance.Package o = getPackage((org.finos.legend.pure.m3.coreinstance.Package) METADATA_LAZY.getMetadata(M3Paths.Package, M3Paths.Root), pkg);
+        return Tuples.pair(pkg, o._children().detect(c -> f.getFunctionSignature().equals(c._name())));
+    }
+
     public Handlers getHandlers()
     {
         return handlers;
@@ -17,6 +17,8 @@ package org.finos.legend.engine.language.pure.compiler.toPureGraph;
 public class PureModelProcessParameter
 {
     String packagePrefix;
+    // when set, function bodies are only compiled when the function is first used (see PureModel#ensureFunctionCompiled)
+    boolean lazyFunctionBodies;
 
     PureModelProcessParameter()
     {
@@ -27,4 +29,10 @@ public class PureModelProcessParameter
     {
         this.packagePrefix = packagePrefix;
     }
+
+    public PureModelProcessParameter(String packagePrefix, boolean lazyFunctionBodies)
+    {
+        this.packagePrefix = packagePrefix;
+        this.lazyFunctionBodies = lazyFunctionBodies;
+    }
 }
\ No newline at end of file
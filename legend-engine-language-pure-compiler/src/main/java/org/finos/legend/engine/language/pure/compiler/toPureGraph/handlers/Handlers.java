@@ -65,6 +65,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -74,6 +76,8 @@ public class Handlers
     private static final String META_PACKAGE_NAME = "meta";
 
     private Set<String> registeredMetaPackages = Sets.mutable.empty();
+    // The package path of a core function does not depend on the model, so it is computed once and shared by all handler tables
+    private static final ConcurrentMap<String, String> CORE_FUNCTION_PACKAGE_PATHS = new ConcurrentHashMap<>();
 
     private static Collection toCollection(org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.ValueSpecification vs)
     {
@@ -1100,18 +1104,20 @@ public class Handlers
     {
         for (FunctionHandler handler : handlers)
         {
-            org.finos.legend.pure.m3.coreinstance.Package pkg = handler.getFunc()._package();
-            if (pkg != null)
+            String path = (handler instanceof UserDefinedFunctionHandler) ? packagePath(handler) : CORE_FUNCTION_PACKAGE_PATHS.computeIfAbsent(handler.getFullName() + "|" + handler.getFunctionSignature(), k -> packagePath(handler));
+            if (path.startsWith(this.META_PACKAGE_NAME + this.PACKAGE_SEPARATOR))
             {
-                String path = platform_pure_corefunctions_meta.Root_meta_pure_functions_meta_elementToPath_PackageableElement_1__String_1_(pkg, pureModel.getExecutionSupport());
-                if (path.startsWith(this.META_PACKAGE_NAME + this.PACKAGE_SEPARATOR))
-                {
-                    registeredMetaPackages.add(path);
-                }
+                registeredMetaPackages.add(path);
             }
         }
     }
 
+    private String packagePath(FunctionHandler handler)
+    {
+        org.finos.legend.pure.m3.coreinstance.Package pkg = handler.getFunc()._package();
+        return (pkg == null) ? "" : platform_pure_corefunctions_meta.Root_meta_pure_functions_meta_elementToPath_PackageableElement_1__String_1_(pkg, pureModel.getExecutionSupport());
+    }
+
     private void register(String name, boolean isNative, ReturnInference inference)
     {
         register(new FunctionHandler(this.pureModel, name, isNative, inference));
@@ -18,11 +18,26 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.handlers.inference.Dispatch;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.handlers.inference.ReturnInference;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.SimpleFunctionExpression;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+
+import java.util.List;
 
 public class UserDefinedFunctionHandler extends FunctionHandler
 {
+    private final PureModel pureModel;
+
     public UserDefinedFunctionHandler(PureModel pureModel, String name, Function<?> func, ReturnInference returnInference, Dispatch dispatch)
     {
         super(pureModel, name, func, returnInference, dispatch);
+        this.pureModel = pureModel;
+    }
+
+    @Override
+    public SimpleFunctionExpression process(List<ValueSpecification> vs)
+    {
+        // the expression refers to the function, so its body must be compiled if that was deferred
+        this.pureModel.ensureFunctionCompiled(this.getFullName());
+        return super.process(vs);
     }
 }
@@ -24,6 +24,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextDa
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.SimpleFunctionExpression;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -95,6 +97,69 @@ public class TestCompilationFromGrammar
                 "}", "PARSER error at [6:1-7]: Unexpected token 'importd'");
     }
 
+    @Test
+    public void testLazyFunctionBodies()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel("function test::ok():String[1]\n" +
+                "{\n" +
+                "  'ok'\n" +
+                "}\n" +
+                "function test::usesOk():String[1]\n" +
+                "{\n" +
+                "  test::ok() + '!'\n" +
+                "}\n" +
+                "function test::broken():String[1]\n" +
+                "{\n" +
+                "  test::missing()\n" +
+                "}");
+        // the broken body is only compiled when the function is used
+        PureModel pureModel = Compiler.compileWithLazyFunctionBodies(modelData, DeploymentMode.TEST, null, null);
+        Assert.assertFalse(pureModel.getConcreteFunctionDefinition("test::usesOk__String_1_", null)._expressionSequence().isEmpty());
+        Assert.assertFalse(pureModel.getConcreteFunctionDefinition("test::ok__String_1_", null)._expressionSequence().isEmpty());
+        try
+        {
+            pureModel.compileDeferredFunctions();
+            Assert.fail("Expected compilation error for function 'test::broken'");
+        }
+        catch (EngineException e)
+        {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("test::missing"));
+        }
+    }
+
+    @Test
+    public void testLazyFunctionBodiesUsedByQualifiersAndConstraints()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel("Class test::Person\n" +
+                "[\n" +
+                "  nameNotEmpty: test::notEmpty($this.firstName)\n" +
+                "]\n" +
+                "{\n" +
+                "  firstName: String[1];\n" +
+                "  lastName: String[1];\n" +
+                "  fullName() {test::join($this.firstName, $this.lastName)}: String[1];\n" +
+                "}\n" +
+                "function test::join(a:String[1], b:String[1]):String[1]\n" +
+                "{\n" +
+                "  $a + ' ' + $b\n" +
+                "}\n" +
+                "function test::notEmpty(s:String[1]):Boolean[1]\n" +
+                "{\n" +
+                "  $s->length() > 0\n" +
+                "}");
+        PureModel pureModel = Compiler.compileWithLazyFunctionBodies(modelData, DeploymentMode.TEST, null, null);
+        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> person = pureModel.getClass("test::Person");
+
+        // the functions are only reachable through the class, not by path
+        SimpleFunctionExpression join = (SimpleFunctionExpression) person._qualifiedProperties().getFirst()._expressionSequence().getFirst();
+        Assert.assertEquals("join", join._func()._functionName());
+        Assert.assertFalse(((ConcreteFunctionDefinition<?>) join._func())._expressionSequence().isEmpty());
+
+        SimpleFunctionExpression notEmpty = (SimpleFunctionExpression) person._constraints().getFirst()._functionDefinition()._expressionSequence().getFirst();
+        Assert.assertEquals("notEmpty", notEmpty._func()._functionName());
+        Assert.assertFalse(((ConcreteFunctionDefinition<?>) notEmpty._func())._expressionSequence().isEmpty());
+    }
+
     @Test
     public void testCompilePathVariable()
     {
@@ -21,10 +21,12 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.test.TestCompilationFromGrammar;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.CompileContext;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.Warning;
 import org.finos.legend.engine.protocol.pure.v1.model.SourceInformation;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.Section;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_type_Class_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_type_FunctionType_Impl;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
@@ -40,6 +42,8 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecificat
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class TestDomainCompilationFromGrammar extends TestCompilationFromGrammar.TestCompilationFromGrammarTestSuite
 {
     @Override
@@ -1690,6 +1694,84 @@ public class TestDomainCompilationFromGrammar extends TestCompilationFromGrammar
         // user defined elements at root package
     }
 
+    @Test
+    public void testImportResolutionIsMemoizedPerSection()
+    {
+        PureModel pureModel = test("import test2::*;\n" +
+                "import test::*;\n" +
+                "\n" +
+                "Class test::A {}\n" +
+                "Class test2::C {}\n" +
+                "Class test::B {\n" +
+                "   prop1: A[1];\n" +
+                "}\n").getTwo();
+        Section section = pureModel.getSection("test::B");
+        AtomicInteger lookups = new AtomicInteger();
+        java.util.function.Function<String, Class<?>> resolver = path ->
+        {
+            lookups.incrementAndGet();
+            return pureModel.getClass(path, SourceInformation.getUnknownSourceInformation());
+        };
+
+        // the first resolution tries every import of the section, the next ones only look up the memoized match
+        CompileContext context = new CompileContext.Builder(pureModel).withSection(section).build();
+        Class<?> a = context.resolve("A", "CountedClass", SourceInformation.getUnknownSourceInformation(), resolver);
+        Assert.assertTrue(lookups.get() > 2);
+        lookups.set(0);
+        Assert.assertSame(a, context.resolve("A", "CountedClass", SourceInformation.getUnknownSourceInformation(), resolver));
+        Assert.assertEquals(1, lookups.get());
+
+        // the memo is shared by the contexts built for the same section
+        lookups.set(0);
+        Assert.assertSame(a, new CompileContext.Builder(pureModel).withElement("test::B").build().resolve("A", "CountedClass", SourceInformation.getUnknownSourceInformation(), resolver));
+        Assert.assertEquals(1, lookups.get());
+
+        // resolutions without a kind are not memoized
+        lookups.set(0);
+        context.resolve("C", SourceInformation.getUnknownSourceInformation(), resolver);
+        int unmemoizedLookups = lookups.get();
+        Assert.assertTrue(unmemoizedLookups > 2);
+        lookups.set(0);
+        context.resolve("C", SourceInformation.getUnknownSourceInformation(), resolver);
+        Assert.assertEquals(unmemoizedLookups, lookups.get());
+    }
+
+    @Test
+    public void testImportResolutionIsMemoizedPerElementKind()
+    {
+        // the same simple name resolves to different elements depending on the kind being looked up,
+        // and repeated references in the section must keep resolving (and failing) the same way
+        test("import test2::*;\n" +
+                "import test::*;\n" +
+                "\n" +
+                "Class test::tag {}\n" +
+                "Profile test2::tag\n" +
+                "{\n" +
+                "   stereotypes: [s];\n" +
+                "}\n" +
+                "\n" +
+                "Class <<tag.s>> test::A {\n" +
+                "   prop1: tag[1];\n" +
+                "}\n" +
+                "Class <<tag.s>> test::B {\n" +
+                "   prop1: tag[1];\n" +
+                "   prop2: tag[*];\n" +
+                "}\n");
+        test("import test2::*;\n" +
+                "import test::*;\n" +
+                "\n" +
+                "Class test::doc {}\n" +
+                "Class test2::doc {}\n" +
+                "\n" +
+                "Class test::A {\n" +
+                "   prop1: String[1];\n" +
+                "}\n" +
+                "Class test::B {\n" +
+                "   prop1: A[1];\n" +
+                "   prop2: doc[1];\n" +
+                "}", "COMPILATION error at [12:11-13]: Can't resolve element with path 'doc' - multiple matches found [test::doc, test2::doc]");
+    }
+
     @Test
     public void testDuplicatedImports()
     {
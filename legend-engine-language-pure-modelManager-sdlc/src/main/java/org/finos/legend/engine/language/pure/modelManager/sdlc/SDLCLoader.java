@@ -14,18 +14,24 @@
 
 package org.finos.legend.engine.language.pure.modelManager.sdlc;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
@@ -33,6 +39,7 @@ import org.finos.legend.engine.language.pure.modelManager.sdlc.alloy.AlloySDLCLo
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.pure.PureServerLoader;
 import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementPointer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
@@ -43,6 +50,7 @@ import org.finos.legend.engine.shared.core.kerberos.HttpClientBuilder;
 import org.finos.legend.engine.shared.core.kerberos.SubjectCache;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.core.operational.opentracing.HttpRequestHeaderMap;
@@ -50,7 +58,17 @@ import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import javax.security.auth.Subject;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static io.opentracing.propagation.Format.Builtin.HTTP_HEADERS;
@@ -60,6 +78,28 @@ public class SDLCLoader implements ModelLoader
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
     private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final ObjectMapper smileObjectMapper = ObjectMapperFactory.getNewStandardSmileObjectMapperWithPureProtocolExtensionSupports();
+    // metadata servers supporting the binary encoding send it, others keep answering with JSON
+    private static final String ACCEPT_PROTOCOL = SmileMessageBodyProvider.APPLICATION_SMILE + ", application/json;q=0.9";
+
+    public static final String METADATA_FETCH_PARALLELISM_SYSTEM_PROPERTY = "org.finos.legend.engine.sdlc.metadataFetchParallelism";
+    private static final int METADATA_FETCH_PARALLELISM = Integer.getInteger(METADATA_FETCH_PARALLELISM_SYSTEM_PROPERTY, 8);
+    private static final int MAX_HTTP_CONNECTIONS = Math.max(METADATA_FETCH_PARALLELISM, 2) * 4;
+    private static final ExecutorService METADATA_FETCH_EXECUTOR = Executors.newFixedThreadPool(METADATA_FETCH_PARALLELISM, new ThreadFactory()
+    {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "SDLCLoader-metadata-fetch-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private static final CloseableHttpClient HTTP_CLIENT = buildHttpClient();
+
+    private final ConcurrentMap<Pair<PureModelContext, String>, CompletableFuture<PureModelContextData>> inFlightLoads = new ConcurrentHashMap<>();
     private SubjectCache subjectCache = new SubjectCache(null);
     private final Supplier<Subject> subjectProvider;
     private final PureServerLoader pureLoader;
@@ -117,6 +157,19 @@ public class SDLCLoader implements ModelLoader
         return false;
     }
 
+    @Override
+    public boolean shouldSnapshot(PureModelContext cacheKey)
+    {
+        // Only released Alloy versions are immutable: snapshot versions are republished, and the Pure server's base version
+        // does not pin the content of the elements
+        if (this.supports(cacheKey) && ((PureModelContextPointer) cacheKey).sdlcInfo instanceof AlloySDLC)
+        {
+            AlloySDLC sdlc = (AlloySDLC) ((PureModelContextPointer) cacheKey).sdlcInfo;
+            return !this.alloyLoader.isLatestRevision(sdlc) && !sdlc.version.endsWith("-SNAPSHOT");
+        }
+        return false;
+    }
+
     @Override
     public PureModelContext cacheKey(PureModelContext context, MutableList<CommonProfile> pm)
     {
@@ -140,6 +193,38 @@ public class SDLCLoader implements ModelLoader
 
     @Override
     public PureModelContextData load(MutableList<CommonProfile> pm, PureModelContext ctx, String clientVersion, Span parentSpan)
+    {
+        if (!(((PureModelContextPointer) ctx).sdlcInfo instanceof PureSDLC))
+        {
+            return this.loadPointer(pm, ctx, clientVersion, parentSpan);
+        }
+
+        // concurrent requests for the same Pure SDLC pointer share a single fetch
+        Pair<PureModelContext, String> key = Tuples.pair(ctx, clientVersion);
+        CompletableFuture<PureModelContextData> load = new CompletableFuture<>();
+        CompletableFuture<PureModelContextData> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null)
+        {
+            return join(inFlightLoad);
+        }
+        try
+        {
+            PureModelContextData metaData = this.loadPointer(pm, ctx, clientVersion, parentSpan);
+            load.complete(metaData);
+            return metaData;
+        }
+        catch (RuntimeException | Error e)
+        {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            this.inFlightLoads.remove(key, load);
+        }
+    }
+
+    private PureModelContextData loadPointer(MutableList<CommonProfile> pm, PureModelContext ctx, String clientVersion, Span parentSpan)
     {
         PureModelContextPointer context = (PureModelContextPointer) ctx;
         Assert.assertTrue(clientVersion != null, () -> "Client version should be set when pulling metadata from the metadata repository");
@@ -155,11 +240,31 @@ public class SDLCLoader implements ModelLoader
                 parentSpan.setTag("sdlc", "pure");
                 try (Scope scope = GlobalTracer.get().buildSpan("Request Pure Metadata").startActive(true))
                 {
+                    String urlSuffix = subject == null ? "" : "?auth=kerberos";
+                    List<PackageableElementPointer> pointers = context.sdlcInfo.packageableElementPointers;
+                    if (pointers.size() <= 1)
+                    {
+                        return ListIterate.injectInto(
+                                new PureModelContextData.Builder().withDistinctElements(),
+                                pointers,
+                                (builder, pointer) -> builder.withPureModelContextData(this.pureLoader.loadPurePackageableElementPointer(pm, pointer, clientVersion, urlSuffix))
+                        ).sorted().build();
+                    }
+                    // pointers are fetched concurrently, but merged in their original order, as the caller's subject
+                    Span span = scope.span();
+                    Subject callerSubject = Subject.getSubject(AccessController.getContext());
+                    List<CompletableFuture<PureModelContextData>> fetches = ListIterate.collect(pointers, pointer -> CompletableFuture.supplyAsync(() ->
+                    {
+                        try (Scope pointerScope = GlobalTracer.get().scopeManager().activate(span, false))
+                        {
+                            return runAs(callerSubject, () -> this.pureLoader.loadPurePackageableElementPointer(pm, pointer, clientVersion, urlSuffix));
+                        }
+                    }, METADATA_FETCH_EXECUTOR));
                     return ListIterate.injectInto(
-                            new PureModelContextData.Builder(),
-                            context.sdlcInfo.packageableElementPointers,
-                            (builder, pointers) -> builder.withPureModelContextData(this.pureLoader.loadPurePackageableElementPointer(pm, pointers, clientVersion, subject == null ? "" : "?auth=kerberos"))
-                    ).distinct().sorted().build();
+                            new PureModelContextData.Builder().withDistinctElements(),
+                            fetches,
+                            (builder, fetch) -> builder.withPureModelContextData(join(fetch))
+                    ).sorted().build();
                 }
             };
         }
@@ -202,10 +307,20 @@ public class SDLCLoader implements ModelLoader
         return metaData;
     }
 
+    int inFlightLoadCount()
+    {
+        return this.inFlightLoads.size();
+    }
+
+    private static <T> T runAs(Subject subject, Function0<T> function)
+    {
+        // pool threads inherit the access control context of the request which created them, so the subject is always replaced
+        return Subject.doAs(subject, (PrivilegedAction<T>) function::value);
+    }
+
     public static PureModelContextData loadMetadataFromHTTPURL(MutableList<CommonProfile> pm, LoggingEventType startEvent, LoggingEventType stopEvent, String url)
     {
         Scope scope = GlobalTracer.get().scopeManager().active();
-        CloseableHttpClient httpclient = (CloseableHttpClient) HttpClientBuilder.getHttpClient(new BasicCookieStore());
         long start = System.currentTimeMillis();
 
         LogInfo info = new LogInfo(pm, startEvent, "Requesting metadata");
@@ -220,11 +335,15 @@ public class SDLCLoader implements ModelLoader
         LOGGER.info(new LogInfo(pm, LoggingEventType.METADATA_LOAD_FROM_URL, "Loading from URL " + url).toString());
 
         HttpGet httpGet = new HttpGet(url);
+        httpGet.setHeader(HttpHeaders.ACCEPT, ACCEPT_PROTOCOL);
         if (span != null)
         {
             GlobalTracer.get().inject(scope.span().context(), HTTP_HEADERS, new HttpRequestHeaderMap(httpGet));
         }
-        try (CloseableHttpResponse response = httpclient.execute(httpGet))
+        // the client is shared, cookies are kept per request
+        HttpClientContext httpContext = HttpClientContext.create();
+        httpContext.setCookieStore(new BasicCookieStore());
+        try (CloseableHttpResponse response = HTTP_CLIENT.execute(httpGet, httpContext))
         {
             int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode < 200 || statusCode >= 300)
@@ -232,7 +351,13 @@ public class SDLCLoader implements ModelLoader
                 throw new EngineException("Error response from " + url + ", HTTP" + statusCode + "\n" + EntityUtils.toString(response.getEntity()));
             }
             HttpEntity entity1 = response.getEntity();
-            PureModelContextData modelContextData = objectMapper.readValue(entity1.getContent(), PureModelContextData.class);
+            boolean smile = (entity1.getContentType() != null) && entity1.getContentType().getValue().startsWith(SmileMessageBodyProvider.APPLICATION_SMILE);
+            PureModelContextData modelContextData;
+            // elements are added one by one as they are parsed, without the intermediate copies made by the JSON creator
+            try (JsonParser parser = (smile ? smileObjectMapper : objectMapper).getFactory().createParser(entity1.getContent()))
+            {
+                modelContextData = PureModelContextData.newBuilder().withPureModelContextData(parser).build();
+            }
             Assert.assertTrue(modelContextData.getSerializer() != null, () -> "Engine was unable to load information from the Pure SDLC <a href='" + url + "'>link</a>");
             LOGGER.info(new LogInfo(pm, stopEvent, (double) System.currentTimeMillis() - start).toString());
             if (span != null)
@@ -246,4 +371,32 @@ public class SDLCLoader implements ModelLoader
             throw new EngineException("Engine was unable to load information from the Pure SDLC using: <a href='" + url + "' target='_blank'>link</a>", e);
         }
     }
+
+    private static PureModelContextData join(CompletableFuture<PureModelContextData> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static CloseableHttpClient buildHttpClient()
+    {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_HTTP_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_HTTP_CONNECTIONS);
+        return (CloseableHttpClient) HttpClientBuilder.getHttpClient(new BasicCookieStore(), connectionManager);
+    }
 }
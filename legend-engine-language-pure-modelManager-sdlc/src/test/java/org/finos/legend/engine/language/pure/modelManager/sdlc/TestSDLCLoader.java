@@ -0,0 +1,248 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.sdlc;
+
+import io.opentracing.Span;
+import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.sdlc.pure.PureServerLoader;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementType;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Class;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pac4j.core.profile.CommonProfile;
+
+import javax.security.auth.Subject;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class TestSDLCLoader
+{
+    private static final String CLIENT_VERSION = "vX_X_X";
+
+    @Test
+    public void testConcurrentLoadsOfTheSamePointerShareOneFetch() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        MockPureServerLoader pureLoader = new MockPureServerLoader(pointer ->
+        {
+            await(release);
+            return data(newClass("model::Person"));
+        });
+        SDLCLoader loader = new SDLCLoader(new MetaDataServerConfiguration(), null, pureLoader);
+
+        int threads = 8;
+        List<Thread> loadThreads = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable ->
+        {
+            Thread thread = new Thread(runnable);
+            loadThreads.add(thread);
+            return thread;
+        });
+        try
+        {
+            MutableList<Future<PureModelContextData>> loads = Lists.mutable.empty();
+            for (int i = 0; i < threads; i++)
+            {
+                loads.add(executor.submit(() -> loader.load(Lists.mutable.empty(), pointer("model::Person"), CLIENT_VERSION, span())));
+            }
+            // one load is blocked fetching, wait for all the others to be blocked joining it before letting it finish
+            long deadline = System.currentTimeMillis() + 10_000;
+            while ((loadThreads.size() < threads || !Lists.mutable.withAll(loadThreads).allSatisfy(t -> t.getState() == Thread.State.WAITING)) && System.currentTimeMillis() < deadline)
+            {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1, pureLoader.calls.get());
+            Assert.assertEquals(1, loader.inFlightLoadCount());
+            release.countDown();
+            for (Future<PureModelContextData> load : loads)
+            {
+                Assert.assertEquals("model::Person", load.get(10, TimeUnit.SECONDS).getElements().get(0).getPath());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, pureLoader.calls.get());
+        Assert.assertEquals(0, loader.inFlightLoadCount());
+    }
+
+    @Test
+    public void testFailedLoadIsNotShared()
+    {
+        AtomicInteger attempts = new AtomicInteger();
+        MockPureServerLoader pureLoader = new MockPureServerLoader(pointer ->
+        {
+            if (attempts.incrementAndGet() == 1)
+            {
+                throw new RuntimeException("metadata server unavailable");
+            }
+            return data(newClass("model::Person"));
+        });
+        SDLCLoader loader = new SDLCLoader(new MetaDataServerConfiguration(), null, pureLoader);
+
+        try
+        {
+            loader.load(Lists.mutable.empty(), pointer("model::Person"), CLIENT_VERSION, span());
+            Assert.fail("Expected the first load to fail");
+        }
+        catch (RuntimeException e)
+        {
+            Assert.assertEquals("metadata server unavailable", e.getMessage());
+        }
+        Assert.assertEquals(0, loader.inFlightLoadCount());
+
+        PureModelContextData data = loader.load(Lists.mutable.empty(), pointer("model::Person"), CLIENT_VERSION, span());
+        Assert.assertEquals("model::Person", data.getElements().get(0).getPath());
+        Assert.assertEquals(2, pureLoader.calls.get());
+        Assert.assertEquals(0, loader.inFlightLoadCount());
+    }
+
+    @Test
+    public void testPointersAreMergedInOrder()
+    {
+        // the first pointer only answers once the others did, its elements must still take precedence
+        CountDownLatch othersFetched = new CountDownLatch(2);
+        Class first = newClass("model::Person");
+        Class second = newClass("model::Person");
+        MockPureServerLoader pureLoader = new MockPureServerLoader(pointer ->
+        {
+            switch (pointer.path)
+            {
+                case "model::first":
+                {
+                    await(othersFetched);
+                    return data(first, newClass("model::Firm"));
+                }
+                case "model::second":
+                {
+                    othersFetched.countDown();
+                    return data(second);
+                }
+                default:
+                {
+                    othersFetched.countDown();
+                    return data(newClass("model::Address"));
+                }
+            }
+        });
+        SDLCLoader loader = new SDLCLoader(new MetaDataServerConfiguration(), null, pureLoader);
+
+        PureModelContextData data = loader.load(Lists.mutable.empty(), pointer("model::first", "model::second", "model::third"), CLIENT_VERSION, span());
+        Assert.assertEquals(Arrays.asList("model::Address", "model::Firm", "model::Person"), Lists.mutable.withAll(data.getElements()).collect(e -> e.getPath()));
+        Assert.assertSame(first, data.getElements().get(2));
+        Assert.assertEquals(3, pureLoader.calls.get());
+    }
+
+    @Test
+    public void testPointersAreFetchedAsTheCallerSubject()
+    {
+        List<Subject> subjects = new CopyOnWriteArrayList<>();
+        MockPureServerLoader pureLoader = new MockPureServerLoader(pointer ->
+        {
+            subjects.add(Subject.getSubject(AccessController.getContext()));
+            return data(newClass(pointer.path));
+        });
+        SDLCLoader loader = new SDLCLoader(new MetaDataServerConfiguration(), null, pureLoader);
+
+        Subject subject = new Subject();
+        Subject.doAs(subject, (PrivilegedAction<PureModelContextData>) () -> loader.load(Lists.mutable.empty(), pointer("model::a", "model::b", "model::c"), CLIENT_VERSION, span()));
+        Assert.assertEquals(3, subjects.size());
+        subjects.forEach(s -> Assert.assertSame(subject, s));
+
+        // pool threads started while fetching as that subject must not keep it for later requests
+        subjects.clear();
+        loader.load(Lists.mutable.empty(), pointer("model::d", "model::e", "model::f"), CLIENT_VERSION, span());
+        Assert.assertEquals(3, subjects.size());
+        subjects.forEach(Assert::assertNull);
+    }
+
+    private static PureModelContextPointer pointer(String... paths)
+    {
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo.packageableElementPointers = Lists.mutable.with(paths).collect(path -> new PackageableElementPointer(PackageableElementType.CLASS, path));
+        return pointer;
+    }
+
+    private static PureModelContextData data(Class... classes)
+    {
+        return PureModelContextData.newBuilder().withElements(Arrays.asList(classes)).build();
+    }
+
+    private static Class newClass(String path)
+    {
+        Class _class = new Class();
+        int separator = path.lastIndexOf("::");
+        _class._package = path.substring(0, separator);
+        _class.name = path.substring(separator + 2);
+        return _class;
+    }
+
+    private static Span span()
+    {
+        return GlobalTracer.get().buildSpan("test").start();
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            if (!latch.await(10, TimeUnit.SECONDS))
+            {
+                throw new RuntimeException("Timed out");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class MockPureServerLoader extends PureServerLoader
+    {
+        private final Function<PackageableElementPointer, PureModelContextData> fetch;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private MockPureServerLoader(Function<PackageableElementPointer, PureModelContextData> fetch)
+        {
+            super(new MetaDataServerConfiguration());
+            this.fetch = fetch;
+        }
+
+        @Override
+        public PureModelContextData loadPurePackageableElementPointer(MutableList<CommonProfile> pm, PackageableElementPointer pointer, String clientVersion, String urlSuffix)
+        {
+            this.calls.incrementAndGet();
+            return this.fetch.apply(pointer);
+        }
+    }
+}
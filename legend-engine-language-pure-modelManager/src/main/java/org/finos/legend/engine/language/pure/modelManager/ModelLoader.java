@@ -33,4 +33,13 @@ public interface ModelLoader
     boolean shouldCache(PureModelContext context);
 
     PureModelContext cacheKey(PureModelContext context, MutableList<CommonProfile> pm);
+
+    /**
+     * @return true if the content behind the cache key can never change (e.g. a released version), so that it can be kept
+     * in the {@link PureModelSnapshotStore} across restarts
+     */
+    default boolean shouldSnapshot(PureModelContext cacheKey)
+    {
+        return false;
+    }
 }
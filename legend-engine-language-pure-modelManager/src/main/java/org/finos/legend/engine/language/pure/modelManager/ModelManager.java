@@ -17,8 +17,11 @@ package org.finos.legend.engine.language.pure.modelManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
@@ -35,9 +38,14 @@ import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -55,9 +63,15 @@ public class ModelManager
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
-    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    // cached models (e.g. large SDLC dependencies) can compile function bodies on first use only
+    public static final String LAZY_FUNCTION_COMPILATION_SYSTEM_PROPERTY = "org.finos.legend.engine.modelManager.lazyFunctionCompilation";
+    // analysis results (e.g. data space or mapping analytics) keyed by model (cache key or content hash) and analysis
+    public final Cache<Pair<Object, String>, Object> analysisResultCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).removalListener(this::onModelRemoval).build();
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
+    private final PureModelSnapshotStore snapshotStore = PureModelSnapshotStore.fromSystemProperties();
+    private final boolean lazyFunctionCompilation = Boolean.getBoolean(LAZY_FUNCTION_COMPILATION_SYSTEM_PROPERTY);
 
     public ModelManager(DeploymentMode mode, ModelLoader... modelLoaders)
     {
@@ -77,7 +91,7 @@ public class ModelManager
                 PureModelContext cacheKey = loader.cacheKey(context, pm);
                 try
                 {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, pm), this.deploymentMode, pm, packageOffset));
+                    return this.pureModelCache.get(cacheKey, () -> this.compileCacheable(this.loadCacheableData(cacheKey, loader.shouldSnapshot(cacheKey), clientVersion, pm), pm, packageOffset));
                 }
                 catch (ExecutionException e)
                 {
@@ -105,7 +119,7 @@ public class ModelManager
     // Remove clientVersion
     public PureModelContextData loadData(PureModelContext context, String clientVersion, MutableList<CommonProfile> pm)
     {
-        try (Scope scope = GlobalTracer.get().buildSpan("Load Model").startActive(true))
+        try (Scope scope = GlobalTracer.get().buildSpan("Load Model").startActive(true); ExecutionProfile.Phase ignored = ExecutionProfile.phase("modelLoad"))
         {
             scope.span().setTag("context", context.getClass().getSimpleName());
             if (context instanceof PureModelContextData)
@@ -124,6 +138,121 @@ public class ModelManager
         }
     }
 
+    /**
+     * Returns the result of an analysis of a model, loading and compiling the model and running the analysis only when
+     * no result is cached for the same model and analysis key. Models served by a caching model loader are identified by
+     * their cache key and their results are evicted together with the cached model; inline models are identified by a hash
+     * of their content. The analysis key must capture every other input of the analysis (element path, flags, ...).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T loadAnalysisResult(PureModelContext context, String analysisKey, String clientVersion, MutableList<CommonProfile> pm, Function2<PureModelContextData, PureModel, T> analysis)
+    {
+        Object modelKey = this.analysisModelKey(context, pm);
+        if (modelKey == null)
+        {
+            return this.runAnalysis(context, false, clientVersion, pm, analysis);
+        }
+        // models from caching loaders are compiled through the model cache, so that their analyses share its lifetime
+        boolean compileThroughModelCache = modelKey instanceof PureModelContext;
+        try
+        {
+            return (T) this.analysisResultCache.get(Tuples.pair(modelKey, analysisKey), () -> this.runAnalysis(context, compileThroughModelCache, clientVersion, pm, analysis));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EngineException("Engine was not able to cache", e);
+        }
+    }
+
+    private <T> T runAnalysis(PureModelContext context, boolean compileThroughModelCache, String clientVersion, MutableList<CommonProfile> pm, Function2<PureModelContextData, PureModel, T> analysis)
+    {
+        PureModelContextData data = this.loadData(context, clientVersion, pm);
+        PureModel pureModel = this.loadModel(compileThroughModelCache ? context : data, clientVersion, pm, null);
+        return analysis.value(data, pureModel);
+    }
+
+    private Object analysisModelKey(PureModelContext context, MutableList<CommonProfile> pm)
+    {
+        if ((context instanceof PureModelContextData) || (context instanceof PureModelContextText))
+        {
+            try
+            {
+                return new ContentHash(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(context)));
+            }
+            catch (NoSuchAlgorithmException | IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        ModelLoader loader = this.modelLoaderForContext(context);
+        // e.g. SDLC snapshots, whose content can change behind the same coordinates
+        return loader.shouldCache(context) ? loader.cacheKey(context, pm) : null;
+    }
+
+    private void onModelRemoval(RemovalNotification<PureModelContext, PureModel> notification)
+    {
+        PureModelContext removedKey = notification.getKey();
+        this.analysisResultCache.asMap().keySet().removeIf(key -> key.getOne().equals(removedKey));
+    }
+
+    private PureModel compileCacheable(PureModelContextData data, MutableList<CommonProfile> pm, String packageOffset)
+    {
+        return this.lazyFunctionCompilation ? Compiler.compileWithLazyFunctionBodies(data, this.deploymentMode, pm, packageOffset) : Compiler.compile(data, this.deploymentMode, pm, packageOffset);
+    }
+
+    private PureModelContextData loadCacheableData(PureModelContext cacheKey, boolean snapshot, String clientVersion, MutableList<CommonProfile> pm)
+    {
+        if (this.snapshotStore == null || !snapshot)
+        {
+            return this.loadData(cacheKey, clientVersion, pm);
+        }
+        PureModelContextData data = this.snapshotStore.load(cacheKey, clientVersion);
+        if (data == null)
+        {
+            data = this.loadData(cacheKey, clientVersion, pm);
+            this.snapshotStore.save(cacheKey, clientVersion, data);
+        }
+        return data;
+    }
+
+    /**
+     * Compiles the models of the most recently used snapshots in the snapshot store (if enabled) into the model cache, so
+     * that the first requests after a restart do not have to fetch and compile them
+     */
+    public void warmUpFromSnapshots()
+    {
+        if (this.snapshotStore == null)
+        {
+            return;
+        }
+        for (Pair<PureModelContext, String> key : this.snapshotStore.warmUpKeys())
+        {
+            PureModelContext cacheKey = key.getOne();
+            try
+            {
+                if (this.modelLoaders.noneSatisfy(loader -> loader.supports(cacheKey) && loader.shouldSnapshot(cacheKey)))
+                {
+                    continue;
+                }
+                long start = System.currentTimeMillis();
+                PureModelContextData data = this.snapshotStore.load(cacheKey, key.getTwo());
+                if (data != null)
+                {
+                    this.pureModelCache.get(cacheKey, () -> this.compileCacheable(data, null, null));
+                    LOGGER.info("Warmed up model from snapshot in " + (System.currentTimeMillis() - start) + "ms");
+                }
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Can't warm up model from snapshot", e);
+            }
+        }
+    }
+
     private ModelLoader modelLoaderForContext(PureModelContext context)
     {
         MutableList<ModelLoader> loaders = modelLoaders.select(loader -> loader.supports(context));
@@ -131,4 +260,26 @@ public class ModelManager
         return loaders.get(0);
     }
 
+    private static final class ContentHash
+    {
+        private final byte[] digest;
+
+        private ContentHash(byte[] digest)
+        {
+            this.digest = digest;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return (this == other) || ((other instanceof ContentHash) && MessageDigest.isEqual(this.digest, ((ContentHash) other).digest));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode(this.digest);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,375 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Persists the model data of cacheable contexts (e.g. pointers to released SDLC versions) as compact binary snapshots, so
+ * that a restarted server can compile its hot models without fetching and parsing them again. Only contexts whose model
+ * loader vouches that their content cannot change behind the same coordinates ({@link ModelLoader#shouldSnapshot}) are
+ * snapshotted.
+ * <p>
+ * A snapshot holds the cache key and client version it was produced for, the time it was saved and the Smile encoded
+ * {@link PureModelContextData}, together with the SHA-256 digest of all of these. A snapshot whose key, client version
+ * or digest does not match, or which is older than the maximum age, is discarded and the data is loaded from its source
+ * again. The store keeps at most its maximum number of snapshots, evicting the least recently used ones, and only the
+ * most recently used ones are compiled when warming up.
+ */
+public class PureModelSnapshotStore
+{
+    public static final String DIRECTORY_SYSTEM_PROPERTY = "org.finos.legend.engine.modelManager.snapshotDirectory";
+    public static final String MAX_ENTRIES_SYSTEM_PROPERTY = "org.finos.legend.engine.modelManager.snapshotMaxEntries";
+    public static final String MAX_AGE_HOURS_SYSTEM_PROPERTY = "org.finos.legend.engine.modelManager.snapshotMaxAgeHours";
+    public static final String WARM_UP_LIMIT_SYSTEM_PROPERTY = "org.finos.legend.engine.modelManager.snapshotWarmUpLimit";
+    public static final int DEFAULT_MAX_ENTRIES = 50;
+    public static final long DEFAULT_MAX_AGE_HOURS = 7 * 24;
+    public static final int DEFAULT_WARM_UP_LIMIT = 10;
+
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+    private static final int FORMAT_VERSION = 2;
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final ObjectMapper jsonObjectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final ObjectMapper smileObjectMapper = ObjectMapperFactory.getNewStandardSmileObjectMapperWithPureProtocolExtensionSupports();
+
+    private final Path directory;
+    private final int maxEntries;
+    private final long maxAgeMillis;
+    private final int warmUpLimit;
+    private final LongSupplier clock;
+
+    public PureModelSnapshotStore(Path directory)
+    {
+        this(directory, DEFAULT_MAX_ENTRIES, TimeUnit.HOURS.toMillis(DEFAULT_MAX_AGE_HOURS), DEFAULT_WARM_UP_LIMIT);
+    }
+
+    public PureModelSnapshotStore(Path directory, int maxEntries, long maxAgeMillis, int warmUpLimit)
+    {
+        this(directory, maxEntries, maxAgeMillis, warmUpLimit, System::currentTimeMillis);
+    }
+
+    PureModelSnapshotStore(Path directory, int maxEntries, long maxAgeMillis, int warmUpLimit, LongSupplier clock)
+    {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.maxAgeMillis = maxAgeMillis;
+        this.warmUpLimit = warmUpLimit;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the store configured through {@link #DIRECTORY_SYSTEM_PROPERTY} (and bounded through the other system
+     * properties), or null if snapshots are not enabled
+     */
+    public static PureModelSnapshotStore fromSystemProperties()
+    {
+        String directory = System.getProperty(DIRECTORY_SYSTEM_PROPERTY);
+        return (directory == null) ? null : new PureModelSnapshotStore(
+                Paths.get(directory),
+                Integer.getInteger(MAX_ENTRIES_SYSTEM_PROPERTY, DEFAULT_MAX_ENTRIES),
+                TimeUnit.HOURS.toMillis(Long.getLong(MAX_AGE_HOURS_SYSTEM_PROPERTY, DEFAULT_MAX_AGE_HOURS)),
+                Integer.getInteger(WARM_UP_LIMIT_SYSTEM_PROPERTY, DEFAULT_WARM_UP_LIMIT));
+    }
+
+    public PureModelContextData load(PureModelContext key, String clientVersion)
+    {
+        Path file;
+        byte[] keyBytes;
+        try
+        {
+            keyBytes = jsonObjectMapper.writeValueAsBytes(key);
+            file = this.snapshotFile(keyBytes, clientVersion);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Can't compute model snapshot key", e);
+            return null;
+        }
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            Header header = readHeader(input, Files.size(file));
+            if (header == null || !Arrays.equals(keyBytes, header.key) || !Arrays.equals(clientVersionBytes(clientVersion), header.clientVersion))
+            {
+                throw new IOException("snapshot was written for another key, client version or format version");
+            }
+            if (this.isExpired(header))
+            {
+                throw new IOException("snapshot is older than " + this.maxAgeMillis + "ms");
+            }
+            byte[] digest = readBlock(input, Files.size(file));
+            byte[] data = readBlock(input, Files.size(file));
+            if (!MessageDigest.isEqual(digest, digest(header, data)))
+            {
+                throw new IOException("snapshot content does not match its digest");
+            }
+            PureModelContextData result = smileObjectMapper.readValue(data, PureModelContextData.class);
+            // the last modified time is the last use, which eviction goes by
+            Files.setLastModifiedTime(file, FileTime.fromMillis(this.clock.getAsLong()));
+            return result;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Discarding invalid model snapshot " + file, e);
+            this.delete(file);
+            return null;
+        }
+    }
+
+    public void save(PureModelContext key, String clientVersion, PureModelContextData data)
+    {
+        Path temporaryFile = null;
+        try
+        {
+            Header header = new Header(this.clock.getAsLong(), jsonObjectMapper.writeValueAsBytes(key), clientVersionBytes(clientVersion));
+            byte[] dataBytes = smileObjectMapper.writeValueAsBytes(data);
+            Files.createDirectories(this.directory);
+            temporaryFile = Files.createTempFile(this.directory, "model", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile))))
+            {
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(header.savedAt);
+                writeBlock(output, header.key);
+                writeBlock(output, header.clientVersion);
+                writeBlock(output, digest(header, dataBytes));
+                writeBlock(output, dataBytes);
+            }
+            Files.setLastModifiedTime(temporaryFile, FileTime.fromMillis(header.savedAt));
+            // readers only ever see complete snapshots
+            Files.move(temporaryFile, this.snapshotFile(header.key, clientVersion), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Can't save model snapshot", e);
+            if (temporaryFile != null)
+            {
+                this.delete(temporaryFile);
+            }
+            return;
+        }
+        this.evict();
+    }
+
+    /**
+     * @return the cache keys and client versions of the most recently used snapshots, most recent first, up to the
+     * warm-up limit
+     */
+    public MutableList<Pair<PureModelContext, String>> warmUpKeys()
+    {
+        MutableList<Pair<PureModelContext, String>> keys = Lists.mutable.empty();
+        MutableList<Path> files = this.evict();
+        for (Path file : files.subList(0, Math.min(files.size(), Math.max(0, this.warmUpLimit))))
+        {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+            {
+                Header header = readHeader(input, Files.size(file));
+                if (header != null)
+                {
+                    keys.add(Tuples.pair(jsonObjectMapper.readValue(header.key, PureModelContext.class), header.clientVersion.length == 0 ? null : new String(header.clientVersion, StandardCharsets.UTF_8)));
+                }
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Can't read model snapshot " + file, e);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Deletes the snapshots which are unreadable or expired, then the least recently used ones beyond the maximum number
+     * of snapshots
+     *
+     * @return the remaining snapshot files, most recently used first
+     */
+    MutableList<Path> evict()
+    {
+        MutableList<Pair<Path, Long>> files = Lists.mutable.empty();
+        if (!Files.isDirectory(this.directory))
+        {
+            return Lists.mutable.empty();
+        }
+        try (DirectoryStream<Path> snapshotFiles = Files.newDirectoryStream(this.directory, "*" + SNAPSHOT_EXTENSION))
+        {
+            for (Path file : snapshotFiles)
+            {
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+                {
+                    Header header = readHeader(input, Files.size(file));
+                    if (header == null || this.isExpired(header))
+                    {
+                        throw new IOException("snapshot is expired or has another format version");
+                    }
+                    files.add(Tuples.pair(file, Files.getLastModifiedTime(file).toMillis()));
+                }
+                catch (Exception e)
+                {
+                    LOGGER.info("Evicting model snapshot " + file + ": " + e.getMessage());
+                    this.delete(file);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Can't list model snapshots in " + this.directory, e);
+        }
+        files.sortThis(Comparator.comparing((Pair<Path, Long> file) -> file.getTwo()).reversed());
+        int kept = Math.min(files.size(), Math.max(0, this.maxEntries));
+        files.subList(kept, files.size()).forEach(file -> this.delete(file.getOne()));
+        return files.subList(0, kept).collect(Pair::getOne);
+    }
+
+    private boolean isExpired(Header header)
+    {
+        return this.clock.getAsLong() - header.savedAt > this.maxAgeMillis;
+    }
+
+    private Path snapshotFile(byte[] keyBytes, String clientVersion)
+    {
+        StringBuilder builder = new StringBuilder();
+        byte[] versionBytes = clientVersionBytes(clientVersion);
+        byte[] identity = Arrays.copyOf(keyBytes, keyBytes.length + 1 + versionBytes.length);
+        identity[keyBytes.length] = '\n';
+        System.arraycopy(versionBytes, 0, identity, keyBytes.length + 1, versionBytes.length);
+        for (byte b : sha256(identity))
+        {
+            builder.append(String.format("%02x", b));
+        }
+        return this.directory.resolve(builder.append(SNAPSHOT_EXTENSION).toString());
+    }
+
+    private void delete(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Can't delete model snapshot file " + file, e);
+        }
+    }
+
+    private static byte[] clientVersionBytes(String clientVersion)
+    {
+        return clientVersion == null ? new byte[0] : clientVersion.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return null if the snapshot was written in another format
+     */
+    private static Header readHeader(DataInputStream input, long fileSize) throws IOException
+    {
+        if (input.readInt() != FORMAT_VERSION)
+        {
+            return null;
+        }
+        long savedAt = input.readLong();
+        byte[] key = readBlock(input, fileSize);
+        return new Header(savedAt, key, readBlock(input, fileSize));
+    }
+
+    private static byte[] digest(Header header, byte[] data)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(Long.toString(header.savedAt).getBytes(StandardCharsets.UTF_8));
+            digest.update(header.key);
+            digest.update((byte) '\n');
+            digest.update(header.clientVersion);
+            return digest.digest(data);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] readBlock(DataInputStream input, long fileSize) throws IOException
+    {
+        int length = input.readInt();
+        if (length < 0 || length > fileSize)
+        {
+            throw new IOException("Invalid snapshot block length: " + length);
+        }
+        byte[] block = new byte[length];
+        input.readFully(block);
+        return block;
+    }
+
+    private static void writeBlock(DataOutputStream output, byte[] block) throws IOException
+    {
+        output.writeInt(block.length);
+        output.write(block);
+    }
+
+    private static byte[] sha256(byte[] bytes)
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Header
+    {
+        private final long savedAt;
+        private final byte[] key;
+        private final byte[] clientVersion;
+
+        private Header(long savedAt, byte[] key, byte[] clientVersion)
+        {
+            this.savedAt = savedAt;
+            this.key = key;
+            this.clientVersion = clientVersion;
+        }
+    }
+}
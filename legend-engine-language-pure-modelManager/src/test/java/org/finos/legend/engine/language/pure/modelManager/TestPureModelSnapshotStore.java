@@ -0,0 +1,145 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Class;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestPureModelSnapshotStore
+{
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000_000L);
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException
+    {
+        PureModelSnapshotStore store = this.newStore(10, 1);
+        store.save(pointer("1.0.0"), "vX_X_X", data("model::Person"));
+
+        PureModelContextData loaded = store.load(pointer("1.0.0"), "vX_X_X");
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(Lists.mutable.with("model::Person"), Lists.mutable.withAll(loaded.getElements()).collect(e -> e.getPath()));
+
+        Assert.assertNull(store.load(pointer("1.0.1"), "vX_X_X"));
+        Assert.assertNull(store.load(pointer("1.0.0"), "v1_20_0"));
+        Assert.assertEquals(1, this.snapshotFiles().size());
+    }
+
+    @Test
+    public void testCorruptSnapshotIsDiscarded() throws IOException
+    {
+        PureModelSnapshotStore store = this.newStore(10, 1);
+        store.save(pointer("1.0.0"), "vX_X_X", data("model::Person"));
+        Path file = this.snapshotFiles().get(0);
+        try (RandomAccessFile content = new RandomAccessFile(file.toFile(), "rw"))
+        {
+            content.seek(content.length() - 1);
+            int last = content.read();
+            content.seek(content.length() - 1);
+            content.write(last ^ 0xFF);
+        }
+
+        Assert.assertNull(store.load(pointer("1.0.0"), "vX_X_X"));
+        Assert.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testExpiredSnapshotIsDiscarded() throws IOException
+    {
+        PureModelSnapshotStore store = this.newStore(10, 1);
+        store.save(pointer("1.0.0"), "vX_X_X", data("model::Person"));
+        this.clock.addAndGet(24 * HOUR + 1);
+
+        Assert.assertNull(store.load(pointer("1.0.0"), "vX_X_X"));
+        Assert.assertEquals(0, this.snapshotFiles().size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSnapshotIsEvicted() throws IOException
+    {
+        PureModelSnapshotStore store = this.newStore(2, 1);
+        store.save(pointer("1.0.0"), "vX_X_X", data("model::Person"));
+        this.clock.addAndGet(1000);
+        store.save(pointer("2.0.0"), "vX_X_X", data("model::Firm"));
+        this.clock.addAndGet(1000);
+        Assert.assertNotNull(store.load(pointer("1.0.0"), "vX_X_X"));
+        this.clock.addAndGet(1000);
+        store.save(pointer("3.0.0"), "vX_X_X", data("model::Address"));
+
+        Assert.assertEquals(2, this.snapshotFiles().size());
+        Assert.assertNull(store.load(pointer("2.0.0"), "vX_X_X"));
+        this.clock.addAndGet(1000);
+        Assert.assertNotNull(store.load(pointer("1.0.0"), "vX_X_X"));
+
+        // 1.0.0 was used last and only one model is warmed up
+        Pair<PureModelContext, String> warmUpKey = store.warmUpKeys().getOnly();
+        Assert.assertEquals("1.0.0", ((PureModelContextPointer) warmUpKey.getOne()).sdlcInfo.version);
+        Assert.assertEquals("vX_X_X", warmUpKey.getTwo());
+    }
+
+    private PureModelSnapshotStore newStore(int maxEntries, int warmUpLimit)
+    {
+        return new PureModelSnapshotStore(this.folder.getRoot().toPath(), maxEntries, 24 * HOUR, warmUpLimit, this.clock::get);
+    }
+
+    private List<Path> snapshotFiles() throws IOException
+    {
+        try (Stream<Path> files = Files.list(this.folder.getRoot().toPath()))
+        {
+            return files.filter(file -> file.toString().endsWith(".snapshot")).collect(Collectors.toList());
+        }
+    }
+
+    private static PureModelContextPointer pointer(String version)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.legend";
+        sdlc.artifactId = "model";
+        sdlc.version = version;
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+
+    private static PureModelContextData data(String classPath)
+    {
+        Class _class = new Class();
+        _class._package = classPath.substring(0, classPath.lastIndexOf("::"));
+        _class.name = classPath.substring(classPath.lastIndexOf("::") + 2);
+        return PureModelContextData.newPureModelContextData(null, null, Lists.mutable.with(_class));
+    }
+}
@@ -18,8 +18,12 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
@@ -29,6 +33,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.Package
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Domain;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.SectionIndex;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -239,9 +244,13 @@ public class PureModelContextData extends PureModelContext
 
     public static class Builder
     {
+        // the deprecated top level collections of elements, superseded by 'elements'
+        private static final MutableSet<String> LEGACY_ELEMENT_FIELDS = Sets.mutable.with("sectionIndices", "stores", "mappings", "services", "cacheables", "caches", "pipelines", "flattenSpecifications", "diagrams", "dataStoreSpecifications", "texts", "runtimes", "connections", "fileGenerations", "generationSpecifications", "serializableModelSpecifications");
+
         private Protocol serializer;
         private PureModelContextPointer origin;
         private final MutableList<PackageableElement> elements = Lists.mutable.empty();
+        private MutableSet<PackageableElement> distinctElements;
 
         public Builder()
         {
@@ -271,12 +280,21 @@ public class PureModelContextData extends PureModelContext
 
         public boolean addElement(PackageableElement element)
         {
-            return this.elements.add(element);
+            return ((this.distinctElements == null) || this.distinctElements.add(element)) && this.elements.add(element);
         }
 
         public boolean addElements(Iterable<? extends PackageableElement> elements)
         {
-            return this.elements.addAllIterable(elements);
+            if (this.distinctElements == null)
+            {
+                return this.elements.addAllIterable(elements);
+            }
+            boolean changed = false;
+            for (PackageableElement element : elements)
+            {
+                changed |= addElement(element);
+            }
+            return changed;
         }
 
         public Builder withElement(PackageableElement element)
@@ -301,7 +319,7 @@ public class PureModelContextData extends PureModelContext
             {
                 this.origin = pureModelContextData.origin;
             }
-            this.elements.addAll(pureModelContextData.elements);
+            addElements(pureModelContextData.elements);
         }
 
         public Builder withPureModelContextData(PureModelContextData pureModelContextData)
@@ -310,9 +328,80 @@ public class PureModelContextData extends PureModelContext
             return this;
         }
 
+        /**
+         * Reads a serialized PureModelContextData and adds its content, one element at a time, so that no intermediate
+         * copy of the elements is created. The parser must have an object codec able to deserialize the Pure protocol
+         * and be positioned before or at the start of the object.
+         */
+        public void addPureModelContextData(JsonParser parser) throws IOException
+        {
+            JsonToken token = (parser.getCurrentToken() == null) ? parser.nextToken() : parser.getCurrentToken();
+            if (token != JsonToken.START_OBJECT)
+            {
+                throw new JsonParseException(parser, "Expected start of PureModelContextData object, found: " + token);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL)
+                {
+                    continue;
+                }
+                if ("serializer".equals(fieldName) && (this.serializer == null))
+                {
+                    this.serializer = parser.readValueAs(Protocol.class);
+                }
+                else if ("origin".equals(fieldName) && (this.origin == null))
+                {
+                    this.origin = parser.readValueAs(PureModelContextPointer.class);
+                }
+                else if ("elements".equals(fieldName) || LEGACY_ELEMENT_FIELDS.contains(fieldName))
+                {
+                    while (parser.nextToken() != JsonToken.END_ARRAY)
+                    {
+                        addElement(parser.readValueAs(PackageableElement.class));
+                    }
+                }
+                else if ("domain".equals(fieldName))
+                {
+                    Domain domain = parser.readValueAs(Domain.class);
+                    addElements(domain.classes);
+                    addElements(domain.associations);
+                    addElements(domain.enums);
+                    addElements(domain.profiles);
+                    addElements(domain.functions);
+                    addElements(domain.measures);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        public Builder withPureModelContextData(JsonParser parser) throws IOException
+        {
+            addPureModelContextData(parser);
+            return this;
+        }
+
+        /**
+         * From now on, elements with the same path as an element already added are dropped as they are added, instead of
+         * being removed afterwards by {@link #removeDuplicates()}
+         */
+        public Builder withDistinctElements()
+        {
+            if (this.distinctElements == null)
+            {
+                removeDuplicates();
+                this.distinctElements = UnifiedSetWithHashingStrategy.newSet(ELEMENT_PATH_HASH, this.elements);
+            }
+            return this;
+        }
+
         public boolean removeDuplicates()
         {
-            if (this.elements.size() <= 1)
+            if ((this.elements.size() <= 1) || (this.distinctElements != null))
             {
                 return false;
             }
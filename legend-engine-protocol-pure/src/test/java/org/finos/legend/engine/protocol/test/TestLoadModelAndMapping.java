@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.protocol.test;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -24,7 +25,15 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -67,6 +76,173 @@ public class TestLoadModelAndMapping
         Assert.assertEquals(1, context.getElementsOfType(PackageableRuntime.class).size());
     }
 
+    @Test
+    public void testStreamingRead() throws Exception
+    {
+        for (String resource : new String[]{"split_v1_15_0.json", "full.json"})
+        {
+            PureModelContextData expected = objectMapper.readValue(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(resource)), PureModelContextData.class);
+            try (JsonParser parser = objectMapper.getFactory().createParser(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(resource))))
+            {
+                PureModelContextData actual = PureModelContextData.newBuilder().withPureModelContextData(parser).build();
+                Assert.assertEquals(resource, expected.getSerializer() == null ? null : expected.getSerializer().version, actual.getSerializer() == null ? null : actual.getSerializer().version);
+                Assert.assertEquals(resource, paths(expected.combine(PureModelContextData.newPureModelContextData())), paths(actual.combine(PureModelContextData.newPureModelContextData())));
+            }
+        }
+    }
+
+    @Test
+    public void testDistinctElementsWhileStreaming() throws Exception
+    {
+        PureModelContextData.Builder builder = PureModelContextData.newBuilder().withDistinctElements();
+        for (int i = 0; i < 2; i++)
+        {
+            try (JsonParser parser = objectMapper.getFactory().createParser(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("split_v1_15_0.json"))))
+            {
+                builder.addPureModelContextData(parser);
+            }
+        }
+        Assert.assertEquals(31, builder.build().getElements().size());
+    }
+
+    @Test
+    public void testStreamingReadDoesNotBufferTheDocument() throws Exception
+    {
+        // a synthetic model too large for any parser buffer, generated as it is read so the test itself does not hold it
+        int elementCount = 50_000;
+        long documentSize = syntheticModelSize(elementCount);
+        int lookAhead = 64 * 1024;
+
+        // streaming: each element is handed over once little more than its own bytes have been read
+        try (CountingInputStream input = new CountingInputStream(syntheticModel(elementCount)); JsonParser parser = objectMapper.getFactory().createParser(input))
+        {
+            ReadPositionRecordingBuilder builder = new ReadPositionRecordingBuilder(input);
+            builder.addPureModelContextData(parser);
+            Assert.assertEquals(elementCount, builder.build().getElements().size());
+            long elementEnd = syntheticModelHeader().length;
+            for (int i = 0; i < elementCount; i++)
+            {
+                elementEnd += syntheticElement(i).length;
+                Assert.assertTrue("element " + i + " was read " + (builder.readPositions[i] - elementEnd) + " bytes ahead", builder.readPositions[i] <= elementEnd + lookAhead);
+            }
+            Assert.assertEquals(documentSize, input.count);
+        }
+
+        // tree-based: the whole document is read, and held, before the first element is handed over
+        try (CountingInputStream input = new CountingInputStream(syntheticModel(elementCount)); JsonParser parser = objectMapper.getFactory().createParser(input))
+        {
+            ReadPositionRecordingBuilder builder = new ReadPositionRecordingBuilder(input);
+            builder.addPureModelContextData(objectMapper.readTree(parser).traverse(objectMapper));
+            Assert.assertEquals(documentSize, builder.readPositions[0]);
+        }
+    }
+
+    private static InputStream syntheticModel(int elementCount)
+    {
+        return new SequenceInputStream(new Enumeration<InputStream>()
+        {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements()
+            {
+                return this.next <= elementCount;
+            }
+
+            @Override
+            public InputStream nextElement()
+            {
+                int current = this.next++;
+                return new ByteArrayInputStream((current < 0) ? syntheticModelHeader() : ((current < elementCount) ? syntheticElement(current) : syntheticModelFooter()));
+            }
+        });
+    }
+
+    private static long syntheticModelSize(int elementCount)
+    {
+        long size = syntheticModelHeader().length + syntheticModelFooter().length;
+        for (int i = 0; i < elementCount; i++)
+        {
+            size += syntheticElement(i).length;
+        }
+        return size;
+    }
+
+    private static byte[] syntheticModelHeader()
+    {
+        return "{\"_type\":\"data\",\"serializer\":{\"name\":\"pure\",\"version\":\"vX_X_X\"},\"elements\":[".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] syntheticElement(int i)
+    {
+        return ((i == 0 ? "" : ",") + "{\"_type\":\"class\",\"package\":\"model::synthetic\",\"name\":\"Class" + i + "\",\"properties\":[{\"name\":\"name\",\"type\":\"String\",\"multiplicity\":{\"lowerBound\":1,\"upperBound\":1}}]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] syntheticModelFooter()
+    {
+        return "]}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class CountingInputStream extends FilterInputStream
+    {
+        private long count;
+
+        private CountingInputStream(InputStream in)
+        {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+            if (b >= 0)
+            {
+                this.count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int read = super.read(b, off, len);
+            if (read > 0)
+            {
+                this.count += read;
+            }
+            return read;
+        }
+    }
+
+    private static class ReadPositionRecordingBuilder extends PureModelContextData.Builder
+    {
+        private final CountingInputStream input;
+        private long[] readPositions = new long[16];
+        private int added;
+
+        private ReadPositionRecordingBuilder(CountingInputStream input)
+        {
+            this.input = input;
+        }
+
+        @Override
+        public boolean addElement(PackageableElement element)
+        {
+            if (this.added == this.readPositions.length)
+            {
+                this.readPositions = Arrays.copyOf(this.readPositions, this.added * 2);
+            }
+            this.readPositions[this.added++] = this.input.count;
+            return super.addElement(element);
+        }
+    }
+
+    private static List<String> paths(PureModelContextData data)
+    {
+        return data.getElements().stream().map(PackageableElement::getPath).collect(Collectors.toList());
+    }
+
     @Test
     public void testLoadMappingWithLegacyEnumValueMapping() throws Exception
     {
@@ -53,8 +53,10 @@ import org.finos.legend.engine.shared.core.identity.factory.DefaultIdentityFacto
 import org.finos.legend.engine.shared.core.identity.factory.IdentityFactory;
 import org.finos.legend.engine.shared.core.kerberos.ProfileManagerHelper;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionTool;
+import org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.operational.prometheus.Prometheus;
 import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
@@ -72,12 +74,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import static org.finos.legend.engine.plan.execution.api.result.ResultManager.manageResult;
 import static org.finos.legend.engine.plan.execution.authorization.PlanExecutionAuthorizerInput.ExecutionMode.INTERACTIVE_EXECUTION;
+import static org.finos.legend.engine.shared.core.operational.http.CborMessageBodyProvider.APPLICATION_CBOR;
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
+import static org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider.APPLICATION_SMILE;
 
 @Api(tags = "Pure - Execution")
 @Path("pure/v1/execution")
@@ -112,11 +117,12 @@ public class Execute
     @POST
     @ApiOperation(value = "Execute a Pure query (function) in the context of a Mapping and a Runtime. Full Interactive and Semi Interactive modes are supported by giving the appropriate PureModelContext (respectively PureModelDataContext and PureModelContextComposite). Production executions need to use the Service interface.")
     @Path("execute")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     public Response execute(@Context HttpServletRequest request, ExecuteInput executeInput, @DefaultValue(SerializationFormat.defaultFormatString) @QueryParam("serializationFormat") SerializationFormat format, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm, @Context UriInfo uriInfo)
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         long start = System.currentTimeMillis();
+        ExecutionProfile profile = ExecutionProfile.startIfRequested(uriInfo != null ? uriInfo.getQueryParameters().getFirst(ExecutionProfile.PROFILE_REQUEST_PARAMETER) : null, "execute");
         try (Scope scope = GlobalTracer.get().buildSpan("Service: Execute").startActive(true))
         {
             String clientVersion = executeInput.clientVersion == null ? PureClientVersions.production : executeInput.clientVersion;
@@ -132,19 +138,24 @@ public class Execute
             {
                 MetricsHandler.observeRequest(uriInfo != null ? uriInfo.getPath() : null, start, System.currentTimeMillis());
             }
-            return response;
+            return ExecutionProfile.decorate(profile, response);
         }
         catch (Exception ex)
         {
             Response response = ExceptionTool.exceptionManager(ex, LoggingEventType.EXECUTE_INTERACTIVE_ERROR, profiles);
             MetricsHandler.observeError(LoggingEventType.PURE_QUERY_EXECUTE_ERROR, ex, null);
-            return response;
+            return ExecutionProfile.decorate(profile, response);
+        }
+        finally
+        {
+            ExecutionProfile.end(profile);
         }
     }
 
     @POST
     @Path("generatePlan")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     @Prometheus(name = "generate plan")
     public Response generatePlan(@Context HttpServletRequest request, ExecuteInput executeInput, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm, @Context UriInfo uriInfo)
     {
@@ -157,7 +168,7 @@ public class Execute
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_PLAN_GENERATION_STOP, (double) System.currentTimeMillis() - start).toString());
             MetricsHandler.observe("generate plan", start, System.currentTimeMillis());
             MetricsHandler.observeRequest(uriInfo != null ? uriInfo.getPath() : null, start, System.currentTimeMillis());
-            return Response.ok().type(MediaType.APPLICATION_JSON_TYPE).entity(plan).build();
+            return Response.ok().type(planMediaType(request)).entity(plan).build();
         }
         catch (Exception ex)
         {
@@ -170,7 +181,8 @@ public class Execute
 
     @POST
     @Path("generatePlan/debug")
-    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB, APPLICATION_SMILE, APPLICATION_CBOR})
     @Prometheus(name = "generate plan debug")
     public Response generatePlanDebug(@Context HttpServletRequest request, ExecuteInput executeInput, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm, @Context UriInfo uriInfo)
     {
@@ -183,7 +195,7 @@ public class Execute
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_PLAN_GENERATION_DEBUG_STOP, (double) System.currentTimeMillis() - start).toString());
             MetricsHandler.observe("generate plan", start, System.currentTimeMillis());
             MetricsHandler.observeRequest(uriInfo != null ? uriInfo.getPath() : null, start, System.currentTimeMillis());
-            return Response.ok().type(MediaType.APPLICATION_JSON_TYPE).entity(plan).build();
+            return Response.ok().type(planMediaType(request)).entity(plan).build();
         }
         catch (Exception ex)
         {
@@ -193,6 +205,11 @@ public class Execute
         }
     }
 
+    private static MediaType planMediaType(HttpServletRequest request)
+    {
+        return SmileMessageBodyProvider.selectMediaType(request == null ? null : request.getHeader(HttpHeaders.ACCEPT));
+    }
+
     private PlanWithDebug buildPlan(ExecuteInput executeInput, MutableList<CommonProfile> profiles, boolean debug)
     {
         String clientVersion = executeInput.clientVersion == null ? PureClientVersions.production : executeInput.clientVersion;
@@ -15,14 +15,21 @@
 package org.finos.legend.engine.query.pure.api.test.inMemory;
 
 import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperRuntimeBuilder;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.stores.inMemory.plugin.InMemory;
+import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
+import org.finos.legend.engine.plan.platform.PlanPlatform;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.connection.Connection;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.LegacyRuntime;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.Runtime;
@@ -37,6 +44,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.gra
 import org.finos.legend.engine.query.pure.api.Execute;
 import org.finos.legend.engine.shared.core.api.model.ExecuteInput;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.operational.http.CborMessageBodyProvider;
+import org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider;
 import org.finos.legend.engine.shared.core.url.EngineUrlStreamHandlerFactory;
 import org.finos.legend.pure.generated.core_pure_extensions_functions;
 import org.junit.Assert;
@@ -44,6 +53,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.BufferedReader;
@@ -243,6 +254,123 @@ public class TestM2MGrammarCompileAndExecute
         assertEquals("{\"builder\":{\"_type\":\"json\"},\"values\":{\"name\":\"Doe\"}}", json);
     }
 
+    @Test
+    public void testLazilyCompiledFunctionsUsedByQualifiersAndConstraints() throws IOException
+    {
+        PureModelContextData contextData = PureGrammarParser.newInstance().parseModel("" +
+                "Class test::Person\n" +
+                "[\n" +
+                "   nameNotEmpty: test::notEmpty($this.fullName)\n" +
+                "]\n" +
+                "{\n" +
+                "   fullName: String[1];\n" +
+                "}" +
+                "\n" +
+                "Class test::S_Person\n" +
+                "{\n" +
+                "   firstName: String[1];\n" +
+                "   lastName: String[1];\n" +
+                "   fullName() {test::join($this.firstName, $this.lastName)}: String[1];\n" +
+                "}" +
+                "\n" +
+                "function test::join(a:String[1], b:String[1]):String[1]\n" +
+                "{\n" +
+                "   $a + ' ' + $b\n" +
+                "}\n" +
+                "function test::notEmpty(s:String[1]):Boolean[1]\n" +
+                "{\n" +
+                "   $s->length() > 0\n" +
+                "}\n" +
+                "\n" +
+                "###Mapping\n" +
+                "Mapping test::personMapping\n" +
+                "(\n" +
+                "   *test::Person : Pure\n" +
+                "            {\n" +
+                "               ~src test::S_Person\n" +
+                "               fullName : $src.fullName()\n" +
+                "            }\n" +
+                ")\n"
+        );
+        PureModel pureModel = Compiler.compileWithLazyFunctionBodies(contextData, DeploymentMode.TEST, null, null);
+
+        RootGraphFetchTree fetchTree = rootGFT("test::Person", propertyGFT("fullName"));
+        Lambda lambda = lambda(apply(SERIALIZE, apply(GRAPH_FETCH, apply(GET_ALL, clazz("test::Person")), fetchTree), fetchTree));
+        SingleExecutionPlan plan = PlanGenerator.generateExecutionPlan(
+                HelperValueSpecificationBuilder.buildLambda(lambda.body, lambda.parameters, pureModel.getContext()),
+                pureModel.getMapping("test::personMapping"),
+                HelperRuntimeBuilder.buildPureRuntime(runtimeValue(jsonModelConnection("test::S_Person", "{\"firstName\":\"Jane\",\"lastName\":\"Doe\"}")), pureModel.getContext()),
+                HelperValueSpecificationBuilder.processExecutionContext(context(), pureModel.getContext()),
+                pureModel,
+                "vX_X_X",
+                PlanPlatform.JAVA,
+                null,
+                core_pure_extensions_functions.Root_meta_pure_extension_defaultExtensions__Extension_MANY_(pureModel.getExecutionSupport()),
+                LegendPlanTransformers.transformers);
+
+        StreamingResult result = (StreamingResult) PlanExecutor.newPlanExecutor(InMemory.build()).execute(plan);
+        assertEquals("{\"builder\":{\"_type\":\"json\"},\"values\":{\"fullName\":\"Jane Doe\"}}", result.flush(result.getSerializer(SerializationFormat.DEFAULT)));
+    }
+
+    @Test
+    public void testGeneratePlanNegotiatesBinaryEncodings()
+    {
+        PureModelContextData contextData = PureGrammarParser.newInstance().parseModel("" +
+                "Class test::Person\n" +
+                "{\n" +
+                "   fullName: String[1];\n" +
+                "}" +
+                "\n" +
+                "Class test::S_Person\n" +
+                "{\n" +
+                "   fullName: String[1];\n" +
+                "}" +
+                "\n" +
+                "###Mapping\n" +
+                "Mapping test::personMapping\n" +
+                "(\n" +
+                "   *test::Person : Pure\n" +
+                "            {\n" +
+                "               ~src test::S_Person\n" +
+                "               fullName : $src.fullName\n" +
+                "            }\n" +
+                ")\n"
+        );
+
+        RootGraphFetchTree fetchTree = rootGFT("test::Person", propertyGFT("fullName"));
+        ExecuteInput input = new ExecuteInput();
+        input.clientVersion = "vX_X_X";
+        input.model = contextData;
+        input.mapping = "test::personMapping";
+        input.function = lambda(apply(SERIALIZE, apply(GRAPH_FETCH, apply(GET_ALL, clazz("test::Person")), fetchTree), fetchTree));
+        input.runtime = runtimeValue(jsonModelConnection("test::S_Person", "{\"fullName\":\"Jane Doe\"}"));
+        input.context = context();
+
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, null).getMediaType());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, "*/*").getMediaType());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, "application/json").getMediaType());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, "application/x-jackson-smile;q=0, application/json").getMediaType());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, "application/x-jackson-smile;q=0.5, application/json").getMediaType());
+        assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, generatePlan(input, "application/x-jackson-smile").getMediaType());
+        assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, generatePlan(input, "application/x-jackson-smile, application/json;q=0.9").getMediaType());
+        assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, generatePlan(input, "application/json;q=0.5, application/x-jackson-smile;q=0.8, */*").getMediaType());
+        assertEquals(CborMessageBodyProvider.APPLICATION_CBOR_TYPE, generatePlan(input, "application/cbor").getMediaType());
+        assertEquals(CborMessageBodyProvider.APPLICATION_CBOR_TYPE, generatePlan(input, "application/x-jackson-smile;q=0.5, application/cbor;q=0.8, application/json;q=0.7").getMediaType());
+        assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, generatePlan(input, "application/cbor, application/x-jackson-smile").getMediaType());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, generatePlan(input, "application/cbor;q=0.5, application/json").getMediaType());
+    }
+
+    private Response generatePlan(ExecuteInput input, String accept)
+    {
+        ModelManager modelManager = new ModelManager(DeploymentMode.TEST);
+        PlanExecutor executor = PlanExecutor.newPlanExecutor(InMemory.build());
+        HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new java.lang.Class<?>[] {HttpServletRequest.class}, new ReflectiveInvocationHandler(new Request(accept)));
+        Response result = new Execute(modelManager, executor, (PureModel pureModel) -> core_pure_extensions_functions.Root_meta_pure_extension_defaultExtensions__Extension_MANY_(pureModel.getExecutionSupport()), LegendPlanTransformers.transformers).generatePlan(request, input, null, null);
+        Assert.assertEquals(200, result.getStatus());
+        Assert.assertNotNull(result.getEntity());
+        return result;
+    }
+
     private Response runTest(ExecuteInput input)
     {
         ModelManager modelManager = new ModelManager(DeploymentMode.TEST);
@@ -353,10 +481,28 @@ public class TestM2MGrammarCompileAndExecute
 
     private static class Request
     {
+        private final String accept;
+
+        private Request()
+        {
+            this(null);
+        }
+
+        private Request(String accept)
+        {
+            this.accept = accept;
+        }
+
         @SuppressWarnings("unused")
         public String getRemoteUser()
         {
             return "someone";
         }
+
+        @SuppressWarnings("unused")
+        public String getHeader(String name)
+        {
+            return HttpHeaders.ACCEPT.equalsIgnoreCase(name) ? this.accept : null;
+        }
     }
 }
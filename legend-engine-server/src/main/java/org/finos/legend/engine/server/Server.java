@@ -77,6 +77,7 @@ import org.finos.legend.engine.server.core.ServerShared;
 import org.finos.legend.engine.server.core.api.CurrentUser;
 import org.finos.legend.engine.server.core.api.Info;
 import org.finos.legend.engine.server.core.api.Memory;
+import org.finos.legend.engine.server.core.api.Profiles;
 import org.finos.legend.engine.server.core.exceptionMappers.CatchAllExceptionMapper;
 import org.finos.legend.engine.server.core.exceptionMappers.JsonInformationExceptionMapper;
 import org.finos.legend.engine.server.core.session.SessionAttributeBundle;
@@ -84,7 +85,9 @@ import org.finos.legend.engine.server.core.session.SessionTracker;
 import org.finos.legend.engine.server.core.session.api.SessionInfo;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
+import org.finos.legend.engine.shared.core.operational.http.CborMessageBodyProvider;
 import org.finos.legend.engine.shared.core.operational.http.InflateInterceptor;
+import org.finos.legend.engine.shared.core.operational.http.SmileMessageBodyProvider;
 import org.finos.legend.engine.shared.core.url.EngineUrlStreamHandlerFactory;
 import org.finos.legend.engine.shared.core.vault.Vault;
 import org.finos.legend.engine.shared.core.vault.VaultConfiguration;
@@ -153,6 +156,9 @@ public class Server<T extends ServerConfiguration> extends Application<T>
 
         SDLCLoader sdlcLoader = new SDLCLoader(serverConfiguration.metadataserver, null);
         ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, sdlcLoader);
+        Thread snapshotWarmUp = new Thread(modelManager::warmUpFromSnapshots, "model-snapshot-warm-up");
+        snapshotWarmUp.setDaemon(true);
+        snapshotWarmUp.start();
 
         ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
 
@@ -173,6 +179,7 @@ public class Server<T extends ServerConfiguration> extends Application<T>
         environment.jersey().register(new Info(serverConfiguration.deployment, serverConfiguration.opentracing));
         environment.jersey().register(new CurrentUser());
         environment.jersey().register(new Memory());
+        environment.jersey().register(new Profiles());
         environment.jersey().register(new RelationalExecutorInformation());
 
         // Grammar
@@ -190,6 +197,8 @@ public class Server<T extends ServerConfiguration> extends Application<T>
 
         // Compilation
         environment.jersey().register((DynamicFeature) (resourceInfo, context) -> context.register(new InflateInterceptor()));
+        environment.jersey().register(new SmileMessageBodyProvider());
+        environment.jersey().register(new CborMessageBodyProvider());
         environment.jersey().register(new Compile(modelManager));
 
         // Generation and Import
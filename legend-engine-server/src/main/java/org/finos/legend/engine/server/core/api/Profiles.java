@@ -0,0 +1,46 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.server.core.api;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+@Api(tags = "Server")
+@Path("server/v1/profiles")
+@Produces(MediaType.APPLICATION_JSON)
+public class Profiles
+{
+    @GET
+    @Path("{id}")
+    @ApiOperation(value = "Provides the phase timings, allocations and counters of a request executed with the 'profile' query parameter")
+    public Response getProfile(@PathParam("id") String id)
+    {
+        ExecutionProfile profile = ExecutionProfile.get(id);
+        if (profile == null)
+        {
+            return Response.status(404).type(MediaType.APPLICATION_JSON).entity("{\"message\": \"Unknown or expired profile: " + id.replaceAll("[^A-Za-z0-9-]", "") + "\"}").build();
+        }
+        return Response.status(200).type(MediaType.APPLICATION_JSON).entity(profile).build();
+    }
+}
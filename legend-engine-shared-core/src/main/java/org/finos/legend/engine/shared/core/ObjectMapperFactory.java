@@ -18,7 +18,11 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
 
 import java.util.TimeZone;
@@ -46,4 +50,49 @@ public class ObjectMapperFactory
     {
         return withStandardConfigurations(PureProtocolObjectMapperFactory.withPureProtocolExtensions(new ObjectMapper()));
     }
+
+    /**
+     * Shared reader with the configuration of {@link #getNewStandardObjectMapperWithPureProtocolExtensionSupports()}.
+     * Readers are immutable and thread safe: use {@link ObjectReader#forType(Class)} rather than creating a new mapper
+     * per call, which rescans the protocol extensions and rebuilds the deserializer caches
+     */
+    public static ObjectReader getStandardObjectReaderWithPureProtocolExtensionSupports()
+    {
+        return PureProtocolMapperHolder.READER;
+    }
+
+    /**
+     * Shared writer with the configuration of {@link #getNewStandardObjectMapperWithPureProtocolExtensionSupports()}.
+     * Writers are immutable and thread safe, and share their serializer caches
+     */
+    public static ObjectWriter getStandardObjectWriterWithPureProtocolExtensionSupports()
+    {
+        return PureProtocolMapperHolder.WRITER;
+    }
+
+    /**
+     * Same configuration as {@link #getNewStandardObjectMapperWithPureProtocolExtensionSupports()}, but reads and writes
+     * the binary Smile encoding of JSON, which is smaller and much cheaper to parse for large models and plans
+     */
+    public static ObjectMapper getNewStandardSmileObjectMapperWithPureProtocolExtensionSupports()
+    {
+        return withStandardConfigurations(PureProtocolObjectMapperFactory.withPureProtocolExtensions(new ObjectMapper(new SmileFactory())));
+    }
+
+    /**
+     * Same configuration as {@link #getNewStandardObjectMapperWithPureProtocolExtensionSupports()}, but reads and writes
+     * CBOR (RFC 8949), for clients which have a CBOR rather than a Smile codec
+     */
+    public static ObjectMapper getNewStandardCborObjectMapperWithPureProtocolExtensionSupports()
+    {
+        return withStandardConfigurations(PureProtocolObjectMapperFactory.withPureProtocolExtensions(new ObjectMapper(new CBORFactory())));
+    }
+
+    // loaded on first use, once per class loader
+    private static class PureProtocolMapperHolder
+    {
+        private static final ObjectMapper MAPPER = getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+        private static final ObjectReader READER = MAPPER.reader();
+        private static final ObjectWriter WRITER = MAPPER.writer();
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.AuthSchemes;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ClientConnectionManager;
 import org.apache.http.impl.auth.SPNegoScheme;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.DefaultHttpClient;
@@ -42,7 +43,20 @@ public class HttpClientBuilder
 {
     public static HttpClient getHttpClient(CookieStore cookieStore)
     {
-        DefaultHttpClient httpclient = new DefaultHttpClient();
+        return configure(new DefaultHttpClient(), cookieStore);
+    }
+
+    /**
+     * Builds a client drawing its connections from the given connection manager. With a thread safe manager (such as
+     * a PoolingClientConnectionManager) the client can be shared across threads, keeping connections alive between calls.
+     */
+    public static HttpClient getHttpClient(CookieStore cookieStore, ClientConnectionManager connectionManager)
+    {
+        return configure(new DefaultHttpClient(connectionManager), cookieStore);
+    }
+
+    private static HttpClient configure(DefaultHttpClient httpclient, CookieStore cookieStore)
+    {
         httpclient.getAuthSchemes().register(AuthSchemes.SPNEGO, new SPNegoWithDelegationSchemeFactory());
         Credentials credentials = new Credentials()
         {
@@ -0,0 +1,40 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Reads and writes entities using CBOR, the standard binary encoding of the JSON data model, for clients which have a
+ * CBOR rather than a Smile codec. Clients opt in by sending or accepting {@link #APPLICATION_CBOR}.
+ */
+public class CborMessageBodyProvider extends SmileMessageBodyProvider
+{
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    public CborMessageBodyProvider()
+    {
+        this(ObjectMapperFactory.getNewStandardCborObjectMapperWithPureProtocolExtensionSupports());
+    }
+
+    public CborMessageBodyProvider(ObjectMapper objectMapper)
+    {
+        super(objectMapper, APPLICATION_CBOR_TYPE);
+    }
+}
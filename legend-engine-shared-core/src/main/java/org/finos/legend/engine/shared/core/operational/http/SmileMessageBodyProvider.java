@@ -0,0 +1,161 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.shared.core.operational.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes entities using the Smile binary encoding of JSON. Large protocol documents (e.g. PureModelContextData
+ * and execution plans) are much smaller in Smile and are parsed without the cost of tokenizing text.
+ * Clients opt in by sending or accepting {@link #APPLICATION_SMILE}; JSON stays the default.
+ */
+public class SmileMessageBodyProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object>
+{
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+    private final ObjectMapper objectMapper;
+    private final MediaType mediaType;
+
+    public SmileMessageBodyProvider()
+    {
+        this(ObjectMapperFactory.getNewStandardSmileObjectMapperWithPureProtocolExtensionSupports());
+    }
+
+    public SmileMessageBodyProvider(ObjectMapper objectMapper)
+    {
+        this(objectMapper, APPLICATION_SMILE_TYPE);
+    }
+
+    protected SmileMessageBodyProvider(ObjectMapper objectMapper, MediaType mediaType)
+    {
+        this.objectMapper = objectMapper;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Picks the response media type for an entity which can be sent in JSON, Smile or CBOR, based on the request Accept
+     * header. A binary encoding is only sent when it is explicitly accepted, with a quality at least as high as the one
+     * of JSON; Smile is preferred to CBOR when both are accepted with the same quality.
+     */
+    public static MediaType selectMediaType(String acceptHeader)
+    {
+        if (acceptHeader == null)
+        {
+            return MediaType.APPLICATION_JSON_TYPE;
+        }
+        double smileQuality = 0;
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        int jsonSpecificity = -1;
+        for (String range : acceptHeader.split(","))
+        {
+            MediaType mediaType;
+            try
+            {
+                mediaType = MediaType.valueOf(range.trim());
+            }
+            catch (IllegalArgumentException e)
+            {
+                continue;
+            }
+            double quality = quality(mediaType);
+            if (isExactly(APPLICATION_SMILE_TYPE, mediaType))
+            {
+                smileQuality = Math.max(smileQuality, quality);
+            }
+            else if (isExactly(CborMessageBodyProvider.APPLICATION_CBOR_TYPE, mediaType))
+            {
+                cborQuality = Math.max(cborQuality, quality);
+            }
+            else if (mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE))
+            {
+                // the most specific range matching JSON gives its quality
+                int specificity = (mediaType.isWildcardType() ? 0 : 1) + (mediaType.isWildcardSubtype() ? 0 : 1);
+                if (specificity > jsonSpecificity || (specificity == jsonSpecificity && quality > jsonQuality))
+                {
+                    jsonSpecificity = specificity;
+                    jsonQuality = quality;
+                }
+            }
+        }
+        if ((smileQuality > 0) && (smileQuality >= jsonQuality) && (smileQuality >= cborQuality))
+        {
+            return APPLICATION_SMILE_TYPE;
+        }
+        return (cborQuality > 0) && (cborQuality >= jsonQuality) ? CborMessageBodyProvider.APPLICATION_CBOR_TYPE : MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    private static boolean isExactly(MediaType expected, MediaType mediaType)
+    {
+        return expected.getType().equalsIgnoreCase(mediaType.getType()) && expected.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+    }
+
+    private static double quality(MediaType mediaType)
+    {
+        String quality = mediaType.getParameters().get("q");
+        try
+        {
+            return quality == null ? 1 : Double.parseDouble(quality);
+        }
+        catch (NumberFormatException e)
+        {
+            return 1;
+        }
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return this.mediaType.isCompatible(mediaType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException
+    {
+        return this.objectMapper.readerFor(this.objectMapper.constructType(genericType)).readValue(entityStream);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return this.mediaType.isCompatible(mediaType);
+    }
+
+    @Override
+    public long getSize(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException
+    {
+        this.objectMapper.writerFor(this.objectMapper.constructType(genericType)).writeValue(entityStream, o);
+    }
+}
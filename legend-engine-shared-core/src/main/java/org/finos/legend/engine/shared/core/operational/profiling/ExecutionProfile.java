@@ -0,0 +1,451 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.shared.core.operational.profiling;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import javax.ws.rs.core.Response;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in, per-request profile of the phases of a compilation or execution (model load, graph building passes, plan
+ * generation, plan Java compilation, SQL execution, serialization...), with the bytes allocated by the thread running
+ * each phase and a few counters (e.g. rows fetched).
+ * <p>
+ * A profile is bound to the thread serving the request (see {@link #start(String)}) and must be re-activated on any
+ * thread doing work on behalf of the request (e.g. the thread streaming the result, see {@link #activate()}). The
+ * static recording methods are no-ops when no profile is active, so they can be left in hot paths.
+ * <p>
+ * Completed profiles are retained (in memory, bounded) so they can be fetched once the response has been streamed.
+ */
+@JsonPropertyOrder({"id", "operation", "startTime", "complete", "durationMs", "phases", "milestones", "counters"})
+public class ExecutionProfile
+{
+    public static final String PROFILE_REQUEST_PARAMETER = "profile";
+    public static final String PROFILE_ID_HEADER = "X-Legend-Profile-Id";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String MAX_RETAINED_PROFILES_SYSTEM_PROPERTY = "org.finos.legend.engine.profiling.maxRetainedProfiles";
+
+    private static final ThreadLocal<ExecutionProfile> CURRENT = new ThreadLocal<>();
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+    private static final Map<String, ExecutionProfile> RETAINED = Collections.synchronizedMap(new LinkedHashMap<String, ExecutionProfile>()
+    {
+        private final int maxRetained = Integer.getInteger(MAX_RETAINED_PROFILES_SYSTEM_PROPERTY, 500);
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ExecutionProfile> eldest)
+        {
+            return size() > this.maxRetained;
+        }
+    });
+    private static final Phase NO_OP_PHASE = new Phase(null, null);
+    private static final Handle NO_OP_HANDLE = () ->
+    {
+    };
+
+    private final String id = UUID.randomUUID().toString();
+    private final String operation;
+    private final long startTime = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private final ConcurrentLinkedQueue<PhaseRecord> phases = new ConcurrentLinkedQueue<>();
+    private final Map<String, Double> milestones = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingDeferrals = new AtomicInteger();
+    private volatile long endNanos = -1;
+
+    private ExecutionProfile(String operation)
+    {
+        this.operation = operation;
+    }
+
+    /**
+     * Returns true if the value of the request's {@value #PROFILE_REQUEST_PARAMETER} parameter asks for profiling
+     */
+    public static boolean isRequested(String parameterValue)
+    {
+        return parameterValue != null && (parameterValue.isEmpty() || Boolean.parseBoolean(parameterValue));
+    }
+
+    /**
+     * Starts a new profile and makes it the active one of the current thread
+     */
+    public static ExecutionProfile start(String operation)
+    {
+        ExecutionProfile profile = new ExecutionProfile(operation);
+        RETAINED.put(profile.id, profile);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Starts a new profile if the value of the request's {@value #PROFILE_REQUEST_PARAMETER} parameter asks for it
+     */
+    public static ExecutionProfile startIfRequested(String parameterValue, String operation)
+    {
+        return isRequested(parameterValue) ? start(operation) : null;
+    }
+
+    public static ExecutionProfile current()
+    {
+        return CURRENT.get();
+    }
+
+    public static ExecutionProfile get(String id)
+    {
+        return RETAINED.get(id);
+    }
+
+    /**
+     * Unbinds the given profile (if any) from the current thread, completing it unless some of its work has been
+     * deferred (see {@link #defer()})
+     */
+    public static void end(ExecutionProfile profile)
+    {
+        if (profile != null)
+        {
+            CURRENT.remove();
+            if (profile.pendingDeferrals.get() == 0)
+            {
+                profile.complete();
+            }
+        }
+    }
+
+    /**
+     * Starts a phase of the active profile; the phase ends when the returned handle is closed
+     */
+    public static Phase phase(String name)
+    {
+        ExecutionProfile profile = CURRENT.get();
+        return profile == null ? NO_OP_PHASE : new Phase(profile, name);
+    }
+
+    /**
+     * Returns a clock splitting the work done on the current thread into consecutive phases of the active profile,
+     * each phase ending when the next one starts
+     */
+    public static PhaseClock phaseClock(String prefix)
+    {
+        ExecutionProfile profile = CURRENT.get();
+        return profile == null ? PhaseClock.NO_OP : new PhaseClock(profile, prefix);
+    }
+
+    /**
+     * Records the time elapsed since the start of the active profile the first time the given milestone is reached
+     */
+    public static void mark(String name)
+    {
+        ExecutionProfile profile = CURRENT.get();
+        if (profile != null)
+        {
+            profile.milestones.putIfAbsent(name, profile.offsetMs(System.nanoTime()));
+        }
+    }
+
+    public static void count(String name, long delta)
+    {
+        ExecutionProfile profile = CURRENT.get();
+        if (profile != null)
+        {
+            profile.counters.computeIfAbsent(name, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    /**
+     * Makes this profile the active one of the current thread until the returned handle is closed
+     */
+    public Handle activate()
+    {
+        ExecutionProfile previous = CURRENT.get();
+        CURRENT.set(this);
+        return () ->
+        {
+            if (previous == null)
+            {
+                CURRENT.remove();
+            }
+            else
+            {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static Handle activate(ExecutionProfile profile)
+    {
+        return profile == null ? NO_OP_HANDLE : profile.activate();
+    }
+
+    /**
+     * Declares that some of the work of the request will be done after the request handler returns (e.g. streaming),
+     * so the profile only completes when the returned handle is closed; closing the handle again has no effect
+     */
+    public Handle defer()
+    {
+        this.pendingDeferrals.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return () ->
+        {
+            if (closed.compareAndSet(false, true) && (this.pendingDeferrals.decrementAndGet() == 0))
+            {
+                this.complete();
+            }
+        };
+    }
+
+    /**
+     * Adds the profile id and the phases recorded so far (as a Server-Timing header) to the response of a profiled
+     * request; the complete profile can then be fetched by id
+     */
+    public static Response decorate(ExecutionProfile profile, Response response)
+    {
+        if (profile == null || response == null)
+        {
+            return response;
+        }
+        Response.ResponseBuilder builder = Response.fromResponse(response).header(PROFILE_ID_HEADER, profile.id);
+        String serverTiming = profile.getServerTiming();
+        if (!serverTiming.isEmpty())
+        {
+            builder.header(SERVER_TIMING_HEADER, serverTiming);
+        }
+        return builder.build();
+    }
+
+    private void complete()
+    {
+        if (this.endNanos == -1)
+        {
+            this.endNanos = System.nanoTime();
+        }
+    }
+
+    public String getId()
+    {
+        return this.id;
+    }
+
+    public String getOperation()
+    {
+        return this.operation;
+    }
+
+    public long getStartTime()
+    {
+        return this.startTime;
+    }
+
+    public boolean isComplete()
+    {
+        return this.endNanos != -1;
+    }
+
+    public double getDurationMs()
+    {
+        long end = this.endNanos;
+        return toMillis((end == -1 ? System.nanoTime() : end) - this.startNanos);
+    }
+
+    public List<PhaseRecord> getPhases()
+    {
+        return new ArrayList<>(this.phases);
+    }
+
+    public Map<String, Double> getMilestones()
+    {
+        return new LinkedHashMap<>(this.milestones);
+    }
+
+    public Map<String, Long> getCounters()
+    {
+        Map<String, Long> result = new LinkedHashMap<>();
+        this.counters.forEach((name, value) -> result.put(name, value.get()));
+        return result;
+    }
+
+    /**
+     * Formats the phases recorded so far as the value of a Server-Timing HTTP header
+     */
+    @JsonIgnore
+    public String getServerTiming()
+    {
+        StringBuilder builder = new StringBuilder();
+        this.phases.forEach(phase ->
+        {
+            if (builder.length() > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(phase.name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", phase.durationMs));
+        });
+        return builder.toString();
+    }
+
+    private double offsetMs(long nanos)
+    {
+        return toMillis(nanos - this.startNanos);
+    }
+
+    private static double toMillis(long nanos)
+    {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long allocatedBytes()
+    {
+        return ALLOCATION_SUPPORTED ? ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static boolean isAllocationSupported()
+    {
+        try
+        {
+            return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+        }
+        catch (Throwable ignored)
+        {
+            return false;
+        }
+    }
+
+    private void record(String name, long startNanos, long endNanos, long startAllocatedBytes)
+    {
+        long allocated = startAllocatedBytes == -1 ? -1 : allocatedBytes() - startAllocatedBytes;
+        this.phases.add(new PhaseRecord(name, offsetMs(startNanos), toMillis(endNanos - startNanos), allocated));
+    }
+
+    public interface Handle extends AutoCloseable
+    {
+        @Override
+        void close();
+    }
+
+    public static class Phase implements AutoCloseable
+    {
+        private final ExecutionProfile profile;
+        private final String name;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Phase(ExecutionProfile profile, String name)
+        {
+            this.profile = profile;
+            this.name = name;
+            this.startAllocatedBytes = profile == null ? -1 : allocatedBytes();
+            this.startNanos = profile == null ? 0 : System.nanoTime();
+        }
+
+        @Override
+        public void close()
+        {
+            if (this.profile != null)
+            {
+                this.profile.record(this.name, this.startNanos, System.nanoTime(), this.startAllocatedBytes);
+            }
+        }
+    }
+
+    public static class PhaseClock
+    {
+        private static final PhaseClock NO_OP = new PhaseClock(null, null);
+
+        private final ExecutionProfile profile;
+        private final String prefix;
+        private long lapStartNanos;
+        private long lapStartAllocatedBytes;
+
+        private PhaseClock(ExecutionProfile profile, String prefix)
+        {
+            this.profile = profile;
+            this.prefix = prefix;
+            if (profile != null)
+            {
+                this.lapStartAllocatedBytes = allocatedBytes();
+                this.lapStartNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Ends the current phase under the given name and starts the next one
+         */
+        public void lap(String name)
+        {
+            if (this.profile != null)
+            {
+                long now = System.nanoTime();
+                this.profile.record(this.prefix + "." + name, this.lapStartNanos, now, this.lapStartAllocatedBytes);
+                this.lapStartAllocatedBytes = allocatedBytes();
+                this.lapStartNanos = System.nanoTime();
+            }
+        }
+    }
+
+    @JsonPropertyOrder({"name", "startMs", "durationMs", "allocatedBytes"})
+    public static class PhaseRecord
+    {
+        private final String name;
+        private final double startMs;
+        private final double durationMs;
+        private final long allocatedBytes;
+
+        private PhaseRecord(String name, double startMs, double durationMs, long allocatedBytes)
+        {
+            this.name = name;
+            this.startMs = startMs;
+            this.durationMs = durationMs;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName()
+        {
+            return this.name;
+        }
+
+        public double getStartMs()
+        {
+            return this.startMs;
+        }
+
+        public double getDurationMs()
+        {
+            return this.durationMs;
+        }
+
+        /**
+         * Bytes allocated by the thread running the phase, or -1 if the JVM does not support measuring it
+         */
+        public long getAllocatedBytes()
+        {
+            return this.allocatedBytes;
+        }
+    }
+}
@@ -63,6 +63,18 @@ public class MetricsHandler
             .labelNames("operation", "context")
             .register(getMetricsRegistry());
 
+    private static final Histogram CONNECTION_WAIT_LATENCY = Histogram.build().name("legend_engine_connection_wait_latency")
+            .help("Measure time taken to obtain a database connection from a connection pool")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 30)
+            .labelNames("datasource")
+            .register(getMetricsRegistry());
+
+    private static final Histogram RELATIONAL_TIME_TO_FIRST_ROW = Histogram.build().name("legend_engine_relational_time_to_first_row")
+            .help("Measure time taken from sending a relational query to reading its first row")
+            .buckets(.01, .05, .1, .5, 1, 5, 10, 30, 100, 300)
+            .labelNames("databaseType")
+            .register(getMetricsRegistry());
+
     private static final Counter ALL_EXECUTIONS = Counter.build("legend_engine_executions", "Execution counter metric ").register();
     private static final Counter DATASTORE_SPEC_COUNT = Counter.build("legend_engine_datastore_spec_count", "Count datastore specifications").register(getMetricsRegistry());
     private static final Counter JAVA_COMPILATION_COUNT = Counter.build("legend_engine_java_compilation_count", "Count java compilations").register(getMetricsRegistry());
@@ -102,6 +114,16 @@ public class MetricsHandler
         }
     }
 
+    public static void observeConnectionWait(String datasource, long start, long end)
+    {
+        CONNECTION_WAIT_LATENCY.labels(returnLabelOrUnknown(datasource)).observe((end - start) / 1000F);
+    }
+
+    public static void observeRelationalTimeToFirstRow(String databaseType, long start, long end)
+    {
+        RELATIONAL_TIME_TO_FIRST_ROW.labels(returnLabelOrUnknown(databaseType)).observe((end - start) / 1000F);
+    }
+
     public static void incrementExecutionCount()
     {
         ALL_EXECUTIONS.inc();
@@ -0,0 +1,117 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.shared.core.operational.profiling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+public class TestExecutionProfile
+{
+    @Test
+    public void testRecordingIsNoOpWithoutActiveProfile()
+    {
+        Assert.assertNull(ExecutionProfile.startIfRequested(null, "test"));
+        Assert.assertNull(ExecutionProfile.startIfRequested("false", "test"));
+        try (ExecutionProfile.Phase ignored = ExecutionProfile.phase("phase"))
+        {
+            ExecutionProfile.mark("milestone");
+            ExecutionProfile.count("rows", 1);
+            ExecutionProfile.phaseClock("clock").lap("lap");
+        }
+        Assert.assertNull(ExecutionProfile.current());
+    }
+
+    @Test
+    public void testPhasesMilestonesAndCounters()
+    {
+        ExecutionProfile profile = ExecutionProfile.startIfRequested("true", "test");
+        Assert.assertNotNull(profile);
+        try
+        {
+            try (ExecutionProfile.Phase ignored = ExecutionProfile.phase("modelLoad"))
+            {
+                ExecutionProfile.PhaseClock clock = ExecutionProfile.phaseClock("compilation");
+                clock.lap("domain");
+                clock.lap("mappings");
+            }
+            ExecutionProfile.mark("firstFetch");
+            ExecutionProfile.mark("firstFetch");
+            ExecutionProfile.count("rows", 2);
+            ExecutionProfile.count("rows", 3);
+        }
+        finally
+        {
+            ExecutionProfile.end(profile);
+        }
+
+        Assert.assertNull(ExecutionProfile.current());
+        Assert.assertTrue(profile.isComplete());
+        Assert.assertSame(profile, ExecutionProfile.get(profile.getId()));
+        List<String> phases = profile.getPhases().stream().map(ExecutionProfile.PhaseRecord::getName).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("compilation.domain", "compilation.mappings", "modelLoad"), phases);
+        Assert.assertEquals(1, profile.getMilestones().size());
+        Assert.assertEquals(Long.valueOf(5), profile.getCounters().get("rows"));
+        Assert.assertTrue(profile.getServerTiming().startsWith("compilation.domain;dur="));
+    }
+
+    @Test
+    public void testDeferredWorkOnAnotherThread() throws Exception
+    {
+        ExecutionProfile profile = ExecutionProfile.start("test");
+        ExecutionProfile.Handle deferral = profile.defer();
+        ExecutionProfile.end(profile);
+        Assert.assertFalse(profile.isComplete());
+
+        AtomicReference<ExecutionProfile> seen = new AtomicReference<>();
+        Thread thread = new Thread(() ->
+        {
+            try (ExecutionProfile.Handle ignored = ExecutionProfile.activate(profile); ExecutionProfile.Phase phase = ExecutionProfile.phase("serialization"))
+            {
+                seen.set(ExecutionProfile.current());
+            }
+            finally
+            {
+                deferral.close();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertSame(profile, seen.get());
+        Assert.assertTrue(profile.isComplete());
+        Assert.assertEquals("serialization", profile.getPhases().get(0).getName());
+    }
+
+    @Test
+    public void testDeferralIsOnlyReleasedOnce()
+    {
+        ExecutionProfile profile = ExecutionProfile.start("test");
+        ExecutionProfile.Handle first = profile.defer();
+        ExecutionProfile.Handle second = profile.defer();
+        ExecutionProfile.end(profile);
+
+        first.close();
+        first.close();
+        Assert.assertFalse(profile.isComplete());
+        second.close();
+        Assert.assertTrue(profile.isComplete());
+    }
+}
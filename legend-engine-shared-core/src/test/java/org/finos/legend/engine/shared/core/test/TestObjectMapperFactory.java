@@ -76,6 +76,34 @@ public class TestObjectMapperFactory
         Assert.assertEquals("{\"a\":true,\"b\":1,\"d\":false,\"f\":4}", json);
     }
 
+    @Test
+    public void smileRoundTripsLikeJson() throws IOException
+    {
+        ObjectMapper jsonMapper = ObjectMapperFactory.getNewStandardObjectMapper();
+        ObjectMapper smileMapper = ObjectMapperFactory.getNewStandardSmileObjectMapperWithPureProtocolExtensionSupports();
+        byte[] smile = smileMapper.writeValueAsBytes(new PojoForTest(1, true, 4, false));
+        Assert.assertEquals("{\"a\":true,\"b\":1,\"d\":false,\"f\":4}", jsonMapper.writeValueAsString(smileMapper.readValue(smile, Object.class)));
+    }
+
+    @Test
+    public void cborRoundTripsLikeJson() throws IOException
+    {
+        ObjectMapper jsonMapper = ObjectMapperFactory.getNewStandardObjectMapper();
+        ObjectMapper cborMapper = ObjectMapperFactory.getNewStandardCborObjectMapperWithPureProtocolExtensionSupports();
+        byte[] cbor = cborMapper.writeValueAsBytes(new PojoForTest(1, true, 4, false));
+        Assert.assertEquals("{\"a\":true,\"b\":1,\"d\":false,\"f\":4}", jsonMapper.writeValueAsString(cborMapper.readValue(cbor, Object.class)));
+    }
+
+    @Test
+    public void sharedReaderAndWriterHaveStandardConfigurations() throws IOException
+    {
+        Assert.assertSame(ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports(), ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports());
+        String json = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(new PojoForTest(1, true, 4, false));
+        Assert.assertEquals("{\"a\":true,\"b\":1,\"d\":false,\"f\":4}", json);
+        Object read = ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(Object.class).readValue(json);
+        Assert.assertEquals(json, ObjectMapperFactory.getNewStandardObjectMapper().writeValueAsString(read));
+    }
+
     private static class PojoForTest
     {
         @JsonProperty
@@ -19,6 +19,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.CompileContext;
@@ -47,6 +50,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.m
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.modelToModel.mapping.ObjectInputData;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.modelToModel.mapping.ObjectInputType;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.url.DataProtocolHandler;
 import org.finos.legend.engine.test.runner.shared.ComparisonError;
 import org.finos.legend.engine.test.runner.shared.JsonNodeComparator;
@@ -66,12 +70,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import javax.ws.rs.core.MediaType;
 
 public class MappingTestRunner
 {
     private static final ObjectMapper objectMapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+    private static final ObjectMapper protocolMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final int MAX_GENERATED_PLANS_PER_MODEL = 256;
+    // plans are only reusable with the model they were generated from, entries go away with the model
+    private static final Cache<PureModel, Cache<String, SingleExecutionPlan>> GENERATED_PLANS = CacheBuilder.newBuilder().weakKeys().build();
 
     private final PureModel pureModel;
     private final PlanExecutor executor;
@@ -195,10 +204,51 @@ public class MappingTestRunner
 
     protected Result executeLegend(Lambda lambda, String mappingPath)
     {
+        return this.executor.execute(this.getExecutionPlan(lambda, mappingPath));
+    }
+
+    private SingleExecutionPlan getExecutionPlan(Lambda lambda, String mappingPath)
+    {
+        // the tests of a mapping are re-run against the same model with the same query and input data, which the plan embeds, so only their digest is kept
+        String planKey;
+        try
+        {
+            planKey = mappingPath + ":" + this.pureVersion + ":" + Hashing.sha256().hashString(protocolMapper.writeValueAsString(lambda) + protocolMapper.writeValueAsString(this.mappingTest.inputData), StandardCharsets.UTF_8);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException(e);
+        }
+        Cache<String, SingleExecutionPlan> plans = generatedPlans(this.pureModel);
+        SingleExecutionPlan cached = plans.getIfPresent(planKey);
+        if (cached != null)
+        {
+            return cached;
+        }
+        // generated outside of the cache: tests racing on the same plan both generate it, and keep the first one cached
         LambdaFunction<?> pureLambda = HelperValueSpecificationBuilder.buildLambda(lambda, new CompileContext.Builder(this.pureModel).withElement(mappingPath).build());
         org.finos.legend.pure.m3.coreinstance.meta.pure.mapping.Mapping pureMapping = this.pureModel.getMapping(mappingPath);
         SingleExecutionPlan executionPlan = PlanGenerator.generateExecutionPlan(pureLambda, pureMapping, this.runtime, null, this.pureModel, this.pureVersion, PlanPlatform.JAVA, null, this.extensions, this.planTransformers);
-        return this.executor.execute(executionPlan);
+        SingleExecutionPlan previous = plans.asMap().putIfAbsent(planKey, executionPlan);
+        return previous == null ? executionPlan : previous;
+    }
+
+    private static Cache<String, SingleExecutionPlan> generatedPlans(PureModel pureModel)
+    {
+        try
+        {
+            return GENERATED_PLANS.get(pureModel, () -> CacheBuilder.newBuilder().maximumSize(MAX_GENERATED_PLANS_PER_MODEL).<String, SingleExecutionPlan>build());
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    static long generatedPlanCount(PureModel pureModel)
+    {
+        Cache<String, SingleExecutionPlan> plans = GENERATED_PLANS.getIfPresent(pureModel);
+        return plans == null ? 0 : plans.size();
     }
 
 
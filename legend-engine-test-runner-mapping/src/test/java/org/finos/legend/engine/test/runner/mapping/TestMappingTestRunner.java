@@ -278,6 +278,25 @@ public class TestMappingTestRunner
                 objectMapper.readValue(testResult.getActual().get(), JsonNode.class));
     }
 
+    @Test
+    public void testPlanIsReusedAcrossRunsOfATest() throws IOException
+    {
+        URL url = Objects.requireNonNull(getClass().getClassLoader().getResource("modelToModelMappingTests1.json"));
+        PureModelContextData pureModelContextData = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(url, PureModelContextData.class);
+        PureModel pureModel = new PureModel(pureModelContextData, null, Thread.currentThread().getContextClassLoader(), DeploymentMode.PROD);
+        assertEquals(0, MappingTestRunner.generatedPlanCount(pureModel));
+
+        assertEquals(TestResult.SUCCESS, runTest(pureModelContextData, pureModel).getResult());
+        assertEquals(1, MappingTestRunner.generatedPlanCount(pureModel));
+
+        assertEquals(TestResult.SUCCESS, runTest(pureModelContextData, pureModel).getResult());
+        assertEquals(1, MappingTestRunner.generatedPlanCount(pureModel));
+
+        // plans belong to the model they were generated from
+        PureModel otherPureModel = new PureModel(pureModelContextData, null, Thread.currentThread().getContextClassLoader(), DeploymentMode.PROD);
+        assertEquals(0, MappingTestRunner.generatedPlanCount(otherPureModel));
+    }
+
     private RichMappingTestResult runTest(PureModelContextData pureModelContextData, PureModel pureModel)
     {
         Mapping mapping = pureModelContextData.getElementsOfType(Mapping.class).get(0);
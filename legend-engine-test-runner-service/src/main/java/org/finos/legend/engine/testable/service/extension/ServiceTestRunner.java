@@ -15,6 +15,11 @@
 
 package org.finos.legend.engine.testable.service.extension;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
@@ -37,7 +42,6 @@ import org.finos.legend.engine.plan.platform.PlanPlatform;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.data.DataElementReference;
 import org.finos.legend.engine.protocol.pure.v1.model.data.EmbeddedData;
-import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.connection.Connection;
@@ -68,6 +72,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestError;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestFailed;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestPassed;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 import org.finos.legend.engine.testable.extension.TestRunner;
 import org.finos.legend.engine.testable.service.assertion.ServiceTestAssertionEvaluator;
 import org.finos.legend.engine.testable.service.connection.TestConnectionBuilder;
@@ -82,10 +88,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -94,19 +102,21 @@ import static org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperM
 public class ServiceTestRunner implements TestRunner
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(ServiceTestRunner.class);
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final int MAX_COMPILED_PLANS_PER_MODEL = 256;
+    // plans are only reusable with the model they were generated from, entries go away with the model
+    private static final Cache<PureModel, Cache<String, SingleExecutionPlan>> COMPILED_PLANS = CacheBuilder.newBuilder().weakKeys().build();
 
-    private Root_meta_legend_service_metamodel_Service pureService;
+    private final Root_meta_legend_service_metamodel_Service pureService;
 
-    private MutableList<PlanGeneratorExtension> extensions;
-    private PlanExecutor planExecutor;
+    private final MutableList<PlanGeneratorExtension> extensions;
 
-    private String pureVersion;
+    private final String pureVersion;
 
     public ServiceTestRunner(Root_meta_legend_service_metamodel_Service pureService, String pureVersion)
     {
         this.pureService = pureService;
-        this.planExecutor = PlanExecutor.newPlanExecutorWithAvailableStoreExecutors();
-        this.extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        this.extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class)).asUnmodifiable();
         this.pureVersion = pureVersion;
     }
 
@@ -119,10 +129,13 @@ public class ServiceTestRunner implements TestRunner
     @Override
     public List<TestResult> executeTestSuite(Root_meta_pure_test_TestSuite testSuite, List<AtomicTestId> atomicTestIds, PureModel pureModel, PureModelContextData data)
     {
-        RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions = extensions.flatCollect(e -> e.getExtraExtensions(pureModel));
-        MutableList<PlanTransformer> planTransformers = extensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers);
+        // suites of the same service may run concurrently on this runner, so their state stays local to the call
+        RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions = this.extensions.flatCollect(e -> e.getExtraExtensions(pureModel));
+        MutableList<PlanTransformer> planTransformers = this.extensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers);
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorWithAvailableStoreExecutors();
+        String servicePath = getElementFullPath(this.pureService, pureModel.getExecutionSupport());
 
-        Service service = ListIterate.detect(data.getElementsOfType(Service.class), ele -> ele.getPath().equals(getElementFullPath(pureService, pureModel.getExecutionSupport())));
+        Service service = ListIterate.detect(data.getElementsOfType(Service.class), ele -> ele.getPath().equals(servicePath));
         ServiceTestSuite suite = ListIterate.detect(service.testSuites, ts -> ts.id.equals(testSuite._id()));
         List<String> testIds = ListIterate.collect(atomicTestIds, testId -> testId.atomicTestId);
 
@@ -132,7 +145,7 @@ public class ServiceTestRunner implements TestRunner
             for (AtomicTest test : suite.tests)
             {
                 MultiExecutionServiceTestResult multiExecutionServiceTestResult = new MultiExecutionServiceTestResult();
-                multiExecutionServiceTestResult.testable = getElementFullPath(pureService, pureModel.getExecutionSupport());
+                multiExecutionServiceTestResult.testable = servicePath;
                 multiExecutionServiceTestResult.atomicTestId = new AtomicTestId();
                 multiExecutionServiceTestResult.atomicTestId.atomicTestId = test.id;
                 multiExecutionServiceTestResult.atomicTestId.testSuiteId = suite.id;
@@ -148,7 +161,7 @@ public class ServiceTestRunner implements TestRunner
                 pureSingleExecution.runtime = param.runtime;
                 pureSingleExecution.executionOptions = param.executionOptions;
 
-                List<TestResult> testResultsForKey = executeSingleExecutionTestSuite(pureSingleExecution, suite, testIds, pureModel, data, routerExtensions, planTransformers);
+                List<TestResult> testResultsForKey = executeSingleExecutionTestSuite(servicePath, pureSingleExecution, suite, testIds, pureModel, data, routerExtensions, planTransformers, planExecutor);
                 Map<String, TestResult> testResultsForKeyById = Iterate.groupByUniqueKey(testResultsForKey, e -> e.atomicTestId.atomicTestId);
 
                 testResultsForKeyById.forEach((key, value) -> testResultsByTestId.get(key).addTestResult(param.key, value));
@@ -158,7 +171,7 @@ public class ServiceTestRunner implements TestRunner
         }
         else if (service.execution instanceof PureSingleExecution)
         {
-            return executeSingleExecutionTestSuite((PureSingleExecution) service.execution, suite, testIds, pureModel, data, routerExtensions, planTransformers);
+            return executeSingleExecutionTestSuite(servicePath, (PureSingleExecution) service.execution, suite, testIds, pureModel, data, routerExtensions, planTransformers, planExecutor);
         }
         else
         {
@@ -166,7 +179,7 @@ public class ServiceTestRunner implements TestRunner
         }
     }
 
-    private List<org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult> executeSingleExecutionTestSuite(PureSingleExecution execution, ServiceTestSuite suite, List<String> testIds, PureModel pureModel, PureModelContextData data, RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions, MutableList<PlanTransformer> planTransformers)
+    private List<org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult> executeSingleExecutionTestSuite(String servicePath, PureSingleExecution execution, ServiceTestSuite suite, List<String> testIds, PureModel pureModel, PureModelContextData data, RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions, MutableList<PlanTransformer> planTransformers, PlanExecutor planExecutor)
     {
         List<org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult> results = Lists.mutable.empty();
         Pair<Runtime, List<Closeable>> runtimeWithCloseables = null;
@@ -178,16 +191,14 @@ public class ServiceTestRunner implements TestRunner
             PureSingleExecution testPureSingleExecution = shallowCopySingleExecution(execution);
             testPureSingleExecution.runtime = testSuiteRuntime;
 
-            ExecutionPlan executionPlan = ServicePlanGenerator.generateExecutionPlan(testPureSingleExecution, null, pureModel, pureVersion, PlanPlatform.JAVA, null, routerExtensions, planTransformers);
-            SingleExecutionPlan singleExecutionPlan = (SingleExecutionPlan) executionPlan;
-            JavaHelper.compilePlan(singleExecutionPlan, null);
+            SingleExecutionPlan singleExecutionPlan = getCompiledPlan(servicePath, testPureSingleExecution, pureModel, this.pureVersion, routerExtensions, planTransformers);
 
             for (Test test : suite.tests)
             {
                 if (testIds.contains(test.id))
                 {
-                    org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult testResult = executeServiceTest((ServiceTest) test, singleExecutionPlan);
-                    testResult.testable = getElementFullPath(pureService, pureModel.getExecutionSupport());
+                    org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult testResult = executeServiceTest((ServiceTest) test, singleExecutionPlan, planExecutor);
+                    testResult.testable = servicePath;
                     testResult.atomicTestId.testSuiteId = suite.id;
 
                     results.add(testResult);
@@ -219,6 +230,41 @@ public class ServiceTestRunner implements TestRunner
         return results;
     }
 
+    private static SingleExecutionPlan getCompiledPlan(String servicePath, PureSingleExecution execution, PureModel pureModel, String pureVersion, RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions, MutableList<PlanTransformer> planTransformers) throws JsonProcessingException, JavaCompileException
+    {
+        // suites running the same query against the same test data share one generated and compiled plan, the execution embeds the test data so only its digest is kept
+        String planKey = servicePath + ":" + pureVersion + ":" + Hashing.sha256().hashString(objectMapper.writeValueAsString(execution), StandardCharsets.UTF_8);
+        Cache<String, SingleExecutionPlan> plans = compiledPlans(pureModel);
+        SingleExecutionPlan cached = plans.getIfPresent(planKey);
+        if (cached != null)
+        {
+            return cached;
+        }
+        // compiled outside of the cache: suites racing on the same plan both compile it, and keep the first one cached
+        SingleExecutionPlan singleExecutionPlan = (SingleExecutionPlan) ServicePlanGenerator.generateExecutionPlan(execution, null, pureModel, pureVersion, PlanPlatform.JAVA, null, routerExtensions, planTransformers);
+        JavaHelper.compilePlan(singleExecutionPlan, null);
+        SingleExecutionPlan previous = plans.asMap().putIfAbsent(planKey, singleExecutionPlan);
+        return previous == null ? singleExecutionPlan : previous;
+    }
+
+    private static Cache<String, SingleExecutionPlan> compiledPlans(PureModel pureModel)
+    {
+        try
+        {
+            return COMPILED_PLANS.get(pureModel, () -> CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_PLANS_PER_MODEL).<String, SingleExecutionPlan>build());
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    static long compiledPlanCount(PureModel pureModel)
+    {
+        Cache<String, SingleExecutionPlan> plans = COMPILED_PLANS.getIfPresent(pureModel);
+        return plans == null ? 0 : plans.size();
+    }
+
     private Pair<Runtime, List<Closeable>> getTestRuntimeAndClosableResources(Runtime runtime, TestData testData, PureModelContextData pureModelContextData)
     {
         List<Closeable> closeables = Lists.mutable.empty();
@@ -269,7 +315,7 @@ public class ServiceTestRunner implements TestRunner
         return Tuples.pair(testRuntime, closeables);
     }
 
-    private org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult executeServiceTest(ServiceTest serviceTest, SingleExecutionPlan executionPlan)
+    private org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult executeServiceTest(ServiceTest serviceTest, SingleExecutionPlan executionPlan, PlanExecutor planExecutor)
     {
         AtomicTestId atomicTestId = new AtomicTestId();
         atomicTestId.atomicTestId = serviceTest.id;
@@ -287,7 +333,7 @@ public class ServiceTestRunner implements TestRunner
                 }
             }
 
-            Result result = this.planExecutor.execute(executionPlan, parameters);
+            Result result = planExecutor.execute(executionPlan, parameters);
 
             boolean isResultReusable = executionPlan.rootExecutionNode.isResultPrimitiveType();
             if (isResultReusable && result instanceof StreamingResult)
@@ -308,7 +354,7 @@ public class ServiceTestRunner implements TestRunner
                 assertionStatusList.add(status);
                 if (!isResultReusable)
                 {
-                    result = this.planExecutor.execute(executionPlan, parameters);
+                    result = planExecutor.execute(executionPlan, parameters);
                 }
             }
 
@@ -0,0 +1,97 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.testable.service;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestFailed;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestPassed;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.testable.TestableRunner;
+import org.finos.legend.engine.testable.model.RunTestsInput;
+import org.finos.legend.engine.testable.model.RunTestsResult;
+import org.finos.legend.engine.testable.model.RunTestsTestableInput;
+import org.finos.legend.engine.testable.model.TestExecutionTiming;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+public class TestParallelTestableRunner
+{
+    private static final List<String> SERVICES = Lists.mutable.with("service::RelationalServiceWithParams", "service::SimpleRelationalPassFailing", "service::SimpleRelationalPassWithSpecialEmbeddedData");
+
+    @Test
+    public void testTestablesRunInParallelKeepTheirOrder()
+    {
+        RunTestsInput input = new RunTestsInput();
+        input.model = PureGrammarParser.newInstance().parseModel(getModelGrammar());
+        for (String service : SERVICES)
+        {
+            RunTestsTestableInput testableInput = new RunTestsTestableInput();
+            testableInput.testable = service;
+            input.testables.add(testableInput);
+        }
+        ModelManager modelManager = new ModelManager(DeploymentMode.TEST);
+
+        RunTestsResult sequential = new TestableRunner(modelManager, 1).doTests(input, Lists.mutable.empty());
+        long start = System.nanoTime();
+        RunTestsResult parallel = new TestableRunner(modelManager, 3).doTests(input, Lists.mutable.empty());
+        long elapsedInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // results are reported in the order of the testables, whichever finishes first
+        Assert.assertEquals(SERVICES, ListIterate.collect(parallel.results, result -> result.testable));
+        Assert.assertEquals(ListIterate.collect(sequential.results, result -> result.testable), ListIterate.collect(parallel.results, result -> result.testable));
+        Assert.assertEquals(ListIterate.collect(sequential.results, TestResult::getClass), ListIterate.collect(parallel.results, TestResult::getClass));
+        Assert.assertTrue(parallel.results.get(0) instanceof TestPassed);
+        Assert.assertTrue(parallel.results.get(1) instanceof TestFailed);
+        Assert.assertTrue(parallel.results.get(2) instanceof TestPassed);
+
+        // one timing per test suite, in the same order
+        Assert.assertEquals(SERVICES, ListIterate.collect(parallel.timings, timing -> timing.testable));
+        for (TestExecutionTiming timing : parallel.timings)
+        {
+            Assert.assertEquals("testSuite1", timing.testId);
+            Assert.assertTrue(timing.durationInMillis > 0);
+            Assert.assertTrue(timing.durationInMillis <= elapsedInMillis);
+        }
+    }
+
+    private static String getModelGrammar()
+    {
+        return getResourceAsString("testable/relational/legend-testable-relational-model.pure") + "\n\n"
+                + getResourceAsString("testable/relational/legend-testable-relational-service-parameters.pure") + "\n\n"
+                + getResourceAsString("testable/relational/legend-testable-relational-service-simple-fail.pure") + "\n\n"
+                + getResourceAsString("testable/relational/legend-testable-relational-service-embeddedData.pure");
+    }
+
+    private static String getResourceAsString(String path)
+    {
+        try (InputStream stream = TestParallelTestableRunner.class.getClassLoader().getResourceAsStream(path); Scanner scanner = new Scanner(stream).useDelimiter("\\A"))
+        {
+            return scanner.hasNext() ? scanner.next() : null;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.testable.service.extension;
+
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.PureClientVersions;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.test.AtomicTestId;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestPassed;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.pure.generated.Root_meta_legend_service_metamodel_Service;
+import org.finos.legend.pure.generated.Root_meta_pure_test_TestSuite;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestServiceTestRunnerConcurrency
+{
+    private static final String SERVICE = "service::RelationalServiceWithParams";
+
+    @Test
+    public void testSuitesRunConcurrentlyOnOneRunner() throws Exception
+    {
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(getModelGrammar());
+        PureModel pureModel = Compiler.compile(data, DeploymentMode.TEST, null);
+        Root_meta_legend_service_metamodel_Service service = (Root_meta_legend_service_metamodel_Service) pureModel.getPackageableElement(SERVICE);
+        ServiceTestRunner runner = new ServiceTestRunner(service, PureClientVersions.production);
+        Root_meta_pure_test_TestSuite suite = (Root_meta_pure_test_TestSuite) service._tests().getFirst();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<List<TestResult>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                futures.add(executor.submit(() -> runner.executeTestSuite(suite, atomicTestIds(suite), pureModel, data)));
+            }
+            for (Future<List<TestResult>> future : futures)
+            {
+                List<TestResult> results = future.get(5, TimeUnit.MINUTES);
+                Assert.assertEquals(1, results.size());
+                Assert.assertTrue(results.get(0) instanceof TestPassed);
+                Assert.assertEquals(SERVICE, results.get(0).testable);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, ServiceTestRunner.compiledPlanCount(pureModel));
+    }
+
+    @Test
+    public void testPlanIsReusedAcrossRunnersOfOneModel()
+    {
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(getModelGrammar());
+        PureModel pureModel = Compiler.compile(data, DeploymentMode.TEST, null);
+        Root_meta_legend_service_metamodel_Service service = (Root_meta_legend_service_metamodel_Service) pureModel.getPackageableElement(SERVICE);
+        Root_meta_pure_test_TestSuite suite = (Root_meta_pure_test_TestSuite) service._tests().getFirst();
+        Assert.assertEquals(0, ServiceTestRunner.compiledPlanCount(pureModel));
+
+        Assert.assertTrue(new ServiceTestRunner(service, PureClientVersions.production).executeTestSuite(suite, atomicTestIds(suite), pureModel, data).get(0) instanceof TestPassed);
+        Assert.assertEquals(1, ServiceTestRunner.compiledPlanCount(pureModel));
+
+        Assert.assertTrue(new ServiceTestRunner(service, PureClientVersions.production).executeTestSuite(suite, atomicTestIds(suite), pureModel, data).get(0) instanceof TestPassed);
+        Assert.assertEquals(1, ServiceTestRunner.compiledPlanCount(pureModel));
+
+        // plans belong to the model they were generated from
+        PureModel otherPureModel = Compiler.compile(data, DeploymentMode.TEST, null);
+        Assert.assertEquals(0, ServiceTestRunner.compiledPlanCount(otherPureModel));
+    }
+
+    private static List<AtomicTestId> atomicTestIds(Root_meta_pure_test_TestSuite suite)
+    {
+        return suite._tests().collect(test ->
+        {
+            AtomicTestId id = new AtomicTestId();
+            id.testSuiteId = suite._id();
+            id.atomicTestId = test._id();
+            return id;
+        }).toList();
+    }
+
+    private static String getModelGrammar()
+    {
+        return getResourceAsString("testable/relational/legend-testable-relational-model.pure") + "\n\n" + getResourceAsString("testable/relational/legend-testable-relational-service-parameters.pure");
+    }
+
+    private static String getResourceAsString(String path)
+    {
+        try (InputStream stream = TestServiceTestRunnerConcurrency.class.getClassLoader().getResourceAsStream(path); Scanner scanner = new Scanner(stream).useDelimiter("\\A"))
+        {
+            return scanner.hasNext() ? scanner.next() : null;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
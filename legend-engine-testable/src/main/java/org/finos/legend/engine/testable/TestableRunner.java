@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.testable;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -22,9 +23,11 @@ import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
 import org.finos.legend.engine.protocol.pure.v1.model.test.AtomicTestId;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
 import org.finos.legend.engine.testable.extension.TestRunner;
 import org.finos.legend.engine.testable.extension.TestableRunnerExtensionLoader;
 import org.finos.legend.engine.testable.model.RunTestsInput;
+import org.finos.legend.engine.testable.model.TestExecutionTiming;
 import org.finos.legend.engine.testable.model.RunTestsResult;
 import org.finos.legend.engine.testable.model.RunTestsTestableInput;
 import org.finos.legend.pure.generated.Root_meta_pure_test_AtomicTest;
@@ -35,16 +38,50 @@ import org.pac4j.core.profile.CommonProfile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.groupingBy;
 
 public class TestableRunner
 {
+    public static final String PARALLELISM_SYSTEM_PROPERTY = "org.finos.legend.engine.testable.parallelism";
+
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactory()
+    {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "TestableRunner-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
     private final ModelManager modelManager;
+    private final int parallelism;
 
     public TestableRunner(ModelManager modelManager)
+    {
+        this(modelManager, Integer.getInteger(PARALLELISM_SYSTEM_PROPERTY, 1));
+    }
+
+    /**
+     * With parallelism greater than 1, atomic tests and test suites are run concurrently against the same
+     * compiled model. Results are reported in the same order as when run sequentially.
+     */
+    public TestableRunner(ModelManager modelManager, int parallelism)
     {
         this.modelManager = modelManager;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     public RunTestsResult doTests(RunTestsInput input, MutableList<CommonProfile> profiles)
@@ -53,7 +90,7 @@ public class TestableRunner
         PureModel pureModel = modelAndData.getTwo();
         PureModelContextData data = modelAndData.getOne();
 
-        RunTestsResult runTestsResult = new RunTestsResult();
+        MutableList<TestExecution> executions = Lists.mutable.empty();
         for (RunTestsTestableInput testableInput : input.testables)
         {
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement packageableElement = pureModel.getPackageableElement(testableInput.testable);
@@ -72,7 +109,7 @@ public class TestableRunner
                 // We run all testIds if no `unitTestIds` are provided
                 if ((test instanceof Root_meta_pure_test_AtomicTest) && (testIds.isEmpty() || atomicTestIds.contains(test._id())))
                 {
-                    runTestsResult.results.add(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data));
+                    executions.add(new TestExecution(testableInput.testable, test._id(), () -> Lists.mutable.with(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data))));
                 }
                 if ((test instanceof Root_meta_pure_test_TestSuite) && (testIds.isEmpty() || testIdsBySuiteId.get(test._id()) != null))
                 {
@@ -92,11 +129,73 @@ public class TestableRunner
                     {
                         updatedTestIds = testIdsBySuiteId.get(test._id());
                     }
-                    runTestsResult.results.addAll(testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data));
+                    executions.add(new TestExecution(testableInput.testable, test._id(), () -> testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data)));
                 }
             }
         }
 
+        if (this.parallelism > 1 && executions.size() > 1)
+        {
+            this.runConcurrently(executions);
+        }
+        else
+        {
+            executions.forEach(TestExecution::run);
+        }
+
+        RunTestsResult runTestsResult = new RunTestsResult();
+        for (TestExecution execution : executions)
+        {
+            runTestsResult.results.addAll(execution.results);
+            runTestsResult.timings.add(execution.timing);
+        }
         return runTestsResult;
     }
+
+    private void runConcurrently(MutableList<TestExecution> executions)
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, executions.size()), THREAD_FACTORY);
+        try
+        {
+            MutableList<Future<?>> futures = executions.collect(execution -> executor.submit(execution::run));
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestExecution
+    {
+        private final Supplier<List<TestResult>> test;
+        private final TestExecutionTiming timing = new TestExecutionTiming();
+        private List<TestResult> results;
+
+        private TestExecution(String testable, String testId, Supplier<List<TestResult>> test)
+        {
+            this.test = test;
+            this.timing.testable = testable;
+            this.timing.testId = testId;
+        }
+
+        private void run()
+        {
+            long start = System.nanoTime();
+            this.results = this.test.get();
+            this.timing.durationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
 }
@@ -30,7 +30,6 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperRuntimeB
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.protocol.analytics.model.MappingModelCoverageAnalysisResult;
-import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.PackageableRuntime;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.api.result.ManageConstantResult;
@@ -46,6 +45,8 @@ import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
@@ -78,14 +79,12 @@ public class MappingAnalytics
                                          @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm)
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
-        PureModel pureModel = this.modelManager.loadModel(input.model, input.clientVersion, profiles, null);
-        Mapping mapping = input.mapping == null ? null : pureModel.getMapping(input.mapping);
         try (Scope scope = GlobalTracer.get().buildSpan("Mapping: analysis").startActive(true))
         {
             try
             {
-                Root_meta_analytics_mapping_modelCoverage_MappingModelCoverageAnalysisResult analysisResult = core_analytics_mapping_modelCoverage_analytics.Root_meta_analytics_mapping_modelCoverage_analyze_Mapping_1__Boolean_1__Boolean_1__MappingModelCoverageAnalysisResult_1_(mapping, returnMappedEntityInfo, returnMappedPropertyInfo, pureModel.getExecutionSupport());
-                MappingModelCoverageAnalysisResult result = this.objectMapper.readValue(core_analytics_mapping_modelCoverage_serializer.Root_meta_analytics_mapping_modelCoverage_serialization_json_getSerializedMappingModelCoverageAnalysisResult_MappingModelCoverageAnalysisResult_1__String_1_(analysisResult, pureModel.getExecutionSupport()), MappingModelCoverageAnalysisResult.class);
+                String analysisKey = "mappingModelCoverage:" + input.mapping + ":" + returnMappedEntityInfo + ":" + returnMappedPropertyInfo;
+                MappingModelCoverageAnalysisResult result = this.modelManager.loadAnalysisResult(input.model, analysisKey, input.clientVersion, profiles, (pureModelContextData, pureModel) -> this.analyzeModelCoverage(input.mapping, returnMappedEntityInfo, returnMappedPropertyInfo, pureModel));
                 return ManageConstantResult.manageResult(profiles, result);
             }
             catch (Exception e)
@@ -104,18 +103,19 @@ public class MappingAnalytics
                                                        @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm)
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
-        PureModelContextData pureModelContextData = this.modelManager.loadData(input.model, input.clientVersion, profiles);
-        PureModel pureModel = this.modelManager.loadModel(pureModelContextData, input.clientVersion, profiles, null);
-        Mapping mapping = input.mapping == null ? null : pureModel.getMapping(input.mapping);
         try (Scope scope = GlobalTracer.get().buildSpan("Mapping: analysis").startActive(true))
         {
             try
             {
-                return ManageConstantResult.manageResult(profiles, new MappingRuntimeCompatibilityAnalysisResult(
-                        ListIterate.collect(HelperRuntimeBuilder.getMappingCompatibleRuntimes(
-                                mapping,
-                                ListIterate.selectInstancesOf(pureModelContextData.getElements(), PackageableRuntime.class),
-                                pureModel), runtime -> HelperModelBuilder.getElementFullPath(runtime, pureModel.getExecutionSupport()))));
+                return ManageConstantResult.manageResult(profiles, this.modelManager.loadAnalysisResult(input.model, "mappingRuntimeCompatibility:" + input.mapping, input.clientVersion, profiles, (pureModelContextData, pureModel) ->
+                {
+                    Mapping mapping = input.mapping == null ? null : pureModel.getMapping(input.mapping);
+                    return new MappingRuntimeCompatibilityAnalysisResult(
+                            ListIterate.collect(HelperRuntimeBuilder.getMappingCompatibleRuntimes(
+                                    mapping,
+                                    ListIterate.selectInstancesOf(pureModelContextData.getElements(), PackageableRuntime.class),
+                                    pureModel), runtime -> HelperModelBuilder.getElementFullPath(runtime, pureModel.getExecutionSupport())));
+                }));
             }
             catch (Exception e)
             {
@@ -123,4 +123,18 @@ public class MappingAnalytics
             }
         }
     }
+
+    private MappingModelCoverageAnalysisResult analyzeModelCoverage(String mappingPath, boolean returnMappedEntityInfo, boolean returnMappedPropertyInfo, PureModel pureModel)
+    {
+        Mapping mapping = mappingPath == null ? null : pureModel.getMapping(mappingPath);
+        Root_meta_analytics_mapping_modelCoverage_MappingModelCoverageAnalysisResult analysisResult = core_analytics_mapping_modelCoverage_analytics.Root_meta_analytics_mapping_modelCoverage_analyze_Mapping_1__Boolean_1__Boolean_1__MappingModelCoverageAnalysisResult_1_(mapping, returnMappedEntityInfo, returnMappedPropertyInfo, pureModel.getExecutionSupport());
+        try
+        {
+            return this.objectMapper.readValue(core_analytics_mapping_modelCoverage_serializer.Root_meta_analytics_mapping_modelCoverage_serialization_json_getSerializedMappingModelCoverageAnalysisResult_MappingModelCoverageAnalysisResult_1__String_1_(analysisResult, pureModel.getExecutionSupport()), MappingModelCoverageAnalysisResult.class);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -30,7 +30,8 @@ import java.util.Objects;
 
 public class TestMappingAnalyticsApi
 {
-    private final MappingAnalytics api = new MappingAnalytics(new ModelManager(DeploymentMode.TEST));
+    private final ModelManager modelManager = new ModelManager(DeploymentMode.TEST);
+    private final MappingAnalytics api = new MappingAnalytics(this.modelManager);
     private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
 
     @Test
@@ -51,6 +52,22 @@ public class TestMappingAnalyticsApi
                 api.analyzeModelCoverage(new MappingModelCoverageAnalysisInput("vX_X_X", "model::mapping", modelContextData), true, true, null).getEntity().toString());
     }
 
+    @Test
+    public void testMappingModelCoverageAnalysisIsCached() throws IOException
+    {
+        PureModelContextData modelContextData = objectMapper.readValue(Objects.requireNonNull(getClass().getClassLoader().getResource("mappingModelCoverageAnalysisTestData.json")), PureModelContextData.class);
+        String first = api.analyzeModelCoverage(new MappingModelCoverageAnalysisInput("vX_X_X", "model::mapping", modelContextData), false, false, null).getEntity().toString();
+        Assert.assertEquals(1, this.modelManager.analysisResultCache.size());
+
+        PureModelContextData sameModel = objectMapper.readValue(Objects.requireNonNull(getClass().getClassLoader().getResource("mappingModelCoverageAnalysisTestData.json")), PureModelContextData.class);
+        Assert.assertEquals(first, api.analyzeModelCoverage(new MappingModelCoverageAnalysisInput("vX_X_X", "model::mapping", sameModel), false, false, null).getEntity().toString());
+        Assert.assertEquals(1, this.modelManager.analysisResultCache.size());
+        Assert.assertEquals(1, this.modelManager.analysisResultCache.stats().hitCount());
+
+        api.analyzeModelCoverage(new MappingModelCoverageAnalysisInput("vX_X_X", "model::mapping", sameModel), true, true, null);
+        Assert.assertEquals(2, this.modelManager.analysisResultCache.size());
+    }
+
     @Test
     public void testMappingRuntimeCompatibilityAnalysis() throws IOException
     {
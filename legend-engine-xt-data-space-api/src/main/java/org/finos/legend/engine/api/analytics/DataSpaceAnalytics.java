@@ -22,6 +22,7 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.analytics.DataSpaceAnalyticsHelper;
+import org.finos.legend.engine.analytics.model.DataSpaceAnalysisResult;
 import org.finos.legend.engine.api.analytics.model.DataSpaceAnalysisInput;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
@@ -70,17 +71,13 @@ public class DataSpaceAnalytics
     public Response analyzeDataSpace(DataSpaceAnalysisInput input, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm)
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
-        PureModelContextData pureModelContextData = this.modelManager.loadData(input.model, input.clientVersion, profiles);
-        PureModel pureModel = this.modelManager.loadModel(pureModelContextData, input.clientVersion, profiles, null);
-        PackageableElement dataSpaceProtocol = pureModelContextData.getElements().stream().filter(el -> input.dataSpace.equals(el.getPath())).findFirst().orElse(null);
-        Assert.assertTrue(dataSpaceProtocol instanceof DataSpace, () -> "Can't find data space '" + input.dataSpace + "'");
-        Root_meta_pure_metamodel_dataSpace_DataSpace dataSpace = getDataSpace(input.dataSpace, null, pureModel.getContext());
-
         try (Scope scope = GlobalTracer.get().buildSpan("Analytics: data space model coverage").startActive(true))
         {
             try
             {
-                return ManageConstantResult.manageResult(profiles, DataSpaceAnalyticsHelper.analyzeDataSpace(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion), objectMapper);
+                // The protocol of the elements in the result depends on the client version
+                DataSpaceAnalysisResult result = this.modelManager.loadAnalysisResult(input.model, "dataSpace:" + input.dataSpace + ":" + input.clientVersion, input.clientVersion, profiles, (pureModelContextData, pureModel) -> analyzeDataSpace(input, pureModelContextData, pureModel));
+                return ManageConstantResult.manageResult(profiles, result, objectMapper);
             }
             catch (Exception e)
             {
@@ -88,4 +85,12 @@ public class DataSpaceAnalytics
             }
         }
     }
+
+    private static DataSpaceAnalysisResult analyzeDataSpace(DataSpaceAnalysisInput input, PureModelContextData pureModelContextData, PureModel pureModel)
+    {
+        PackageableElement dataSpaceProtocol = pureModelContextData.getElements().stream().filter(el -> input.dataSpace.equals(el.getPath())).findFirst().orElse(null);
+        Assert.assertTrue(dataSpaceProtocol instanceof DataSpace, () -> "Can't find data space '" + input.dataSpace + "'");
+        Root_meta_pure_metamodel_dataSpace_DataSpace dataSpace = getDataSpace(input.dataSpace, null, pureModel.getContext());
+        return DataSpaceAnalyticsHelper.analyzeDataSpace(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion);
+    }
 }
@@ -14,7 +14,6 @@
 
 package org.finos.legend.engine.query.graphQL.api;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -79,8 +78,7 @@ public abstract class GraphQL
             HttpGet req = new HttpGet("http://" + metadataserver.getSdlc().host + ":" + metadataserver.getSdlc().port + "/api/projects/" + project + "/workspaces/" + branch + "/pureModelContextData");
             try (CloseableHttpResponse res = client.execute(req))
             {
-                ObjectMapper mapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
-                PureModelContextData pureModelContextData = mapper.readValue(res.getEntity().getContent(), PureModelContextData.class);
+                PureModelContextData pureModelContextData = ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(PureModelContextData.class).readValue(res.getEntity().getContent());
                 return this.modelManager.loadModel(pureModelContextData, PureClientVersions.production, profiles, "");
             }
         }
@@ -16,7 +16,6 @@ package org.finos.legend.engine.query.graphQL.api.execute;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
@@ -129,7 +128,7 @@ public class GraphQLExecute extends GraphQL
             PureModel pureModel = loadModel(profiles, request, projectId, branch);
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> _class = pureModel.getClass(queryClassPath);
             Mapping mapping = pureModel.getMapping(mappingPath);
-            org.finos.legend.pure.m3.coreinstance.meta.pure.runtime.Runtime runtime = HelperRuntimeBuilder.buildPureRuntime(ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(GraphQLExecute.class.getClassLoader().getResourceAsStream("exampleRuntime.json"), org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.Runtime.class), pureModel.getContext());
+            org.finos.legend.pure.m3.coreinstance.meta.pure.runtime.Runtime runtime = HelperRuntimeBuilder.buildPureRuntime(ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.Runtime.class).readValue(GraphQLExecute.class.getClassLoader().getResourceAsStream("exampleRuntime.json")), pureModel.getContext());
 
             Document document = GraphQLGrammarParser.newInstance().parseDocument(query.query);
             org.finos.legend.pure.generated.Root_meta_external_query_graphQL_metamodel_Document queryDoc = toPureModel(document, pureModel);
@@ -146,11 +145,11 @@ public class GraphQLExecute extends GraphQL
                             try
                             {
                                 return new PlansResult.PlanUnit(p._first(),
-                                        ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(PlanGenerator.serializeToJSON(nPlan, PureClientVersions.production, pureModel, Root_meta_relational_extension_relationalExtensions__Extension_MANY_(pureModel.getExecutionSupport()), this.transformers), ExecutionPlan.class),
+                                        ObjectMapperFactory.getStandardObjectReaderWithPureProtocolExtensionSupports().forType(ExecutionPlan.class).readValue(PlanGenerator.serializeToJSON(nPlan, PureClientVersions.production, pureModel, Root_meta_relational_extension_relationalExtensions__Extension_MANY_(pureModel.getExecutionSupport()), this.transformers)),
                                         core_pure_executionPlan_executionPlan_print.Root_meta_pure_executionPlan_toString_planToString_ExecutionPlan_1__Boolean_1__Extension_MANY__String_1_(nPlan, true, Root_meta_relational_extension_relationalExtensions__Extension_MANY_(pureModel.getExecutionSupport()), pureModel.getExecutionSupport())
                                 );
                             }
-                            catch (JsonProcessingException e)
+                            catch (IOException e)
                             {
                                 throw new RuntimeException(e);
                             }
@@ -58,6 +58,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SimpleTimeZone;
+import java.util.concurrent.TimeUnit;
 
 public class BigQueryWithGCPWorkloadIdentityFederationFlow implements DatabaseAuthenticationFlow<BigQueryDatasourceSpecification, GCPWorkloadIdentityFederationAuthenticationStrategy>
 {
@@ -96,6 +97,12 @@ public class BigQueryWithGCPWorkloadIdentityFederationFlow implements DatabaseAu
         return DatabaseType.BigQuery;
     }
 
+    @Override
+    public long getCredentialTimeToLiveMillis()
+    {
+        return TimeUnit.MINUTES.toMillis(45);
+    }
+
     @Override
     public Credential makeCredential(Identity identity, BigQueryDatasourceSpecification datasourceSpecification, GCPWorkloadIdentityFederationAuthenticationStrategy authenticationStrategy) throws Exception
     {
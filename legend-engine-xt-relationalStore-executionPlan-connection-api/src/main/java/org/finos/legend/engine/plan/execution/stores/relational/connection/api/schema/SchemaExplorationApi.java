@@ -35,6 +35,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.sql.SQLException;
 
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
 
@@ -76,4 +78,28 @@ public class SchemaExplorationApi
         }
     }
 
+    /**
+     * Same result as schemaExploration, but streamed: each schema is written out as soon as its tables have been crawled.
+     * An error while crawling aborts the response, instead of being reported as an error response.
+     */
+    @Path("schemaExploration/stream")
+    @POST
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_ZLIB})
+    public Response buildDatabaseStreaming(DatabaseBuilderInput databaseBuilderInput, @Pac4JProfileManager ProfileManager<CommonProfile> pm)
+    {
+        MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
+        SchemaExportation databaseBuilder = SchemaExportation.newBuilder(databaseBuilderInput);
+        return Response.ok((StreamingOutput) outputStream ->
+        {
+            try
+            {
+                databaseBuilder.build(this.connectionManager, profiles, outputStream);
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException("Error streaming schema exploration result", e);
+            }
+        }, MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
 }
@@ -14,16 +14,21 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.api.schema;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.tuple.Tuples;
@@ -40,17 +45,32 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.r
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.datatype.DataType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.datatype.Other;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
 import org.pac4j.core.profile.CommonProfile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class SchemaExportation
 {
@@ -98,6 +118,17 @@ public class SchemaExportation
     );
     private static final String[] TABLES_TYPES = new String[] {"TABLE", "VIEW"};
     private static final String DEFAULT_SCHEMA = "default";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    public static final String MAX_PARALLELISM_SYSTEM_PROPERTY = "org.finos.legend.engine.schemaExploration.maxParallelism";
+    // each worker holds a pooled connection, so a single request is not allowed more than this many
+    private static final int MAX_PARALLELISM = Math.max(1, Integer.getInteger(MAX_PARALLELISM_SYSTEM_PROPERTY, 4));
+    private static final ThreadFactory THREAD_FACTORY = new BasicThreadFactory.Builder().namingPattern("SchemaExportation-%d").daemon(true).build();
+
+    public static final String CACHE_TTL_SYSTEM_PROPERTY = "org.finos.legend.engine.schemaExploration.cacheTtlInSeconds";
+    // caching is disabled unless a TTL is configured, as callers usually expect to see schema changes straight away
+    private static final long CACHE_TTL_IN_SECONDS = Long.getLong(CACHE_TTL_SYSTEM_PROPERTY, 0);
+    // databases are cached serialized, so that every caller gets its own copy to mutate
+    private static final Cache<String, String> DATABASE_CACHE = CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(CACHE_TTL_IN_SECONDS, TimeUnit.SECONDS).build();
 
 
     SchemaExportation(DatabaseBuilderInput storeBuilderInput)
@@ -113,89 +144,300 @@ public class SchemaExportation
 
     public Database build(ConnectionManagerSelector connectionManager, MutableList<CommonProfile> profiles) throws SQLException
     {
-        List<Predicate<String>> tableNameFilters = FastList.newList();
+        return this.build(connectionManager, profiles, schema ->
+        {
+        });
+    }
+
+    /**
+     * Builds the database, handing each schema to schemaConsumer as soon as its tables have been crawled so that
+     * callers can stream partial results. Each schema is handed over once, complete.
+     */
+    public Database build(ConnectionManagerSelector connectionManager, MutableList<CommonProfile> profiles, Consumer<Schema> schemaConsumer) throws SQLException
+    {
+        if (CACHE_TTL_IN_SECONDS <= 0)
+        {
+            return this.buildDatabase(connectionManager, profiles, schemaConsumer);
+        }
+        String cacheKey = this.buildCacheKey(profiles);
+        String cached = DATABASE_CACHE.getIfPresent(cacheKey);
+        if (cached != null)
+        {
+            Database database = readDatabase(cached);
+            database.schemas.forEach(schemaConsumer);
+            return database;
+        }
+        Database database = this.buildDatabase(connectionManager, profiles, schemaConsumer);
+        DATABASE_CACHE.put(cacheKey, writeDatabase(database));
+        return database;
+    }
+
+    /**
+     * Builds the database, writing it out as a PureModelContextData as it is built: each schema is written as soon as
+     * its tables have been crawled.
+     */
+    public void build(ConnectionManagerSelector connectionManager, MutableList<CommonProfile> profiles, OutputStream outputStream) throws SQLException, IOException
+    {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+        {
+            generator.writeStartObject();
+            generator.writeStringField("_type", "data");
+            generator.writeArrayFieldStart("elements");
+            generator.writeStartObject();
+            generator.writeStringField("_type", "relational");
+            generator.writeStringField("package", this.databaseBuilderInput.targetDatabase._package);
+            generator.writeStringField("name", this.databaseBuilderInput.targetDatabase.name);
+            generator.writeArrayFieldStart("schemas");
+            try
+            {
+                this.build(connectionManager, profiles, schema ->
+                {
+                    try
+                    {
+                        objectMapper.writeValue(generator, schema);
+                        generator.flush();
+                    }
+                    catch (IOException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static String writeDatabase(Database database)
+    {
+        try
+        {
+            return objectMapper.writeValueAsString(database);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException("Error caching schema exploration result", e);
+        }
+    }
+
+    private static Database readDatabase(String database)
+    {
+        try
+        {
+            return objectMapper.readValue(database, Database.class);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException("Error reading cached schema exploration result", e);
+        }
+    }
 
-        List<Function<String, String>> tableNameMappers = FastList.newList();
-        List<Function<String, String>> schemaNameMappers = FastList.newList();
-        List<Function<String, String>> columnNameMappers = FastList.newList();
+    static int effectiveParallelism(DatabaseBuilderConfig config)
+    {
+        return config.parallelism == null ? 1 : Math.max(1, Math.min(config.parallelism, MAX_PARALLELISM));
+    }
 
+    private String buildCacheKey(MutableList<CommonProfile> profiles)
+    {
+        try
+        {
+            // results depend on the entitlements of the caller, so the identity is part of the key
+            return IdentityFactoryProvider.getInstance().makeIdentity(profiles).getName() + "/" + objectMapper.writeValueAsString(this.databaseBuilderInput);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException("Error building schema exploration cache key", e);
+        }
+    }
+
+    private Database buildDatabase(ConnectionManagerSelector connectionManager, MutableList<CommonProfile> profiles, Consumer<Schema> schemaConsumer) throws SQLException
+    {
+        List<Predicate<String>> tableNameFilters = FastList.newList();
+        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
+        Database database = new Database();
+        database._package = this.databaseBuilderInput.targetDatabase._package;
+        database.name = this.databaseBuilderInput.targetDatabase.name;
+        if (config.patterns == null || config.patterns.isEmpty())
+        {
+            config.setPatterns(FastList.newListWith(new DatabasePattern(null, null)));
+        }
+        this.preProcessInput(this.databaseBuilderInput);
+        database.schemas = FastList.newList();
+
+        int parallelism = effectiveParallelism(config);
+        boolean parallel = parallelism > 1 && config.enrichTables;
+        Map<Schema, List<CatalogTable>> tablesBySchema;
         try (Connection connection = connectionManager.getDatabaseConnection(profiles, databaseBuilderInput.connection))
         {
             DatabaseMetaData metadata = connection.getMetaData();
-            DatabaseBuilderConfig config = this.databaseBuilderInput.config;
-            Database database = new Database();
-            database._package = this.databaseBuilderInput.targetDatabase._package;
-            database.name = this.databaseBuilderInput.targetDatabase.name;
-            if (config.patterns == null || config.patterns.isEmpty())
+            tablesBySchema = this.buildSchemasAndCollectTables(database, metadata, tableNameFilters);
+            if (!parallel)
             {
-                config.setPatterns(FastList.newListWith(new DatabasePattern(null, null)));
+                this.buildSchemas(tablesBySchema, metadata, null, null, schemaConsumer);
+                return database;
             }
-            this.preProcessInput(this.databaseBuilderInput);
-            database.schemas = FastList.newList();
+        }
 
-            for (DatabasePattern pattern : config.patterns)
+        // the workers take their connections from the same pool as the one the tables were listed with, which is released
+        // beforehand so that a request never holds more than its parallelism worth of connections (a pool of one cannot deadlock)
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, THREAD_FACTORY);
+        try
+        {
+            Supplier<Connection> connectionSupplier = () -> connectionManager.getDatabaseConnection(profiles, databaseBuilderInput.connection);
+            this.buildSchemas(tablesBySchema, null, executor, connectionSupplier, schemaConsumer);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        return database;
+    }
+
+    /**
+     * Lists the tables matched by every pattern, adding their (empty) schemas to the database. A table already matched by
+     * an earlier pattern is listed once.
+     */
+    private Map<Schema, List<CatalogTable>> buildSchemasAndCollectTables(Database db, DatabaseMetaData metadata, List<Predicate<String>> tableNameFilters) throws SQLException
+    {
+        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
+        Map<Schema, List<CatalogTable>> tablesBySchema = new LinkedHashMap<>();
+        for (DatabasePattern pattern : config.patterns)
+        {
+            Map<String, List<CatalogTable>> patternTablesBySchema = this.collectTables(metadata, pattern, tableNameFilters);
+            long tableCount = patternTablesBySchema.values().stream().mapToLong(List::size).sum();
+            if (config.enrichTables && config.maxTables != null && tableCount > config.maxTables)
+            {
+                throw new IllegalStateException(String.format("Maximum number of tables %d has been reached, " +
+                        "please restrict the input you are generating for or set maxTables property. " +
+                        "The current input has requested %d tables", config.maxTables, tableCount));
+            }
+            for (Map.Entry<String, List<CatalogTable>> entry : patternTablesBySchema.entrySet())
             {
-                buildDatabaseSchemas(database, metadata, pattern, tableNameFilters);
+                List<CatalogTable> schemaTables = tablesBySchema.computeIfAbsent(getOrCreateAndAddSchema(db, entry.getKey()), s -> Lists.mutable.empty());
+                Set<String> listedTables = ListIterate.collect(schemaTables, t -> escapeString(t.getTable())).toSet();
+                schemaTables.addAll(ListIterate.reject(entry.getValue(), t -> listedTables.contains(escapeString(t.getTable()))));
             }
+        }
+        return tablesBySchema;
+    }
 
-            schemaNameMappers.add(SchemaExportation::escapeString);
-            tableNameMappers.add(SchemaExportation::escapeString);
-            columnNameMappers.add(SchemaExportation::escapeString);
+    private void buildSchemas(Map<Schema, List<CatalogTable>> tablesBySchema, DatabaseMetaData metadata, ExecutorService executor, Supplier<Connection> connectionSupplier, Consumer<Schema> schemaConsumer) throws SQLException
+    {
+        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
+        if (!config.enrichTables)
+        {
+            tablesBySchema.keySet().forEach(schemaConsumer);
+            return;
+        }
 
-            //post process the names.
-            database.schemas.forEach(schema ->
+        // build tables: submit every batch first so that workers are kept busy across schemas, then collect schema by schema
+        MutableList<Pair<Schema, List<Future<List<Table>>>>> pendingSchemas = Lists.mutable.empty();
+        for (Map.Entry<Schema, List<CatalogTable>> entry : tablesBySchema.entrySet())
+        {
+            List<Future<List<Table>>> batches = Lists.mutable.empty();
+            for (List<CatalogTable> batch : this.batchTables(entry.getValue()))
             {
-                schema.name = applyNameMapper(schemaNameMappers, schema.name);
-                schema.tables.forEach(table ->
-                {
-                    table.name = applyNameMapper(tableNameMappers, table.name);
-                    table.columns.forEach(column ->
-                    {
-                        column.name = applyNameMapper(columnNameMappers, column.name);
-                    });
-                });
-            });
-
-            return database;
+                batches.add(this.crawlTables(batch.get(0).getSchema(), batch, metadata, executor, connectionSupplier));
+            }
+            pendingSchemas.add(Tuples.pair(entry.getKey(), batches));
+        }
+        for (Pair<Schema, List<Future<List<Table>>>> pendingSchema : pendingSchemas)
+        {
+            for (Future<List<Table>> batch : pendingSchema.getTwo())
+            {
+                pendingSchema.getOne().tables.addAll(getBatch(batch));
+            }
+            schemaConsumer.accept(pendingSchema.getOne());
         }
     }
 
-    private String applyNameMapper(List<Function<String, String>> mappers, String name)
+    private List<List<CatalogTable>> batchTables(List<CatalogTable> tables)
     {
-        return mappers.stream().reduce(Function::andThen).orElse(Function.identity()).apply(name);
+        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
+        if (tables.isEmpty())
+        {
+            return Lists.mutable.empty();
+        }
+        // columns fetched in bulk are fetched for a whole schema, so the schema is not split
+        if (config.enrichColumns && config.bulkColumns)
+        {
+            return Lists.mutable.with(tables);
+        }
+        int batchSize = config.batchSize == null || config.batchSize < 1 ? DEFAULT_BATCH_SIZE : config.batchSize;
+        MutableList<List<CatalogTable>> batches = Lists.mutable.empty();
+        Lists.mutable.withAll(tables).chunk(batchSize).forEach(batch -> batches.add(batch.toList()));
+        return batches;
     }
 
-    private void buildDatabaseSchemas(Database db, DatabaseMetaData metadata, DatabasePattern pattern, List<Predicate<String>> tableNameFilters) throws SQLException
+    private Future<List<Table>> crawlTables(String schemaName, List<CatalogTable> tables, DatabaseMetaData metadata, ExecutorService executor, Supplier<Connection> connectionSupplier) throws SQLException
     {
-        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
-        // build schemas
+        if (executor == null)
+        {
+            return CompletableFuture.completedFuture(this.buildSchemaTables(schemaName, tables, metadata));
+        }
+        return executor.submit(() ->
+        {
+            try (Connection connection = connectionSupplier.get())
+            {
+                return this.buildSchemaTables(schemaName, tables, connection.getMetaData());
+            }
+        });
+    }
 
-        Map<String, List<CatalogTable>> tablesBySchema = this.buildSchemasAndCollectTables(db, metadata, pattern, tableNameFilters);
-        if (config.enrichTables && config.maxTables != null && tablesBySchema.values().stream().mapToLong(List::size).sum() > config.maxTables)
+    private List<Table> getBatch(Future<List<Table>> batch) throws SQLException
+    {
+        try
+        {
+            return batch.get();
+        }
+        catch (InterruptedException e)
         {
-            throw new IllegalStateException(String.format("Maximum number of tables %d has been reached, " +
-                    "please restrict the input you are generating for or set maxTables property. " +
-                    "The current input has requested %d tables", config.maxTables, tablesBySchema.values().stream().mapToLong(List::size).sum()));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
-        tablesBySchema.keySet().forEach(schema -> getOrCreateAndAddSchema(db, schema));
-        // build tables
-        if (config.enrichTables)
+        catch (ExecutionException e)
         {
+            if (e.getCause() instanceof SQLException)
+            {
+                throw (SQLException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 
-            for (Map.Entry<String, List<CatalogTable>> entry : tablesBySchema.entrySet())
+    private List<Table> buildSchemaTables(String schemaName, List<CatalogTable> catalogTables, DatabaseMetaData metaData) throws SQLException
+    {
+        DatabaseBuilderConfig config = this.databaseBuilderInput.config;
+        Map<Pair<String, String>, List<Column>> columnsByTable = config.enrichColumns && config.bulkColumns
+                ? buildSchemaColumns(schemaName, catalogTables, metaData)
+                : null;
+        List<Table> tables = FastList.newList();
+        for (CatalogTable t : catalogTables)
+        {
+            Table table = new Table();
+            table.name = escapeString(t.getTable());
+            if (config.enrichColumns)
             {
-                String catalogTablesSchema = entry.getKey();
-                List<CatalogTable> catalogTables = entry.getValue();
-                Schema schema = getOrCreateAndAddSchema(db, catalogTablesSchema);
-                for (CatalogTable t : catalogTables)
+                if (config.enrichPrimaryKeys)
                 {
-                    buildSchemaTable(t.getCatalog(), schema, t.getTable(), metadata);
+                    table.primaryKey = buildPrimaryKeys(t.getCatalog(), schemaName, t.getTable(), metaData);
                 }
+                table.columns = columnsByTable == null
+                        ? buildColumns(t.getCatalog(), schemaName, t.getTable(), metaData)
+                        : columnsByTable.getOrDefault(Tuples.pair(t.getCatalog(), t.getTable()), FastList.newList());
             }
+            tables.add(table);
         }
+        return tables;
     }
 
-    private Map<String, List<CatalogTable>> buildSchemasAndCollectTables(Database db, DatabaseMetaData metadata, DatabasePattern pattern, List<Predicate<String>> tableNameFilters) throws SQLException
+    private Map<String, List<CatalogTable>> collectTables(DatabaseMetaData metadata, DatabasePattern pattern, List<Predicate<String>> tableNameFilters) throws SQLException
     {
         String escapeStringCharacter = metadata.getSearchStringEscape();
 
@@ -224,7 +466,7 @@ public class SchemaExportation
                     continue;
                 }
                 CatalogTable catalogTable = new CatalogTable(catalog, schema, table);
-                tablesBySchema.getIfAbsentPut(schema, Lists.mutable.empty()).add(catalogTable);
+                tablesBySchema.getIfAbsentPut(schema, Lists.mutable::empty).add(catalogTable);
             }
             return tablesBySchema;
         }
@@ -256,59 +498,58 @@ public class SchemaExportation
         return pattern;
     }
 
-    private void buildSchemaTable(String catalog, Schema schema, String tableName, DatabaseMetaData metaData) throws SQLException
+    private List<Column> buildColumns(String catalog, String schemaName, String tableName, DatabaseMetaData metaData) throws SQLException
     {
-        if (ListIterate.noneSatisfy(schema.tables, t -> t.name.equals(tableName)))
+        String searchStringEscape = metaData.getSearchStringEscape();
+
+        String escapedSchemaName = escapePattern(schemaName, true, searchStringEscape);
+        String escapedTableName = escapePattern(tableName, true, searchStringEscape);
+
+        try (ResultSet columnsRs = metaData.getColumns(catalog, escapedSchemaName, escapedTableName, "%"))
         {
-            Table table = new Table();
-            table.name = tableName;
-            DatabaseBuilderConfig config = this.databaseBuilderInput.config;
-            if (config.enrichColumns)
+            List<Column> columns = FastList.newList();
+            while (columnsRs.next())
             {
-                buildTableColumns(catalog, schema, table, metaData);
+                columns.add(buildColumn(columnsRs));
             }
-            schema.tables.add(table);
-        }
-    }
-
-    private void buildTableColumns(String catalog, Schema schema, Table table, DatabaseMetaData metaData) throws SQLException
-    {
-        if (this.databaseBuilderInput.config.enrichPrimaryKeys)
-        {
-            table.primaryKey = buildPrimaryKeys(catalog, schema, table, metaData);
+            return columns;
         }
-        table.columns = buildColumns(catalog, schema, table, metaData);
     }
 
-    private List<Column> buildColumns(String catalog, Schema schema, Table table, DatabaseMetaData metaData) throws SQLException
+    private Map<Pair<String, String>, List<Column>> buildSchemaColumns(String schemaName, List<CatalogTable> catalogTables, DatabaseMetaData metaData) throws SQLException
     {
-        String searchStringEscape = metaData.getSearchStringEscape();
+        String escapedSchemaName = escapePattern(schemaName, true, metaData.getSearchStringEscape());
 
-        String escapedSchemaName = escapePattern(schema.name, true, searchStringEscape);
-        String escapedTableName = escapePattern(table.name, true, searchStringEscape);
-
-        try (ResultSet columnsRs = metaData.getColumns(catalog, escapedSchemaName, escapedTableName, "%"))
+        MutableMap<Pair<String, String>, List<Column>> columnsByTable = Maps.mutable.empty();
+        for (String catalog : ListIterate.collect(catalogTables, CatalogTable::getCatalog).distinct())
         {
-            List<Column> columns = FastList.newList();
-            while (columnsRs.next())
+            try (ResultSet columnsRs = metaData.getColumns(catalog, escapedSchemaName, "%", "%"))
             {
-                Column column = new Column();
-                column.name = columnsRs.getString("COLUMN_NAME");
-                column.nullable = "YES".equals(columnsRs.getString("IS_NULLABLE"));
-                column.type = buildDataTypeNode(columnsRs);
-                columns.add(column);
+                while (columnsRs.next())
+                {
+                    columnsByTable.getIfAbsentPut(Tuples.pair(catalog, columnsRs.getString("TABLE_NAME")), FastList::newList).add(buildColumn(columnsRs));
+                }
             }
-            return columns;
         }
+        return columnsByTable;
+    }
+
+    private Column buildColumn(ResultSet columnsRs) throws SQLException
+    {
+        Column column = new Column();
+        column.name = escapeString(columnsRs.getString("COLUMN_NAME"));
+        column.nullable = "YES".equals(columnsRs.getString("IS_NULLABLE"));
+        column.type = buildDataTypeNode(columnsRs);
+        return column;
     }
 
-    private List<String> buildPrimaryKeys(String catalog, Schema schema, Table table, DatabaseMetaData metaData) throws SQLException
+    private List<String> buildPrimaryKeys(String catalog, String schemaName, String tableName, DatabaseMetaData metaData) throws SQLException
     {
         String searchStringEscape = metaData.getSearchStringEscape();
 
-        String escapedSchemaName = escapePattern(schema.name, true, searchStringEscape);
+        String escapedSchemaName = escapePattern(schemaName, true, searchStringEscape);
 
-        try (ResultSet primaryKeysRs = metaData.getPrimaryKeys(catalog, escapedSchemaName, table.name))
+        try (ResultSet primaryKeysRs = metaData.getPrimaryKeys(catalog, escapedSchemaName, tableName))
         {
             List<String> primaryKeys = FastList.newList();
             while (primaryKeysRs.next())
@@ -321,11 +562,12 @@ public class SchemaExportation
 
     private Schema getOrCreateAndAddSchema(Database db, String name)
     {
-        Schema schema = ListIterate.select(db.schemas, s -> s.name.equals(name)).getFirst();
+        String escapedName = escapeString(name);
+        Schema schema = ListIterate.select(db.schemas, s -> s.name.equals(escapedName)).getFirst();
         if (schema == null)
         {
             schema = new Schema();
-            schema.name = name;
+            schema.name = escapedName;
             schema.tables = FastList.newList();
             db.schemas.add(schema);
         }
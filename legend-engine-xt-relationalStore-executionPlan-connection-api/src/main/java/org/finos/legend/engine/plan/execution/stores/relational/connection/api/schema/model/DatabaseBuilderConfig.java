@@ -28,6 +28,15 @@ public class DatabaseBuilderConfig
 
     public boolean enrichColumns;
 
+    // fetch the columns of all tables of a schema with a single metadata call, instead of one call per table
+    public boolean bulkColumns;
+
+    // number of (pooled) connections used to crawl table metadata concurrently, capped by the server (see SchemaExportation.MAX_PARALLELISM_SYSTEM_PROPERTY)
+    public Integer parallelism;
+
+    // number of tables crawled together by a single worker
+    public Integer batchSize;
+
     public List<DatabasePattern> patterns = Lists.mutable.empty();
 
     public void setPatterns(List<DatabasePattern> patterns)
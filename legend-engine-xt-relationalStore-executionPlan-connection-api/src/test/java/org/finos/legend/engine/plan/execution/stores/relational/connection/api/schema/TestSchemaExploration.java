@@ -25,6 +25,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.api.s
 import org.finos.legend.engine.plan.execution.stores.relational.connection.api.schema.model.DatabasePattern;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.manager.ConnectionManagerSelector;
 import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.AuthenticationStrategy;
@@ -48,6 +49,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Comparator;
 import java.util.List;
 
@@ -120,6 +122,120 @@ public class TestSchemaExploration
         test(databaseBuilderInput, expected);
     }
 
+    @Test
+    public void testEnrichTablesWithColumnsAndPKSInParallelBatches() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.enrichColumns = true;
+        databaseBuilderInput.config.enrichPrimaryKeys = true;
+        databaseBuilderInput.config.parallelism = 3;
+        databaseBuilderInput.config.batchSize = 1;
+
+        Database expected = filterCommonDatabase(FastList.newListWith("SCHEMA_1", "SCHEMA11"), FastList.newListWith("TABLE_1", "TABLE11"), true, true);
+        test(databaseBuilderInput, expected);
+    }
+
+    @Test
+    public void testEnrichTablesWithBulkColumnsAndPKS() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.enrichColumns = true;
+        databaseBuilderInput.config.enrichPrimaryKeys = true;
+        databaseBuilderInput.config.bulkColumns = true;
+        databaseBuilderInput.config.parallelism = 2;
+
+        Database expected = filterCommonDatabase(FastList.newListWith("SCHEMA_1", "SCHEMA11"), FastList.newListWith("TABLE_1", "TABLE11"), true, true);
+        test(databaseBuilderInput, expected);
+    }
+
+    @Test
+    public void testParallelismIsCappedByServer() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.enrichColumns = true;
+        databaseBuilderInput.config.batchSize = 1;
+
+        Assert.assertEquals(1, SchemaExportation.effectiveParallelism(databaseBuilderInput.config));
+        databaseBuilderInput.config.parallelism = -1;
+        Assert.assertEquals(1, SchemaExportation.effectiveParallelism(databaseBuilderInput.config));
+        databaseBuilderInput.config.parallelism = 100_000;
+        Assert.assertEquals(4, SchemaExportation.effectiveParallelism(databaseBuilderInput.config));
+
+        Database expected = filterCommonDatabase(FastList.newListWith("SCHEMA_1", "SCHEMA11"), FastList.newListWith("TABLE_1", "TABLE11"), true, false);
+        test(databaseBuilderInput, expected);
+    }
+
+    @Test
+    public void testSchemasAreStreamedAsTheyAreBuilt() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.parallelism = 2;
+
+        List<String> streamed = FastList.newList();
+        Database store = SchemaExportation.newBuilder(databaseBuilderInput).build(this.connectionManager, null, schema -> streamed.add(schema.name));
+        Assert.assertEquals(ListIterate.collect(store.schemas, schema -> schema.name), streamed);
+    }
+
+    @Test
+    public void testSchemaMatchedBySeveralPatternsIsStreamedOnce() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.parallelism = 2;
+        databaseBuilderInput.config.patterns = FastList.newListWith(new DatabasePattern("SCHEMA_1", "TABLE_1", true, true), new DatabasePattern("SCHEMA_1", null, true, false));
+
+        List<String> streamed = FastList.newList();
+        Database store = SchemaExportation.newBuilder(databaseBuilderInput).build(this.connectionManager, null, schema -> streamed.add(schema.name));
+        Assert.assertEquals(FastList.newListWith("SCHEMA_1"), streamed);
+        Assert.assertEquals(1, store.schemas.size());
+        Assert.assertEquals(ListIterate.collect(store.schemas.get(0).tables, table -> table.name).distinct(), ListIterate.collect(store.schemas.get(0).tables, table -> table.name));
+        Assert.assertTrue(ListIterate.anySatisfy(store.schemas.get(0).tables, table -> "TABLE_1".equals(table.name)));
+    }
+
+    @Test
+    public void testDatabaseIsStreamedAsPureModelContextData() throws Exception
+    {
+        DatabaseBuilderInput databaseBuilderInput = new DatabaseBuilderInput();
+        databaseBuilderInput.connection = createCommonConnection();
+        databaseBuilderInput.targetDatabase._package = "my::package";
+        databaseBuilderInput.targetDatabase.name = "db";
+        databaseBuilderInput.config.enrichTables = true;
+        databaseBuilderInput.config.enrichColumns = true;
+        databaseBuilderInput.config.enrichPrimaryKeys = true;
+        databaseBuilderInput.config.parallelism = 2;
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SchemaExportation.newBuilder(databaseBuilderInput).build(this.connectionManager, null, outputStream);
+        PureModelContextData graph = objectMapper.readValue(outputStream.toByteArray(), PureModelContextData.class);
+        Assert.assertEquals(1, graph.getElements().size());
+        Database store = (Database) graph.getElements().get(0);
+        Assert.assertEquals("my::package::db", store.getPath());
+
+        Database expected = filterCommonDatabase(FastList.newListWith("SCHEMA_1", "SCHEMA11"), FastList.newListWith("TABLE_1", "TABLE11"), true, true);
+        sort(store);
+        sort(expected);
+        Assert.assertEquals(objectMapper.writeValueAsString(expected.schemas), objectMapper.writeValueAsString(store.schemas));
+    }
+
     @Test
     public void testFilterSchemasExact() throws Exception
     {
@@ -62,6 +62,7 @@ public final class LegendDefaultDatabaseAuthenticationFlowProvider extends Abstr
             String message = "Mismatch in flow provider configuration. It should be an instance of " + LegendDefaultDatabaseAuthenticationFlowProviderConfiguration.class.getSimpleName();
             throw new RuntimeException(message);
         }
+        super.configure(configuration);
         this.databaseAuthenticationFlowProviderConfiguration = (LegendDefaultDatabaseAuthenticationFlowProviderConfiguration) configuration;
         flows().forEach(this::registerFlow);
     }
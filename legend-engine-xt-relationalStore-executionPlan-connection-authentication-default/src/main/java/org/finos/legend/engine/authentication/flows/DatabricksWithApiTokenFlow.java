@@ -23,6 +23,8 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.credential.ApiTokenCredential;
 import org.finos.legend.engine.shared.core.vault.Vault;
 
+import java.util.concurrent.TimeUnit;
+
 public class DatabricksWithApiTokenFlow implements DatabaseAuthenticationFlow<DatabricksDatasourceSpecification, ApiTokenAuthenticationStrategy>
 {
     @Override
@@ -43,6 +45,12 @@ public class DatabricksWithApiTokenFlow implements DatabaseAuthenticationFlow<Da
         return DatabaseType.Databricks;
     }
 
+    @Override
+    public long getCredentialTimeToLiveMillis()
+    {
+        return TimeUnit.MINUTES.toMillis(10);
+    }
+
     @Override
     public Credential makeCredential(Identity identity, DatabricksDatasourceSpecification datasourceSpecification, ApiTokenAuthenticationStrategy authStrategy) throws Exception
     {
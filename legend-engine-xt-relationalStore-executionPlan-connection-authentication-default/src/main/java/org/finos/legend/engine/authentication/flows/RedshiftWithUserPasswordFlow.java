@@ -23,6 +23,8 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.credential.PlaintextUserPasswordCredential;
 import org.finos.legend.engine.shared.core.vault.Vault;
 
+import java.util.concurrent.TimeUnit;
+
 public class RedshiftWithUserPasswordFlow implements DatabaseAuthenticationFlow<RedshiftDatasourceSpecification, UserNamePasswordAuthenticationStrategy>
 {
     @Override
@@ -43,6 +45,12 @@ public class RedshiftWithUserPasswordFlow implements DatabaseAuthenticationFlow<
         return DatabaseType.Redshift;
     }
 
+    @Override
+    public long getCredentialTimeToLiveMillis()
+    {
+        return TimeUnit.MINUTES.toMillis(10);
+    }
+
     @Override
     public Credential makeCredential(Identity identity, RedshiftDatasourceSpecification datasourceSpecification, UserNamePasswordAuthenticationStrategy authStrategy) throws Exception
     {
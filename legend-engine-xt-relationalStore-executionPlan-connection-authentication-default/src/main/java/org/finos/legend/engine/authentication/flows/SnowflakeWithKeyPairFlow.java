@@ -41,6 +41,7 @@ import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.Security;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
 
 public class SnowflakeWithKeyPairFlow implements DatabaseAuthenticationFlow<SnowflakeDatasourceSpecification, SnowflakePublicAuthenticationStrategy>
 {
@@ -62,6 +63,12 @@ public class SnowflakeWithKeyPairFlow implements DatabaseAuthenticationFlow<Snow
         return DatabaseType.Snowflake;
     }
 
+    @Override
+    public long getCredentialTimeToLiveMillis()
+    {
+        return TimeUnit.MINUTES.toMillis(30);
+    }
+
     @Override
     public Credential makeCredential(Identity identity, SnowflakeDatasourceSpecification datasourceSpecification, SnowflakePublicAuthenticationStrategy authenticationStrategy) throws Exception
     {
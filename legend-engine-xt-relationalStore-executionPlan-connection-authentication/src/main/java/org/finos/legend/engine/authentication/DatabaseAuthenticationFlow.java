@@ -57,6 +57,15 @@ public interface DatabaseAuthenticationFlow<D extends DatasourceSpecification, A
            return this.makeCredential(identity, datasourceSpecification, authenticationStrategy);
     }
 
+    /*
+        How long (in milliseconds) a credential made by this flow can be reused for the same identity, datasource spec and authentication spec, when the flow provider caches credentials.
+        Flows opt in to caching : the default of zero means that a credential is made for every request, which is required for flows that check entitlements or otherwise depend on per-call state.
+     */
+    default long getCredentialTimeToLiveMillis()
+    {
+        return 0;
+    }
+
     /*
         This is intended to carry 'runtime context' that is not part of the model (i.e datasource spec and auth spec), but is needed to create a credential.
         For e.g. this can be used to inject server/platform configuration required to connect to external vault.
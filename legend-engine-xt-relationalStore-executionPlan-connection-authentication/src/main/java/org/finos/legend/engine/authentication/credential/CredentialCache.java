@@ -0,0 +1,258 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.authentication.credential;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.finos.legend.engine.authentication.DatabaseAuthenticationFlow;
+import org.finos.legend.engine.authentication.DatabaseAuthenticationFlowKey;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.AuthenticationStrategy;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.DatasourceSpecification;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.slf4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/*
+    Caches the credentials made by flows which declare a credential time to live (see DatabaseAuthenticationFlow.getCredentialTimeToLiveMillis).
+
+    Entries are keyed by flow, identity, datasource spec, authentication spec and runtime context. The specs are request payloads that do not implement equals, so they are compared through their JSON form.
+
+    Once an entry has lived for REFRESH_AHEAD_FRACTION of its time to live, the next lookup still returns it but triggers a background refresh, so that callers do not wait for
+    credentials that expire on a regular basis (e.g. OAuth tokens). Entries are dropped once expired, when the credential reports itself as invalid, or when a connection made with it fails.
+
+    The cache holds at most maximumSize entries and evicts entries after the maximum time to live whatever the flow's own, so that secrets do not outlive their use on the heap. Concurrent
+    lookups of a missing credential make it once.
+ */
+public class CredentialCache
+{
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(CredentialCache.class);
+    private static final double REFRESH_AHEAD_FRACTION = 0.8;
+    private static final ObjectWriter KEY_WRITER = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports();
+
+    private final Cache<Key, Entry> entries;
+    private final long maxTimeToLiveMillis;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    public CredentialCache(long maxTimeToLiveMillis)
+    {
+        this(maxTimeToLiveMillis, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CredentialCache(long maxTimeToLiveMillis, long maximumSize)
+    {
+        this(maxTimeToLiveMillis, maximumSize, Executors.newSingleThreadExecutor(runnable ->
+        {
+            Thread thread = new Thread(runnable, "CredentialCache.Refresher");
+            thread.setDaemon(true);
+            return thread;
+        }), System::currentTimeMillis);
+    }
+
+    public CredentialCache(long maxTimeToLiveMillis, long maximumSize, Executor refreshExecutor, LongSupplier clock)
+    {
+        this.maxTimeToLiveMillis = maxTimeToLiveMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxTimeToLiveMillis, TimeUnit.MILLISECONDS)
+                .ticker(new Ticker()
+                {
+                    @Override
+                    public long read()
+                    {
+                        return TimeUnit.MILLISECONDS.toNanos(clock.getAsLong());
+                    }
+                })
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Credential getCredential(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext) throws Exception
+    {
+        long timeToLive = Math.min(flow.getCredentialTimeToLiveMillis(), this.maxTimeToLiveMillis);
+        Key key = timeToLive <= 0 ? null : Key.newKey(flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+        if (key == null)
+        {
+            return flow.makeCredential(identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+        }
+
+        long now = this.clock.getAsLong();
+        Entry entry = this.entries.getIfPresent(key);
+        if (entry != null && !entry.isUsable(now))
+        {
+            // Only drop the entry found, a concurrent lookup may already have replaced it
+            this.entries.asMap().remove(key, entry);
+        }
+        Entry cached;
+        try
+        {
+            cached = this.entries.get(key, () -> new Entry(flow.makeCredential(identity, datasourceSpecification, authenticationStrategy, runtimeContext), this.clock.getAsLong(), timeToLive));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        catch (ExecutionError e)
+        {
+            throw e.getCause() == null ? e : (Error) e.getCause();
+        }
+        if (cached.shouldRefresh(now) && cached.refreshing.compareAndSet(false, true))
+        {
+            this.refreshExecutor.execute(() -> this.refresh(key, cached, flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext, timeToLive));
+        }
+        return cached.credential;
+    }
+
+    public void invalidate(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+    {
+        Key key = Key.newKey(flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+        if (key != null && this.entries.asMap().remove(key) != null)
+        {
+            LOGGER.info("Invalidated cached credential for flow {}", flow.getClass().getSimpleName());
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.entries.invalidateAll();
+    }
+
+    public long size()
+    {
+        this.entries.cleanUp();
+        return this.entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void refresh(Key key, Entry current, DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext, long timeToLive)
+    {
+        try
+        {
+            Credential credential = flow.makeCredential(identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+            // Not put back if invalidated in the meantime
+            this.entries.asMap().replace(key, current, new Entry(credential, this.clock.getAsLong(), timeToLive));
+        }
+        catch (Exception e)
+        {
+            // The current entry is kept until it expires, the next lookup after that makes the credential synchronously
+            LOGGER.warn("Failed to refresh credential for flow {}", flow.getClass().getSimpleName(), e);
+            current.refreshing.set(false);
+        }
+    }
+
+    private static class Entry
+    {
+        private final Credential credential;
+        private final long refreshAt;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(Credential credential, long createdAt, long timeToLive)
+        {
+            this.credential = credential;
+            this.refreshAt = createdAt + (long) (timeToLive * REFRESH_AHEAD_FRACTION);
+            this.expiresAt = createdAt + timeToLive;
+        }
+
+        private boolean isUsable(long now)
+        {
+            return now < this.expiresAt && this.credential != null && this.credential.isValid();
+        }
+
+        private boolean shouldRefresh(long now)
+        {
+            return now >= this.refreshAt;
+        }
+    }
+
+    private static class Key
+    {
+        private final DatabaseAuthenticationFlowKey flowKey;
+        private final String identityName;
+        private final String datasourceSpecification;
+        private final String authenticationStrategy;
+        private final Object runtimeContext;
+
+        private Key(DatabaseAuthenticationFlowKey flowKey, String identityName, String datasourceSpecification, String authenticationStrategy, Object runtimeContext)
+        {
+            this.flowKey = flowKey;
+            this.identityName = identityName;
+            this.datasourceSpecification = datasourceSpecification;
+            this.authenticationStrategy = authenticationStrategy;
+            this.runtimeContext = runtimeContext;
+        }
+
+        private static Key newKey(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+        {
+            try
+            {
+                return new Key(
+                        DatabaseAuthenticationFlowKey.newKey(flow),
+                        identity == null ? null : identity.getName(),
+                        KEY_WRITER.writeValueAsString(datasourceSpecification),
+                        KEY_WRITER.writeValueAsString(authenticationStrategy),
+                        runtimeContext == null ? null : runtimeContext.getContextParams());
+            }
+            catch (Exception e)
+            {
+                // Specs which cannot be compared are not cached
+                LOGGER.warn("Credential for flow {} cannot be cached", flow.getClass().getSimpleName(), e);
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            Key that = (Key) o;
+            return this.flowKey.equals(that.flowKey) &&
+                    Objects.equals(this.identityName, that.identityName) &&
+                    this.datasourceSpecification.equals(that.datasourceSpecification) &&
+                    this.authenticationStrategy.equals(that.authenticationStrategy) &&
+                    Objects.equals(this.runtimeContext, that.runtimeContext);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(flowKey, identityName, datasourceSpecification, authenticationStrategy, runtimeContext);
+        }
+    }
+}
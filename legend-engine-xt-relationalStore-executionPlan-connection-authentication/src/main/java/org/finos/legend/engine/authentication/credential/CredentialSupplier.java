@@ -15,6 +15,7 @@
 package org.finos.legend.engine.authentication.credential;
 
 import org.finos.legend.engine.authentication.DatabaseAuthenticationFlow;
+import org.finos.legend.engine.authentication.provider.DatabaseAuthenticationFlowProvider;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.AuthenticationStrategy;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.DatasourceSpecification;
 import org.finos.legend.engine.shared.core.identity.Credential;
@@ -26,15 +27,22 @@ public class CredentialSupplier
     private final DatasourceSpecification datasourceSpecification;
     private final AuthenticationStrategy authenticationStrategy;
     private DatabaseAuthenticationFlow.RuntimeContext runtimeContext;
+    private final DatabaseAuthenticationFlowProvider databaseAuthenticationFlowProvider;
 
-    public CredentialSupplier(DatabaseAuthenticationFlow databaseAuthenticationFlow, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+    public CredentialSupplier(DatabaseAuthenticationFlowProvider databaseAuthenticationFlowProvider, DatabaseAuthenticationFlow databaseAuthenticationFlow, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
     {
+        this.databaseAuthenticationFlowProvider = databaseAuthenticationFlowProvider;
         this.databaseAuthenticationFlow = databaseAuthenticationFlow;
         this.datasourceSpecification = datasourceSpecification;
         this.authenticationStrategy = authenticationStrategy;
         this.runtimeContext = runtimeContext;
     }
 
+    public CredentialSupplier(DatabaseAuthenticationFlow databaseAuthenticationFlow, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+    {
+        this(null, databaseAuthenticationFlow, datasourceSpecification, authenticationStrategy, runtimeContext);
+    }
+
     public CredentialSupplier(DatabaseAuthenticationFlow databaseAuthenticationFlow, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy)
     {
         this(databaseAuthenticationFlow, datasourceSpecification, authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext.empty());
@@ -42,6 +50,21 @@ public class CredentialSupplier
 
     public Credential getCredential(Identity identity) throws Exception
     {
+        if (this.databaseAuthenticationFlowProvider != null)
+        {
+            return this.databaseAuthenticationFlowProvider.makeCredential(this.databaseAuthenticationFlow, identity, this.datasourceSpecification, this.authenticationStrategy, this.runtimeContext);
+        }
         return this.databaseAuthenticationFlow.makeCredential(identity, this.datasourceSpecification, this.authenticationStrategy, this.runtimeContext);
     }
+
+    /*
+        To be called when a connection could not be acquired with the credential, so that a new one is made for the next attempt
+     */
+    public void invalidate(Identity identity)
+    {
+        if (this.databaseAuthenticationFlowProvider != null)
+        {
+            this.databaseAuthenticationFlowProvider.invalidateCredential(this.databaseAuthenticationFlow, identity, this.datasourceSpecification, this.authenticationStrategy, this.runtimeContext);
+        }
+    }
 }
\ No newline at end of file
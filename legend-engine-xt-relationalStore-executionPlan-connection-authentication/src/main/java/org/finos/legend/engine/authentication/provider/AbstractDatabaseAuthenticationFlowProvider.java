@@ -16,20 +16,25 @@ package org.finos.legend.engine.authentication.provider;
 
 import org.finos.legend.engine.authentication.DatabaseAuthenticationFlow;
 import org.finos.legend.engine.authentication.DatabaseAuthenticationFlowKey;
+import org.finos.legend.engine.authentication.credential.CredentialCache;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.AuthenticationStrategy;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.DatasourceSpecification;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.StaticDatasourceSpecification;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.identity.Identity;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public abstract class AbstractDatabaseAuthenticationFlowProvider implements DatabaseAuthenticationFlowProvider
 {
     protected Map<DatabaseAuthenticationFlowKey, DatabaseAuthenticationFlow> flows = new HashMap<>();
     private DatabaseAuthenticationFlowProviderConfiguration configuration;
+    private CredentialCache credentialCache;
 
     public void registerFlow(DatabaseAuthenticationFlow flow)
     {
@@ -89,9 +94,30 @@ public abstract class AbstractDatabaseAuthenticationFlowProvider implements Data
         return this.flows.size();
     }
 
+    @Override
+    public Credential makeCredential(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext) throws Exception
+    {
+        if (this.credentialCache == null)
+        {
+            return DatabaseAuthenticationFlowProvider.super.makeCredential(flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+        }
+        return this.credentialCache.getCredential(flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+    }
+
+    @Override
+    public void invalidateCredential(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+    {
+        if (this.credentialCache != null)
+        {
+            this.credentialCache.invalidate(flow, identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+        }
+    }
+
     @Override
     public void configure(DatabaseAuthenticationFlowProviderConfiguration configuration)
     {
         this.configuration = configuration;
+        long maxTimeToLiveSeconds = configuration == null ? 0 : configuration.credentialCacheMaxTimeToLiveSeconds;
+        this.credentialCache = maxTimeToLiveSeconds > 0 ? new CredentialCache(TimeUnit.SECONDS.toMillis(maxTimeToLiveSeconds), configuration.credentialCacheMaximumSize) : null;
     }
 }
\ No newline at end of file
@@ -16,6 +16,10 @@ package org.finos.legend.engine.authentication.provider;
 
 import org.finos.legend.engine.authentication.DatabaseAuthenticationFlow;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.AuthenticationStrategy;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.DatasourceSpecification;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.identity.Identity;
 
 import java.util.Optional;
 
@@ -38,6 +42,22 @@ public interface DatabaseAuthenticationFlowProvider
         throw new RuntimeException(message);
     }
 
+    /*
+        Makes a credential using the given flow. Providers may reuse credentials previously made for the same inputs.
+     */
+    @SuppressWarnings("unchecked")
+    default Credential makeCredential(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext) throws Exception
+    {
+        return flow.makeCredential(identity, datasourceSpecification, authenticationStrategy, runtimeContext);
+    }
+
+    /*
+        Called when a credential made by the given flow could not be used, e.g. because it has been revoked. Providers which reuse credentials should not hand it out again.
+     */
+    default void invalidateCredential(DatabaseAuthenticationFlow flow, Identity identity, DatasourceSpecification datasourceSpecification, AuthenticationStrategy authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext runtimeContext)
+    {
+    }
+
     void configure(DatabaseAuthenticationFlowProviderConfiguration configuration);
 
     int count();
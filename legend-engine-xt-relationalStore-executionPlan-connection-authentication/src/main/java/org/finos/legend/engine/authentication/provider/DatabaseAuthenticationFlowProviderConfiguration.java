@@ -15,9 +15,20 @@
 package org.finos.legend.engine.authentication.provider;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.finos.legend.engine.authentication.credential.CredentialCache;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "_type")
 public class DatabaseAuthenticationFlowProviderConfiguration
 {
     public String _type;
+
+    /*
+        Upper bound on how long credentials made by flows are cached, for the flows that allow caching. Zero disables the cache.
+     */
+    public long credentialCacheMaxTimeToLiveSeconds = 0;
+
+    /*
+        Upper bound on the number of cached credentials, least recently used ones are evicted first.
+     */
+    public long credentialCacheMaximumSize = CredentialCache.DEFAULT_MAXIMUM_SIZE;
 }
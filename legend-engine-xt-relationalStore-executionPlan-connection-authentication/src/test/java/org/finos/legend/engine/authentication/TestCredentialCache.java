@@ -0,0 +1,232 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.authentication;
+
+import org.finos.legend.engine.authentication.credential.CredentialCache;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.TestDatabaseAuthenticationStrategy;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.StaticDatasourceSpecification;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.credential.PlaintextUserPasswordCredential;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class TestCredentialCache
+{
+    private final AtomicLong clock = new AtomicLong(0);
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final CredentialCache cache = new CredentialCache(60_000, 2, this.pendingRefreshes::add, this.clock::get);
+
+    @Test
+    public void credentialIsReusedForSameInputs() throws Exception
+    {
+        CountingFlow flow = new CountingFlow(10_000);
+        Credential first = this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        Credential second = this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertSame(first, second);
+        assertEquals(1, flow.count.get());
+
+        this.cache.getCredential(flow, new Identity("bob"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        this.cache.getCredential(flow, new Identity("alice"), datasource("host2"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertEquals(3, flow.count.get());
+    }
+
+    @Test
+    public void flowsWithoutTimeToLiveAreNotCached() throws Exception
+    {
+        CountingFlow flow = new CountingFlow(0);
+        this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertEquals(2, flow.count.get());
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    public void credentialIsRefreshedAheadAndRemadeOnceExpired() throws Exception
+    {
+        CountingFlow flow = new CountingFlow(10_000);
+        Credential first = this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+
+        this.clock.set(8_500);
+        assertSame(first, this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+        assertSame(first, this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+        assertEquals(1, this.pendingRefreshes.size());
+        this.pendingRefreshes.remove(0).run();
+        Credential refreshed = this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertNotSame(first, refreshed);
+        assertEquals(2, flow.count.get());
+
+        this.clock.set(30_000);
+        assertNotSame(refreshed, this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+        assertEquals(3, flow.count.get());
+    }
+
+    @Test
+    public void invalidatedCredentialIsRemade() throws Exception
+    {
+        CountingFlow flow = new CountingFlow(10_000);
+        Credential first = this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        this.cache.invalidate(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertNotSame(first, this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+        assertEquals(2, flow.count.get());
+    }
+
+    @Test
+    public void cacheIsBoundedAndPurgedOnceExpired() throws Exception
+    {
+        CountingFlow flow = new CountingFlow(10_000);
+        this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        this.cache.getCredential(flow, new Identity("bob"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        this.cache.getCredential(flow, new Identity("carol"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertEquals(2, this.cache.size());
+
+        this.clock.set(60_000);
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    public void concurrentMissesMakeCredentialOnce() throws Exception
+    {
+        CountDownLatch making = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingFlow flow = new CountingFlow(10_000)
+        {
+            @Override
+            public Credential makeCredential(Identity identity, StaticDatasourceSpecification datasourceSpecification, TestDatabaseAuthenticationStrategy authenticationStrategy)
+            {
+                making.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                return super.makeCredential(identity, datasourceSpecification, authenticationStrategy);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            Future<Credential> first = executor.submit(() -> this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+            making.await();
+            Future<Credential> second = executor.submit(() -> this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty()));
+            release.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, flow.count.get());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedCredentialIsNotCached() throws Exception
+    {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        CountingFlow flow = new CountingFlow(10_000)
+        {
+            @Override
+            public Credential makeCredential(Identity identity, StaticDatasourceSpecification datasourceSpecification, TestDatabaseAuthenticationStrategy authenticationStrategy)
+            {
+                if (fail.get())
+                {
+                    throw new IllegalStateException("vault unavailable");
+                }
+                return super.makeCredential(identity, datasourceSpecification, authenticationStrategy);
+            }
+        };
+        try
+        {
+            this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            assertEquals("vault unavailable", e.getMessage());
+        }
+        fail.set(false);
+        this.cache.getCredential(flow, new Identity("alice"), datasource("host1"), new TestDatabaseAuthenticationStrategy(), DatabaseAuthenticationFlow.RuntimeContext.empty());
+        assertEquals(1, flow.count.get());
+    }
+
+    private static StaticDatasourceSpecification datasource(String host)
+    {
+        StaticDatasourceSpecification datasourceSpecification = new StaticDatasourceSpecification();
+        datasourceSpecification.host = host;
+        datasourceSpecification.port = 1234;
+        datasourceSpecification.databaseName = "db";
+        return datasourceSpecification;
+    }
+
+    private static class CountingFlow implements DatabaseAuthenticationFlow<StaticDatasourceSpecification, TestDatabaseAuthenticationStrategy>
+    {
+        private final AtomicInteger count = new AtomicInteger();
+        private final long timeToLive;
+
+        private CountingFlow(long timeToLive)
+        {
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public Class<StaticDatasourceSpecification> getDatasourceClass()
+        {
+            return StaticDatasourceSpecification.class;
+        }
+
+        @Override
+        public Class<TestDatabaseAuthenticationStrategy> getAuthenticationStrategyClass()
+        {
+            return TestDatabaseAuthenticationStrategy.class;
+        }
+
+        @Override
+        public DatabaseType getDatabaseType()
+        {
+            return DatabaseType.H2;
+        }
+
+        @Override
+        public long getCredentialTimeToLiveMillis()
+        {
+            return this.timeToLive;
+        }
+
+        @Override
+        public Credential makeCredential(Identity identity, StaticDatasourceSpecification datasourceSpecification, TestDatabaseAuthenticationStrategy authenticationStrategy)
+        {
+            return new PlaintextUserPasswordCredential("user" + this.count.incrementAndGet(), "");
+        }
+    }
+}
@@ -56,6 +56,7 @@ public abstract class AuthenticationStrategy
         catch (ConnectionException ce)
         {
             ds.logConnectionError();
+            ds.getCredentialSupplier().ifPresent(credentialSupplier -> credentialSupplier.invalidate(identity));
             LOGGER.error("error getting connection (total : {}) {}", ds.getStatistics().getTotalConnectionErrors(), ce);
             throw ce;
         }
@@ -76,11 +77,21 @@ public abstract class AuthenticationStrategy
     public abstract Pair<String, Properties> handleConnection(String url, Properties properties, DatabaseManager databaseManager);
 
     protected Connection getConnectionUsingKerberos(DataSource ds, Subject subject)
+    {
+        return this.getConnectionUsingKerberos(ds::getConnection, subject);
+    }
+
+    protected Connection getConnectionUsingKerberos(DataSourceWithStatistics ds, Subject subject)
+    {
+        return this.getConnectionUsingKerberos(ds::getPooledConnection, subject);
+    }
+
+    private Connection getConnectionUsingKerberos(PrivilegedExceptionAction<Connection> getConnection, Subject subject)
     {
         Connection connection;
         try
         {
-            connection = Subject.doAs(subject, (PrivilegedExceptionAction<Connection>) ds::getConnection);
+            connection = Subject.doAs(subject, getConnection);
         }
         catch (PrivilegedActionException e)
         {
@@ -48,7 +48,7 @@ public class ApiTokenAuthenticationStrategy extends AuthenticationStrategy
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
@@ -45,7 +45,7 @@ public class DefaultH2AuthenticationStrategy extends AuthenticationStrategy
     {
         try
         {
-            Connection connection = ds.getDataSource().getConnection();
+            Connection connection = ds.getPooledConnection();
             for (String sql : LEGEND_H2_EXTENSION_SQLs)
             {
                 try (Statement statement = connection.createStatement())
@@ -53,7 +53,7 @@ public class DelegatedKerberosAuthenticationStrategy extends InteractiveAuthenti
         }
         Properties properties = ds.getProperties();
         LegendKerberosCredential legendKerberosCredential = this.resolveCredential(properties);
-        return getConnectionUsingKerberos(ds.getDataSource(), legendKerberosCredential.getSubject());
+        return getConnectionUsingKerberos(ds, legendKerberosCredential.getSubject());
     }
 
     @Override
@@ -47,7 +47,7 @@ public class GCPApplicationDefaultCredentialsAuthenticationStrategy extends Auth
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
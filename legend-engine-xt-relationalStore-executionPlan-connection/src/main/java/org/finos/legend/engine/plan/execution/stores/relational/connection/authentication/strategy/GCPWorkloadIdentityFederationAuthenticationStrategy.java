@@ -58,7 +58,7 @@ public class GCPWorkloadIdentityFederationAuthenticationStrategy extends Authent
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
@@ -49,7 +49,7 @@ public class MiddleTierUserNamePasswordAuthenticationStrategy extends Authentica
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
@@ -79,7 +79,7 @@ public class SnowflakePublicAuthenticationStrategy extends AuthenticationStrateg
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
@@ -47,7 +47,7 @@ public class UserNamePasswordAuthenticationStrategy extends AuthenticationStrate
     {
         try
         {
-            return ds.getDataSource().getConnection();
+            return ds.getPooledConnection();
         }
         catch (SQLException e)
         {
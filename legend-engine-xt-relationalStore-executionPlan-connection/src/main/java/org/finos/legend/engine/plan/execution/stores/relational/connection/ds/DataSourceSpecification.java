@@ -120,6 +120,16 @@ public abstract class DataSourceSpecification
         return databaseManager;
     }
 
+    public int getMaxPoolSize()
+    {
+        return maxPoolSize;
+    }
+
+    public int getMinPoolSize()
+    {
+        return minPoolSize;
+    }
+
     public Connection getConnectionUsingProfiles(MutableList<CommonProfile> profiles)
     {
         Identity identity = IdentityFactoryProvider.getInstance().makeIdentity(profiles);
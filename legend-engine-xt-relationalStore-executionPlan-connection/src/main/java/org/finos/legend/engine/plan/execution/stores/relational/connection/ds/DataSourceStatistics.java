@@ -16,9 +16,12 @@ package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.ConnectionStateManager;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class DataSourceStatistics
 {
@@ -28,6 +31,18 @@ public class DataSourceStatistics
     private final AtomicLong firstConnectionRequest;
     private AtomicLong lastConnectionRequest;
 
+    // connection wait times, bucketed by upper bound in milliseconds (the last bucket is unbounded)
+    private static final long[] CONNECTION_WAIT_BUCKETS_IN_MS = {1, 5, 10, 50, 100, 500, 1000, 5000, 30000};
+    private final AtomicLongArray connectionWaitHistogram = new AtomicLongArray(CONNECTION_WAIT_BUCKETS_IN_MS.length + 1);
+    private final AtomicLong totalConnectionWaitInMs = new AtomicLong();
+    private final AtomicLong maxConnectionWaitInMs = new AtomicLong();
+
+    // request rate sampling, used for adaptive pool sizing
+    private int requestsAtLastSample;
+    private long lastSampleTime = -1;
+    private volatile double requestRatePerMinute;
+    private volatile int peakDemand;
+
     public DataSourceStatistics()
     {
         this.firstConnectionRequest = new AtomicLong(System.currentTimeMillis());
@@ -36,17 +51,31 @@ public class DataSourceStatistics
         this.requestedConnections = new AtomicInteger(0);
     }
 
-    private DataSourceStatistics(int builtConnections, long firstConnectionRequest, long lastConnectionRequest, int requestedConnections)
+    private DataSourceStatistics(DataSourceStatistics statistics)
     {
-        this.builtConnections = new AtomicInteger(builtConnections);
-        this.firstConnectionRequest = new AtomicLong(firstConnectionRequest);
-        this.lastConnectionRequest = new AtomicLong(lastConnectionRequest);
-        this.requestedConnections = new AtomicInteger(requestedConnections);
+        this.builtConnections = new AtomicInteger(statistics.builtConnections.get());
+        this.firstConnectionRequest = new AtomicLong(statistics.firstConnectionRequest.get());
+        this.lastConnectionRequest = new AtomicLong(statistics.lastConnectionRequest.get());
+        this.requestedConnections = new AtomicInteger(statistics.requestedConnections.get());
+        this.connectionErrors.set(statistics.connectionErrors.get());
+        for (int i = 0; i < this.connectionWaitHistogram.length(); i++)
+        {
+            this.connectionWaitHistogram.set(i, statistics.connectionWaitHistogram.get(i));
+        }
+        this.totalConnectionWaitInMs.set(statistics.totalConnectionWaitInMs.get());
+        this.maxConnectionWaitInMs.set(statistics.maxConnectionWaitInMs.get());
+        synchronized (statistics)
+        {
+            this.requestsAtLastSample = statistics.requestsAtLastSample;
+            this.lastSampleTime = statistics.lastSampleTime;
+            this.requestRatePerMinute = statistics.requestRatePerMinute;
+            this.peakDemand = statistics.peakDemand;
+        }
     }
 
     public static DataSourceStatistics clone(DataSourceStatistics statistics)
     {
-        return new DataSourceStatistics(statistics.builtConnections.get(), statistics.firstConnectionRequest.get(), statistics.lastConnectionRequest.get(), statistics.requestedConnections.get());
+        return new DataSourceStatistics(statistics);
     }
 
     public int getRequestedConnections()
@@ -95,6 +124,81 @@ public class DataSourceStatistics
         return builtConnections.get();
     }
 
+    public void recordConnectionWait(long waitInMs)
+    {
+        int bucket = 0;
+        while (bucket < CONNECTION_WAIT_BUCKETS_IN_MS.length && waitInMs > CONNECTION_WAIT_BUCKETS_IN_MS[bucket])
+        {
+            bucket++;
+        }
+        this.connectionWaitHistogram.incrementAndGet(bucket);
+        this.totalConnectionWaitInMs.addAndGet(waitInMs);
+        this.maxConnectionWaitInMs.accumulateAndGet(waitInMs, Math::max);
+    }
+
+    public Map<String, Long> getConnectionWaitHistogram()
+    {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < CONNECTION_WAIT_BUCKETS_IN_MS.length; i++)
+        {
+            histogram.put("le_" + CONNECTION_WAIT_BUCKETS_IN_MS[i] + "ms", this.connectionWaitHistogram.get(i));
+        }
+        histogram.put("gt_" + CONNECTION_WAIT_BUCKETS_IN_MS[CONNECTION_WAIT_BUCKETS_IN_MS.length - 1] + "ms", this.connectionWaitHistogram.get(CONNECTION_WAIT_BUCKETS_IN_MS.length));
+        return histogram;
+    }
+
+    public long getTotalConnectionWait()
+    {
+        return this.totalConnectionWaitInMs.get();
+    }
+
+    public long getMaxConnectionWait()
+    {
+        return this.maxConnectionWaitInMs.get();
+    }
+
+    /**
+     * Samples the number of connection requests made since the previous sample and folds it into an
+     * exponentially weighted request rate. Meant to be called periodically by a single housekeeping thread.
+     *
+     * @return the smoothed request rate, in requests per minute
+     */
+    public synchronized double sampleRequestRate()
+    {
+        long now = getCurrentTimeInInMillis();
+        int requests = this.requestedConnections.get();
+        if (this.lastSampleTime >= 0 && now > this.lastSampleTime)
+        {
+            double currentRate = (requests - this.requestsAtLastSample) * 60_000d / (now - this.lastSampleTime);
+            this.requestRatePerMinute = (this.requestRatePerMinute + currentRate) / 2;
+        }
+        this.requestsAtLastSample = requests;
+        this.lastSampleTime = now;
+        return this.requestRatePerMinute;
+    }
+
+    public double getRequestRatePerMinute()
+    {
+        return this.requestRatePerMinute;
+    }
+
+    /**
+     * Records the current demand on the pool (active connections plus threads awaiting a connection).
+     * The recorded peak decays by half on every call so that it follows bursts but forgets them over time.
+     *
+     * @return the updated peak demand
+     */
+    public synchronized int recordDemand(int demand)
+    {
+        this.peakDemand = Math.max(demand, this.peakDemand / 2);
+        return this.peakDemand;
+    }
+
+    public int getPeakDemand()
+    {
+        return this.peakDemand;
+    }
+
     public void logConnectionError()
     {
         this.connectionErrors.incrementAndGet();
@@ -121,12 +225,18 @@ public class DataSourceStatistics
                 && Objects.equals(getRequestedConnections(), that.getRequestedConnections())
                 && Objects.equals(getTotalConnectionErrors(), that.getTotalConnectionErrors())
                 && Objects.equals(getFirstConnectionRequest(), that.getFirstConnectionRequest())
-                && Objects.equals(getLastConnectionRequest(), that.getLastConnectionRequest());
+                && Objects.equals(getLastConnectionRequest(), that.getLastConnectionRequest())
+                && Objects.equals(getConnectionWaitHistogram(), that.getConnectionWaitHistogram())
+                && Objects.equals(getTotalConnectionWait(), that.getTotalConnectionWait())
+                && Objects.equals(getMaxConnectionWait(), that.getMaxConnectionWait())
+                && Objects.equals(getRequestRatePerMinute(), that.getRequestRatePerMinute())
+                && Objects.equals(getPeakDemand(), that.getPeakDemand());
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash(getBuiltConnections(), getRequestedConnections(), getTotalConnectionErrors(), getFirstConnectionRequest(), getLastConnectionRequest());
+        return Objects.hash(getBuiltConnections(), getRequestedConnections(), getTotalConnectionErrors(), getFirstConnectionRequest(), getLastConnectionRequest(),
+                getConnectionWaitHistogram(), getTotalConnectionWait(), getMaxConnectionWait(), getRequestRatePerMinute(), getPeakDemand());
     }
 }
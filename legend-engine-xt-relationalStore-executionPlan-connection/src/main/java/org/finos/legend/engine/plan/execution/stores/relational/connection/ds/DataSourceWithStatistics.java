@@ -22,8 +22,11 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.authe
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.IdentityState;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -64,6 +67,22 @@ public class DataSourceWithStatistics
         return dataSource;
     }
 
+    /**
+     * Checks a connection out of the pool, recording how long the pool kept the caller waiting for it
+     */
+    public Connection getPooledConnection() throws SQLException
+    {
+        long start = System.currentTimeMillis();
+        Connection connection = this.dataSource.getConnection();
+        long end = System.currentTimeMillis();
+        this.statistics.recordConnectionWait(end - start);
+        if (this.dataSourceSpecification != null)
+        {
+            MetricsHandler.observeConnectionWait(this.dataSourceSpecification.getConnectionKey().shortId(), start, end);
+        }
+        return connection;
+    }
+
     public DataSourceStatistics getStatistics()
     {
         return statistics;
@@ -126,6 +145,11 @@ public class DataSourceWithStatistics
         return statistics.buildConnection();
     }
 
+    public void recordConnectionWait(long waitInMs)
+    {
+        this.statistics.recordConnectionWait(waitInMs);
+    }
+
     public void logConnectionError()
     {
         this.statistics.logConnectionError();
@@ -22,7 +22,6 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.st
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.List;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -48,13 +47,7 @@ public class LocalH2DataSourceSpecification extends StaticDataSourceSpecificatio
         {
             try
             {
-                for (String sql : _key.getTestDataSetupSqls())
-                {
-                    try (Statement statement = connection.createStatement())
-                    {
-                        statement.executeUpdate(sql);
-                    }
-                }
+                LocalH2TestDataSnapshot.seed(connection, _key);
             }
             catch (SQLException e)
             {
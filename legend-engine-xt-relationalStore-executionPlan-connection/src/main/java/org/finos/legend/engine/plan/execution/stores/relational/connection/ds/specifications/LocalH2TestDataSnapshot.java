@@ -0,0 +1,223 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.keys.LocalH2DataSourceSpecificationKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds local H2 test databases from a snapshot of their setup SQLs.
+ * <p>
+ * The first connection for a given set of setup SQLs runs them statement by statement and dumps the resulting
+ * database with SCRIPT DROP. Every later connection restores that dump with a single RUNSCRIPT, which drops and
+ * recreates the seeded objects, instead of replaying each statement over the wire.
+ * <p>
+ * The dump only knows about the objects which exist once the setup SQLs have run, so the DROP statements of the setup
+ * SQLs are still run before restoring it: objects created on the connection since (or by a different set of setup
+ * SQLs) are dropped if the setup SQLs would have dropped them, and kept otherwise, as with a replay.
+ * <p>
+ * Evicted snapshots delete their dump once the last restore using it is done.
+ */
+class LocalH2TestDataSnapshot
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalH2TestDataSnapshot.class);
+
+    public static final String ENABLED_SYSTEM_PROPERTY = "org.finos.legend.engine.localH2.testDataSnapshots.enabled";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_SYSTEM_PROPERTY, "true"));
+
+    private static final Cache<LocalH2DataSourceSpecificationKey, LocalH2TestDataSnapshot> SNAPSHOTS = CacheBuilder.newBuilder()
+            .maximumSize(100)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .removalListener((RemovalListener<LocalH2DataSourceSpecificationKey, LocalH2TestDataSnapshot>) notification -> notification.getValue().evict())
+            .build();
+
+    private final List<String> setupSqls;
+    private final List<String> dropSqls;
+    private volatile File script;
+    private volatile boolean unavailable;
+    // the number of connections seeding from the dump, which is only deleted once they are done if evicted meanwhile
+    private final Object usersLock = new Object();
+    private int users;
+    private boolean evicted;
+
+    LocalH2TestDataSnapshot(List<String> setupSqls)
+    {
+        this.setupSqls = setupSqls;
+        this.dropSqls = setupSqls.stream().filter(sql -> sql.trim().regionMatches(true, 0, "drop ", 0, 5)).collect(Collectors.toList());
+    }
+
+    static void seed(Connection connection, LocalH2DataSourceSpecificationKey key) throws SQLException
+    {
+        if (!ENABLED)
+        {
+            runSetupSqls(connection, key.getTestDataSetupSqls());
+            return;
+        }
+        try
+        {
+            SNAPSHOTS.get(key, () -> new LocalH2TestDataSnapshot(key.getTestDataSetupSqls())).apply(connection);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    void apply(Connection connection) throws SQLException
+    {
+        if (this.unavailable || !this.acquire())
+        {
+            runSetupSqls(connection, this.setupSqls);
+            return;
+        }
+        try
+        {
+            this.applySnapshot(connection);
+        }
+        finally
+        {
+            this.release();
+        }
+    }
+
+    private void applySnapshot(Connection connection) throws SQLException
+    {
+        File script = this.script;
+        if (script == null)
+        {
+            synchronized (this)
+            {
+                script = this.script;
+                if (script == null)
+                {
+                    runSetupSqls(connection, this.setupSqls);
+                    this.script = this.takeSnapshot(connection);
+                    return;
+                }
+            }
+        }
+        runSetupSqls(connection, this.dropSqls);
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("RUNSCRIPT FROM '" + escape(script) + "'");
+        }
+    }
+
+    private File takeSnapshot(Connection connection)
+    {
+        File file = null;
+        try
+        {
+            file = File.createTempFile("legend-h2-test-data", ".sql");
+            file.deleteOnExit();
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute("SCRIPT DROP TO '" + escape(file) + "'");
+            }
+            return file;
+        }
+        catch (IOException | SQLException e)
+        {
+            // the setup SQLs are still replayed for every connection, as they were before snapshots existed
+            LOGGER.warn("Unable to snapshot H2 test data, setup SQLs will be run for every connection", e);
+            this.unavailable = true;
+            if (file != null)
+            {
+                file.delete();
+            }
+            return null;
+        }
+    }
+
+    boolean acquire()
+    {
+        synchronized (this.usersLock)
+        {
+            if (this.evicted)
+            {
+                return false;
+            }
+            this.users++;
+            return true;
+        }
+    }
+
+    void release()
+    {
+        synchronized (this.usersLock)
+        {
+            if (--this.users == 0 && this.evicted)
+            {
+                this.delete();
+            }
+        }
+    }
+
+    void evict()
+    {
+        synchronized (this.usersLock)
+        {
+            this.evicted = true;
+            if (this.users == 0)
+            {
+                this.delete();
+            }
+        }
+    }
+
+    File getScript()
+    {
+        return this.script;
+    }
+
+    private void delete()
+    {
+        File script = this.script;
+        if (script != null)
+        {
+            script.delete();
+        }
+    }
+
+    private static void runSetupSqls(Connection connection, List<String> setupSqls) throws SQLException
+    {
+        for (String sql : setupSqls)
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.executeUpdate(sql);
+            }
+        }
+    }
+
+    private static String escape(File file)
+    {
+        return file.getAbsolutePath().replace("\\", "/").replace("'", "''");
+    }
+}
@@ -0,0 +1,138 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state;
+
+import java.time.Duration;
+
+/*
+    Configuration for adaptive pool sizing. Adaptive sizing is disabled by default and is configured through system properties,
+    in the same way as the connection state eviction duration.
+
+    When enabled, a housekeeping task periodically :
+    - samples each pool's request rate and demand (active connections + threads awaiting a connection)
+    - resizes minimumIdle and maximumPoolSize of each pool within the configured bounds
+      (maximumPoolSize is only resized when a maxPoolSizeFloor is configured, and never grows beyond the pool's configured maximum)
+    - pre-warms pools of identities which have been active at the same time of day on several days (i.e on a schedule)
+      and retains those pools, instead of evicting them, until the scheduled activity is over
+ */
+public class AdaptivePoolConfiguration
+{
+    public static final String PREFIX = "org.finos.legend.engine.execution.adaptivePoolSizing.";
+    public static final String ENABLED_SYSTEM_PROPERTY = PREFIX + "enabled";
+    public static final String PERIOD_SYSTEM_PROPERTY = PREFIX + "periodInSeconds";
+    public static final String MIN_IDLE_CEILING_SYSTEM_PROPERTY = PREFIX + "minIdleCeiling";
+    public static final String MAX_POOL_SIZE_FLOOR_SYSTEM_PROPERTY = PREFIX + "maxPoolSizeFloor";
+    public static final String WARM_MIN_IDLE_SYSTEM_PROPERTY = PREFIX + "warmMinIdle";
+    public static final String WARM_UP_LOOKAHEAD_SYSTEM_PROPERTY = PREFIX + "warmUpLookaheadInMinutes";
+    public static final String SCHEDULE_MINIMUM_ACTIVE_DAYS_SYSTEM_PROPERTY = PREFIX + "scheduleMinimumActiveDays";
+    public static final String SCHEDULE_RETENTION_SYSTEM_PROPERTY = PREFIX + "scheduleRetentionInDays";
+
+    private final boolean enabled;
+    private final Duration period;
+    private final int minIdleCeiling;
+    private final int maxPoolSizeFloor;
+    private final int warmMinIdle;
+    private final Duration warmUpLookahead;
+    private final int scheduleMinimumActiveDays;
+    private final Duration scheduleRetention;
+
+    public AdaptivePoolConfiguration(boolean enabled, Duration period, int minIdleCeiling, int maxPoolSizeFloor, int warmMinIdle, Duration warmUpLookahead, int scheduleMinimumActiveDays, Duration scheduleRetention)
+    {
+        if (minIdleCeiling < 0 || warmMinIdle < 0 || warmMinIdle > minIdleCeiling)
+        {
+            throw new IllegalArgumentException("Invalid adaptive pool configuration: warmMinIdle (" + warmMinIdle + ") must be between 0 and minIdleCeiling (" + minIdleCeiling + ")");
+        }
+        if (maxPoolSizeFloor < 0)
+        {
+            throw new IllegalArgumentException("Invalid adaptive pool configuration: maxPoolSizeFloor (" + maxPoolSizeFloor + ") cannot be negative");
+        }
+        this.enabled = enabled;
+        this.period = period;
+        this.minIdleCeiling = minIdleCeiling;
+        this.maxPoolSizeFloor = maxPoolSizeFloor;
+        this.warmMinIdle = warmMinIdle;
+        this.warmUpLookahead = warmUpLookahead;
+        this.scheduleMinimumActiveDays = scheduleMinimumActiveDays;
+        this.scheduleRetention = scheduleRetention;
+    }
+
+    public static AdaptivePoolConfiguration fromSystemProperties()
+    {
+        return new AdaptivePoolConfiguration(
+                Boolean.getBoolean(ENABLED_SYSTEM_PROPERTY),
+                Duration.ofSeconds(Long.getLong(PERIOD_SYSTEM_PROPERTY, 30)),
+                Integer.getInteger(MIN_IDLE_CEILING_SYSTEM_PROPERTY, 10),
+                Integer.getInteger(MAX_POOL_SIZE_FLOOR_SYSTEM_PROPERTY, 0),
+                Integer.getInteger(WARM_MIN_IDLE_SYSTEM_PROPERTY, 1),
+                Duration.ofMinutes(Long.getLong(WARM_UP_LOOKAHEAD_SYSTEM_PROPERTY, 15)),
+                Integer.getInteger(SCHEDULE_MINIMUM_ACTIVE_DAYS_SYSTEM_PROPERTY, 2),
+                Duration.ofDays(Long.getLong(SCHEDULE_RETENTION_SYSTEM_PROPERTY, 3)));
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public Duration getPeriod()
+    {
+        return period;
+    }
+
+    public int getMinIdleCeiling()
+    {
+        return minIdleCeiling;
+    }
+
+    public int getMaxPoolSizeFloor()
+    {
+        return maxPoolSizeFloor;
+    }
+
+    public int getWarmMinIdle()
+    {
+        return warmMinIdle;
+    }
+
+    public Duration getWarmUpLookahead()
+    {
+        return warmUpLookahead;
+    }
+
+    public int getScheduleMinimumActiveDays()
+    {
+        return scheduleMinimumActiveDays;
+    }
+
+    public Duration getScheduleRetention()
+    {
+        return scheduleRetention;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AdaptivePoolConfiguration{" +
+                "enabled=" + enabled +
+                ", period=" + period +
+                ", minIdleCeiling=" + minIdleCeiling +
+                ", maxPoolSizeFloor=" + maxPoolSizeFloor +
+                ", warmMinIdle=" + warmMinIdle +
+                ", warmUpLookahead=" + warmUpLookahead +
+                ", scheduleMinimumActiveDays=" + scheduleMinimumActiveDays +
+                ", scheduleRetention=" + scheduleRetention +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecification;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceStatistics;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+
+/*
+    Resizes Hikari pools at runtime, through the pool's HikariConfigMXBean, based on observed demand.
+    Raising minimumIdle makes Hikari's own housekeeper fill the pool ahead of requests, which is how pools are pre-warmed.
+ */
+public class AdaptivePoolSizer
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+    // a pool seeing at least this many connection requests per minute is considered active
+    private static final double ACTIVE_REQUEST_RATE_PER_MINUTE = 1.0;
+
+    private final AdaptivePoolConfiguration configuration;
+
+    public AdaptivePoolSizer(AdaptivePoolConfiguration configuration)
+    {
+        this.configuration = configuration;
+    }
+
+    public void resize(DataSourceWithStatistics pool, PoolActivitySchedule schedule, long timeInMillis)
+    {
+        DataSource dataSource = pool.getDataSource();
+        if (!(dataSource instanceof HikariDataSource) || ((HikariDataSource) dataSource).isClosed())
+        {
+            return;
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        HikariPoolMXBean poolMXBean = hikariDataSource.getHikariPoolMXBean();
+        if (poolMXBean == null)
+        {
+            return;
+        }
+
+        DataSourceStatistics statistics = pool.getStatistics();
+        double requestRate = statistics.sampleRequestRate();
+        int peakDemand = statistics.recordDemand(poolMXBean.getActiveConnections() + poolMXBean.getThreadsAwaitingConnection());
+        boolean scheduled = schedule != null && pool.getIdentityState().isValid() && schedule.isScheduledWithin(timeInMillis, this.configuration.getWarmUpLookahead(), this.configuration.getScheduleMinimumActiveDays());
+
+        DataSourceSpecification specification = pool.getDataSourceSpecification();
+        int maximumPoolSize = Math.max(specification.getMinPoolSize(), this.targetMaximumPoolSize(peakDemand, specification.getMaxPoolSize()));
+        int minimumIdle = this.targetMinimumIdle(peakDemand, requestRate >= ACTIVE_REQUEST_RATE_PER_MINUTE || scheduled, specification.getMinPoolSize(), maximumPoolSize);
+
+        HikariConfigMXBean configMXBean = hikariDataSource.getHikariConfigMXBean();
+        int currentMaximumPoolSize = configMXBean.getMaximumPoolSize();
+        int currentMinimumIdle = configMXBean.getMinimumIdle();
+        if (maximumPoolSize == currentMaximumPoolSize && minimumIdle == currentMinimumIdle)
+        {
+            return;
+        }
+        // keep minimumIdle <= maximumPoolSize at every step
+        if (maximumPoolSize < currentMaximumPoolSize)
+        {
+            configMXBean.setMinimumIdle(minimumIdle);
+            configMXBean.setMaximumPoolSize(maximumPoolSize);
+        }
+        else
+        {
+            configMXBean.setMaximumPoolSize(maximumPoolSize);
+            configMXBean.setMinimumIdle(minimumIdle);
+        }
+        LOGGER.info("Pool [{}] resized : minimumIdle {} -> {}, maximumPoolSize {} -> {} (requestRate={}/min, peakDemand={}, scheduled={})",
+                pool.getPoolName(), currentMinimumIdle, minimumIdle, currentMaximumPoolSize, maximumPoolSize, requestRate, peakDemand, scheduled);
+    }
+
+    int targetMaximumPoolSize(int peakDemand, int configuredMaximumPoolSize)
+    {
+        int floor = this.configuration.getMaxPoolSizeFloor();
+        if (floor == 0 || floor >= configuredMaximumPoolSize)
+        {
+            return configuredMaximumPoolSize;
+        }
+        // leave head room for the demand to double before the next resize
+        return Math.min(configuredMaximumPoolSize, Math.max(floor, peakDemand * 2));
+    }
+
+    int targetMinimumIdle(int peakDemand, boolean active, int configuredMinimumIdle, int maximumPoolSize)
+    {
+        int target = Math.max(peakDemand, active ? this.configuration.getWarmMinIdle() : 0);
+        int ceiling = Math.min(this.configuration.getMinIdleCeiling(), maximumPoolSize);
+        return Math.max(configuredMinimumIdle, Math.min(target, ceiling));
+    }
+}
@@ -131,6 +131,13 @@ public class ConnectionStateManager implements Closeable
         EXECUTOR_SERVICE = Executors.newScheduledThreadPool(1, threadFactory);
         EXECUTOR_SERVICE.scheduleWithFixedDelay(connectionStateHousekeepingTask, 0, evictionDurationInSeconds, TimeUnit.SECONDS);
         LOGGER.info("ConnectionStateManager.HouseKeeper thread frequency. Time period={}, Time unit={}", evictionDurationInSeconds, TimeUnit.SECONDS);
+        AdaptivePoolConfiguration adaptivePoolConfiguration = AdaptivePoolConfiguration.fromSystemProperties();
+        if (adaptivePoolConfiguration.isEnabled())
+        {
+            long periodInSeconds = adaptivePoolConfiguration.getPeriod().getSeconds();
+            EXECUTOR_SERVICE.scheduleWithFixedDelay(new AdaptivePoolSizingTask(), periodInSeconds, periodInSeconds, TimeUnit.SECONDS);
+            LOGGER.info("ConnectionStateManager.HouseKeeper adaptive pool sizing enabled with {}", adaptivePoolConfiguration);
+        }
     }
 
     static long resolveEvictionDuration()
@@ -174,6 +181,10 @@ public class ConnectionStateManager implements Closeable
 
     private final KeyLockManager<String> poolLockManager = KeyLockManager.newManager();
     private final ConcurrentMutableMap<String, DataSourceWithStatistics> connectionPools = ConcurrentHashMap.newMap();
+    // activity schedules outlive the pools they describe, so that scheduled pools can be recognized after an eviction
+    private final ConcurrentMutableMap<String, PoolActivitySchedule> poolSchedules = ConcurrentHashMap.newMap();
+    private final AdaptivePoolConfiguration adaptivePoolConfiguration;
+    private final AdaptivePoolSizer adaptivePoolSizer;
 
     private Clock clock;
 
@@ -183,9 +194,26 @@ public class ConnectionStateManager implements Closeable
     }
 
     ConnectionStateManager(Clock clock)
+    {
+        this(clock, AdaptivePoolConfiguration.fromSystemProperties());
+    }
+
+    ConnectionStateManager(Clock clock, AdaptivePoolConfiguration adaptivePoolConfiguration)
     {
         // singleton
         this.clock = clock;
+        this.adaptivePoolConfiguration = adaptivePoolConfiguration;
+        this.adaptivePoolSizer = new AdaptivePoolSizer(adaptivePoolConfiguration);
+    }
+
+    public AdaptivePoolConfiguration getAdaptivePoolConfiguration()
+    {
+        return this.adaptivePoolConfiguration;
+    }
+
+    public PoolActivitySchedule getPoolSchedule(String poolName)
+    {
+        return this.poolSchedules.get(poolName);
     }
 
     // Synchronizes using concurrent map's locks
@@ -225,11 +253,56 @@ public class ConnectionStateManager implements Closeable
     protected Set<Pair<String, DataSourceStatistics>> findUnusedPoolsOlderThan(Duration duration)
     {
         return this.connectionPools.values().stream()
-                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections())
+                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections() && !this.isRetainedOnSchedule(ds))
                 .map(ds -> Tuples.pair(ds.getPoolName(), DataSourceStatistics.clone(ds.getStatistics())))
                 .collect(Collectors.toSet());
     }
 
+    /*
+        A pool of an identity that is active on a schedule is retained, while its identity remains valid, until the scheduled activity is
+        over: that is while the current or the next slot of the schedule is active. Retention is bounded by the configured schedule
+        retention since the pool was last used.
+     */
+    private boolean isRetainedOnSchedule(DataSourceWithStatistics ds)
+    {
+        if (!this.adaptivePoolConfiguration.isEnabled())
+        {
+            return false;
+        }
+        PoolActivitySchedule schedule = this.poolSchedules.get(ds.getPoolName());
+        long now = this.clock.millis();
+        return schedule != null
+                && now - schedule.getLastActivity() < this.adaptivePoolConfiguration.getScheduleRetention().toMillis()
+                && schedule.isScheduledWithin(now, PoolActivitySchedule.SLOT, this.adaptivePoolConfiguration.getScheduleMinimumActiveDays())
+                && ds.getIdentityState().isValid();
+    }
+
+    private void evictExpiredPoolSchedules()
+    {
+        long now = this.clock.millis();
+        long retention = this.adaptivePoolConfiguration.getScheduleRetention().toMillis();
+        this.poolSchedules.keyValuesView()
+                .select(entry -> !this.connectionPools.containsKey(entry.getOne()) && now - entry.getTwo().getLastActivity() >= retention)
+                .toList()
+                .forEach(entry -> this.poolSchedules.remove(entry.getOne()));
+    }
+
+    public void resizePools()
+    {
+        long now = this.clock.millis();
+        this.connectionPools.valuesView().forEach(pool ->
+        {
+            try
+            {
+                this.adaptivePoolSizer.resize(pool, this.poolSchedules.get(pool.getPoolName()), now);
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("ConnectionStateManager.HouseKeeper failed to resize pool {}", pool.getPoolName(), e);
+            }
+        });
+    }
+
     public void evictUnusedPoolsOlderThan(Duration duration)
     {
         // step 1 - gather pools to be deleted without acquiring a global lock
@@ -259,6 +332,7 @@ public class ConnectionStateManager implements Closeable
         int sizeBeforePurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper : Starting  with cache size={}", sizeBeforePurge);
         this.evictUnusedPoolsOlderThan(Duration.ofSeconds(durationInSeconds));
+        this.evictExpiredPoolSchedules();
         int sizeAfterPurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper: Evicted={}", sizeBeforePurge - sizeAfterPurge);
     }
@@ -311,11 +385,31 @@ public class ConnectionStateManager implements Closeable
         }
     }
 
+    static class AdaptivePoolSizingTask implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            try
+            {
+                ConnectionStateManager.getInstance().resizePools();
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("ConnectionStateManager.HouseKeeper pool resizing failed {}", e);
+            }
+        }
+    }
+
     public DataSourceWithStatistics getDataSourceForIdentityIfAbsentBuild(IdentityState identityState, DataSourceSpecification dataSourceSpecification, Supplier<DataSource> dataSourceBuilder)
     {
 
         String principal = identityState.getIdentity().getName();
         String poolName = poolNameFor(identityState.getIdentity(), dataSourceSpecification.getConnectionKey());
+        if (this.adaptivePoolConfiguration.isEnabled())
+        {
+            this.poolSchedules.getIfAbsentPut(poolName, PoolActivitySchedule::new).recordActivity(this.clock.millis());
+        }
         ConnectionKey connectionKey = dataSourceSpecification.getConnectionKey();
         //why do we need getIfAbsentPut?  the first ever pool creation request will create a new Hikari Data Source
         //because we have configured hikari to fail fast a new connection will be created.
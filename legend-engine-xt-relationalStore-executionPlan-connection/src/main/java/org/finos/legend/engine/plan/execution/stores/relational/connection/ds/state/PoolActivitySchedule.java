@@ -0,0 +1,91 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/*
+    Records, for each hour of the day (UTC), on how many distinct days a pool has been used.
+    This lets the adaptive pool sizer recognize identities that are active on a schedule (e.g batch jobs, start of business day)
+    and warm their pools up ahead of time.
+
+    Schedules are kept by the connection state manager independently of the pools themselves, so that they survive pool eviction.
+ */
+public class PoolActivitySchedule
+{
+    public static final Duration SLOT = Duration.ofHours(1);
+
+    private static final long MILLIS_PER_HOUR = SLOT.toMillis();
+    private static final int HOURS_PER_DAY = 24;
+
+    private final long[] lastActiveDayByHour = new long[HOURS_PER_DAY];
+    private final int[] activeDaysByHour = new int[HOURS_PER_DAY];
+    private volatile long lastRecordedEpochHour = -1;
+    private volatile long lastActivity;
+
+    public PoolActivitySchedule()
+    {
+        Arrays.fill(this.lastActiveDayByHour, -1);
+    }
+
+    public void recordActivity(long timeInMillis)
+    {
+        this.lastActivity = timeInMillis;
+        long epochHour = timeInMillis / MILLIS_PER_HOUR;
+        if (epochHour != this.lastRecordedEpochHour)
+        {
+            synchronized (this)
+            {
+                int hour = (int) (epochHour % HOURS_PER_DAY);
+                long day = epochHour / HOURS_PER_DAY;
+                if (this.lastActiveDayByHour[hour] != day)
+                {
+                    this.lastActiveDayByHour[hour] = day;
+                    this.activeDaysByHour[hour]++;
+                }
+                this.lastRecordedEpochHour = epochHour;
+            }
+        }
+    }
+
+    public long getLastActivity()
+    {
+        return this.lastActivity;
+    }
+
+    public synchronized int getActiveDays(int hourOfDay)
+    {
+        return this.activeDaysByHour[hourOfDay];
+    }
+
+    /**
+     * @return true if the pool has been active, on at least minimumActiveDays distinct days, during an hour of the day
+     * overlapping the window [timeInMillis, timeInMillis + lookahead]
+     */
+    public synchronized boolean isScheduledWithin(long timeInMillis, Duration lookahead, int minimumActiveDays)
+    {
+        long fromEpochHour = timeInMillis / MILLIS_PER_HOUR;
+        long toEpochHour = (timeInMillis + lookahead.toMillis()) / MILLIS_PER_HOUR;
+        for (long epochHour = fromEpochHour; epochHour <= toEpochHour && epochHour - fromEpochHour < HOURS_PER_DAY; epochHour++)
+        {
+            if (this.activeDaysByHour[(int) (epochHour % HOURS_PER_DAY)] >= minimumActiveDays)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.security.auth.Subject;
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestLocalH2TestDataSnapshot
+{
+    private static final List<String> SETUP_SQLS = Lists.mutable.with(
+            "Drop schema if exists SNAPSHOT_TEST cascade;",
+            "Create Schema SNAPSHOT_TEST;",
+            "Create Table SNAPSHOT_TEST.PERSON(ID INT PRIMARY KEY, NAME VARCHAR(100));",
+            "insert into SNAPSHOT_TEST.PERSON (ID, NAME) values (1, 'John');",
+            "insert into SNAPSHOT_TEST.PERSON (ID, NAME) values (2, 'Jane');");
+
+    @Test
+    public void testEachConnectionGetsAFreshCopyOfTheSeedData() throws Exception
+    {
+        LocalH2DataSourceSpecification specification = new LocalH2DataSourceSpecification(SETUP_SQLS, new H2Manager(), new TestDatabaseAuthenticationStrategy());
+        Identity identity = IdentityFactoryProvider.getInstance().makeIdentity((Subject) null);
+
+        try (Connection first = specification.getConnectionUsingIdentity(identity, TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier());
+             Connection second = specification.getConnectionUsingIdentity(identity, TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier()))
+        {
+            Assert.assertEquals(Lists.mutable.with("John", "Jane"), readNames(first));
+            try (Statement statement = first.createStatement())
+            {
+                statement.executeUpdate("insert into SNAPSHOT_TEST.PERSON (ID, NAME) values (3, 'Mary')");
+                statement.executeUpdate("Create Table SNAPSHOT_TEST.OTHER(ID INT)");
+            }
+            Assert.assertEquals(Lists.mutable.with("John", "Jane"), readNames(second));
+        }
+
+        try (Connection reused = specification.getConnectionUsingIdentity(identity, TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier()))
+        {
+            Assert.assertEquals(Lists.mutable.with("John", "Jane"), readNames(reused));
+        }
+    }
+
+    @Test
+    public void testRestoreRunsTheDropsOfTheSetupSqls() throws Exception
+    {
+        LocalH2TestDataSnapshot snapshot = new LocalH2TestDataSnapshot(SETUP_SQLS);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:snapshotDrops"))
+        {
+            snapshot.apply(connection);
+            try (Statement statement = connection.createStatement())
+            {
+                statement.executeUpdate("Create Table SNAPSHOT_TEST.OTHER(ID INT)");
+                statement.executeUpdate("Create Table PUBLIC.OTHER(ID INT)");
+            }
+            snapshot.apply(connection);
+            Assert.assertEquals(Lists.mutable.with("John", "Jane"), readNames(connection));
+            // dropped with the schema by the setup SQLs, as a replay would
+            Assert.assertFalse(tableExists(connection, "SNAPSHOT_TEST", "OTHER"));
+            Assert.assertTrue(tableExists(connection, "PUBLIC", "OTHER"));
+        }
+        finally
+        {
+            snapshot.evict();
+        }
+    }
+
+    @Test
+    public void testEvictionWaitsForInFlightRestores() throws Exception
+    {
+        LocalH2TestDataSnapshot snapshot = new LocalH2TestDataSnapshot(SETUP_SQLS);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:snapshotEviction"))
+        {
+            snapshot.apply(connection);
+            File script = snapshot.getScript();
+            Assert.assertTrue(script.exists());
+
+            Assert.assertTrue(snapshot.acquire());
+            snapshot.evict();
+            Assert.assertTrue(script.exists());
+            snapshot.release();
+            Assert.assertFalse(script.exists());
+
+            // once evicted, the setup SQLs are replayed
+            Assert.assertFalse(snapshot.acquire());
+            snapshot.apply(connection);
+            Assert.assertEquals(Lists.mutable.with("John", "Jane"), readNames(connection));
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String schema, String table) throws Exception
+    {
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, schema, table, null))
+        {
+            return resultSet.next();
+        }
+    }
+
+    private static List<String> readNames(Connection connection) throws Exception
+    {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select NAME from SNAPSHOT_TEST.PERSON order by ID"))
+        {
+            while (resultSet.next())
+            {
+                names.add(resultSet.getString(1));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,186 @@
+//  Copyright 2022 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecification;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceStatistics;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Collections;
+
+public class TestAdaptivePoolSizing extends TestConnectionManagement
+{
+    private static final AdaptivePoolConfiguration CONFIGURATION = new AdaptivePoolConfiguration(true, Duration.ofSeconds(30), 5, 10, 1, Duration.ofMinutes(15), 2, Duration.ofDays(3));
+
+    @Before
+    public void setup() throws Exception
+    {
+        super.setup();
+        // 10:05 UTC, so that the test can move by minutes without leaving the hour
+        this.clock = new FakeClock(Duration.ofDays(19000).plusHours(10).plusMinutes(5).toMillis());
+        this.connectionStateManager = new ConnectionStateManager(clock, CONFIGURATION);
+        ConnectionStateManager.setInstanceForTesting(this.connectionStateManager);
+    }
+
+    @Test
+    public void testTargetMinimumIdle()
+    {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(CONFIGURATION);
+        Assert.assertEquals(0, sizer.targetMinimumIdle(0, false, 0, 100));
+        Assert.assertEquals(1, sizer.targetMinimumIdle(0, true, 0, 100));
+        Assert.assertEquals(3, sizer.targetMinimumIdle(3, false, 0, 100));
+        // bounded by the configured ceiling and by the pool's maximum size
+        Assert.assertEquals(5, sizer.targetMinimumIdle(50, true, 0, 100));
+        Assert.assertEquals(2, sizer.targetMinimumIdle(50, true, 0, 2));
+        // never below the pool's configured minimum
+        Assert.assertEquals(4, sizer.targetMinimumIdle(0, false, 4, 100));
+    }
+
+    @Test
+    public void testTargetMaximumPoolSize()
+    {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(CONFIGURATION);
+        Assert.assertEquals(10, sizer.targetMaximumPoolSize(0, 100));
+        Assert.assertEquals(30, sizer.targetMaximumPoolSize(15, 100));
+        Assert.assertEquals(100, sizer.targetMaximumPoolSize(80, 100));
+        Assert.assertEquals(8, sizer.targetMaximumPoolSize(80, 8));
+
+        AdaptivePoolSizer minIdleOnlySizer = new AdaptivePoolSizer(new AdaptivePoolConfiguration(true, Duration.ofSeconds(30), 5, 0, 1, Duration.ofMinutes(15), 2, Duration.ofDays(3)));
+        Assert.assertEquals(100, minIdleOnlySizer.targetMaximumPoolSize(0, 100));
+    }
+
+    @Test
+    public void testPoolActivitySchedule()
+    {
+        long start = clock.millis();
+        PoolActivitySchedule schedule = new PoolActivitySchedule();
+        schedule.recordActivity(start);
+        schedule.recordActivity(start + Duration.ofMinutes(20).toMillis());
+        Assert.assertEquals(1, schedule.getActiveDays(10));
+        Assert.assertFalse(schedule.isScheduledWithin(start, Duration.ofMinutes(15), 2));
+
+        schedule.recordActivity(start + Duration.ofDays(1).toMillis());
+        Assert.assertEquals(2, schedule.getActiveDays(10));
+        Assert.assertEquals(0, schedule.getActiveDays(11));
+        // 09:50 the following day is within the warm up lookahead, 09:30 is not
+        long nextDay = start + Duration.ofDays(2).toMillis();
+        Assert.assertTrue(schedule.isScheduledWithin(nextDay - Duration.ofMinutes(15).toMillis(), Duration.ofMinutes(15), 2));
+        Assert.assertFalse(schedule.isScheduledWithin(nextDay - Duration.ofMinutes(35).toMillis(), Duration.ofMinutes(15), 2));
+    }
+
+    @Test
+    public void testConnectionWaitHistogram()
+    {
+        DataSourceStatistics statistics = new DataSourceStatistics();
+        statistics.recordConnectionWait(0);
+        statistics.recordConnectionWait(7);
+        statistics.recordConnectionWait(60000);
+        Assert.assertEquals(Long.valueOf(1), statistics.getConnectionWaitHistogram().get("le_1ms"));
+        Assert.assertEquals(Long.valueOf(1), statistics.getConnectionWaitHistogram().get("le_10ms"));
+        Assert.assertEquals(Long.valueOf(1), statistics.getConnectionWaitHistogram().get("gt_30000ms"));
+        Assert.assertEquals(60007, statistics.getTotalConnectionWait());
+        Assert.assertEquals(60000, statistics.getMaxConnectionWait());
+
+        DataSourceStatistics clone = DataSourceStatistics.clone(statistics);
+        Assert.assertEquals(statistics, clone);
+        Assert.assertEquals(statistics.getConnectionWaitHistogram(), clone.getConnectionWaitHistogram());
+        Assert.assertEquals(60000, clone.getMaxConnectionWait());
+        statistics.recordConnectionWait(3);
+        Assert.assertNotEquals(statistics, clone);
+    }
+
+    @Test
+    public void testActivePoolIsWarmedUp() throws Exception
+    {
+        Identity user = IdentityFactoryProvider.getInstance().makeIdentityForTesting("user1");
+        DataSourceSpecification ds = buildLocalDataSourceSpecification(Collections.emptyList());
+        String poolName = connectionStateManager.poolNameFor(user, ds.getConnectionKey());
+
+        requestConnection(user, ds).close();
+        connectionStateManager.resizePools();
+        HikariDataSource hikariDataSource = (HikariDataSource) connectionStateManager.get(poolName).getDataSource();
+        Assert.assertEquals(0, hikariDataSource.getMinimumIdle());
+        Assert.assertEquals(10, hikariDataSource.getMaximumPoolSize());
+
+        for (int i = 0; i < 4; i++)
+        {
+            requestConnection(user, ds).close();
+        }
+        clock.advance(Duration.ofMinutes(1));
+        connectionStateManager.resizePools();
+        Assert.assertEquals(1, hikariDataSource.getMinimumIdle());
+    }
+
+    @Test
+    public void testScheduledPoolIsRetained() throws Exception
+    {
+        Identity user1 = IdentityFactoryProvider.getInstance().makeIdentityForTesting("user1");
+        Identity user2 = IdentityFactoryProvider.getInstance().makeIdentityForTesting("user2");
+        DataSourceSpecification ds = buildLocalDataSourceSpecification(Collections.emptyList());
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+
+        // user1 is active at 10:05 on two consecutive days, user2 only on the second day
+        requestConnection(user1, ds).close();
+        clock.advance(Duration.ofDays(1));
+        requestConnection(user1, ds).close();
+        requestConnection(user2, ds).close();
+
+        clock.advance(Duration.ofMinutes(10));
+        houseKeeper.run();
+        assertPoolExists(true, user1.getName(), ds.getConnectionKey());
+        Assert.assertNull(connectionStateManager.get(connectionStateManager.poolNameFor(user2, ds.getConnectionKey())));
+        Assert.assertNotNull(connectionStateManager.getPoolSchedule(connectionStateManager.poolNameFor(user2, ds.getConnectionKey())));
+
+        // the schedule is forgotten once the retention period has elapsed
+        clock.advance(Duration.ofDays(3));
+        houseKeeper.run();
+        Assert.assertNull(connectionStateManager.get(connectionStateManager.poolNameFor(user1, ds.getConnectionKey())));
+        Assert.assertNull(connectionStateManager.getPoolSchedule(connectionStateManager.poolNameFor(user1, ds.getConnectionKey())));
+        Assert.assertNull(connectionStateManager.getPoolSchedule(connectionStateManager.poolNameFor(user2, ds.getConnectionKey())));
+    }
+
+    @Test
+    public void testScheduledPoolIsReleasedOnceTheScheduledActivityIsOver() throws Exception
+    {
+        Identity user = IdentityFactoryProvider.getInstance().makeIdentityForTesting("user1");
+        DataSourceSpecification ds = buildLocalDataSourceSpecification(Collections.emptyList());
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+
+        // user is active at 09:05 on three consecutive days
+        clock.advance(Duration.ofHours(23));
+        for (int i = 0; i < 3; i++)
+        {
+            clock.advance(Duration.ofDays(1));
+            requestConnection(user, ds).close();
+        }
+
+        clock.advance(Duration.ofMinutes(10));
+        houseKeeper.run();
+        assertPoolExists(true, user.getName(), ds.getConnectionKey());
+
+        // by 15:05 the scheduled activity is over, so the pool is released although its schedule is kept
+        clock.advance(Duration.ofHours(5).plusMinutes(50));
+        houseKeeper.run();
+        Assert.assertNull(connectionStateManager.get(connectionStateManager.poolNameFor(user, ds.getConnectionKey())));
+        Assert.assertNotNull(connectionStateManager.getPoolSchedule(connectionStateManager.poolNameFor(user, ds.getConnectionKey())));
+    }
+}
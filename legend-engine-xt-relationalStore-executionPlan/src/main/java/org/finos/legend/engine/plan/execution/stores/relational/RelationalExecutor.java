@@ -39,14 +39,17 @@ import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.blockConnection.BlockConnection;
+import org.finos.legend.engine.plan.execution.stores.relational.config.FetchSizePolicy;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.PreparedStatementCache;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.manager.ConnectionManagerSelector;
 import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.relational.result.PreparedTempTableResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultCache;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtension;
 import org.finos.legend.engine.plan.execution.stores.relational.result.SQLExecutionResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.VoidRelationalResult;
@@ -54,6 +57,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.Execut
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.pac4j.core.profile.CommonProfile;
@@ -62,6 +66,7 @@ import org.slf4j.Logger;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -78,12 +83,17 @@ public class RelationalExecutor
 
     private final ConnectionManagerSelector connectionManager;
     private final RelationalExecutionConfiguration relationalExecutionConfiguration;
+    private final RelationalResultCache resultCache;
     private MutableList<Function2<ExecutionState, List<Map<String, Object>>, Result>> resultInterpreterExtensions;
 
     private static final MutableMap<String, String> DATA_TYPE_RELATIONAL_TYPE_MAP = Maps.mutable.empty();
 
+    private static final Configuration SQL_TEMPLATE_CONFIGURATION = new Configuration();
+
     static
     {
+        SQL_TEMPLATE_CONFIGURATION.setNumberFormat("computer");
+
         DATA_TYPE_RELATIONAL_TYPE_MAP.put("Integer", "INT");
         DATA_TYPE_RELATIONAL_TYPE_MAP.put("Float", "FLOAT");
         DATA_TYPE_RELATIONAL_TYPE_MAP.put("Number", "FLOAT");
@@ -107,6 +117,11 @@ public class RelationalExecutor
         this.flowProviderHolder = flowProviderHolder;
         this.connectionManager = new ConnectionManagerSelector(temporarytestdb, relationalExecutionConfiguration.oauthProfiles, flowProviderHolder);
         this.relationalExecutionConfiguration = relationalExecutionConfiguration;
+        if (relationalExecutionConfiguration.bindParameters)
+        {
+            PreparedStatementCache.getInstance().setMaxStatementsPerConnection(relationalExecutionConfiguration.preparedStatementCacheSize);
+        }
+        this.resultCache = relationalExecutionConfiguration.isResultCacheEnabled() ? new RelationalResultCache(relationalExecutionConfiguration.resultCacheExpireAfterWriteSeconds, relationalExecutionConfiguration.resultCacheMaximumWeightBytes, relationalExecutionConfiguration.resultCacheMaxRowsPerResult, relationalExecutionConfiguration.resultCacheDatabases, relationalExecutionConfiguration.resultCacheSqlPatterns) : null;
         this.resultInterpreterExtensions = Iterate.addAllTo(ServiceLoader.load(ResultInterpreterExtension.class), Lists.mutable.empty()).collect(ResultInterpreterExtension::additionalResultBuilder);
     }
 
@@ -120,14 +135,28 @@ public class RelationalExecutor
         return this.connectionManager;
     }
 
+    /**
+     * The cache of relational results kept across requests, or null when it is not enabled by the configuration.
+     */
+    public RelationalResultCache getResultCache()
+    {
+        return this.resultCache;
+    }
+
     public Result execute(RelationalExecutionNode node, MutableList<CommonProfile> profiles, ExecutionState executionState)
     {
         Connection connectionManagerConnection;
         String databaseTimeZone = node.getDatabaseTimeZone() == null ? DEFAULT_DB_TIME_ZONE : node.getDatabaseTimeZone();
         String databaseTypeName = node.getDatabaseTypeName();
         List<String> tempTableList = new FastList<>();
+        RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational);
 
-        connectionManagerConnection = getConnection(node, profiles, ((RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational)));
+        if (this.isResultCacheable(node, relationalStoreExecutionState, executionState))
+        {
+            return this.executeWithResultCache(node, profiles, executionState, relationalStoreExecutionState, databaseTimeZone, databaseTypeName);
+        }
+
+        connectionManagerConnection = getConnection(node, profiles, relationalStoreExecutionState);
         Span span = GlobalTracer.get().activeSpan();
         if (span != null)
         {
@@ -140,7 +169,7 @@ public class RelationalExecutor
         {
             if ((ExecutionNodeTDSResultHelper.isResultTDS(node) || (ExecutionNodeResultHelper.isResultSizeRangeSet(node) && !ExecutionNodeResultHelper.isSingleRecordResult(node))) && !executionState.transformAllocation)
             {
-                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutionConfiguration.getFetchSizePolicy(databaseTypeName));
             }
             else if (node.isResultVoid())
             {
@@ -149,7 +178,7 @@ public class RelationalExecutor
             else
             {
                 // Refactor and clean up the flush to Constant
-                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutionConfiguration.getFetchSizePolicy(databaseTypeName));
 
                 if (node.isResultPrimitiveType())
                 {
@@ -204,8 +233,50 @@ public class RelationalExecutor
         }
         else
         {
-            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutionConfiguration.getFetchSizePolicy(databaseTypeName));
+        }
+    }
+
+    private boolean isResultCacheable(RelationalExecutionNode node, RelationalStoreExecutionState relationalStoreExecutionState, ExecutionState executionState)
+    {
+        // Only results streamed out of a query which can run on a connection of its own: queries reading temporary
+        // tables, or within a block of statements sharing their connection, can't be answered from another request
+        if (this.resultCache == null || executionState.inAllocation || node.isResultVoid() || relationalStoreExecutionState.retainConnection())
+        {
+            return false;
+        }
+        String sqlQuery = node.sqlQuery();
+        if (sqlQuery == null || !this.resultCache.isAllowed(node.connection.element, sqlQuery))
+        {
+            return false;
         }
+        for (Map.Entry<String, Result> var : executionState.getResults().entrySet())
+        {
+            if ((var.getValue() instanceof StreamingResult || var.getValue() instanceof PreparedTempTableResult) && sqlQuery.contains("(${" + var.getKey() + "})"))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Result executeWithResultCache(RelationalExecutionNode node, MutableList<CommonProfile> profiles, ExecutionState executionState, RelationalStoreExecutionState relationalStoreExecutionState, String databaseTimeZone, String databaseTypeName)
+    {
+        // The sql is rendered first, so that cached results are served without acquiring any connection
+        this.prepareForSQLExecution(node, null, databaseTimeZone, databaseTypeName, FastList.newList(), profiles, executionState);
+        RelationalResultCache.Key key = RelationalResultCache.newKey(
+                this.connectionManager.generateKeyFromDatabaseConnection(node.connection),
+                IdentityFactoryProvider.getInstance().makeIdentity(profiles).getName(),
+                relationalStoreExecutionState.getRuntimeContext().getContextParams(),
+                (RelationalExecutionActivity) executionState.activities.getLast());
+        FetchSizePolicy fetchSizePolicy = this.relationalExecutionConfiguration.getFetchSizePolicy(databaseTypeName);
+
+        ResultSet cachedResultSet = this.resultCache.get(key, () -> new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, getConnection(node, profiles, relationalStoreExecutionState), profiles, FastList.newList(), executionState.topSpan, fetchSizePolicy));
+        if (cachedResultSet == null)
+        {
+            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, getConnection(node, profiles, relationalStoreExecutionState), profiles, FastList.newList(), executionState.topSpan, fetchSizePolicy);
+        }
+        return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, cachedResultSet, executionState.topSpan);
     }
 
     public static Result evaluateAdditionalExtractors(MutableList<Function2<ExecutionState, List<Map<String, Object>>, Result>> resultInterpreterExtensions, ExecutionState executionState, List<Map<String, Object>> rowValueMaps)
@@ -242,7 +313,7 @@ public class RelationalExecutor
             return new VoidRelationalResult(executionState.activities, connectionManagerConnection, profiles);
         }
 
-        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan);
+        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, profiles, tempTableList, executionState.topSpan, this.relationalExecutionConfiguration.getFetchSizePolicy(databaseType));
     }
 
     private void prepareForSQLExecution(ExecutionNode node, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, MutableList<CommonProfile> profiles, ExecutionState executionState)
@@ -272,23 +343,27 @@ public class RelationalExecutor
             throw new RuntimeException("Relational execution not supported on external server");
         }
 
-        try
+        RelationalExecutionActivity activity = this.relationalExecutionConfiguration.bindParameters ? SQLParameterBinder.bind(sqlQuery, executionState, databaseTimeZone) : null;
+        if (activity == null)
         {
-            sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
-            Span span = GlobalTracer.get().activeSpan();
-            if (span != null)
+            try
+            {
+                activity = new RelationalExecutionActivity(FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone));
+            }
+            catch (Exception e)
             {
-                span.setTag("generatedSQL", sqlQuery);
+                throw new IllegalStateException("Reprocessing sql failed with vars " + executionState.getResults().keySet(), e);
             }
         }
-        catch (Exception e)
+        Span span = GlobalTracer.get().activeSpan();
+        if (span != null)
         {
-            throw new IllegalStateException("Reprocessing sql failed with vars " + executionState.getResults().keySet(), e);
+            span.setTag("generatedSQL", activity.sql);
         }
 
-        LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery).toString());
+        LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + activity.sql).toString());
 
-        executionState.activities.add(new RelationalExecutionActivity(sqlQuery));
+        executionState.activities.add(activity);
     }
 
     private void prepareTempTable(Connection connectionManagerConnection, StreamingResult res, String tempTableName, String databaseTypeName, String databaseTimeZone, List<String> tempTableList)
@@ -361,9 +436,7 @@ public class RelationalExecutor
         String result = "";
         try
         {
-            Configuration cfg = new Configuration();
-            cfg.setNumberFormat("computer");
-            Template t = new Template("sqlTemplate", new StringReader(templateFunctions + "\n" + query), cfg);
+            Template t = new Template("sqlTemplate", new StringReader(templateFunctions + "\n" + query), SQL_TEMPLATE_CONFIGURATION);
             StringWriter stringWriter = new StringWriter();
             t.process(vars, stringWriter);
             result = stringWriter.toString();
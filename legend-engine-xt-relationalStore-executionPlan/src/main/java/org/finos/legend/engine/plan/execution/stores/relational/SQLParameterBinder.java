@@ -0,0 +1,275 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreemarkerInstanceOfMethod;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the sql of a relational node with the plan's parameters as JDBC bind variables instead of inlined literals.
+ * <p>
+ * The template is rendered as usual, except that each bindable parameter value (strings, numbers and dates, on their
+ * own or in collections) is replaced by a marker. Markers which end up as a whole quoted literal ({@code '...'}) or,
+ * for numbers, as a bare token become {@code ?}; dates are bound as {@link Timestamp}s or {@link Date}s normalized to
+ * the database time zone like {@link ResultNormalizer} does. If any marker ends up anywhere else (inside a larger
+ * literal such as a like pattern, as a bare string, or transformed by a template function) binding is given up on
+ * and the query is rendered with literals as before.
+ * <p>
+ * Only the plan's own parameters are bound. Results of other nodes are still inlined, including the IN lists that
+ * allocation nodes render as {@code inFilterClause_*} values, so queries filtering on large collections are prepared
+ * once per distinct collection.
+ */
+public class SQLParameterBinder
+{
+    // From the unicode private use area, so that they cannot clash with the sql or the parameter values
+    private static final char MARKER_START = '\uE000';
+    private static final char MARKER_END = '\uE001';
+    private static final int MAX_BIND_PARAMETERS = 2000;
+
+    private SQLParameterBinder()
+    {
+    }
+
+    /**
+     * @return the activity to execute, or null if the query cannot be executed with bind variables
+     */
+    public static RelationalExecutionActivity bind(String sqlQuery, ExecutionState executionState, String databaseTimeZone)
+    {
+        MutableList<Object> values = Lists.mutable.empty();
+        Map<String, Object> variableMap = new HashMap<>();
+        executionState.getResults().forEach((k, v) ->
+        {
+            if (v instanceof ConstantResult)
+            {
+                Object value = ((ConstantResult) v).getValue();
+                if (value != null)
+                {
+                    Object normalized = executionState.getParameterNames().contains(k) ? toMarkers(value, databaseTimeZone, values) : null;
+                    variableMap.put(k, normalized == null ? ResultNormalizer.normalizeToSql(value, databaseTimeZone) : normalized);
+                }
+            }
+        });
+        if (values.isEmpty() || values.size() > MAX_BIND_PARAMETERS)
+        {
+            return null;
+        }
+        variableMap.put("instanceOf", new FreemarkerInstanceOfMethod());
+
+        String rendered;
+        try
+        {
+            rendered = FreeMarkerExecutor.processRecursively(sqlQuery, variableMap, String.join("", executionState.getTemplateFunctions()));
+        }
+        catch (Exception e)
+        {
+            // A template function needed the actual value (arithmetic, date parsing...)
+            return null;
+        }
+        return replaceMarkers(rendered, values);
+    }
+
+    public static void setParameters(PreparedStatement statement, List<Object> parameters) throws SQLException
+    {
+        for (int i = 0; i < parameters.size(); i++)
+        {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    private static Object toMarkers(Object value, String databaseTimeZone, MutableList<Object> values)
+    {
+        if (value instanceof Iterable)
+        {
+            MutableList<Object> markers = Lists.mutable.empty();
+            for (Object element : (Iterable<?>) value)
+            {
+                Object marker = element == null ? null : toMarker(element, databaseTimeZone, values);
+                if (marker == null)
+                {
+                    return null;
+                }
+                markers.add(marker);
+            }
+            return markers;
+        }
+        return toMarker(value, databaseTimeZone, values);
+    }
+
+    private static String toMarker(Object value, String databaseTimeZone, MutableList<Object> values)
+    {
+        Object bindValue = toBindValue(value, databaseTimeZone);
+        if (bindValue == null)
+        {
+            return null;
+        }
+        values.add(bindValue);
+        return MARKER_START + Integer.toString(values.size() - 1) + MARKER_END;
+    }
+
+    private static Object toBindValue(Object value, String databaseTimeZone)
+    {
+        if (value instanceof String)
+        {
+            // Empty strings stay inlined: templates test parameters with ?has_content
+            return ((String) value).isEmpty() ? null : value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float || value instanceof BigDecimal)
+        {
+            return value;
+        }
+        if (value instanceof PureDate)
+        {
+            String normalized = (String) ResultNormalizer.normalizeToSql(value, databaseTimeZone);
+            PureDate date = (PureDate) value;
+            if (date.hasSecond())
+            {
+                return Timestamp.valueOf(normalized);
+            }
+            if (date.hasDay() && !date.hasHour())
+            {
+                return Date.valueOf(normalized);
+            }
+        }
+        return null;
+    }
+
+    private static RelationalExecutionActivity replaceMarkers(String rendered, List<Object> values)
+    {
+        StringBuilder sql = new StringBuilder(rendered.length());
+        MutableList<Object> parameters = Lists.mutable.empty();
+        int length = rendered.length();
+        int i = 0;
+        while (i < length)
+        {
+            char c = rendered.charAt(i);
+            if (c == '"' || c == '`')
+            {
+                // Quoted identifier
+                int identifierEnd = rendered.indexOf(c, i + 1);
+                if (identifierEnd < 0 || rendered.substring(i, identifierEnd).indexOf(MARKER_START) >= 0)
+                {
+                    return null;
+                }
+                sql.append(rendered, i, identifierEnd + 1);
+                i = identifierEnd + 1;
+            }
+            else if (c == '\'')
+            {
+                int literalEnd = literalEnd(rendered, i);
+                if (literalEnd < 0)
+                {
+                    return null;
+                }
+                String literal = rendered.substring(i, literalEnd + 1);
+                int markerEnd = literal.indexOf(MARKER_END);
+                if (literal.length() > 2 && literal.charAt(1) == MARKER_START && markerEnd == literal.length() - 2)
+                {
+                    Object value = values.get(Integer.parseInt(literal.substring(2, markerEnd)));
+                    sql.append('?');
+                    parameters.add(value instanceof Number ? value.toString() : value);
+                }
+                else if (literal.indexOf(MARKER_START) >= 0)
+                {
+                    return null;
+                }
+                else
+                {
+                    sql.append(literal);
+                }
+                i = literalEnd + 1;
+            }
+            else if (c == MARKER_START)
+            {
+                int markerEnd = rendered.indexOf(MARKER_END, i);
+                if (markerEnd < 0)
+                {
+                    return null;
+                }
+                Object value = values.get(Integer.parseInt(rendered.substring(i + 1, markerEnd)));
+                if (!(value instanceof Number))
+                {
+                    return null;
+                }
+                if (isRowLimit(sql))
+                {
+                    // Not every database accepts a bind variable for 'top n'
+                    sql.append(value);
+                }
+                else
+                {
+                    sql.append('?');
+                    parameters.add(value);
+                }
+                i = markerEnd + 1;
+            }
+            else if (c == MARKER_END)
+            {
+                return null;
+            }
+            else
+            {
+                sql.append(c);
+                i++;
+            }
+        }
+        return parameters.isEmpty() ? null : new RelationalExecutionActivity(sql.toString(), parameters);
+    }
+
+    private static int literalEnd(String sql, int start)
+    {
+        int i = start + 1;
+        while (i < sql.length())
+        {
+            if (sql.charAt(i) == '\'')
+            {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'')
+                {
+                    i += 2;
+                    continue;
+                }
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static boolean isRowLimit(StringBuilder sql)
+    {
+        int end = sql.length();
+        while (end > 0 && Character.isWhitespace(sql.charAt(end - 1)))
+        {
+            end--;
+        }
+        return end >= 3 && sql.substring(end - 3, end).equalsIgnoreCase("top") && (end == 3 || !Character.isLetterOrDigit(sql.charAt(end - 4)));
+    }
+}
@@ -14,14 +14,34 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.activity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 
+import java.util.Collections;
+import java.util.List;
+
 public class RelationalExecutionActivity extends ExecutionActivity
 {
     public String sql;
 
+    // Values of the sql's bind variables, in order, when the parameters of the plan are bound rather than inlined
+    @JsonIgnore
+    public List<Object> parameters;
+
     public RelationalExecutionActivity(String sqlQuery)
+    {
+        this(sqlQuery, Collections.emptyList());
+    }
+
+    public RelationalExecutionActivity(String sqlQuery, List<Object> parameters)
     {
         this.sql = sqlQuery;
+        this.parameters = parameters;
+    }
+
+    @JsonIgnore
+    public boolean hasParameters()
+    {
+        return !this.parameters.isEmpty();
     }
 }
@@ -0,0 +1,163 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import org.finos.legend.engine.plan.execution.stores.relational.blockConnection.BlockConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * How many rows relational results fetch per database round-trip.
+ * <p>
+ * {@code initialFetchSize} is set on the statement before the query is sent (0 keeps the driver's default). When
+ * {@code targetFetchBytes} is set, the fetch size of the remaining round-trips is then adapted to the shape of the
+ * result: as many rows as fit in that many bytes, estimated from the column types in the result set metadata, within
+ * {@code minFetchSize} and {@code maxFetchSize}. {@code useCursor} runs the query in a transaction, which is what
+ * makes drivers such as Postgres' stream the rows through a cursor instead of reading them all at once; the
+ * transaction is rolled back once the rows have been read.
+ * <p>
+ * Apart from MemSQL, which always fetched 100 rows at a time, database types keep their driver's defaults unless a
+ * policy is configured for them in {@link RelationalExecutionConfiguration#fetchSizePolicies}. Cursors in particular
+ * change the transaction the query runs in, so they are only used where they are configured.
+ */
+public class FetchSizePolicy
+{
+    private static final FetchSizePolicy DRIVER_DEFAULT = new FetchSizePolicy();
+    private static final Map<DatabaseType, FetchSizePolicy> DEFAULTS = new EnumMap<>(DatabaseType.class);
+
+    static
+    {
+        DEFAULTS.put(DatabaseType.MemSQL, new FetchSizePolicy(100, 0, false));
+    }
+
+    public int initialFetchSize;
+    public long targetFetchBytes;
+    public int minFetchSize = 100;
+    public int maxFetchSize = 10000;
+    public boolean useCursor;
+
+    public FetchSizePolicy()
+    {
+    }
+
+    public FetchSizePolicy(int initialFetchSize, long targetFetchBytes, boolean useCursor)
+    {
+        this.initialFetchSize = initialFetchSize;
+        this.targetFetchBytes = targetFetchBytes;
+        this.useCursor = useCursor;
+    }
+
+    public static FetchSizePolicy defaultFor(String databaseType)
+    {
+        for (DatabaseType type : DatabaseType.values())
+        {
+            if (type.name().equals(databaseType))
+            {
+                return DEFAULTS.getOrDefault(type, DRIVER_DEFAULT);
+            }
+        }
+        return DRIVER_DEFAULT;
+    }
+
+    /**
+     * @return true if auto-commit had to be turned off for the rows to be streamed, in which case
+     * {@link #endCursorTransaction} must be called once the rows have been read
+     */
+    public boolean prepare(Connection connection, Statement statement) throws SQLException
+    {
+        if (this.initialFetchSize > 0)
+        {
+            statement.setFetchSize(this.initialFetchSize);
+        }
+        // A block connection's transaction belongs to its block
+        if (this.useCursor && this.initialFetchSize > 0 && !(connection instanceof BlockConnection) && connection.getAutoCommit())
+        {
+            connection.setAutoCommit(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the fetch size used for the rest of the result set
+     */
+    public int adapt(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException
+    {
+        if (this.targetFetchBytes <= 0)
+        {
+            return resultSet.getFetchSize();
+        }
+        long rowWidth = 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            rowWidth += estimateColumnWidth(metaData, i);
+        }
+        int fetchSize = (int) Math.max(this.minFetchSize, Math.min(this.maxFetchSize, this.targetFetchBytes / Math.max(1, rowWidth)));
+        resultSet.setFetchSize(fetchSize);
+        return fetchSize;
+    }
+
+    public static void endCursorTransaction(Connection connection)
+    {
+        try
+        {
+            // Read only: nothing to commit, and the statements that follow (temp table drops) must not be part of it
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+        catch (SQLException ignored)
+        {
+        }
+    }
+
+    private static int estimateColumnWidth(ResultSetMetaData metaData, int column) throws SQLException
+    {
+        switch (metaData.getColumnType(column))
+        {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.REAL:
+                return 4;
+            case Types.BIGINT:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DATE:
+                return 8;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIME_WITH_TIMEZONE:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return 16;
+            default:
+                // Character and binary data: the declared size, capped as unbounded types report huge ones
+                int size = metaData.getColumnDisplaySize(column);
+                return size <= 0 ? 64 : Math.min(size, 1024);
+        }
+    }
+}
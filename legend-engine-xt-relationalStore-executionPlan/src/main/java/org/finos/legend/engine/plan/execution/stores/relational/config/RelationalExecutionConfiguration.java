@@ -15,19 +15,34 @@
 package org.finos.legend.engine.plan.execution.stores.relational.config;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.finos.legend.engine.authentication.provider.DatabaseAuthenticationFlowProvider;
 import org.finos.legend.engine.authentication.provider.DatabaseAuthenticationFlowProviderConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.PreparedStatementCache;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.OAuthProfile;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultCache;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 
 import java.util.List;
+import java.util.Map;
 
 public class RelationalExecutionConfiguration implements StoreExecutorConfiguration
 {
     public TemporaryTestDbConfiguration temporarytestdb;
     public String tempPath;
     public List<OAuthProfile> oauthProfiles = Lists.mutable.empty();
+    public boolean bindParameters = false;
+    public int preparedStatementCacheSize = PreparedStatementCache.DEFAULT_MAX_STATEMENTS_PER_CONNECTION;
+    public Map<DatabaseType, FetchSizePolicy> fetchSizePolicies = Maps.mutable.empty();
+    // Results of relational queries are cached across requests only when given a time to live
+    public long resultCacheExpireAfterWriteSeconds = 0;
+    public long resultCacheMaximumWeightBytes = RelationalResultCache.DEFAULT_MAXIMUM_WEIGHT_BYTES;
+    public int resultCacheMaxRowsPerResult = RelationalResultCache.DEFAULT_MAX_ROWS_PER_RESULT;
+    // ... and only for queries on these databases (store paths), or whose sql template matches one of these patterns
+    public List<String> resultCacheDatabases = Lists.mutable.empty();
+    public List<String> resultCacheSqlPatterns = Lists.mutable.empty();
     private DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration;
     private Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass;
 
@@ -61,6 +76,26 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return temporarytestdb;
     }
 
+    public FetchSizePolicy getFetchSizePolicy(String databaseType)
+    {
+        if (this.fetchSizePolicies != null)
+        {
+            for (Map.Entry<DatabaseType, FetchSizePolicy> entry : this.fetchSizePolicies.entrySet())
+            {
+                if (entry.getKey().name().equals(databaseType))
+                {
+                    return entry.getValue();
+                }
+            }
+        }
+        return FetchSizePolicy.defaultFor(databaseType);
+    }
+
+    public boolean isResultCacheEnabled()
+    {
+        return this.resultCacheExpireAfterWriteSeconds > 0 && ((this.resultCacheDatabases != null && !this.resultCacheDatabases.isEmpty()) || (this.resultCacheSqlPatterns != null && !this.resultCacheSqlPatterns.isEmpty()));
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -70,6 +105,14 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     {
         public String tempPath;
         public List<OAuthProfile> oauthProfiles = Lists.mutable.empty();
+        private boolean bindParameters = false;
+        private int preparedStatementCacheSize = PreparedStatementCache.DEFAULT_MAX_STATEMENTS_PER_CONNECTION;
+        private final Map<DatabaseType, FetchSizePolicy> fetchSizePolicies = Maps.mutable.empty();
+        private long resultCacheExpireAfterWriteSeconds = 0;
+        private long resultCacheMaximumWeightBytes = RelationalResultCache.DEFAULT_MAXIMUM_WEIGHT_BYTES;
+        private int resultCacheMaxRowsPerResult = RelationalResultCache.DEFAULT_MAX_ROWS_PER_RESULT;
+        private final List<String> resultCacheDatabases = Lists.mutable.empty();
+        private final List<String> resultCacheSqlPatterns = Lists.mutable.empty();
         private Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass;
         private DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration;
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
@@ -92,6 +135,49 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withBindParameters(boolean bindParameters)
+        {
+            this.bindParameters = bindParameters;
+            return this;
+        }
+
+        public Builder withPreparedStatementCacheSize(int preparedStatementCacheSize)
+        {
+            this.preparedStatementCacheSize = preparedStatementCacheSize;
+            return this;
+        }
+
+        public Builder withFetchSizePolicy(DatabaseType databaseType, FetchSizePolicy fetchSizePolicy)
+        {
+            this.fetchSizePolicies.put(databaseType, fetchSizePolicy);
+            return this;
+        }
+
+        public Builder withResultCache(long expireAfterWriteSeconds)
+        {
+            this.resultCacheExpireAfterWriteSeconds = expireAfterWriteSeconds;
+            return this;
+        }
+
+        public Builder withResultCache(long expireAfterWriteSeconds, long maximumWeightBytes, int maxRowsPerResult)
+        {
+            this.resultCacheExpireAfterWriteSeconds = expireAfterWriteSeconds;
+            this.resultCacheMaximumWeightBytes = maximumWeightBytes;
+            this.resultCacheMaxRowsPerResult = maxRowsPerResult;
+            return this;
+        }
+
+        public Builder withResultCacheDatabase(String database)
+        {
+            this.resultCacheDatabases.add(database);
+            return this;
+        }
+
+        public Builder withResultCacheSqlPattern(String sqlPattern)
+        {
+            this.resultCacheSqlPatterns.add(sqlPattern);
+            return this;
+        }
 
         public Builder withDatabaseAuthenticationFlowProvider(Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass, DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration)
         {
@@ -115,6 +201,14 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.flowProviderClass = this.flowProviderClass;
             relationalExecutionConfiguration.flowProviderConfiguration = this.flowProviderConfiguration;
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
+            relationalExecutionConfiguration.bindParameters = this.bindParameters;
+            relationalExecutionConfiguration.preparedStatementCacheSize = this.preparedStatementCacheSize;
+            relationalExecutionConfiguration.fetchSizePolicies.putAll(this.fetchSizePolicies);
+            relationalExecutionConfiguration.resultCacheExpireAfterWriteSeconds = this.resultCacheExpireAfterWriteSeconds;
+            relationalExecutionConfiguration.resultCacheMaximumWeightBytes = this.resultCacheMaximumWeightBytes;
+            relationalExecutionConfiguration.resultCacheMaxRowsPerResult = this.resultCacheMaxRowsPerResult;
+            relationalExecutionConfiguration.resultCacheDatabases.addAll(this.resultCacheDatabases);
+            relationalExecutionConfiguration.resultCacheSqlPatterns.addAll(this.resultCacheSqlPatterns);
             return relationalExecutionConfiguration;
         }
     }
@@ -0,0 +1,267 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.slf4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@link PreparedStatement}s of bound relational queries open between executions, per physical connection.
+ * <p>
+ * When caching is enabled statements are prepared on the connection underneath the pool's proxy, so that they survive
+ * the connection being returned to the pool: they are then owned by this cache rather than tracked by the pool, and
+ * are closed when evicted or when their connection is closed. A statement is checked out while in use, so that it is
+ * only ever used by the one result reading it, and goes back to its connection's cache when that result is closed.
+ * <p>
+ * Each connection has its own cache and lock. Cached statements reference their connection, so the connections are
+ * held strongly: the statements of a connection are closed and dropped once the connection is found closed (connections
+ * are swept at most every {@value #SWEEP_INTERVAL_SECONDS} seconds, or as soon as a closed connection is used again),
+ * when the connection has not been used for {@value #MAX_IDLE_MINUTES} minutes, or when more than
+ * {@value #MAX_CONNECTIONS} connections have statements cached. With caching disabled statements are prepared on the
+ * connection as given, and closed on release.
+ */
+public class PreparedStatementCache
+{
+    public static final int DEFAULT_MAX_STATEMENTS_PER_CONNECTION = 64;
+
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+    private static final PreparedStatementCache INSTANCE = new PreparedStatementCache(DEFAULT_MAX_STATEMENTS_PER_CONNECTION);
+
+    static final int MAX_CONNECTIONS = 1000;
+    static final int MAX_IDLE_MINUTES = 30;
+    static final int SWEEP_INTERVAL_SECONDS = 60;
+
+    private final Cache<Connection, ConnectionStatements> statementsByConnection = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CONNECTIONS)
+            .expireAfterAccess(MAX_IDLE_MINUTES, TimeUnit.MINUTES)
+            .removalListener((RemovalListener<Connection, ConnectionStatements>) notification -> notification.getValue().closeAll())
+            .build();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + TimeUnit.SECONDS.toNanos(SWEEP_INTERVAL_SECONDS));
+    private volatile int maxStatementsPerConnection;
+
+    PreparedStatementCache(int maxStatementsPerConnection)
+    {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    public static PreparedStatementCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public void setMaxStatementsPerConnection(int maxStatementsPerConnection)
+    {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    public PreparedStatement prepare(Connection connection, String sql) throws SQLException
+    {
+        if (this.maxStatementsPerConnection <= 0)
+        {
+            return connection.prepareStatement(sql);
+        }
+        this.sweepIfDue();
+        Connection physicalConnection = physicalConnection(connection);
+        ConnectionStatements statements = this.statementsByConnection.getIfPresent(physicalConnection);
+        PreparedStatement statement = null;
+        if (statements != null)
+        {
+            if (physicalConnection.isClosed())
+            {
+                this.statementsByConnection.invalidate(physicalConnection);
+            }
+            else
+            {
+                statement = statements.checkOut(sql);
+            }
+        }
+        if (statement == null || statement.isClosed())
+        {
+            statement = physicalConnection.prepareStatement(sql);
+        }
+        return statement;
+    }
+
+    /**
+     * Hands back a statement obtained from {@link #prepare}, once its result set has been closed. The statement is
+     * closed instead of being cached when caching is disabled or when its connection has been closed. Must be called
+     * once only per {@link #prepare}: the statement may be handed to another caller as soon as it is released.
+     */
+    public void release(PreparedStatement statement, String sql)
+    {
+        try
+        {
+            int maxStatements = this.maxStatementsPerConnection;
+            if (maxStatements > 0 && !statement.isClosed() && !statement.getConnection().isClosed())
+            {
+                statement.clearParameters();
+                Connection physicalConnection = statement.getConnection();
+                ConnectionStatements statements = this.statementsByConnection.get(physicalConnection, ConnectionStatements::new);
+                if (statements.checkIn(sql, statement, maxStatements))
+                {
+                    return;
+                }
+            }
+            statement.close();
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("error releasing prepared statement", e);
+            try
+            {
+                statement.close();
+            }
+            catch (Exception ignored)
+            {
+            }
+        }
+    }
+
+    /**
+     * Closes and drops the statements of the connections which have been closed since they were cached, typically by
+     * the pool retiring them
+     */
+    void sweepClosedConnections()
+    {
+        for (Connection connection : this.statementsByConnection.asMap().keySet())
+        {
+            boolean closed;
+            try
+            {
+                closed = connection.isClosed();
+            }
+            catch (SQLException e)
+            {
+                closed = true;
+            }
+            if (closed)
+            {
+                this.statementsByConnection.invalidate(connection);
+            }
+        }
+    }
+
+    int cachedStatementCount(Connection connection) throws SQLException
+    {
+        ConnectionStatements statements = this.statementsByConnection.getIfPresent(physicalConnection(connection));
+        return statements == null ? 0 : statements.size();
+    }
+
+    long cachedConnectionCount()
+    {
+        this.statementsByConnection.cleanUp();
+        return this.statementsByConnection.size();
+    }
+
+    private void sweepIfDue()
+    {
+        long now = System.nanoTime();
+        long nextSweep = this.nextSweep.get();
+        if (now - nextSweep >= 0 && this.nextSweep.compareAndSet(nextSweep, now + TimeUnit.SECONDS.toNanos(SWEEP_INTERVAL_SECONDS)))
+        {
+            this.sweepClosedConnections();
+        }
+    }
+
+    private static Connection physicalConnection(Connection connection) throws SQLException
+    {
+        // Statements are prepared on the connection underneath the pool's proxy on purpose: the pool closes the statements
+        // it tracks when the connection is returned to it, which would empty the cache on every release. The pool's leak
+        // detection does not see these statements, which is why this cache is responsible for closing them.
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+
+    private static class ConnectionStatements
+    {
+        private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+        private boolean closed;
+
+        synchronized PreparedStatement checkOut(String sql)
+        {
+            return this.statements.remove(sql);
+        }
+
+        /**
+         * @return false if the statement was not cached, and should be closed by the caller
+         */
+        boolean checkIn(String sql, PreparedStatement statement, int maxStatements) throws SQLException
+        {
+            List<PreparedStatement> evicted = new ArrayList<>();
+            synchronized (this)
+            {
+                if (this.closed)
+                {
+                    return false;
+                }
+                PreparedStatement previous = this.statements.put(sql, statement);
+                if (previous != null && previous != statement)
+                {
+                    evicted.add(previous);
+                }
+                Iterator<PreparedStatement> eldest = this.statements.values().iterator();
+                while (this.statements.size() > maxStatements)
+                {
+                    evicted.add(eldest.next());
+                    eldest.remove();
+                }
+            }
+            for (PreparedStatement e : evicted)
+            {
+                e.close();
+            }
+            return !evicted.contains(statement);
+        }
+
+        synchronized int size()
+        {
+            return this.statements.size();
+        }
+
+        void closeAll()
+        {
+            List<PreparedStatement> toClose;
+            synchronized (this)
+            {
+                this.closed = true;
+                toClose = new ArrayList<>(this.statements.values());
+                this.statements.clear();
+            }
+            for (PreparedStatement statement : toClose)
+            {
+                try
+                {
+                    statement.close();
+                }
+                catch (Exception ignored)
+                {
+                }
+            }
+        }
+    }
+}
@@ -180,7 +180,7 @@ public class RelationalConnectionManager implements ConnectionManager
             LOGGER.warn(message);
             return Optional.empty();
         }
-        CredentialSupplier credentialSupplier = new CredentialSupplier(flowHolder.get(), connection.datasourceSpecification, connection.authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext.newWith(runtimeContext.getContextParams()));
+        CredentialSupplier credentialSupplier = new CredentialSupplier(flowProvider, flowHolder.get(), connection.datasourceSpecification, connection.authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext.newWith(runtimeContext.getContextParams()));
         return Optional.of(credentialSupplier);
     }
 
@@ -295,10 +295,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         {
             RelationalTdsInstantiationExecutionNode relationalTdsInstantiationExecutionNode = (RelationalTdsInstantiationExecutionNode) executionNode;
             SQLExecutionResult sqlExecutionResult = null;
+            RelationalResult relationalTdsResult = null;
             try
             {
                 sqlExecutionResult = (SQLExecutionResult) this.visit((SQLExecutionNode) relationalTdsInstantiationExecutionNode.executionNodes.get(0));
-                RelationalResult relationalTdsResult = new RelationalResult(sqlExecutionResult, relationalTdsInstantiationExecutionNode);
+                relationalTdsResult = new RelationalResult(sqlExecutionResult, relationalTdsInstantiationExecutionNode);
 
                 if (this.executionState.inAllocation)
                 {
@@ -323,7 +324,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             }
             catch (Exception e)
             {
-                if (sqlExecutionResult != null)
+                if (relationalTdsResult != null)
+                {
+                    relationalTdsResult.close();
+                }
+                else if (sqlExecutionResult != null)
                 {
                     sqlExecutionResult.close();
                 }
@@ -334,11 +339,12 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         {
             RelationalClassInstantiationExecutionNode node = (RelationalClassInstantiationExecutionNode) executionNode;
             SQLExecutionResult sqlExecutionResult = null;
+            RelationalResult relationalResult = null;
             try
             {
                 SQLExecutionNode innerNode = (SQLExecutionNode) node.executionNodes.get(0);
                 sqlExecutionResult = (SQLExecutionResult) this.visit(innerNode);
-                RelationalResult relationalResult = new RelationalResult(sqlExecutionResult, node);
+                relationalResult = new RelationalResult(sqlExecutionResult, node);
 
                 boolean realizeAsConstant = this.executionState.inAllocation && ExecutionNodeResultHelper.isResultSizeRangeSet(node) && ExecutionNodeResultHelper.isSingleRecordResult(node);
 
@@ -360,7 +366,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             }
             catch (Exception e)
             {
-                if (sqlExecutionResult != null)
+                if (relationalResult != null)
+                {
+                    relationalResult.close();
+                }
+                else if (sqlExecutionResult != null)
                 {
                     sqlExecutionResult.close();
                 }
@@ -389,10 +399,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         {
             RelationalDataTypeInstantiationExecutionNode node = (RelationalDataTypeInstantiationExecutionNode) executionNode;
             SQLExecutionResult sqlExecutionResult = null;
+            RelationalResult relationalPrimitiveResult = null;
             try
             {
                 sqlExecutionResult = (SQLExecutionResult) this.visit((SQLExecutionNode) node.executionNodes.get(0));
-                RelationalResult relationalPrimitiveResult = new RelationalResult(sqlExecutionResult, node);
+                relationalPrimitiveResult = new RelationalResult(sqlExecutionResult, node);
 
                 if (this.executionState.inAllocation)
                 {
@@ -416,7 +427,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             }
             catch (Exception e)
             {
-                if (sqlExecutionResult != null)
+                if (relationalPrimitiveResult != null)
+                {
+                    relationalPrimitiveResult.close();
+                }
+                else if (sqlExecutionResult != null)
                 {
                     sqlExecutionResult.close();
                 }
@@ -458,7 +473,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             try (Scope ignored1 = GlobalTracer.get().buildSpan("Graph Query Relational: Execute Relational Root").startActive(true))
             {
                 String databaseTimeZone = rootResult.getDatabaseTimeZone();
-                String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(rootResult.getSQLExecutionNode().connection);
+                String databaseConnectionString = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(rootResult.getSQLExecutionNode().connection);
 
                 /* Get Java executor */
                 Class<?> executeClass = this.getExecuteClass(node);
@@ -678,7 +693,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         List<Method> primaryKeyGetters = executor.primaryKeyGetters();
                         final int primaryKeyCount = primaryKeyGetters.size();
                         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
-                        String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
+                        String databaseConnectionString = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
                         while (childResultSet.next())
                         {
                             graphExecutionState.incrementRowCount();
@@ -824,7 +839,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             final ResultSet resultSet = relationalResult.getResultSet();
             final String databaseTimeZone = relationalResult.getRelationalDatabaseTimeZone();
-            final String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection);
+            final String databaseConnectionString = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection);
 
             Iterator<Object> objectIterator = new Iterator<Object>()
             {
@@ -1022,7 +1037,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             JavaPlatformImplementation javaPlatformImpl = (JavaPlatformImplementation) relationalExecutionNode.implementation;
             String executionClassName = JavaHelper.getExecutionClassFullName(javaPlatformImpl);
             String executionMethodName = JavaHelper.getExecutionMethodName(javaPlatformImpl);
-            String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(relationalExecutionNode.connection);
+            String databaseConnectionString = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(relationalExecutionNode.connection);
             List<Pair<List<Class<?>>, List<Object>>> parameterTypesAndParametersAlternatives = Arrays.asList(
                     Tuples.pair(Arrays.asList(RelationalResult.class, DatabaseConnection.class), Arrays.asList(result, relationalExecutionNode.connection)),
                     Tuples.pair(Arrays.asList(RelationalResult.class, String.class), Arrays.asList(result, databaseConnectionString)),
@@ -1075,7 +1090,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     parentPrimaryKeyIndices.add(childResult.getResultSet().findColumn(pkCol));
                 }
                 RelationalGraphFetchUtils.switchSecondKeyHashingStrategy(parentMap, parentKeyGetters, parentPrimaryKeyIndices);
-                String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
+                String databaseConnectionString = ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
 
                 if (nonPrimitiveNode)
                 {
@@ -1203,7 +1218,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             boolean cachingEnabledForNode = this.checkForCachingAndPopulateCachingHelpers(allInstanceSetImplementations, nodeSpecifics.supportsCaching(), node.graphFetchTree, sqlExecutionResult, nodeSpecifics::primaryKeyColumns, multiSetCache);
 
             /* Prepare for reading */
-            nodeSpecifics.prepare(rootResultSet, sqlExecutionResult.getDatabaseTimeZone(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
+            nodeSpecifics.prepare(rootResultSet, sqlExecutionResult.getDatabaseTimeZone(), ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
 
             boolean isUnion = setIdCount > 1;
             AtomicLong batchIndex = new AtomicLong(0L);
@@ -1364,7 +1379,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             );
 
             /* Prepare for reading */
-            nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(childSqlResult.getSQLExecutionNode().connection));
+            nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(childSqlResult.getSQLExecutionNode().connection));
 
             while (childResultSet.next())
             {
@@ -1441,7 +1456,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
 
             /* Prepare for reading */
-            nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
+            nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
 
             while (childResultSet.next())
             {
@@ -1620,7 +1635,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     );
 
                     /* Prepare for reading */
-                    nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
+                    nodeSpecifics.prepare(childResultSet, childSqlResult.getDatabaseTimeZone(), ObjectMapperFactory.getStandardObjectWriterWithPureProtocolExtensionSupports().writeValueAsString(databaseConnection));
 
                     while (childResultSet.next())
                     {
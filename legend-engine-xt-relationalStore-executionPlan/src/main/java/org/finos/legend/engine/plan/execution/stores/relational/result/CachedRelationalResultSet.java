@@ -0,0 +1,1566 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.rowset.RowSetMetaDataImpl;
+
+/**
+ * A read only, detached copy of the rows of a {@link ResultSet}, as kept by the {@link RelationalResultCache}.
+ * Values are held as returned by the driver's getObject and converted on read following the JDBC conventions:
+ * in particular, timestamps and dates read with a calendar are taken as wall clock values of the calendar's time zone.
+ * A copy of a result too large to be cached only holds its first rows, and streams the others from the original.
+ */
+class CachedRelationalResultSet implements ResultSet
+{
+    private final ResultSetMetaData metaData;
+    private final List<Object[]> rows;
+    private final Map<String, Integer> columnIndexByLabel;
+    private final int columnCount;
+
+    private int rowIndex = -1;
+    private Object[] currentRow;
+    private boolean wasNull;
+    private boolean closed;
+    // Set while the rows after the copied ones are still read from the result they were copied from
+    private ResultSet remainder;
+    private Runnable onClose;
+
+    private CachedRelationalResultSet(ResultSetMetaData metaData, List<Object[]> rows) throws SQLException
+    {
+        this(metaData, rows, null, null);
+    }
+
+    private CachedRelationalResultSet(ResultSetMetaData metaData, List<Object[]> rows, ResultSet remainder, Runnable onClose) throws SQLException
+    {
+        this.metaData = metaData;
+        this.rows = rows;
+        this.remainder = remainder;
+        this.onClose = onClose;
+        this.columnCount = metaData.getColumnCount();
+        this.columnIndexByLabel = new HashMap<>(this.columnCount * 2);
+        for (int i = this.columnCount; i >= 1; i--)
+        {
+            // The first of the columns with the same label is the one found, as with drivers
+            this.columnIndexByLabel.put(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * Copies the remaining rows of the result set. When there are more than maxRows of them, only maxRows + 1 rows are
+     * copied: the returned result set then reads the others from the given one as it is iterated, and runs onClose when
+     * it is closed (see {@link #isComplete()}).
+     */
+    static CachedRelationalResultSet copyOf(ResultSet resultSet, int maxRows, Runnable onClose) throws SQLException
+    {
+        ResultSetMetaData metaData = copyOf(resultSet.getMetaData());
+        int columnCount = metaData.getColumnCount();
+        List<Object[]> rows = new ArrayList<>();
+        while (resultSet.next())
+        {
+            rows.add(readRow(resultSet, columnCount));
+            if (rows.size() > maxRows)
+            {
+                return new CachedRelationalResultSet(metaData, rows, resultSet, onClose);
+            }
+        }
+        return new CachedRelationalResultSet(metaData, rows);
+    }
+
+    private static Object[] readRow(ResultSet resultSet, int columnCount) throws SQLException
+    {
+        Object[] row = new Object[columnCount];
+        for (int i = 1; i <= columnCount; i++)
+        {
+            row[i - 1] = resultSet.getObject(i);
+        }
+        return row;
+    }
+
+    private static ResultSetMetaData copyOf(ResultSetMetaData source) throws SQLException
+    {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        int columnCount = source.getColumnCount();
+        metaData.setColumnCount(columnCount);
+        for (int i = 1; i <= columnCount; i++)
+        {
+            metaData.setColumnLabel(i, source.getColumnLabel(i));
+            metaData.setColumnName(i, source.getColumnName(i));
+            metaData.setColumnType(i, source.getColumnType(i));
+            metaData.setColumnTypeName(i, source.getColumnTypeName(i));
+            metaData.setColumnDisplaySize(i, Math.max(0, source.getColumnDisplaySize(i)));
+            metaData.setPrecision(i, Math.max(0, source.getPrecision(i)));
+            metaData.setScale(i, Math.max(0, source.getScale(i)));
+            metaData.setNullable(i, source.isNullable(i));
+            metaData.setSigned(i, source.isSigned(i));
+            metaData.setCaseSensitive(i, source.isCaseSensitive(i));
+            metaData.setTableName(i, source.getTableName(i));
+            metaData.setSchemaName(i, source.getSchemaName(i));
+            metaData.setCatalogName(i, source.getCatalogName(i));
+        }
+        return metaData;
+    }
+
+    /**
+     * @return false if the rows after the copied ones are read from the original result set
+     */
+    boolean isComplete()
+    {
+        return this.remainder == null && this.onClose == null;
+    }
+
+    int size()
+    {
+        return this.rows.size();
+    }
+
+    void writeTo(ObjectOutputStream out) throws IOException
+    {
+        out.writeObject(this.metaData);
+        out.writeInt(this.rows.size());
+        for (Object[] row : this.rows)
+        {
+            out.writeObject(row);
+        }
+    }
+
+    static CachedRelationalResultSet readFrom(ObjectInputStream in) throws IOException, ClassNotFoundException, SQLException
+    {
+        ResultSetMetaData metaData = (ResultSetMetaData) in.readObject();
+        int size = in.readInt();
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            rows.add((Object[]) in.readObject());
+        }
+        return new CachedRelationalResultSet(metaData, rows);
+    }
+
+    private Object value(int columnIndex) throws SQLException
+    {
+        if (this.closed)
+        {
+            throw new SQLException("Result set is closed");
+        }
+        if (this.currentRow == null)
+        {
+            throw new SQLException("No current row");
+        }
+        if (columnIndex < 1 || columnIndex > this.columnCount)
+        {
+            throw new SQLException("Invalid column index: " + columnIndex);
+        }
+        Object value = this.currentRow[columnIndex - 1];
+        this.wasNull = value == null;
+        return value;
+    }
+
+    private Number numberValue(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || value instanceof Number)
+        {
+            return (Number) value;
+        }
+        if (value instanceof Boolean)
+        {
+            return (Boolean) value ? 1 : 0;
+        }
+        try
+        {
+            return new BigDecimal(value.toString().trim());
+        }
+        catch (NumberFormatException e)
+        {
+            throw new SQLException("Value of column " + columnIndex + " is not a number: " + value, e);
+        }
+    }
+
+    private boolean moveTo(int index)
+    {
+        this.rowIndex = Math.max(-1, Math.min(index, this.rows.size()));
+        this.currentRow = this.rowIndex >= 0 && this.rowIndex < this.rows.size() ? this.rows.get(this.rowIndex) : null;
+        return this.currentRow != null;
+    }
+
+    private void checkScrollable() throws SQLFeatureNotSupportedException
+    {
+        if (!this.isComplete())
+        {
+            throw new SQLFeatureNotSupportedException("Relational result sets too large to be cached are forward only");
+        }
+    }
+
+    private static SQLFeatureNotSupportedException readOnly()
+    {
+        return new SQLFeatureNotSupportedException("Cached relational result sets are read only");
+    }
+
+    private static SQLFeatureNotSupportedException notSupported()
+    {
+        return new SQLFeatureNotSupportedException("Not supported by cached relational result sets");
+    }
+
+    @Override
+    public boolean next() throws SQLException
+    {
+        if (this.closed)
+        {
+            throw new SQLException("Result set is closed");
+        }
+        if (this.remainder != null && this.rowIndex + 1 >= this.rows.size())
+        {
+            if (!this.remainder.next())
+            {
+                this.remainder = null;
+                this.rowIndex = this.rows.size();
+                this.currentRow = null;
+                return false;
+            }
+            this.rowIndex = Math.max(this.rowIndex + 1, this.rows.size());
+            this.currentRow = readRow(this.remainder, this.columnCount);
+            return true;
+        }
+        return this.moveTo(this.rowIndex + 1);
+    }
+
+    @Override
+    public void close()
+    {
+        this.closed = true;
+        this.currentRow = null;
+        this.remainder = null;
+        if (this.onClose != null)
+        {
+            Runnable closeOriginal = this.onClose;
+            this.onClose = null;
+            closeOriginal.run();
+        }
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+
+    @Override
+    public boolean wasNull()
+    {
+        return this.wasNull;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData()
+    {
+        return this.metaData;
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException
+    {
+        Integer index = this.columnIndexByLabel.get(columnLabel.toUpperCase(Locale.ROOT));
+        if (index == null)
+        {
+            throw new SQLException("Column not found: " + columnLabel);
+        }
+        return index;
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException
+    {
+        return this.value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException
+    {
+        return this.getObject(columnIndex);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || type.isInstance(value))
+        {
+            return (T) value;
+        }
+        if (type == String.class)
+        {
+            return (T) this.getString(columnIndex);
+        }
+        if (type == Integer.class)
+        {
+            return (T) Integer.valueOf(this.getInt(columnIndex));
+        }
+        if (type == Long.class)
+        {
+            return (T) Long.valueOf(this.getLong(columnIndex));
+        }
+        if (type == Double.class)
+        {
+            return (T) Double.valueOf(this.getDouble(columnIndex));
+        }
+        if (type == BigDecimal.class)
+        {
+            return (T) this.getBigDecimal(columnIndex);
+        }
+        if (type == Boolean.class)
+        {
+            return (T) Boolean.valueOf(this.getBoolean(columnIndex));
+        }
+        if (type == Date.class)
+        {
+            return (T) this.getDate(columnIndex);
+        }
+        if (type == Timestamp.class)
+        {
+            return (T) this.getTimestamp(columnIndex);
+        }
+        throw new SQLException("Value of column " + columnIndex + " can't be read as " + type.getName());
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException
+    {
+        return this.getString(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null)
+        {
+            return false;
+        }
+        if (value instanceof Boolean)
+        {
+            return (Boolean) value;
+        }
+        if (value instanceof Number)
+        {
+            return ((Number) value).doubleValue() != 0;
+        }
+        String string = value.toString().trim();
+        return "1".equals(string) || Boolean.parseBoolean(string);
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0 : value.byteValue();
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0 : value.shortValue();
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0 : value.intValue();
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0L : value.longValue();
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0f : value.floatValue();
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        return value == null ? 0d : value.doubleValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException
+    {
+        Number value = this.numberValue(columnIndex);
+        if (value == null || value instanceof BigDecimal)
+        {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger)
+        {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException
+    {
+        BigDecimal value = this.getBigDecimal(columnIndex);
+        return value == null ? null : value.setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || value instanceof byte[])
+        {
+            return (byte[]) value;
+        }
+        throw new SQLException("Value of column " + columnIndex + " is not binary");
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || value instanceof Date)
+        {
+            return (Date) value;
+        }
+        if (value instanceof LocalDate)
+        {
+            return Date.valueOf((LocalDate) value);
+        }
+        if (value instanceof LocalDateTime)
+        {
+            return Date.valueOf(((LocalDateTime) value).toLocalDate());
+        }
+        if (value instanceof java.util.Date)
+        {
+            return new Date(((java.util.Date) value).getTime());
+        }
+        throw new SQLException("Value of column " + columnIndex + " is not a date");
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException
+    {
+        Date date = this.getDate(columnIndex);
+        return date == null || cal == null ? date : new Date(date.toLocalDate().atStartOfDay(cal.getTimeZone().toZoneId()).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || value instanceof Time)
+        {
+            return (Time) value;
+        }
+        if (value instanceof LocalTime)
+        {
+            return Time.valueOf((LocalTime) value);
+        }
+        if (value instanceof java.util.Date)
+        {
+            return new Time(((java.util.Date) value).getTime());
+        }
+        throw new SQLException("Value of column " + columnIndex + " is not a time");
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException
+    {
+        Time time = this.getTime(columnIndex);
+        return time == null || cal == null ? time : new Time(time.toLocalTime().atDate(LocalDate.of(1970, 1, 1)).atZone(cal.getTimeZone().toZoneId()).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException
+    {
+        Object value = this.value(columnIndex);
+        if (value == null || value instanceof Timestamp)
+        {
+            return (Timestamp) value;
+        }
+        if (value instanceof LocalDateTime)
+        {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate)
+        {
+            return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        }
+        if (value instanceof java.util.Date)
+        {
+            return new Timestamp(((java.util.Date) value).getTime());
+        }
+        throw new SQLException("Value of column " + columnIndex + " is not a timestamp");
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException
+    {
+        Timestamp timestamp = this.getTimestamp(columnIndex);
+        return timestamp == null || cal == null ? timestamp : Timestamp.from(timestamp.toLocalDateTime().atZone(cal.getTimeZone().toZoneId()).toInstant());
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException
+    {
+        String value = this.getString(columnIndex);
+        return value == null ? null : new StringReader(value);
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException
+    {
+        return this.getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException
+    {
+        return this.getObject(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException
+    {
+        return this.getObject(this.findColumn(columnLabel), map);
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException
+    {
+        return this.getObject(this.findColumn(columnLabel), type);
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException
+    {
+        return this.getString(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException
+    {
+        return this.getNString(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException
+    {
+        return this.getBoolean(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException
+    {
+        return this.getByte(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException
+    {
+        return this.getShort(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException
+    {
+        return this.getInt(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException
+    {
+        return this.getLong(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException
+    {
+        return this.getFloat(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException
+    {
+        return this.getDouble(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException
+    {
+        return this.getBigDecimal(this.findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException
+    {
+        return this.getBigDecimal(this.findColumn(columnLabel), scale);
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException
+    {
+        return this.getBytes(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException
+    {
+        return this.getDate(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException
+    {
+        return this.getDate(this.findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException
+    {
+        return this.getTime(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException
+    {
+        return this.getTime(this.findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException
+    {
+        return this.getTimestamp(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException
+    {
+        return this.getTimestamp(this.findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException
+    {
+        return this.getCharacterStream(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException
+    {
+        return this.getNCharacterStream(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean isBeforeFirst()
+    {
+        return this.rowIndex < 0 && !this.rows.isEmpty();
+    }
+
+    @Override
+    public boolean isAfterLast()
+    {
+        return this.remainder == null && this.rowIndex >= this.rows.size() && !this.rows.isEmpty();
+    }
+
+    @Override
+    public boolean isFirst()
+    {
+        return this.currentRow != null && this.rowIndex == 0;
+    }
+
+    @Override
+    public boolean isLast()
+    {
+        return this.currentRow != null && this.rowIndex == this.rows.size() - 1;
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException
+    {
+        this.checkScrollable();
+        this.moveTo(-1);
+    }
+
+    @Override
+    public void afterLast() throws SQLException
+    {
+        this.checkScrollable();
+        this.moveTo(this.rows.size());
+    }
+
+    @Override
+    public boolean first() throws SQLException
+    {
+        this.checkScrollable();
+        return this.moveTo(0);
+    }
+
+    @Override
+    public boolean last() throws SQLException
+    {
+        this.checkScrollable();
+        return this.moveTo(this.rows.size() - 1);
+    }
+
+    @Override
+    public int getRow()
+    {
+        return this.currentRow == null ? 0 : this.rowIndex + 1;
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException
+    {
+        this.checkScrollable();
+        return this.moveTo(row >= 0 ? row - 1 : this.rows.size() + row);
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException
+    {
+        this.checkScrollable();
+        return this.moveTo(this.rowIndex + rows);
+    }
+
+    @Override
+    public boolean previous() throws SQLException
+    {
+        this.checkScrollable();
+        return this.moveTo(this.rowIndex - 1);
+    }
+
+    @Override
+    public void setFetchDirection(int direction)
+    {
+    }
+
+    @Override
+    public int getFetchDirection()
+    {
+        return ResultSet.FETCH_FORWARD;
+    }
+
+    @Override
+    public void setFetchSize(int rows)
+    {
+    }
+
+    @Override
+    public int getFetchSize()
+    {
+        return 0;
+    }
+
+    @Override
+    public int getType()
+    {
+        return ResultSet.TYPE_SCROLL_INSENSITIVE;
+    }
+
+    @Override
+    public int getConcurrency()
+    {
+        return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public int getHoldability()
+    {
+        return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public Statement getStatement()
+    {
+        return null;
+    }
+
+    @Override
+    public SQLWarning getWarnings()
+    {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings()
+    {
+    }
+
+    @Override
+    public boolean rowUpdated()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean rowInserted()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean rowDeleted()
+    {
+        return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException
+    {
+        if (iface.isInstance(this))
+        {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface)
+    {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public String getCursorName() throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void insertRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void refreshRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException
+    {
+        throw notSupported();
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader x, long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader x) throws SQLException
+    {
+        throw readOnly();
+    }
+}
@@ -41,7 +41,10 @@ import org.finos.legend.engine.plan.execution.result.serialization.Serialization
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
 import org.finos.legend.engine.plan.execution.result.transformer.TransformerInput;
+import org.finos.legend.engine.plan.execution.stores.relational.SQLParameterBinder;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.FetchSizePolicy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.PreparedStatementCache;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
@@ -54,23 +57,22 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.Relati
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalInstantiationExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
 import java.sql.Types;
-import java.util.GregorianCalendar;
 import java.util.List;
-import java.util.TimeZone;
 import java.util.function.Consumer;
 
 public class RelationalResult extends StreamingResult implements IRelationalResult
@@ -90,6 +92,10 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public String executedSQl;
     public int columnCount;
 
+    private boolean cursorTransaction;
+    private boolean closed;
+    private long executionStart;
+
     private final String databaseType;
     private final String databaseTimeZone;
 
@@ -102,6 +108,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public Builder builder;
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan)
+    {
+        this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, profiles, temporaryTables, topSpan, FetchSizePolicy.defaultFor(databaseType));
+    }
+
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan, FetchSizePolicy fetchSizePolicy)
     {
         super(activities);
         this.databaseType = databaseType;
@@ -112,21 +123,79 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
-            if (DatabaseType.MemSQL.name().equals(databaseType))
-            {
-                this.statement.setFetchSize(100);
-            }
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.getLast();
+            String sql = activity.sql;
+            this.statement = activity.hasParameters() ? PreparedStatementCache.getInstance().prepare(connection, sql) : connection.createStatement();
+            this.cursorTransaction = fetchSizePolicy.prepare(connection, this.statement);
             long start = System.currentTimeMillis();
-            String sql = ((RelationalExecutionActivity) activities.getLast()).sql;
+            this.executionStart = start;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            try (ExecutionProfile.Phase ignored = ExecutionProfile.phase("sqlExecution"))
+            {
+                if (activity.hasParameters())
+                {
+                    SQLParameterBinder.setParameters((PreparedStatement) this.statement, activity.parameters);
+                    this.resultSet = ((PreparedStatement) this.statement).executeQuery();
+                }
+                else
+                {
+                    this.resultSet = this.statement.executeQuery(sql);
+                }
+            }
             this.executedSQl = sql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
             this.columnCount = this.resultSetMetaData.getColumnCount();
+            fetchSizePolicy.adapt(this.resultSet, this.resultSetMetaData);
+            this.resultColumns = sqlResultColumns;
+            this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData, this.databaseTimeZone);
+
+            this.sqlColumns = Lists.mutable.ofInitialCapacity(this.columnCount);
+            for (int i = 1; i <= this.columnCount; i++)
+            {
+                this.sqlColumns.add(this.resultSetMetaData.getColumnLabel(i));
+            }
+            this.columnListForSerializer = this.sqlColumns;
+            this.buildTransformersAndBuilder(node, node.connection);
+        }
+        catch (Throwable e)
+        {
+            LOGGER.error("error initialising RelationalResult", e);
+            this.close();
+            if (e instanceof Error)
+            {
+                throw (Error) e;
+            }
+            if (e instanceof RuntimeException)
+            {
+                throw (RuntimeException) e;
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A result streaming rows already read from the database (see {@link RelationalResultCache}), holding no connection.
+     */
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, ResultSet cachedResultSet, Span topSpan)
+    {
+        super(activities);
+        this.databaseType = databaseType;
+        this.databaseTimeZone = databaseTimeZone;
+        this.temporaryTables = null;
+        this.topSpan = topSpan;
+        this.connection = null;
+        this.statement = null;
+
+        try
+        {
+            this.resultSet = cachedResultSet;
+            this.executionStart = System.currentTimeMillis();
+            this.executedSQl = ((RelationalExecutionActivity) activities.getLast()).sql;
+            this.resultSetMetaData = cachedResultSet.getMetaData();
+            this.columnCount = this.resultSetMetaData.getColumnCount();
             this.resultColumns = sqlResultColumns;
-            this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
+            this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData, this.databaseTimeZone);
 
             this.sqlColumns = Lists.mutable.ofInitialCapacity(this.columnCount);
             for (int i = 1; i <= this.columnCount; i++)
@@ -163,15 +232,20 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         try
         {
             this.connection = sqlExecutionResult.getConnection();
-            this.statement = connection.createStatement();
+            // A prepared statement is handed over, to be released with the result set it produced
+            this.statement = sqlExecutionResult.getStatement() instanceof PreparedStatement ? sqlExecutionResult.getStatement() : connection.createStatement();
             this.resultSet = sqlExecutionResult.getResultSet();
+            this.cursorTransaction = sqlExecutionResult.isCursorTransaction();
             this.executedSQl = sqlExecutionResult.getExecutedSql();
+            // From here on, this result alone closes the connection and releases the statement
+            sqlExecutionResult.handOver();
+            this.executionStart = sqlExecutionResult.getExecutionStart();
             this.resultSetMetaData = sqlExecutionResult.getResultSetMetaData();
             this.columnCount = sqlExecutionResult.getColumnCount();
             this.sqlColumns = sqlExecutionResult.getColumnNames();
             this.columnListForSerializer = this.sqlColumns;
             this.resultColumns = sqlExecutionResult.getSqlResultColumns();
-            this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
+            this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData, this.databaseTimeZone);
             this.buildTransformersAndBuilder(node, sqlExecutionResult.getSQLExecutionNode().connection);
         }
         catch (Throwable e)
@@ -317,22 +391,41 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.databaseTimeZone;
     }
 
+    /**
+     * To be called by readers of {@link #resultSet} once they have read the first row.
+     */
+    public void recordFirstRow()
+    {
+        MetricsHandler.observeRelationalTimeToFirstRow(this.databaseType, this.executionStart, System.currentTimeMillis());
+    }
+
     @Override
     public void close()
     {
-        if (temporaryTables != null && statement != null)
+        if (this.closed)
+        {
+            return;
+        }
+        this.closed = true;
+        if (this.cursorTransaction && connection != null)
         {
-            temporaryTables.forEach((Consumer<? super String>) table ->
+            if (resultSet != null)
             {
                 try
                 {
-                    DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    resultSet.close();
                 }
-                catch (Exception ignored)
+                catch (Exception e)
                 {
+                    LOGGER.error("error closing result set", e);
                 }
-            });
+            }
+            FetchSizePolicy.endCursorTransaction(connection);
+            this.cursorTransaction = false;
+        }
+        if (temporaryTables != null && statement != null)
+        {
+            dropTemporaryTables();
         }
         if (resultSet != null)
         {
@@ -345,7 +438,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 LOGGER.error("error closing result set", e);
             }
         }
-        if (statement != null)
+        if (statement instanceof PreparedStatement && this.executedSQl != null)
+        {
+            PreparedStatementCache.getInstance().release((PreparedStatement) statement, this.executedSQl);
+        }
+        else if (statement != null)
         {
             try
             {
@@ -367,6 +464,40 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 LOGGER.error("error closing connection", e);
             }
         }
+        super.close();
+    }
+
+    private void dropTemporaryTables()
+    {
+        DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
+        try
+        {
+            // A prepared statement cannot execute any other sql
+            Statement dropStatement = statement instanceof PreparedStatement ? connection.createStatement() : statement;
+            try
+            {
+                temporaryTables.forEach((Consumer<? super String>) table ->
+                {
+                    try
+                    {
+                        dropStatement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    }
+                    catch (Exception ignored)
+                    {
+                    }
+                });
+            }
+            finally
+            {
+                if (dropStatement != statement)
+                {
+                    dropStatement.close();
+                }
+            }
+        }
+        catch (Exception ignored)
+        {
+        }
     }
 
     public List<TDSColumn> getTdsColumns()
@@ -398,31 +529,25 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     public Object getValue(int columnIndex) throws SQLException
     {
-        Object result;
-        if (resultDBColumnsMetaData.isTimestampColumn(columnIndex))
-        {
-            Timestamp ts;
-            if (getRelationalDatabaseTimeZone() != null)
-            {
-                ts = resultSet.getTimestamp(columnIndex, new GregorianCalendar(TimeZone.getTimeZone(getRelationalDatabaseTimeZone())));
-            }
-            else
-            {
-                //TODO, throw exception, TZ should always be specified
-                //Till then, default to PURE default which is "GMT"
-                ts = resultSet.getTimestamp(columnIndex, new GregorianCalendar(TimeZone.getTimeZone("GMT")));
-            }
-            result = ts;
-        }
-        else if (resultDBColumnsMetaData.isDateColumn(columnIndex))
-        {
-            result = resultSet.getDate(columnIndex);
-        }
-        else
-        {
-            result = resultSet.getObject(columnIndex);
-        }
-        return result;
+        return this.resultDBColumnsMetaData.getValue(this.resultSet, columnIndex);
+    }
+
+    /**
+     * Whether {@link #getIsoValue} can read the column
+     */
+    public boolean hasIsoValue(int columnIndex)
+    {
+        return this.resultDBColumnsMetaData.hasIsoValue(columnIndex);
+    }
+
+    /**
+     * The value of a DATE or TIMESTAMP column as the string of its Pure date when the driver can read it as java.time,
+     * or else as returned by {@link #getValue}: serializers can write the string as is where the column's transformer
+     * is a {@link SetImplTransformers#isDateTransformer date transformer}
+     */
+    public Object getIsoValue(int columnIndex) throws SQLException
+    {
+        return this.resultDBColumnsMetaData.getIsoValue(this.resultSet, columnIndex);
     }
 
     public Object getTransformedValue(int columnIndex) throws SQLException
@@ -441,12 +566,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             }
             case Types.TIMESTAMP:
             {
-                java.sql.Timestamp timestamp = this.resultSet.getTimestamp(
-                        columnIndex,
-                        getRelationalDatabaseTimeZone() == null ?
-                                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                                new GregorianCalendar(TimeZone.getTimeZone(getRelationalDatabaseTimeZone()))
-                );
+                java.sql.Timestamp timestamp = this.resultSet.getTimestamp(columnIndex, this.resultDBColumnsMetaData.getCalendar());
                 if (timestamp != null)
                 {
                     result = PureDate.fromSQLTimestamp(timestamp);
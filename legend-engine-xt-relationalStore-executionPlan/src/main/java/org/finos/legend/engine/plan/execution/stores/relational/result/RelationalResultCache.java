@@ -0,0 +1,235 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionKey;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Keeps the rows of relational queries across requests, for services repeatedly serving the same slowly changing data.
+ * Entries are keyed by the connection, the identity the query runs as and the fully rendered sql (with its bound
+ * parameters), are held compressed and serialized within a bound total size, and expire a fixed time after being
+ * written. Every lookup gets its own detached copy of the rows, to be streamed as a {@link RelationalResult}.
+ * <p>
+ * Only queries known to return the same rows for a while may be cached: those on the databases (store paths) the cache
+ * is given, or whose sql template matches one of its patterns. Queries depending on the current date or time (e.g. on
+ * latest milestones) must be left out of these.
+ */
+public class RelationalResultCache
+{
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger("Alloy Execution Server");
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_MAX_ROWS_PER_RESULT = 10_000;
+
+    // Marks the results found too large (or not serializable) to be cached, so that they are not read twice again
+    private static final byte[] NOT_CACHEABLE = new byte[0];
+
+    private final ExecutionCache<Key, byte[]> cache;
+    private final int maxRowsPerResult;
+    private final ImmutableList<String> databases;
+    private final ImmutableList<Pattern> sqlPatterns;
+
+    public RelationalResultCache(long expireAfterWriteSeconds, long maximumWeightBytes, int maxRowsPerResult, List<String> databases, List<String> sqlPatterns)
+    {
+        this.cache = ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder()
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Key key, byte[] rows) -> Math.max(1, rows.length))
+                .recordStats()
+                .build());
+        this.maxRowsPerResult = maxRowsPerResult;
+        this.databases = databases == null ? Lists.immutable.empty() : Lists.immutable.withAll(databases);
+        this.sqlPatterns = sqlPatterns == null ? Lists.immutable.empty() : Lists.immutable.withAll(sqlPatterns).collect(Pattern::compile);
+    }
+
+    /**
+     * @return true if the results of the query may be cached
+     */
+    public boolean isAllowed(String database, String sqlQuery)
+    {
+        return (database != null && this.databases.contains(database)) || this.sqlPatterns.anySatisfy(pattern -> pattern.matcher(sqlQuery).find());
+    }
+
+    public static Key newKey(ConnectionKey connectionKey, String identity, ImmutableMap<String, String> runtimeContextParams, RelationalExecutionActivity activity)
+    {
+        return new Key(connectionKey, identity, runtimeContextParams, activity.sql, activity.parameters);
+    }
+
+    /**
+     * Returns a copy of the rows cached for the key or, when there are none, the rows of the result of the query, which is
+     * closed once they have been read. Concurrent lookups of the same missing key wait for the one running the query.
+     * When the result is too large to be cached, the caller which ran the query streams it on, and null is returned to
+     * the others, now and until the entry expires: the query is to be streamed instead.
+     */
+    public ResultSet get(Key key, Supplier<RelationalResult> query)
+    {
+        // Set when this call is the one running the query
+        ResultSet[] queried = new ResultSet[1];
+        byte[] cached;
+        try
+        {
+            cached = this.cache.get(key, () -> this.load(query, queried));
+        }
+        catch (UncheckedExecutionException e)
+        {
+            throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+        }
+        if (queried[0] != null)
+        {
+            return queried[0];
+        }
+        return cached == NOT_CACHEABLE ? null : deserialize(cached);
+    }
+
+    private byte[] load(Supplier<RelationalResult> query, ResultSet[] queried)
+    {
+        RelationalResult result = query.get();
+        CachedRelationalResultSet rows;
+        try
+        {
+            rows = CachedRelationalResultSet.copyOf(result.resultSet, this.maxRowsPerResult, result::close);
+        }
+        catch (SQLException e)
+        {
+            result.close();
+            throw new RuntimeException(e);
+        }
+        queried[0] = rows;
+        if (!rows.isComplete())
+        {
+            // Still reading from the result, which it closes
+            return NOT_CACHEABLE;
+        }
+        result.close();
+        try
+        {
+            return serialize(rows);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("relational result can't be cached: {}", e.getMessage());
+            return NOT_CACHEABLE;
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public long estimatedSize()
+    {
+        return this.cache.estimatedSize();
+    }
+
+    public ExecutionCacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    private static byte[] serialize(CachedRelationalResultSet rows) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED))))
+        {
+            rows.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ResultSet deserialize(byte[] serialized)
+    {
+        try (ObjectInputStream in = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(serialized))))
+        {
+            return CachedRelationalResultSet.readFrom(in);
+        }
+        catch (IOException | ClassNotFoundException | SQLException e)
+        {
+            throw new RuntimeException("error reading cached relational result", e);
+        }
+    }
+
+    public static class Key
+    {
+        private final ConnectionKey connectionKey;
+        private final String identity;
+        private final ImmutableMap<String, String> runtimeContextParams;
+        private final String sql;
+        private final List<Object> parameters;
+        private final int hashCode;
+
+        private Key(ConnectionKey connectionKey, String identity, ImmutableMap<String, String> runtimeContextParams, String sql, List<Object> parameters)
+        {
+            this.connectionKey = connectionKey;
+            this.identity = identity;
+            this.runtimeContextParams = runtimeContextParams;
+            this.sql = sql;
+            this.parameters = parameters;
+            this.hashCode = Objects.hash(connectionKey, identity, runtimeContextParams, sql, parameters);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            Key that = (Key) o;
+            return this.hashCode == that.hashCode &&
+                    Objects.equals(this.connectionKey, that.connectionKey) &&
+                    Objects.equals(this.identity, that.identity) &&
+                    Objects.equals(this.runtimeContextParams, that.runtimeContextParams) &&
+                    Objects.equals(this.sql, that.sql) &&
+                    Objects.equals(this.parameters, that.parameters);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
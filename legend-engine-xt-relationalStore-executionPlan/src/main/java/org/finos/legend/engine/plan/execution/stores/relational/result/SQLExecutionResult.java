@@ -15,23 +15,26 @@
 package org.finos.legend.engine.plan.execution.stores.relational.result;
 
 import io.opentracing.Span;
-import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
+import org.finos.legend.engine.plan.execution.stores.relational.SQLParameterBinder;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.FetchSizePolicy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.PreparedStatementCache;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
@@ -56,6 +59,9 @@ public class SQLExecutionResult extends Result
     private final ResultSet resultSet;
     private final ResultSetMetaData resultSetMetaData;
     private final String executedSql;
+    private boolean cursorTransaction;
+    private boolean handedOver;
+    private long executionStart;
 
     private final int columnCount;
     private final List<String> columnNames = FastList.newList();
@@ -65,6 +71,11 @@ public class SQLExecutionResult extends Result
     public Span topSpan;
 
     public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan)
+    {
+        this(activities, SQLExecutionNode, databaseType, databaseTimeZone, connection, profiles, temporaryTables, topSpan, FetchSizePolicy.defaultFor(databaseType));
+    }
+
+    public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, MutableList<CommonProfile> profiles, List<String> temporaryTables, Span topSpan, FetchSizePolicy fetchSizePolicy)
     {
         super("success", activities);
 
@@ -79,23 +90,33 @@ public class SQLExecutionResult extends Result
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
-
-            if (DatabaseType.MemSQL.name().equals(databaseType))
-            {
-                this.statement.setFetchSize(100);
-            }
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.get(activities.size() - 1);
+            String sql = activity.sql;
+            this.statement = activity.hasParameters() ? PreparedStatementCache.getInstance().prepare(connection, sql) : connection.createStatement();
+            this.cursorTransaction = fetchSizePolicy.prepare(connection, this.statement);
 
             long start = System.currentTimeMillis();
-            String sql = ((RelationalExecutionActivity) activities.get(activities.size() - 1)).sql;
+            this.executionStart = start;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            try (ExecutionProfile.Phase ignored = ExecutionProfile.phase("sqlExecution"))
+            {
+                if (activity.hasParameters())
+                {
+                    SQLParameterBinder.setParameters((PreparedStatement) this.statement, activity.parameters);
+                    this.resultSet = ((PreparedStatement) this.statement).executeQuery();
+                }
+                else
+                {
+                    this.resultSet = this.statement.executeQuery(sql);
+                }
+            }
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.executedSql = sql;
 
             this.resultSetMetaData = resultSet.getMetaData();
 
             this.columnCount = this.resultSetMetaData.getColumnCount();
+            fetchSizePolicy.adapt(this.resultSet, this.resultSetMetaData);
 
             this.sqlResultColumns = this.SQLExecutionNode.getSQLResultColumns();
             for (int i = 1; i <= this.columnCount; i++)
@@ -192,6 +213,16 @@ public class SQLExecutionResult extends Result
         return this.resultColumns;
     }
 
+    public boolean isCursorTransaction()
+    {
+        return this.cursorTransaction;
+    }
+
+    public long getExecutionStart()
+    {
+        return this.executionStart;
+    }
+
     public String getExecutedSql()
     {
         return this.executedSql;
@@ -203,22 +234,71 @@ public class SQLExecutionResult extends Result
         return resultColumn.getTransformedValue(this.getResultSet(), calendar);
     }
 
+    /**
+     * Transfers the connection, statement, result set and cursor transaction to the {@link RelationalResult} reading
+     * this result: closing this result no longer closes or releases any of them, so that a cached prepared statement
+     * is released once only.
+     */
+    void handOver()
+    {
+        this.handedOver = true;
+    }
+
     @Override
     public void close()
     {
+        if (this.handedOver)
+        {
+            return;
+        }
+        this.handedOver = true;
+        if (this.cursorTransaction && this.connection != null)
+        {
+            if (this.resultSet != null)
+            {
+                try
+                {
+                    this.resultSet.close();
+                }
+                catch (Exception e)
+                {
+                    LOGGER.error("error closing result set", e);
+                }
+            }
+            FetchSizePolicy.endCursorTransaction(this.connection);
+            this.cursorTransaction = false;
+        }
         DatabaseManager databaseManager = DatabaseManager.fromString(this.SQLExecutionNode.getDatabaseTypeName());
         if (this.temporaryTables != null && this.statement != null)
         {
-            this.temporaryTables.forEach((Consumer<? super String>) table ->
+            try
             {
+                // A prepared statement cannot execute any other sql
+                Statement dropStatement = this.statement instanceof PreparedStatement ? this.connection.createStatement() : this.statement;
                 try
                 {
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    this.temporaryTables.forEach((Consumer<? super String>) table ->
+                    {
+                        try
+                        {
+                            dropStatement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                        }
+                        catch (Exception ignored)
+                        {
+                        }
+                    });
                 }
-                catch (Exception ignored)
+                finally
                 {
+                    if (dropStatement != this.statement)
+                    {
+                        dropStatement.close();
+                    }
                 }
-            });
+            }
+            catch (Exception ignored)
+            {
+            }
         }
 
         Consumer<AutoCloseable> closingFunction = (AutoCloseable c) ->
@@ -235,6 +315,15 @@ public class SQLExecutionResult extends Result
             }
         };
 
-        FastList.newListWith(this.resultSet, this.statement, this.connection).forEach((Procedure<AutoCloseable>) closingFunction::accept);
+        closingFunction.accept(this.resultSet);
+        if (this.statement instanceof PreparedStatement && this.executedSql != null)
+        {
+            PreparedStatementCache.getInstance().release((PreparedStatement) this.statement, this.executedSql);
+        }
+        else
+        {
+            closingFunction.accept(this.statement);
+        }
+        closingFunction.accept(this.connection);
     }
 }
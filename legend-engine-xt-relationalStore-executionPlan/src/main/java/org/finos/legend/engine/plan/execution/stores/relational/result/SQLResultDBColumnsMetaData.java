@@ -15,19 +15,53 @@
 package org.finos.legend.engine.plan.execution.stores.relational.result;
 
 import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
+import java.sql.Date;
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SQLResultDBColumnsMetaData
 {
+    private static final String DEFAULT_TIME_ZONE = "GMT";
+
+    // the formats of Pure dates, within the years where they match java.time's proleptic Gregorian calendar
+    private static final DateTimeFormatter ISO_DATE_TIME = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS'+0000'");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final int MIN_ISO_YEAR = 1583;
+    private static final int MAX_ISO_YEAR = 9999;
+
+    private static final int JAVA_TIME_UNVERIFIED = 0;
+    private static final int JAVA_TIME_SUPPORTED = 1;
+    private static final int JAVA_TIME_UNSUPPORTED = 2;
+    private static final Set<Class<?>> RESULT_SETS_WITHOUT_JAVA_TIME = ConcurrentHashMap.newKeySet();
+
     private final List<SQLResultColumn> sqlResultColumns;
     private final List<Integer> dbMetaDataType;
+    private final Calendar calendar;
+    private final ZoneId zoneId;
+    private final ColumnDecoder[] decoders;
+    private final ColumnDecoder[] isoDecoders;
+    private final int[] javaTimeSupport;
 
-    SQLResultDBColumnsMetaData(List<SQLResultColumn> resultColumns, ResultSetMetaData rsMetaData) throws SQLException
+    SQLResultDBColumnsMetaData(List<SQLResultColumn> resultColumns, ResultSetMetaData rsMetaData, String databaseTimeZone) throws SQLException
     {
         this.sqlResultColumns = resultColumns;
         this.dbMetaDataType = Lists.multiReader.ofInitialCapacity(resultColumns.size());
@@ -35,6 +69,18 @@ public class SQLResultDBColumnsMetaData
         {
             this.dbMetaDataType.add(rsMetaData.getColumnType(i));
         }
+        //TODO, throw exception, TZ should always be specified
+        //Till then, default to PURE default which is "GMT"
+        this.calendar = new GregorianCalendar(TimeZone.getTimeZone(databaseTimeZone == null ? DEFAULT_TIME_ZONE : databaseTimeZone));
+        this.zoneId = this.calendar.getTimeZone().toZoneId();
+        this.decoders = new ColumnDecoder[resultColumns.size()];
+        this.isoDecoders = new ColumnDecoder[resultColumns.size()];
+        this.javaTimeSupport = new int[resultColumns.size()];
+        for (int i = 1; i <= resultColumns.size(); i++)
+        {
+            this.decoders[i - 1] = this.buildDecoder(i);
+            this.isoDecoders[i - 1] = this.buildIsoDecoder(i);
+        }
     }
 
     boolean isTimestampColumn(int index)
@@ -47,10 +93,162 @@ public class SQLResultDBColumnsMetaData
         return columnIsOfType(index, Types.DATE, "DATE");
     }
 
+    /**
+     * The calendar used to read timestamps in the database time zone. It is shared by every row of the result, which
+     * is only ever read by one thread at a time.
+     */
+    Calendar getCalendar()
+    {
+        return this.calendar;
+    }
+
+    Object getValue(ResultSet resultSet, int index) throws SQLException
+    {
+        return this.decoders[index - 1].decode(resultSet);
+    }
+
+    /**
+     * Whether {@link #getIsoValue} can read the column: only plain DATE and TIMESTAMP columns can
+     */
+    boolean hasIsoValue(int index)
+    {
+        return this.isoDecoders[index - 1] != null;
+    }
+
+    /**
+     * The value of a DATE or TIMESTAMP column as the string of the Pure date the date transformers would make of it,
+     * read as {@link LocalDate} or {@link LocalDateTime} to save the java.sql and Pure date objects. When the driver
+     * cannot read the column as java.time, the value is read as by {@link #getValue} and returned as is, for the
+     * transformers to convert. Support is checked on the first value of each column, which is read both ways: columns
+     * the driver fails to read or disagrees on are read the java.sql way from then on, and drivers which fail are not
+     * tried again.
+     */
+    Object getIsoValue(ResultSet resultSet, int index) throws SQLException
+    {
+        return this.isoDecoders[index - 1].decode(resultSet);
+    }
+
+    private ColumnDecoder buildIsoDecoder(int index)
+    {
+        if (isTimestampColumn(index) && this.dbMetaDataType.get(index - 1) != Types.TIMESTAMP)
+        {
+            // read as a timestamp by getValue, because of the declared data type
+            return null;
+        }
+        switch (this.dbMetaDataType.get(index - 1))
+        {
+            case Types.TIMESTAMP:
+            {
+                return resultSet -> this.getIsoDateTime(resultSet, index);
+            }
+            case Types.DATE:
+            {
+                return resultSet -> this.getIsoDate(resultSet, index);
+            }
+            default:
+            {
+                return null;
+            }
+        }
+    }
+
+    private Object getIsoDateTime(ResultSet resultSet, int index) throws SQLException
+    {
+        LocalDateTime localDateTime = this.readJavaTime(resultSet, index, LocalDateTime.class);
+        String isoValue = (localDateTime == null) ? null : formatDateTime(ZonedDateTime.ofLocal(localDateTime, this.zoneId, null).withLaterOffsetAtOverlap().toInstant());
+        if (this.javaTimeSupport[index - 1] == JAVA_TIME_SUPPORTED && (localDateTime == null || isoValue != null))
+        {
+            return isoValue;
+        }
+        Timestamp timestamp = resultSet.getTimestamp(index, this.calendar);
+        // the calendar resolves local times forward over gaps and to standard time in overlaps, as done above
+        return (isoValue != null && timestamp != null && this.verifyJavaTime(index, isoValue.equals(PureDate.fromSQLTimestamp(timestamp).toString()))) ? isoValue : timestamp;
+    }
+
+    private Object getIsoDate(ResultSet resultSet, int index) throws SQLException
+    {
+        LocalDate localDate = this.readJavaTime(resultSet, index, LocalDate.class);
+        String isoValue = (localDate == null) ? null : formatDate(localDate);
+        if (this.javaTimeSupport[index - 1] == JAVA_TIME_SUPPORTED && (localDate == null || isoValue != null))
+        {
+            return isoValue;
+        }
+        Date date = resultSet.getDate(index);
+        return (isoValue != null && date != null && this.verifyJavaTime(index, isoValue.equals(PureDate.fromSQLDate(date).toString()))) ? isoValue : date;
+    }
+
+    private <T> T readJavaTime(ResultSet resultSet, int index, Class<T> type)
+    {
+        if (this.javaTimeSupport[index - 1] == JAVA_TIME_UNVERIFIED && RESULT_SETS_WITHOUT_JAVA_TIME.contains(resultSet.getClass()))
+        {
+            this.javaTimeSupport[index - 1] = JAVA_TIME_UNSUPPORTED;
+        }
+        if (this.javaTimeSupport[index - 1] == JAVA_TIME_UNSUPPORTED)
+        {
+            return null;
+        }
+        try
+        {
+            return resultSet.getObject(index, type);
+        }
+        catch (SQLException | RuntimeException | AbstractMethodError e)
+        {
+            // drivers older than JDBC 4.2 do not implement it, and some newer ones do not convert temporal columns
+            RESULT_SETS_WITHOUT_JAVA_TIME.add(resultSet.getClass());
+            this.javaTimeSupport[index - 1] = JAVA_TIME_UNSUPPORTED;
+            return null;
+        }
+    }
+
+    /**
+     * @return whether the column is read as java.time, once verified on the given value if not yet
+     */
+    private boolean verifyJavaTime(int index, boolean sameValue)
+    {
+        if (this.javaTimeSupport[index - 1] == JAVA_TIME_UNVERIFIED)
+        {
+            this.javaTimeSupport[index - 1] = sameValue ? JAVA_TIME_SUPPORTED : JAVA_TIME_UNSUPPORTED;
+        }
+        return this.javaTimeSupport[index - 1] == JAVA_TIME_SUPPORTED;
+    }
+
+    /**
+     * @return null for the instants the Pure date of which does not use the proleptic Gregorian calendar or 4 digit years
+     */
+    private static String formatDateTime(Instant instant)
+    {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        return (dateTime.getYear() < MIN_ISO_YEAR || dateTime.getYear() > MAX_ISO_YEAR) ? null : ISO_DATE_TIME.format(dateTime);
+    }
+
+    private static String formatDate(LocalDate date)
+    {
+        return (date.getYear() < MIN_ISO_YEAR || date.getYear() > MAX_ISO_YEAR) ? null : ISO_DATE.format(date);
+    }
+
+    private ColumnDecoder buildDecoder(int index)
+    {
+        if (isTimestampColumn(index))
+        {
+            return resultSet -> resultSet.getTimestamp(index, this.calendar);
+        }
+        if (isDateColumn(index))
+        {
+            return resultSet -> resultSet.getDate(index);
+        }
+        return resultSet -> resultSet.getObject(index);
+    }
+
     private boolean columnIsOfType(int index, int dbColumnType, String alloyColumnType)
     {
         int zeroBasedIndex = index - 1;
         SQLResultColumn sqlResultColumn = this.sqlResultColumns.get(zeroBasedIndex);
         return this.dbMetaDataType.get(zeroBasedIndex) == dbColumnType || sqlResultColumn.dataType != null && sqlResultColumn.dataType.equals(alloyColumnType);
     }
+
+    @FunctionalInterface
+    private interface ColumnDecoder
+    {
+        Object decode(ResultSet resultSet) throws SQLException;
+    }
 }
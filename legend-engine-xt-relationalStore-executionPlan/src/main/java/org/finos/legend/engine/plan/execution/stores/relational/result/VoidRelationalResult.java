@@ -18,13 +18,16 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
+import org.finos.legend.engine.plan.execution.stores.relational.SQLParameterBinder;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.PreparedStatementCache;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -34,6 +37,7 @@ public class VoidRelationalResult extends Result
 
     private Connection connection;
     private Statement statement;
+    private String executedSql;
 
     public VoidRelationalResult(MutableList<ExecutionActivity> activities, Connection connection, MutableList<CommonProfile> profiles)
     {
@@ -41,12 +45,23 @@ public class VoidRelationalResult extends Result
 
         try
         {
-            String sql = ((RelationalExecutionActivity) activities.getLast()).sql;
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.getLast();
+            String sql = activity.sql;
             this.connection = connection;
-            this.statement = connection.createStatement();
             long start = System.currentTimeMillis();
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, sql).toString());
-            this.statement.execute(sql);
+            if (activity.hasParameters())
+            {
+                this.statement = PreparedStatementCache.getInstance().prepare(connection, sql);
+                SQLParameterBinder.setParameters((PreparedStatement) this.statement, activity.parameters);
+                ((PreparedStatement) this.statement).execute();
+                this.executedSql = sql;
+            }
+            else
+            {
+                this.statement = connection.createStatement();
+                this.statement.execute(sql);
+            }
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
         }
         catch (SQLException e)
@@ -68,7 +83,11 @@ public class VoidRelationalResult extends Result
     @Override
     public void close()
     {
-        if (this.statement != null)
+        if (this.statement instanceof PreparedStatement && this.executedSql != null)
+        {
+            PreparedStatementCache.getInstance().release((PreparedStatement) this.statement, this.executedSql);
+        }
+        else if (this.statement != null)
         {
             try
             {
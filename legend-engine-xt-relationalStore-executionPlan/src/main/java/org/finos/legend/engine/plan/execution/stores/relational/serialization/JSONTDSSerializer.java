@@ -14,7 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.block.function.Function;
@@ -23,6 +23,7 @@ import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -40,7 +41,7 @@ public class JSONTDSSerializer extends Serializer
     private static final byte[] b_values = "\"values\":".getBytes();
     private static final byte[] object_end = "}".getBytes();
 
-    private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+    private final ObjectWriter objectWriter = ExecutionResultObjectMapperFactory.getObjectWriter();
     private final Boolean wrapRowsWithValues;
     private final Boolean wrapWithValues;
     private final RelationalResult relationalResult;
@@ -109,16 +110,21 @@ public class JSONTDSSerializer extends Serializer
             if (relationalResult.resultSet.next())
             {
                 processRow(outputStream);
+                rowCount++;
             }
         }
+        ExecutionProfile.mark("firstFetch");
+        relationalResult.recordFirstRow();
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
         {
             while (relationalResult.resultSet.next())
             {
                 outputStream.write(b_comma);
                 processRow(outputStream);
+                rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            ExecutionProfile.count("rows", rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
@@ -141,11 +147,11 @@ public class JSONTDSSerializer extends Serializer
 
         for (int i = 1; i <= relationalResult.columnCount - 1; i++)
         {
-            objectMapper.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
+            objectWriter.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
             outputStream.write(b_comma);
         }
 
-        objectMapper.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
+        objectWriter.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
         outputStream.write(b_array_close);
 
         if (this.wrapRowsWithValues)
@@ -159,10 +165,10 @@ public class JSONTDSSerializer extends Serializer
         outputStream.write(b_array_open);
         for (int i = 0; i < collection.size() - 1; i++)
         {
-            objectMapper.writeValue(outputStream, collection.get(i));
+            objectWriter.writeValue(outputStream, collection.get(i));
             outputStream.write(b_comma);
         }
-        objectMapper.writeValue(outputStream, collection.get(collection.size() - 1));
+        objectWriter.writeValue(outputStream, collection.get(collection.size() - 1));
         outputStream.write(b_array_close);
         outputStream.flush();
     }
@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
@@ -97,7 +98,17 @@ public class RelationalResultToCSVSerializerWithTransformersApplied extends CsvS
         {
             for (int i = 1; i <= columnCount; ++i)
             {
-                csvPrinter.print(transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
+                Function<Object, Object> transformer = transformers.get(i - 1);
+                if (SetImplTransformers.isDateTransformer(transformer) && relationalResult.hasIsoValue(i))
+                {
+                    // dates read as java.time come as the string of their Pure date
+                    Object value = relationalResult.getIsoValue(i);
+                    csvPrinter.print(value instanceof String ? value : transformer.valueOf(value));
+                }
+                else
+                {
+                    csvPrinter.print(transformer.valueOf(relationalResult.getValue(i)));
+                }
             }
             csvPrinter.println();
         }
@@ -15,6 +15,7 @@
 package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
@@ -24,11 +25,13 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.AggregationAwareActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtension;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -38,7 +41,9 @@ import java.util.ServiceLoader;
 
 public class RelationalResultToJsonDefaultSerializer extends Serializer
 {
-    private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+    // subtypes are registered (and extensions loaded) once, and the resolved serializers are shared by all results
+    private static final ObjectWriter OBJECT_WRITER = newObjectWriter();
+    private static final ObjectWriter GENERATION_INFO_WRITER = ObjectMapperFactory.getNewStandardObjectMapper().writer();
     private final Function<Object, String> purePrimitiveToJsonConverter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
     private final RelationalResult relationalResult;
     private final byte[] b_builder = "{\"builder\": ".getBytes();
@@ -50,14 +55,21 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private final byte[] b_comma = ",".getBytes();
     private final byte[] b_values = "{\"values\": [".getBytes();
     private final byte[] b_end = "]}".getBytes();
+    private final byte[] b_quote = "\"".getBytes();
     private final byte[] b_endResult = "}".getBytes();
 
     public RelationalResultToJsonDefaultSerializer(RelationalResult relationalResult)
     {
         this.relationalResult = relationalResult;
-        this.objectMapper.registerSubtypes(new NamedType(AggregationAwareActivity.class, "aggregationAware"));
-        this.objectMapper.registerSubtypes(new NamedType(RelationalExecutionActivity.class, "relational"));
-        Iterate.addAllTo(ServiceLoader.load(ResultInterpreterExtension.class), Lists.mutable.empty()).flatCollect(ResultInterpreterExtension::additionalMappers).forEach(e -> this.objectMapper.registerSubtypes(new NamedType(e.getOne(), e.getTwo())));
+    }
+
+    private static ObjectWriter newObjectWriter()
+    {
+        ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+        objectMapper.registerSubtypes(new NamedType(AggregationAwareActivity.class, "aggregationAware"));
+        objectMapper.registerSubtypes(new NamedType(RelationalExecutionActivity.class, "relational"));
+        Iterate.addAllTo(ServiceLoader.load(ResultInterpreterExtension.class), Lists.mutable.empty()).flatCollect(ResultInterpreterExtension::additionalMappers).forEach(e -> objectMapper.registerSubtypes(new NamedType(e.getOne(), e.getTwo())));
+        return objectMapper.writer();
     }
 
     @Override
@@ -66,11 +78,11 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
         try
         {
             stream.write(b_builder);
-            objectMapper.writeValue(stream, relationalResult.builder);
+            OBJECT_WRITER.writeValue(stream, relationalResult.builder);
             if (relationalResult.generationInfo != null)
             {
                 stream.write(b_generation);
-                ObjectMapperFactory.getNewStandardObjectMapper().writeValue(stream, relationalResult.generationInfo);
+                GENERATION_INFO_WRITER.writeValue(stream, relationalResult.generationInfo);
             }
             stream.write(b_activities);
             streamCollection(stream, relationalResult.activities);
@@ -103,6 +115,8 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
                 rowCount++;
             }
         }
+        ExecutionProfile.mark("firstFetch");
+        relationalResult.recordFirstRow();
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
         {
             while (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
@@ -112,6 +126,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
                 rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            ExecutionProfile.count("rows", rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
@@ -127,22 +142,45 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
 
         for (int i = 1; i <= relationalResult.columnCount - 1; i++)
         {
-            outputStream.write(purePrimitiveToJsonConverter.apply(transformers.get(i - 1).valueOf(relationalResult.getValue(i))).getBytes());
+            processValue(outputStream, transformers.get(i - 1), i);
             outputStream.write(b_comma);
         }
-        outputStream.write(purePrimitiveToJsonConverter.apply(transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount))).getBytes());
+        processValue(outputStream, transformers.get(relationalResult.columnCount - 1), relationalResult.columnCount);
         outputStream.write(b_end);
     }
 
+    private void processValue(OutputStream outputStream, Function<Object, Object> transformer, int columnIndex) throws IOException, SQLException
+    {
+        if (SetImplTransformers.isDateTransformer(transformer) && relationalResult.hasIsoValue(columnIndex))
+        {
+            // dates read as java.time come as the string of their Pure date, which needs no escaping
+            Object value = relationalResult.getIsoValue(columnIndex);
+            if (value instanceof String)
+            {
+                outputStream.write(b_quote);
+                outputStream.write(((String) value).getBytes());
+                outputStream.write(b_quote);
+            }
+            else
+            {
+                outputStream.write(purePrimitiveToJsonConverter.apply(transformer.valueOf(value)).getBytes());
+            }
+        }
+        else
+        {
+            outputStream.write(purePrimitiveToJsonConverter.apply(transformer.valueOf(relationalResult.getValue(columnIndex))).getBytes());
+        }
+    }
+
 
     private void streamCollection(OutputStream outputStream, List collection) throws IOException
     {
         for (int i = 0; i < collection.size() - 1; i++)
         {
-            objectMapper.writeValue(outputStream, collection.get(i));
+            OBJECT_WRITER.writeValue(outputStream, collection.get(i));
             outputStream.write(b_comma);
         }
-        objectMapper.writeValue(outputStream, collection.get(collection.size() - 1));
+        OBJECT_WRITER.writeValue(outputStream, collection.get(collection.size() - 1));
         outputStream.flush();
     }
 }
\ No newline at end of file
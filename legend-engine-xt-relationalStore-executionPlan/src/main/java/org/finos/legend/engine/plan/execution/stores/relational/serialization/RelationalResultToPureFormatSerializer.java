@@ -14,7 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
@@ -22,6 +22,7 @@ import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResu
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -42,7 +43,7 @@ public class RelationalResultToPureFormatSerializer extends Serializer
     public static final byte[] b_values = "\"values\":".getBytes();
     public static final byte[] object_end = "}".getBytes();
 
-    protected final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+    protected final ObjectWriter objectWriter = ExecutionResultObjectMapperFactory.getObjectWriter();
     private final byte[] start_token;
     private final byte[] end_token;
 
@@ -102,6 +103,8 @@ public class RelationalResultToPureFormatSerializer extends Serializer
                 rowCount++;
             }
         }
+        ExecutionProfile.mark("firstFetch");
+        relationalResult.recordFirstRow();
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
         {
             while (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
@@ -111,6 +114,7 @@ public class RelationalResultToPureFormatSerializer extends Serializer
                 rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            ExecutionProfile.count("rows", rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
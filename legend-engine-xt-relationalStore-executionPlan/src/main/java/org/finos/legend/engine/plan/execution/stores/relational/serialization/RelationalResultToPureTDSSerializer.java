@@ -50,10 +50,10 @@ public class RelationalResultToPureTDSSerializer extends RelationalResultToPureF
         {
             outputStream.write(object_start);
             outputStream.write(b_name);
-            objectMapper.writeValue(outputStream, col.name);
+            objectWriter.writeValue(outputStream, col.name);
             outputStream.write(b_comma);
             outputStream.write(b_type);
-            objectMapper.writeValue(outputStream, col.type);
+            objectWriter.writeValue(outputStream, col.type);
             outputStream.write(object_end);
         }
         catch (Exception e)
@@ -85,11 +85,11 @@ public class RelationalResultToPureTDSSerializer extends RelationalResultToPureF
 
         for (int i = 1; i <= relationalResult.columnCount - 1; i++)
         {
-            objectMapper.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
+            objectWriter.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
             outputStream.write(b_comma);
         }
 
-        objectMapper.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
+        objectWriter.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
 
         outputStream.write(b_array_close);
         outputStream.write(object_end);
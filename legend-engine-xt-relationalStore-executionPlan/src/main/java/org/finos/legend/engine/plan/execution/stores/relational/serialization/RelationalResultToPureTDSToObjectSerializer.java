@@ -43,15 +43,15 @@ public class RelationalResultToPureTDSToObjectSerializer extends RelationalResul
 
         for (int i = 1; i <= relationalResult.columnCount - 1; i++)
         {
-            objectMapper.writeValue(outputStream, ((TDSBuilder) relationalResult.builder).columns.get(i - 1).name);
+            objectWriter.writeValue(outputStream, ((TDSBuilder) relationalResult.builder).columns.get(i - 1).name);
             outputStream.write(b_colon);
-            objectMapper.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
+            objectWriter.writeValue(outputStream, transformers.get(i - 1).valueOf(relationalResult.getValue(i)));
             outputStream.write(b_comma);
         }
 
-        objectMapper.writeValue(outputStream, ((TDSBuilder) relationalResult.builder).columns.get(relationalResult.columnCount - 1).name);
+        objectWriter.writeValue(outputStream, ((TDSBuilder) relationalResult.builder).columns.get(relationalResult.columnCount - 1).name);
         outputStream.write(b_colon);
-        objectMapper.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
+        objectWriter.writeValue(outputStream, transformers.get(relationalResult.columnCount - 1).valueOf(relationalResult.getValue(relationalResult.columnCount)));
 
         outputStream.write(object_end);
     }
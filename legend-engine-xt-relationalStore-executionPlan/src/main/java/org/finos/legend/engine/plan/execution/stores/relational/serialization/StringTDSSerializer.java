@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.shared.core.operational.profiling.ExecutionProfile;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -66,8 +67,11 @@ public class StringTDSSerializer extends Serializer
                             throw new RuntimeException(e);
                         }
                     }).collect(Collectors.toList()));
+                    rowCount++;
                 }
             }
+            ExecutionProfile.mark("firstFetch");
+            relationalResult.recordFirstRow();
             try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
             {
                 while (relationalResult.resultSet.next())
@@ -83,8 +87,10 @@ public class StringTDSSerializer extends Serializer
                             throw new RuntimeException(e);
                         }
                     }).collect(Collectors.toList()));
+                    rowCount++;
                 }
                 scope.span().setTag("rowCount", rowCount);
+                ExecutionProfile.count("rows", rowCount);
                 if (relationalResult.topSpan != null)
                 {
                     relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
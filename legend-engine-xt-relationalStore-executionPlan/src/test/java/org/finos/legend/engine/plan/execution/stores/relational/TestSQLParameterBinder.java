@@ -0,0 +1,69 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.freemarker.TestFreemarker;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TestSQLParameterBinder
+{
+    @Test
+    public void testParametersAreBound()
+    {
+        Map<String, Result> vars = new HashMap<>();
+        vars.put("name", new ConstantResult("O'Brien"));
+        vars.put("ids", new ConstantResult(Lists.mutable.with(1, 2)));
+        vars.put("count", new ConstantResult(10));
+        vars.put("asOf", new ConstantResult(PureDate.newPureDate(2020, 1, 1, 10, 30, 0)));
+        ExecutionState state = new ExecutionState(vars, Lists.mutable.with(TestFreemarker.collectionTemplate()), Lists.mutable.empty());
+
+        RelationalExecutionActivity activity = SQLParameterBinder.bind("select top ${count} \"root\".ID from person as \"root\" where \"root\".NAME = '${name}' and \"root\".ID in (${renderCollection(ids \",\")}) and \"root\".AGE > ${count} and \"root\".UPDATED < '${asOf}'", state, "GMT");
+
+        Assert.assertNotNull(activity);
+        Assert.assertEquals("select top 10 \"root\".ID from person as \"root\" where \"root\".NAME = ? and \"root\".ID in (?,?) and \"root\".AGE > ? and \"root\".UPDATED < ?", activity.sql);
+        Assert.assertEquals(Lists.mutable.with("O'Brien", 1, 2, 10, Timestamp.valueOf("2020-01-01 10:30:00")), activity.parameters);
+    }
+
+    @Test
+    public void testParametersInsideLargerLiteralsAreNotBound()
+    {
+        Map<String, Result> vars = new HashMap<>();
+        vars.put("name", new ConstantResult("Bri"));
+        ExecutionState state = new ExecutionState(vars, Lists.mutable.empty(), Lists.mutable.empty());
+
+        Assert.assertNull(SQLParameterBinder.bind("select \"root\".ID from person as \"root\" where \"root\".NAME like '%${name}%'", state, "GMT"));
+    }
+
+    @Test
+    public void testNodeResultsAreNotBound()
+    {
+        ExecutionState state = new ExecutionState(new HashMap<>(), Lists.mutable.empty(), Lists.mutable.empty());
+        state.addResult("inFilterClause_name", new ConstantResult("select NAME from names"));
+
+        Assert.assertNull(SQLParameterBinder.bind("select \"root\".ID from person as \"root\" where \"root\".NAME in (${inFilterClause_name})", state, "GMT"));
+    }
+}
@@ -0,0 +1,139 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class TestFetchSizePolicy
+{
+    private Connection connection;
+
+    @Before
+    public void openConnection() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("create table person(id int, name varchar(100))");
+        }
+    }
+
+    @After
+    public void closeConnection() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testDefaultsKeepDriverBehaviour()
+    {
+        assertPolicy(100, 0, false, FetchSizePolicy.defaultFor(DatabaseType.MemSQL.name()));
+        assertPolicy(0, 0, false, FetchSizePolicy.defaultFor(DatabaseType.Postgres.name()));
+        assertPolicy(0, 0, false, FetchSizePolicy.defaultFor(DatabaseType.Redshift.name()));
+        assertPolicy(0, 0, false, FetchSizePolicy.defaultFor(DatabaseType.H2.name()));
+        assertPolicy(0, 0, false, FetchSizePolicy.defaultFor("NotADatabaseType"));
+    }
+
+    @Test
+    public void testConfiguredPolicyOverridesDefault()
+    {
+        FetchSizePolicy postgres = new FetchSizePolicy(1000, 4 * 1024 * 1024, true);
+        FetchSizePolicy memSQL = new FetchSizePolicy(500, 0, false);
+        RelationalExecutionConfiguration configuration = RelationalExecutionConfiguration.newInstance()
+                .withFetchSizePolicy(DatabaseType.Postgres, postgres)
+                .withFetchSizePolicy(DatabaseType.MemSQL, memSQL)
+                .build();
+
+        Assert.assertSame(postgres, configuration.getFetchSizePolicy(DatabaseType.Postgres.name()));
+        Assert.assertSame(memSQL, configuration.getFetchSizePolicy(DatabaseType.MemSQL.name()));
+        assertPolicy(0, 0, false, configuration.getFetchSizePolicy(DatabaseType.Redshift.name()));
+    }
+
+    @Test
+    public void testCursorTransactionIsStartedAndEnded() throws SQLException
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(50, 0, true);
+        try (Statement statement = this.connection.createStatement())
+        {
+            Assert.assertTrue(policy.prepare(this.connection, statement));
+            Assert.assertEquals(50, statement.getFetchSize());
+            Assert.assertFalse(this.connection.getAutoCommit());
+
+            // Anything written in the cursor's transaction is not kept
+            statement.execute("insert into person values (1, 'John')");
+            FetchSizePolicy.endCursorTransaction(this.connection);
+            Assert.assertTrue(this.connection.getAutoCommit());
+            try (ResultSet resultSet = statement.executeQuery("select count(*) from person"))
+            {
+                resultSet.next();
+                Assert.assertEquals(0, resultSet.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    public void testCursorTransactionIsOnlyStartedWhenConfigured() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            Assert.assertFalse(new FetchSizePolicy(50, 0, false).prepare(this.connection, statement));
+            Assert.assertFalse(new FetchSizePolicy(0, 0, true).prepare(this.connection, statement));
+            Assert.assertFalse(FetchSizePolicy.defaultFor(DatabaseType.Postgres.name()).prepare(this.connection, statement));
+            Assert.assertTrue(this.connection.getAutoCommit());
+
+            // A transaction that is already open is left to its owner
+            this.connection.setAutoCommit(false);
+            Assert.assertFalse(new FetchSizePolicy(50, 0, true).prepare(this.connection, statement));
+        }
+    }
+
+    @Test
+    public void testFetchSizeIsAdaptedToRowWidth() throws SQLException
+    {
+        // int (4 bytes) + varchar(100) (100 bytes) per row
+        assertAdaptedFetchSize(500, new FetchSizePolicy(10, 104 * 500, false));
+        assertAdaptedFetchSize(100, new FetchSizePolicy(10, 104, false));
+        assertAdaptedFetchSize(10000, new FetchSizePolicy(10, 104 * 1000000L, false));
+    }
+
+    private void assertAdaptedFetchSize(int expected, FetchSizePolicy policy) throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            policy.prepare(this.connection, statement);
+            try (ResultSet resultSet = statement.executeQuery("select id, name from person"))
+            {
+                Assert.assertEquals(expected, policy.adapt(resultSet, resultSet.getMetaData()));
+            }
+        }
+    }
+
+    private static void assertPolicy(int initialFetchSize, long targetFetchBytes, boolean useCursor, FetchSizePolicy policy)
+    {
+        Assert.assertEquals(initialFetchSize, policy.initialFetchSize);
+        Assert.assertEquals(targetFetchBytes, policy.targetFetchBytes);
+        Assert.assertEquals(useCursor, policy.useCursor);
+    }
+}
@@ -0,0 +1,139 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class TestPreparedStatementCache
+{
+    private Connection connection;
+
+    @Before
+    public void openConnection() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+    }
+
+    @After
+    public void closeConnection() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testReleasedStatementIsReused() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = cache.prepare(this.connection, "select ? from dual");
+        cache.release(statement, "select ? from dual");
+        Assert.assertEquals(1, cache.cachedStatementCount(this.connection));
+
+        Assert.assertSame(statement, cache.prepare(this.connection, "select ? from dual"));
+        Assert.assertEquals(0, cache.cachedStatementCount(this.connection));
+        Assert.assertNotSame(statement, cache.prepare(this.connection, "select ? from dual"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement first = cache.prepare(this.connection, "select ? from dual");
+        PreparedStatement second = cache.prepare(this.connection, "select ?, ? from dual");
+        cache.release(first, "select ? from dual");
+        cache.release(second, "select ?, ? from dual");
+
+        Assert.assertTrue(first.isClosed());
+        Assert.assertFalse(second.isClosed());
+        Assert.assertEquals(1, cache.cachedStatementCount(this.connection));
+    }
+
+    @Test
+    public void testStatementsAreNotCachedWhenDisabled() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(0);
+        PreparedStatement statement = cache.prepare(this.connection, "select ? from dual");
+        cache.release(statement, "select ? from dual");
+
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertEquals(0, cache.cachedStatementCount(this.connection));
+    }
+
+    @Test
+    public void testStatementsOfClosedConnectionAreDropped() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = cache.prepare(this.connection, "select ? from dual");
+        cache.release(statement, "select ? from dual");
+        this.connection.close();
+
+        try
+        {
+            cache.prepare(this.connection, "select ? from dual");
+            Assert.fail("Expected the closed connection to be rejected");
+        }
+        catch (SQLException expected)
+        {
+        }
+        Assert.assertEquals(0, cache.cachedStatementCount(this.connection));
+    }
+
+    @Test
+    public void testStatementsOfConnectionsEvictedFromThePoolAreReleased() throws Exception
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:statementCachePool");
+        config.setMaximumPoolSize(1);
+        try (HikariDataSource dataSource = new HikariDataSource(config))
+        {
+            Connection physicalConnection;
+            PreparedStatement statement;
+            try (Connection pooledConnection = dataSource.getConnection())
+            {
+                physicalConnection = pooledConnection.unwrap(Connection.class);
+                statement = cache.prepare(pooledConnection, "select ? from dual");
+                cache.release(statement, "select ? from dual");
+            }
+            // still cached once the connection is back in the pool
+            Assert.assertFalse(statement.isClosed());
+            Assert.assertEquals(1, cache.cachedStatementCount(physicalConnection));
+
+            // the pool closes evicted connections asynchronously
+            dataSource.getHikariPoolMXBean().softEvictConnections();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!physicalConnection.isClosed() && System.currentTimeMillis() < deadline)
+            {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(physicalConnection.isClosed());
+
+            // the retired connection is never used again, the sweep releases it
+            cache.sweepClosedConnections();
+            Assert.assertTrue(statement.isClosed());
+            Assert.assertEquals(0, cache.cachedStatementCount(physicalConnection));
+            Assert.assertEquals(0, cache.cachedConnectionCount());
+        }
+    }
+}
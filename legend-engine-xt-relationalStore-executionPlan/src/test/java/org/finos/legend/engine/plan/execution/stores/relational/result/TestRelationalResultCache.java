@@ -0,0 +1,243 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestRelationalResultCache extends AlloyTestServer
+{
+    private static final String TEST_FUNCTION = "###Pure\n" +
+            "function test::fetch(): Any[1]\n" +
+            "{\n" +
+            "  {| test::Person.all()\n" +
+            "        ->project([x | $x.fullName, x | $x.birthTime], ['fullName', 'birthTime'])}\n" +
+            "}";
+
+    private static final String LOGICAL_MODEL = "###Pure\n" +
+            "Class test::Person\n" +
+            "{\n" +
+            "  fullName: String[1];\n" +
+            "  birthTime: DateTime[0..1];\n" +
+            "}\n\n\n";
+
+    private static final String STORE_MODEL = "###Relational\n" +
+            "Database test::DB\n" +
+            "(\n" +
+            "  Table PERSON (\n" +
+            "    fullName VARCHAR(100) PRIMARY KEY,\n" +
+            "    birthTime TIMESTAMP\n" +
+            "  )\n" +
+            ")\n\n\n";
+
+    private static final String MAPPING = "###Mapping\n" +
+            "Mapping test::Map\n" +
+            "(\n" +
+            "  test::Person: Relational\n" +
+            "  {\n" +
+            "    ~primaryKey\n" +
+            "    (\n" +
+            "      [test::DB]PERSON.fullName\n" +
+            "    )\n" +
+            "    ~mainTable [test::DB]PERSON\n" +
+            "    fullName:  [test::DB]PERSON.fullName,\n" +
+            "    birthTime: [test::DB]PERSON.birthTime\n" +
+            "  }\n" +
+            ")\n\n\n";
+
+    private static final String RUNTIME = "###Runtime\n" +
+            "Runtime test::Runtime\n" +
+            "{\n" +
+            "  mappings:\n" +
+            "  [\n" +
+            "    test::Map\n" +
+            "  ];\n" +
+            "  connections:\n" +
+            "  [\n" +
+            "    test::DB:\n" +
+            "    [\n" +
+            "      c1: #{\n" +
+            "        RelationalDatabaseConnection\n" +
+            "        {\n" +
+            "          type: H2;\n" +
+            "          specification: LocalH2 {};\n" +
+            "          auth: DefaultH2;\n" +
+            "        }\n" +
+            "      }#\n" +
+            "    ]\n" +
+            "  ];\n" +
+            "}\n";
+
+    private static final String TEST_EXECUTION_PLAN = LOGICAL_MODEL + STORE_MODEL + MAPPING + RUNTIME + TEST_FUNCTION;
+
+    private int maxRowsPerResult = RelationalResultCache.DEFAULT_MAX_ROWS_PER_RESULT;
+    private String cachedDatabase = "test::DB";
+    private String cachedSqlPattern;
+    private RelationalResultCache resultCache;
+
+    @Override
+    protected PlanExecutor buildRelationalPlanExecutor()
+    {
+        RelationalExecutionConfiguration.Builder configuration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(serverPort))
+                .withResultCache(60, RelationalResultCache.DEFAULT_MAXIMUM_WEIGHT_BYTES, this.maxRowsPerResult);
+        if (this.cachedDatabase != null)
+        {
+            configuration.withResultCacheDatabase(this.cachedDatabase);
+        }
+        if (this.cachedSqlPattern != null)
+        {
+            configuration.withResultCacheSqlPattern(this.cachedSqlPattern);
+        }
+        RelationalStoreExecutor storeExecutor = (RelationalStoreExecutor) Relational.build(configuration.build());
+        this.resultCache = storeExecutor.getStoreState().getRelationalExecutor().getResultCache();
+        return PlanExecutor.newPlanExecutor(storeExecutor);
+    }
+
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("Drop table if exists PERSON;");
+        statement.execute("Create Table PERSON(fullName VARCHAR(100) NOT NULL, birthTime TIMESTAMP NULL, PRIMARY KEY(fullName));");
+        statement.execute("insert into PERSON (fullName,birthTime) values ('P1','2020-12-12 20:00:00.123');");
+        statement.execute("insert into PERSON (fullName,birthTime) values ('P2','2020-12-13 20:00:00');");
+        statement.execute("insert into PERSON (fullName,birthTime) values ('P3',null);");
+    }
+
+    private void deletePersons() throws SQLException
+    {
+        Connection testDBConnection = testRelationalExecutor.getConnectionManager().getTestDatabaseConnection();
+        try (Statement statement = testDBConnection.createStatement())
+        {
+            statement.execute("delete from PERSON;");
+        }
+    }
+
+    @Test
+    public void testResultIsServedFromCache() throws SQLException
+    {
+        SingleExecutionPlan executionPlan = buildPlan(TEST_EXECUTION_PLAN);
+        RelationalResult uncachedResult = (RelationalResult) PlanExecutor.newPlanExecutor(Relational.build(serverPort)).execute(executionPlan);
+        String uncached = uncachedResult.flush(new RelationalResultToJsonDefaultSerializer(uncachedResult));
+
+        String cached = executePlan(executionPlan);
+        Assert.assertEquals(uncached, cached);
+
+        deletePersons();
+        Assert.assertEquals(uncached, executePlan(executionPlan));
+    }
+
+    @Test
+    public void testResultIsNotCachedUnlessAllowed() throws SQLException
+    {
+        this.cachedDatabase = "test::OtherDB";
+        this.planExecutor = buildRelationalPlanExecutor();
+        SingleExecutionPlan executionPlan = buildPlan(TEST_EXECUTION_PLAN);
+
+        Assert.assertTrue(executePlan(executionPlan).contains("P1"));
+        deletePersons();
+        Assert.assertFalse(executePlan(executionPlan).contains("P1"));
+        Assert.assertEquals(0, this.resultCache.estimatedSize());
+    }
+
+    @Test
+    public void testResultIsCachedWhenSqlMatchesPattern() throws SQLException
+    {
+        this.cachedDatabase = null;
+        this.cachedSqlPattern = "(?i)\\bfrom PERSON\\b";
+        this.planExecutor = buildRelationalPlanExecutor();
+        SingleExecutionPlan executionPlan = buildPlan(TEST_EXECUTION_PLAN);
+
+        Assert.assertTrue(executePlan(executionPlan).contains("P1"));
+        deletePersons();
+        Assert.assertTrue(executePlan(executionPlan).contains("P1"));
+    }
+
+    @Test
+    public void testResultCacheIsDisabledWithoutAllowList()
+    {
+        this.cachedDatabase = null;
+        this.planExecutor = buildRelationalPlanExecutor();
+        Assert.assertNull(this.resultCache);
+    }
+
+    @Test
+    public void testResultTooLargeIsStreamedAndNotCached() throws SQLException
+    {
+        this.maxRowsPerResult = 1;
+        this.planExecutor = buildRelationalPlanExecutor();
+        SingleExecutionPlan executionPlan = buildPlan(TEST_EXECUTION_PLAN);
+
+        // The rows read before the result was found too large are not read again
+        String result = executePlan(executionPlan);
+        for (String person : new String[]{"P1", "P2", "P3"})
+        {
+            Assert.assertEquals(result, 1, result.split("\"" + person + "\"", -1).length - 1);
+        }
+        Assert.assertEquals(1, this.resultCache.stats().loadCount());
+
+        deletePersons();
+        Assert.assertFalse(executePlan(executionPlan).contains("P3"));
+    }
+
+    @Test
+    public void testConcurrentMissesRunTheQueryOnce() throws Exception
+    {
+        SingleExecutionPlan executionPlan = buildPlan(TEST_EXECUTION_PLAN);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<String>> results = IntStream.range(0, threads).mapToObj(i -> executor.submit((Callable<String>) () ->
+            {
+                start.await();
+                return executePlan(executionPlan);
+            })).collect(Collectors.toList());
+            start.countDown();
+            String first = results.get(0).get();
+            for (Future<String> result : results)
+            {
+                Assert.assertEquals(first, result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(threads, this.resultCache.stats().requestCount());
+        Assert.assertEquals(1, this.resultCache.stats().loadCount());
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+public class TestSQLResultDBColumnsMetaData
+{
+    private static final List<SQLResultColumn> COLUMNS = Arrays.asList(new SQLResultColumn("ID", "INTEGER"), new SQLResultColumn("EVENT_DATE", "DATE"), new SQLResultColumn("CREATED_AT", "TIMESTAMP"));
+
+    private Connection connection;
+
+    @Before
+    public void openConnection() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("create table event(id int, event_date date, created_at timestamp)");
+            statement.execute("insert into event values (1, '2014-12-04', '2014-12-04 15:22:23.123456789'), (2, null, null), (3, '2021-03-28', '2021-03-28 01:30:00'), (4, '1500-01-01', '1500-01-01 10:00:00')");
+        }
+    }
+
+    @After
+    public void closeConnection() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testDatesAreReadAsIsoStrings() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement(); ResultSet resultSet = statement.executeQuery("select * from event order by id"))
+        {
+            SQLResultDBColumnsMetaData metaData = new SQLResultDBColumnsMetaData(COLUMNS, resultSet.getMetaData(), "Europe/London");
+            Assert.assertFalse(metaData.hasIsoValue(1));
+            Assert.assertTrue(metaData.hasIsoValue(2));
+            Assert.assertTrue(metaData.hasIsoValue(3));
+
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals("2014-12-04T15:22:23.123456789+0000", metaData.getIsoValue(resultSet, 3));
+            assertSameDate(metaData.getValue(resultSet, 2), metaData.getIsoValue(resultSet, 2));
+
+            Assert.assertTrue(resultSet.next());
+            Assert.assertNull(metaData.getIsoValue(resultSet, 2));
+            Assert.assertNull(metaData.getIsoValue(resultSet, 3));
+
+            // in the gap of the clocks going forward, resolved like the calendar of the java.sql way
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(PureDate.fromSQLTimestamp((Timestamp) metaData.getValue(resultSet, 3)).toString(), metaData.getIsoValue(resultSet, 3));
+
+            // before the Gregorian calendar, Pure dates are not those of java.time
+            Assert.assertTrue(resultSet.next());
+            Assert.assertTrue(metaData.getIsoValue(resultSet, 2) instanceof java.sql.Date);
+            Assert.assertTrue(metaData.getIsoValue(resultSet, 3) instanceof Timestamp);
+        }
+    }
+
+    @Test
+    public void testDriverWithoutJavaTimeFallsBackToJavaSqlTypes() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement(); ResultSet resultSet = withoutJavaTime(statement.executeQuery("select * from event order by id")))
+        {
+            SQLResultDBColumnsMetaData metaData = new SQLResultDBColumnsMetaData(COLUMNS, resultSet.getMetaData(), null);
+            Assert.assertTrue(resultSet.next());
+            Object timestamp = metaData.getIsoValue(resultSet, 3);
+            Assert.assertTrue(timestamp instanceof Timestamp);
+            Assert.assertEquals("2014-12-04T15:22:23.123456789+0000", PureDate.fromSQLTimestamp((Timestamp) timestamp).toString());
+            Assert.assertTrue(metaData.getIsoValue(resultSet, 2) instanceof java.sql.Date);
+
+            Assert.assertTrue(resultSet.next());
+            Assert.assertNull(metaData.getIsoValue(resultSet, 2));
+            Assert.assertNull(metaData.getIsoValue(resultSet, 3));
+        }
+    }
+
+    private static void assertSameDate(Object value, Object isoValue)
+    {
+        // a driver disagreeing with the java.sql way, as the JVM time zone may make it, is read the java.sql way
+        Assert.assertEquals(PureDate.fromDate((Date) value).toString(), (isoValue instanceof String) ? isoValue : PureDate.fromDate((Date) isoValue).toString());
+    }
+
+    private static ResultSet withoutJavaTime(ResultSet resultSet)
+    {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) ->
+        {
+            if ("getObject".equals(method.getName()) && (args != null) && (args.length == 2) && (args[1] instanceof Class))
+            {
+                throw new SQLFeatureNotSupportedException();
+            }
+            try
+            {
+                return method.invoke(resultSet, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2022 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.execution;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.SQLExecutionResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.VoidRelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TestBindParameterExecution extends AlloyTestServer
+{
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("drop table if exists employeeTable");
+        statement.execute("create table employeeTable(id INT, name VARCHAR(200), active INT)");
+        statement.execute("insert into employeeTable (id, name, active) values (1, 'Alice', 1)");
+        statement.execute("insert into employeeTable (id, name, active) values (2, 'O''Brien', 0)");
+        statement.execute("insert into employeeTable (id, name, active) values (3, 'Curtis', 1)");
+    }
+
+    @Test
+    public void testRelationalResultWithBoundParameters() throws Exception
+    {
+        SingleExecutionPlan plan = objectMapper.readValue(plan("relational", "select \\\"root\\\".name as \\\"name\\\" from employeeTable as \\\"root\\\" where \\\"root\\\".name = '${name}'", "[{\"label\": \"\\\"name\\\"\", \"dataType\": \"VARCHAR(200)\"}]", "{\"tdsColumns\": [{\"name\": \"name\", \"type\": \"String\", \"relationalType\": \"VARCHAR(200)\"}], \"_type\": \"tds\"}"), SingleExecutionPlan.class);
+
+        for (int i = 0; i < 2; i++)
+        {
+            RelationalResult result = (RelationalResult) execute(plan, "O'Brien");
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) result.activities.getLast();
+            Assert.assertEquals("select \"root\".name as \"name\" from employeeTable as \"root\" where \"root\".name = ?", activity.sql);
+            Assert.assertEquals(Lists.mutable.with("O'Brien"), activity.parameters);
+            Assert.assertEquals("{\"builder\": {\"_type\":\"tdsBuilder\",\"columns\":[{\"name\":\"name\",\"type\":\"String\",\"relationalType\":\"VARCHAR(200)\"}]}, \"activities\": [{\"_type\":\"relational\",\"sql\":\"select \\\"root\\\".name as \\\"name\\\" from employeeTable as \\\"root\\\" where \\\"root\\\".name = ?\"}], \"result\" : {\"columns\" : [\"name\"], \"rows\" : [{\"values\": [\"O'Brien\"]}]}}", result.flush(new RelationalResultToJsonDefaultSerializer(result)));
+        }
+    }
+
+    @Test
+    public void testSQLExecutionResultWithBoundParameters() throws Exception
+    {
+        SingleExecutionPlan plan = objectMapper.readValue(plan("sql", "select id from employeeTable where name = '${name}'", "[]", "{\"dataType\": \"Integer\", \"_type\": \"dataType\"}"), SingleExecutionPlan.class);
+
+        for (int i = 0; i < 2; i++)
+        {
+            SQLExecutionResult result = (SQLExecutionResult) execute(plan, "Curtis");
+            try
+            {
+                Assert.assertTrue(result.getStatement() instanceof PreparedStatement);
+                Assert.assertEquals("select id from employeeTable where name = ?", result.getExecutedSql());
+                ResultSet resultSet = result.getResultSet();
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(3, resultSet.getInt(1));
+                Assert.assertFalse(resultSet.next());
+            }
+            finally
+            {
+                result.close();
+            }
+        }
+    }
+
+    @Test
+    public void testVoidRelationalResultWithBoundParameters() throws Exception
+    {
+        SingleExecutionPlan plan = objectMapper.readValue(plan("sql", "update employeeTable set active = 1 where name = '${name}'", "[]", "{\"_type\": \"void\"}"), SingleExecutionPlan.class);
+
+        Assert.assertTrue(execute(plan, "O'Brien") instanceof VoidRelationalResult);
+
+        Connection testDBConnection = testRelationalExecutor.getConnectionManager().getTestDatabaseConnection();
+        try (Statement statement = testDBConnection.createStatement(); ResultSet resultSet = statement.executeQuery("select count(*) from employeeTable where active = 1"))
+        {
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(3, resultSet.getInt(1));
+        }
+    }
+
+    private Result execute(SingleExecutionPlan plan, String name)
+    {
+        Map<String, Result> parameters = new HashMap<>();
+        parameters.put("name", new ConstantResult(name));
+        RelationalExecutionConfiguration configuration = RelationalExecutionConfiguration.newInstance().withBindParameters(true).build();
+        RelationalStoreExecutionState storeExecutionState = new RelationalStoreExecutionState(new RelationalStoreState(new TemporaryTestDbConfiguration(serverPort), configuration));
+        return plan.rootExecutionNode.accept(new ExecutionNodeExecutor(null, new ExecutionState(parameters, Lists.mutable.withAll(plan.templateFunctions), Lists.mutable.with(storeExecutionState))));
+    }
+
+    private String plan(String nodeType, String sql, String resultColumns, String resultType)
+    {
+        return "{\n" +
+                "  \"rootExecutionNode\": {\n" +
+                "    \"sqlQuery\": \"" + sql + "\",\n" +
+                "    \"resultColumns\": " + resultColumns + ",\n" +
+                "    \"connection\": {\n" +
+                "       \"_type\": \"RelationalDatabaseConnection\",\n" +
+                "       \"type\": \"H2\",\n" +
+                "       \"authenticationStrategy\" : {\n" +
+                "           \"_type\" : \"test\"\n" +
+                "       },\n" +
+                "       \"datasourceSpecification\" : {\n" +
+                "           \"_type\" : \"static\",\n" +
+                "           \"databaseName\" : \"testDB\",\n" +
+                "           \"host\":\"127.0.0.1\",\n" +
+                "           \"port\" : \"" + serverPort + "\"\n" +
+                "       }\n" +
+                "    },\n" +
+                "    \"_type\": \"" + nodeType + "\",\n" +
+                "    \"resultType\": " + resultType + "\n" +
+                "  }\n" +
+                "}";
+    }
+}
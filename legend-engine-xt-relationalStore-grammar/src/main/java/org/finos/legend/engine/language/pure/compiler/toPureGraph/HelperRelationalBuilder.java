@@ -208,7 +208,7 @@ public class HelperRelationalBuilder
 
     public static Database resolveDatabase(String fullPath, SourceInformation sourceInformation, CompileContext context)
     {
-        return context.resolve(fullPath, sourceInformation, (String path) -> getDatabase(path, sourceInformation, context));
+        return context.resolve(fullPath, "Database", sourceInformation, (String path) -> getDatabase(path, sourceInformation, context));
     }
 
     private static Column getColumn(Relation tb, final String _column, SourceInformation sourceInformation)